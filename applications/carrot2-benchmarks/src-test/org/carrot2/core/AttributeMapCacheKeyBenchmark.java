@@ -0,0 +1,220 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.util.*;
+
+import org.carrot2.core.CachingProcessingComponentManager.AttributeMapCacheKey;
+import org.carrot2.core.attribute.AttributeNames;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Measures the cost of constructing cache keys of
+ * {@link CachingProcessingComponentManager} for clustering algorithm inputs of
+ * different sizes and the cost of looking up results with a constructed key. Hashing
+ * the attribute map with {@link Map#hashCode()} (identity hash codes of documents) is
+ * included as a baseline.
+ */
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "individual")
+@BenchmarkHistoryChart(filePrefix = "history")
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+public class AttributeMapCacheKeyBenchmark extends AbstractBenchmark
+{
+    static final int LOOKUPS = 100000;
+
+    static final Map<Integer, Map<String, Object>> inputs = Maps.newHashMap();
+    static final Map<Integer, AttributeMapCacheKey> keys = Maps.newHashMap();
+    static final Cache<AttributeMapCacheKey, Object> cache = CacheBuilder.newBuilder()
+        .maximumSize(100).build();
+
+    /** Prevents the JIT from eliminating the computations. */
+    static volatile long sink;
+
+    @BeforeClass
+    public static void prepareInputs()
+    {
+        final Random random = new Random(0x11223344);
+        for (int documentCount : new int []
+        {
+            100, 1000, 10000
+        })
+        {
+            final List<Document> documents = Lists.newArrayList();
+            for (int i = 0; i < documentCount; i++)
+            {
+                final Document document = new Document(randomText(random, 8),
+                    randomText(random, 30), "http://www.domain" + i + ".com/"
+                        + randomText(random, 2));
+                document.setField(Document.SOURCES, Lists.newArrayList("source"));
+                documents.add(document);
+            }
+            Document.assignDocumentIds(documents);
+
+            final Map<String, Object> attributes = Maps.newHashMap();
+            attributes.put(AttributeNames.QUERY, "data mining");
+            attributes.put(AttributeNames.DOCUMENTS, documents);
+            attributes.put("component-class", Lingo.class);
+            inputs.put(documentCount, attributes);
+
+            final AttributeMapCacheKey key = new AttributeMapCacheKey(attributes,
+                attributes, false);
+            keys.put(documentCount, key);
+            cache.put(key, documents);
+        }
+    }
+
+    /** A stand-in for a component class attribute. */
+    static final class Lingo
+    {
+    }
+
+    private static String randomText(Random random, int words)
+    {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < words; i++)
+        {
+            final int length = 3 + random.nextInt(8);
+            for (int j = 0; j < length; j++)
+            {
+                b.append((char) ('a' + random.nextInt(26)));
+            }
+            b.append(' ');
+        }
+        return b.toString();
+    }
+
+    @Test
+    public void testMapHashCode100()
+    {
+        mapHashCode(100);
+    }
+
+    @Test
+    public void testMapHashCode1000()
+    {
+        mapHashCode(1000);
+    }
+
+    @Test
+    public void testMapHashCode10000()
+    {
+        mapHashCode(10000);
+    }
+
+    @Test
+    public void testKeyConstruction100()
+    {
+        keyConstruction(100, false);
+    }
+
+    @Test
+    public void testKeyConstruction1000()
+    {
+        keyConstruction(1000, false);
+    }
+
+    @Test
+    public void testKeyConstruction10000()
+    {
+        keyConstruction(10000, false);
+    }
+
+    @Test
+    public void testKeyConstructionContentOnly100()
+    {
+        keyConstruction(100, true);
+    }
+
+    @Test
+    public void testKeyConstructionContentOnly1000()
+    {
+        keyConstruction(1000, true);
+    }
+
+    @Test
+    public void testKeyConstructionContentOnly10000()
+    {
+        keyConstruction(10000, true);
+    }
+
+    @Test
+    public void testLookup100()
+    {
+        lookup(100);
+    }
+
+    @Test
+    public void testLookup1000()
+    {
+        lookup(1000);
+    }
+
+    @Test
+    public void testLookup10000()
+    {
+        lookup(10000);
+    }
+
+    private void mapHashCode(int documentCount)
+    {
+        final Map<String, Object> attributes = inputs.get(documentCount);
+        long result = 0;
+        for (int i = 0; i < rounds(documentCount); i++)
+        {
+            result += attributes.hashCode();
+        }
+        sink = result;
+    }
+
+    private void keyConstruction(int documentCount, boolean documentContentOnly)
+    {
+        final Map<String, Object> attributes = inputs.get(documentCount);
+        long result = 0;
+        for (int i = 0; i < rounds(documentCount); i++)
+        {
+            result += new AttributeMapCacheKey(attributes, attributes,
+                documentContentOnly).hashCode();
+        }
+        sink = result;
+    }
+
+    private void lookup(int documentCount)
+    {
+        final AttributeMapCacheKey key = keys.get(documentCount);
+        long result = 0;
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            result += cache.getIfPresent(key) != null ? 1 : 0;
+        }
+        sink = result;
+    }
+
+    /**
+     * Repeats computations on smaller inputs so that each measurement processes the
+     * same number of documents.
+     */
+    private static int rounds(int documentCount)
+    {
+        return 100000 / documentCount;
+    }
+}
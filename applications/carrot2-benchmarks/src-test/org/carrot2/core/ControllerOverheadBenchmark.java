@@ -15,6 +15,7 @@ package org.carrot2.core;
 import java.util.*;
 import java.util.concurrent.*;
 
+import org.carrot2.core.attribute.AttributeNames;
 import org.carrot2.core.attribute.Processing;
 import org.carrot2.util.attribute.*;
 import org.junit.*;
@@ -41,6 +42,8 @@ public class ControllerOverheadBenchmark extends AbstractBenchmark
     // Controllers under tests
     static final Controller simpleController = ControllerFactory.createSimple();
     static final Controller poolingController = ControllerFactory.createPooling();
+    static final Controller concurrentPoolingController = ControllerFactory
+        .createConcurrentPooling(20, 0);
     static final Controller cachingOffController = ControllerFactory.createCaching();
     static final Controller cachingOnController = ControllerFactory
         .createCaching(IProcessingComponent.class);
@@ -54,9 +57,22 @@ public class ControllerOverheadBenchmark extends AbstractBenchmark
     static final Map<String, List<Callable<String>>> callables = Maps.newHashMap();
 
     // Executor
-    static final ExecutorService executorService = Executors.newFixedThreadPool(20);
+    static final int threads = 20;
+    static final ExecutorService executorService = Executors.newFixedThreadPool(threads);
     static final int internalRounds = 100;
 
+    // Statistics updates, performed by all threads at the same time
+    static final int statisticsUpdates = 100000;
+    static final ProcessingResult statisticsResult;
+    static
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.PROCESSING_TIME_SOURCE, 10L);
+        attributes.put(AttributeNames.PROCESSING_TIME_ALGORITHM, 20L);
+        attributes.put(AttributeNames.PROCESSING_TIME_TOTAL, 30L);
+        statisticsResult = new ProcessingResult(attributes);
+    }
+
     @BeforeClass
     public static void prepareRunnables()
     {
@@ -78,6 +94,7 @@ public class ControllerOverheadBenchmark extends AbstractBenchmark
 
         callables.put("simple", createCallables(simpleController));
         callables.put("pooling", createCallables(poolingController));
+        callables.put("concurrentPooling", createCallables(concurrentPoolingController));
         callables.put("cachingOff", createCallables(cachingOffController));
         callables.put("cachingOn", createCallables(cachingOnController));
         callables.put("poolingCachingOff", createCallables(poolingCachingOffController));
@@ -116,6 +133,7 @@ public class ControllerOverheadBenchmark extends AbstractBenchmark
     {
         simpleController.dispose();
         poolingController.dispose();
+        concurrentPoolingController.dispose();
         cachingOffController.dispose();
         cachingOnController.dispose();
         poolingCachingOffController.dispose();
@@ -141,6 +159,12 @@ public class ControllerOverheadBenchmark extends AbstractBenchmark
         testWithController("pooling");
     }
 
+    @Test
+    public void testConcurrentPoolingController() throws InterruptedException
+    {
+        testWithController("concurrentPooling");
+    }
+
     @Test
     public void testCachingOnController() throws InterruptedException
     {
@@ -170,6 +194,100 @@ public class ControllerOverheadBenchmark extends AbstractBenchmark
         executorService.invokeAll(callables.get(controllerName));
     }
 
+    @Test
+    public void testStatisticsUpdate() throws InterruptedException
+    {
+        testStatisticsUpdate(null);
+    }
+
+    /**
+     * Serializes statistics updates on a single lock, like updates of the controller
+     * statistics used to, for comparison with {@link #testStatisticsUpdate()}.
+     */
+    @Test
+    public void testSynchronizedStatisticsUpdate() throws InterruptedException
+    {
+        testStatisticsUpdate(new Object());
+    }
+
+    private void testStatisticsUpdate(final Object lock) throws InterruptedException
+    {
+        final Controller.ProcessingStatistics statistics = simpleController.new ProcessingStatistics();
+        final List<Callable<Void>> updates = Lists.newArrayList();
+        for (int t = 0; t < threads; t++)
+        {
+            updates.add(new Callable<Void>()
+            {
+                public Void call() throws Exception
+                {
+                    for (int i = 0; i < statisticsUpdates / threads; i++)
+                    {
+                        if (lock != null)
+                        {
+                            synchronized (lock)
+                            {
+                                statistics.update(statisticsResult);
+                            }
+                        }
+                        else
+                        {
+                            statistics.update(statisticsResult);
+                        }
+                    }
+                    return null;
+                }
+            });
+        }
+        executorService.invokeAll(updates);
+    }
+
+    @Test
+    public void testAttributeBinding() throws Exception
+    {
+        testAttributeBinding(false);
+    }
+
+    /**
+     * Binds attributes using {@link AttributeBinder} directly, like the controller used
+     * to, for comparison with {@link #testAttributeBinding()}.
+     */
+    @Test
+    public void testReflectiveAttributeBinding() throws Exception
+    {
+        testAttributeBinding(true);
+    }
+
+    private void testAttributeBinding(boolean reflective) throws Exception
+    {
+        final ProcessingComponent1 component1 = new ProcessingComponent1();
+        final ProcessingComponent2 component2 = new ProcessingComponent2();
+        for (int r = 0; r < internalRounds; r++)
+        {
+            for (Map<String, Object> attributes : processingAttributeMaps)
+            {
+                final Map<String, Object> output = Maps.newHashMap();
+                if (reflective)
+                {
+                    AttributeBinder.set(component1, attributes, Input.class,
+                        Processing.class);
+                    AttributeBinder.set(component2, attributes, Input.class,
+                        Processing.class);
+                    AttributeBinder.get(component1, output, Output.class,
+                        Processing.class);
+                    AttributeBinder.get(component2, output, Output.class,
+                        Processing.class);
+                }
+                else
+                {
+                    ProcessingAttributeBinder.set(component1, attributes);
+                    ProcessingAttributeBinder.set(component2, attributes);
+                    ProcessingAttributeBinder.get(component1, output);
+                    ProcessingAttributeBinder.get(component2, output);
+                }
+            }
+        }
+    }
+
     @Bindable
     public static class ProcessingComponent1 extends ProcessingComponentBase
     {
@@ -13,8 +13,14 @@
 package org.carrot2.core.benchmarks.memtime;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.carrot2.core.Document;
+import org.carrot2.text.preprocessing.CaseNormalizer.CaseNormalizationAlgorithm;
+import org.carrot2.text.preprocessing.CaseNormalizerDescriptor;
+import org.carrot2.text.preprocessing.SuffixSorter.SuffixSortingAlgorithm;
+import org.carrot2.text.preprocessing.SuffixSorterDescriptor;
 import org.junit.Test;
 
 /**
@@ -71,4 +77,44 @@ public class PreprocessingBenchmark extends MemTimeBenchmark
         evalShortDocs("basic-preprocessing", 
             BasicPreprocessing.class, MIN, MAX, STEP);
     }
+
+    @Test
+    public void evalCaseNormalizationMergesort()
+    {
+        evalCaseNormalization(CaseNormalizationAlgorithm.MERGESORT);
+    }
+
+    @Test
+    public void evalCaseNormalizationHash()
+    {
+        evalCaseNormalization(CaseNormalizationAlgorithm.HASH);
+    }
+
+    private void evalCaseNormalization(CaseNormalizationAlgorithm algorithm)
+    {
+        final Map<String, Object> attributes = new HashMap<String, Object>();
+        attributes.put(CaseNormalizerDescriptor.Keys.ALGORITHM, algorithm);
+        evalShortDocs("basic-preprocessing-" + algorithm.name().toLowerCase(),
+            BasicPreprocessing.class, attributes, MIN, MAX, STEP);
+    }
+
+    @Test
+    public void evalCompletePreprocessingMergesort()
+    {
+        evalCompletePreprocessing(SuffixSortingAlgorithm.MERGESORT);
+    }
+
+    @Test
+    public void evalCompletePreprocessingSais()
+    {
+        evalCompletePreprocessing(SuffixSortingAlgorithm.SAIS);
+    }
+
+    private void evalCompletePreprocessing(SuffixSortingAlgorithm algorithm)
+    {
+        final Map<String, Object> attributes = new HashMap<String, Object>();
+        attributes.put(SuffixSorterDescriptor.Keys.ALGORITHM, algorithm);
+        evalShortDocs("complete-preprocessing-" + algorithm.name().toLowerCase(),
+            CompletePreprocessing.class, attributes, MIN, MAX, STEP);
+    }
 }
@@ -0,0 +1,147 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import static org.carrot2.util.resource.ResourceLookup.Location.CONTEXT_CLASS_LOADER;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.carrot2.core.Document;
+import org.carrot2.core.LanguageCode;
+import org.carrot2.core.test.SampleDocumentData;
+import org.carrot2.util.resource.ResourceLookup;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.AxisRange;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkMethodChart;
+import com.google.common.collect.Lists;
+
+/**
+ * Compares matching of labels against merged stop labels of all languages (as with
+ * {@link DefaultLexicalDataFactory#mergeResources}) using each {@link Pattern} in turn, a
+ * single {@link Pattern} union of all of them and a {@link StopLabelMatcher}. Labels are
+ * all one to three word sequences of the titles and snippets of sample documents.
+ */
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "individual")
+@BenchmarkHistoryChart(filePrefix = "history")
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+public class StopLabelMatcherBenchmark extends AbstractBenchmark
+{
+    static final List<Pattern> patterns = Lists.newArrayList();
+    static final List<String> labels = Lists.newArrayList();
+
+    static Pattern union;
+    static StopLabelMatcher matcher;
+
+    /** Prevents dead code elimination. */
+    static volatile int matches;
+
+    @BeforeClass
+    public static void prepare() throws Exception
+    {
+        final ResourceLookup resourceLookup = new ResourceLookup(CONTEXT_CLASS_LOADER);
+        final StringBuilder unionPattern = new StringBuilder();
+        for (LanguageCode language : LanguageCode.values())
+        {
+            for (String pattern : DefaultLexicalDataFactory.load(resourceLookup
+                .getFirst("stoplabels." + language.getIsoCode())))
+            {
+                patterns.add(Pattern.compile(pattern));
+                unionPattern.append(unionPattern.length() > 0 ? "|(" : "(")
+                    .append(pattern).append(")");
+            }
+        }
+        union = Pattern.compile(unionPattern.toString());
+        matcher = new StopLabelMatcher(patterns);
+
+        for (List<Document> documents : SampleDocumentData.ALL)
+        {
+            for (Document document : documents)
+            {
+                addLabels(document.getTitle());
+                addLabels(document.getSummary());
+            }
+        }
+    }
+
+    private static void addLabels(String text)
+    {
+        if (text == null)
+        {
+            return;
+        }
+
+        final String [] words = text.split("[\\s,.;:!?()\"]+");
+        for (int i = 0; i < words.length; i++)
+        {
+            final StringBuilder label = new StringBuilder();
+            for (int j = i; j < Math.min(i + 3, words.length); j++)
+            {
+                if (j > i) label.append(' ');
+                labels.add(label.append(words[j]).toString());
+            }
+        }
+    }
+
+    @Test
+    public void testPatternLoop()
+    {
+        int count = 0;
+        for (String label : labels)
+        {
+            for (Pattern pattern : patterns)
+            {
+                if (pattern.matcher(label).matches())
+                {
+                    count++;
+                    break;
+                }
+            }
+        }
+        matches = count;
+    }
+
+    @Test
+    public void testPatternUnion()
+    {
+        int count = 0;
+        for (String label : labels)
+        {
+            if (union.matcher(label).matches())
+            {
+                count++;
+            }
+        }
+        matches = count;
+    }
+
+    @Test
+    public void testAutomaton()
+    {
+        int count = 0;
+        for (String label : labels)
+        {
+            if (matcher.matches(label))
+            {
+                count++;
+            }
+        }
+        matches = count;
+    }
+}
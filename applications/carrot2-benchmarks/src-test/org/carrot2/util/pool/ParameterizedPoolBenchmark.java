@@ -0,0 +1,106 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util.pool;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.AxisRange;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkMethodChart;
+import com.google.common.collect.Lists;
+
+/**
+ * Compares {@link IParameterizedPool} implementations under contention. A number of
+ * threads larger than the number of typical cores repeatedly borrow and return objects
+ * of a few [class, parameter] keys, doing no work in between, so the measured time is
+ * dominated by the pool's internal synchronization.
+ */
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "individual")
+@BenchmarkHistoryChart(filePrefix = "history")
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+public class ParameterizedPoolBenchmark extends AbstractBenchmark
+{
+    static final int THREADS = 32;
+    static final int ITERATIONS = 20000;
+    static final String [] PARAMETERS = { "lingo", "stc", "kmeans", "source" };
+
+    static final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+    @AfterClass
+    public static void shutDownExecutor() throws InterruptedException
+    {
+        executorService.shutdown();
+        executorService.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testSoftUnboundedPool() throws Exception
+    {
+        testWithPool(new SoftUnboundedPool<Object, String>());
+    }
+
+    @Test
+    public void testFixedSizePool() throws Exception
+    {
+        testWithPool(new FixedSizePool<Object, String>(THREADS));
+    }
+
+    @Test
+    public void testConcurrentBoundedPool() throws Exception
+    {
+        testWithPool(new ConcurrentBoundedPool<Object, String>(THREADS));
+    }
+
+    private void testWithPool(final IParameterizedPool<Object, String> pool)
+        throws Exception
+    {
+        pool.init(null, null, null, null);
+        try
+        {
+            final List<Callable<Object>> callables = Lists.newArrayList();
+            for (int t = 0; t < THREADS; t++)
+            {
+                final int thread = t;
+                callables.add(new Callable<Object>()
+                {
+                    public Object call() throws Exception
+                    {
+                        Object last = null;
+                        for (int i = 0; i < ITERATIONS; i++)
+                        {
+                            final String parameter = PARAMETERS[(thread + i) % PARAMETERS.length];
+                            last = pool.borrowObject(Object.class, parameter);
+                            pool.returnObject(last, parameter);
+                        }
+                        return last;
+                    }
+                });
+            }
+
+            executorService.invokeAll(callables);
+        }
+        finally
+        {
+            pool.dispose();
+        }
+    }
+}
@@ -15,6 +15,7 @@ package org.carrot2.dcs;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.carrot2.core.CachingProcessingComponentManager;
 import org.carrot2.util.CloseableUtils;
 import org.carrot2.util.resource.IResource;
 import org.simpleframework.xml.Attribute;
@@ -39,6 +40,64 @@ class DcsConfig
     @Attribute(name = "cache-clusters", required = false)
     boolean cacheClusters = false;
 
+    /**
+     * Specification of the document source results cache, e.g.
+     * <code>maximumWeight=100000000,expireAfterWrite=30m</code>. Entry weights are
+     * estimated in bytes. If not provided, a default size-bounded cache is used. The
+     * default cache is shared with the clusters cache unless either cache specification
+     * or {@link #cacheSecondLevelDirectory} is provided.
+     */
+    @Attribute(name = "cache-documents-spec", required = false)
+    String cacheDocumentsSpec = null;
+
+    /**
+     * Specification of the clustering results cache, see {@link #cacheDocumentsSpec}.
+     */
+    @Attribute(name = "cache-clusters-spec", required = false)
+    String cacheClustersSpec = null;
+
+    /**
+     * The maximum time (in milliseconds) a request waits for an identical request being
+     * processed at the same time before it performs the processing on its own.
+     */
+    @Attribute(name = "cache-coalescing-timeout", required = false)
+    long cacheCoalescingTimeout = CachingProcessingComponentManager.DEFAULT_COALESCING_TIMEOUT_MILLIS;
+
+    /**
+     * If provided, results of the cached components are also stored in files in this
+     * directory and survive restarts of the DCS.
+     */
+    @Attribute(name = "cache-second-level-directory", required = false)
+    String cacheSecondLevelDirectory = null;
+
+    /**
+     * The maximum total size of the files in {@link #cacheSecondLevelDirectory}, in bytes.
+     */
+    @Attribute(name = "cache-second-level-size", required = false)
+    long cacheSecondLevelSize = 256L * 1024 * 1024;
+
+    /**
+     * If <code>true</code>, clustering requests are processed asynchronously and do not
+     * occupy container threads while waiting for the results.
+     */
+    @Attribute(name = "async-processing", required = false)
+    boolean asyncProcessing = false;
+
+    /**
+     * The maximum time (in milliseconds) of processing a clustering request. Requests
+     * exceeding it are cancelled. Zero means no limit.
+     */
+    @Attribute(name = "processing-timeout", required = false)
+    long processingTimeout = 0;
+
+    /**
+     * If <code>true</code>, the <code>metrics</code> command exposes processing
+     * statistics, including latencies of processing stages, in the Prometheus text
+     * format.
+     */
+    @Attribute(name = "prometheus-metrics", required = false)
+    boolean prometheusMetrics = false;
+
     @Attribute(name = "xslt", required = false)
     String xslt = null;
     
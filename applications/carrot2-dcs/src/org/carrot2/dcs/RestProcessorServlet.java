@@ -23,6 +23,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
@@ -44,9 +48,11 @@ import org.apache.log4j.PatternLayout;
 import org.carrot2.core.Controller;
 import org.carrot2.core.ControllerFactory;
 import org.carrot2.core.Document;
+import org.carrot2.core.FileSecondLevelCache;
 import org.carrot2.core.IClusteringAlgorithm;
 import org.carrot2.core.IDocumentSource;
 import org.carrot2.core.IProcessingComponent;
+import org.carrot2.core.ISecondLevelCache;
 import org.carrot2.core.ProcessingComponentConfiguration;
 import org.carrot2.core.ProcessingComponentSuite;
 import org.carrot2.core.ProcessingException;
@@ -54,6 +60,7 @@ import org.carrot2.core.ProcessingResult;
 import org.carrot2.dcs.DcsRequestModel.OutputFormat;
 import org.carrot2.text.linguistic.DefaultLexicalDataFactory;
 import org.carrot2.util.CloseableUtils;
+import org.carrot2.util.ExceptionUtils;
 import org.carrot2.util.attribute.AttributeBinder;
 import org.carrot2.util.attribute.AttributeUtils;
 import org.carrot2.util.attribute.Input;
@@ -66,10 +73,16 @@ import org.carrot2.util.resource.ResourceLookup;
 import org.carrot2.util.resource.ResourceLookup.Location;
 import org.carrot2.util.resource.ServletContextLocator;
 import org.carrot2.util.xslt.NopURIResolver;
+import org.eclipse.jetty.continuation.Continuation;
+import org.eclipse.jetty.continuation.ContinuationSupport;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * A servlet that parses HTTP POST input in Carrot<sup>2</sup> XML format, clusters it and
@@ -83,6 +96,24 @@ public final class RestProcessorServlet extends HttpServlet
      */
     private static final String DCS_C2STREAM = "dcs.c2stream";
 
+    /**
+     * Request attribute holding the result of asynchronous processing.
+     */
+    private static final String DCS_ASYNC_RESULT = "dcs.async.result";
+
+    /**
+     * Time (in milliseconds) a suspended request waits for the results in addition to
+     * the processing timeout. Processing exceeding the timeout fails before the request
+     * expires, so that the error can be reported.
+     */
+    private static final long ASYNC_TIMEOUT_MARGIN = 5 * 1000;
+
+    /**
+     * Time (in milliseconds) a suspended request waits for the results if there is no
+     * processing timeout.
+     */
+    private static final long ASYNC_TIMEOUT_DEFAULT = 5 * 60 * 1000;
+
     /** System property to disable log file appender. */
     final static String DISABLE_LOGFILE_APPENDER = "disable.logfile";
 
@@ -93,6 +124,7 @@ public final class RestProcessorServlet extends HttpServlet
     private final static String UTF8 = "UTF-8";
     private final static String MIME_XML_UTF8 = "text/xml; charset=" + UTF8;
     private final static String MIME_JSON_UTF8 = "text/json; charset=" + UTF8;
+    private final static String MIME_PROMETHEUS_UTF8 = "text/plain; version=0.0.4; charset=" + UTF8;
 
     /**
      * {@link ProcessingResult} served as input/output example.
@@ -184,6 +216,19 @@ public final class RestProcessorServlet extends HttpServlet
                 controller.getStatistics().serialize(response.getOutputStream());
             }
         });
+        put("metrics", new CommandAction() {
+            public void handle(HttpServletRequest request, HttpServletResponse response) throws Exception
+            {
+                if (!config.prometheusMetrics)
+                {
+                    sendBadRequest("No such command: metrics", response, null);
+                    return;
+                }
+
+                response.setContentType(MIME_PROMETHEUS_UTF8);
+                controller.getStatistics().serializePrometheus(response.getWriter());
+            }
+        });
 
         // Aliases for clustering commands.
         put("rest", new CommandAction() {
@@ -256,19 +301,46 @@ public final class RestProcessorServlet extends HttpServlet
         defaultAlgorithmId = componentSuite.getAlgorithms().get(0).getId();
 
         // Initialize controller
-        final List<Class<? extends IProcessingComponent>> cachedComponentClasses = Lists
-            .newArrayListWithExpectedSize(2);
-        if (config.cacheDocuments)
+        if (config.cacheDocumentsSpec != null || config.cacheClustersSpec != null
+            || config.cacheSecondLevelDirectory != null)
         {
-            cachedComponentClasses.add(IDocumentSource.class);
+            final Map<Class<? extends IProcessingComponent>, String> cacheSpecs = Maps
+                .newLinkedHashMap();
+            if (config.cacheDocuments)
+            {
+                cacheSpecs.put(IDocumentSource.class, config.cacheDocumentsSpec);
+            }
+            if (config.cacheClusters)
+            {
+                cacheSpecs.put(IClusteringAlgorithm.class, config.cacheClustersSpec);
+            }
+
+            final ISecondLevelCache secondLevelCache = 
+                (config.cacheSecondLevelDirectory != null 
+                    ? new FileSecondLevelCache(new File(config.cacheSecondLevelDirectory),
+                        config.cacheSecondLevelSize)
+                    : null);
+
+            controller = ControllerFactory.createCachingPooling(cacheSpecs,
+                config.cacheCoalescingTimeout, secondLevelCache);
         }
-        if (config.cacheClusters)
+        else
         {
-            cachedComponentClasses.add(IClusteringAlgorithm.class);
-        }
+            final List<Class<? extends IProcessingComponent>> cachedComponentClasses = Lists
+                .newArrayListWithExpectedSize(2);
+            if (config.cacheDocuments)
+            {
+                cachedComponentClasses.add(IDocumentSource.class);
+            }
+            if (config.cacheClusters)
+            {
+                cachedComponentClasses.add(IClusteringAlgorithm.class);
+            }
 
-        controller = ControllerFactory.createCachingPooling(cachedComponentClasses
-            .toArray(new Class [cachedComponentClasses.size()]));
+            controller = ControllerFactory.createCachingPooling(
+                config.cacheCoalescingTimeout,
+                cachedComponentClasses.toArray(new Class [cachedComponentClasses.size()]));
+        }
 
         List<IResourceLocator> locators = Lists.newArrayList();
         locators.add(new PrefixDecoratorLocator(new ServletContextLocator(
@@ -326,6 +398,21 @@ public final class RestProcessorServlet extends HttpServlet
         // means to limit potential spam/ leechers.
         response.setHeader("Access-Control-Allow-Origin", "*");
 
+        // A suspended request that expired before processing completed is dispatched
+        // again, cancel the processing and report the error.
+        final Future<?> asyncResult = (Future<?>) request.getAttribute(DCS_ASYNC_RESULT);
+        if (asyncResult != null)
+        {
+            request.removeAttribute(DCS_ASYNC_RESULT);
+            if (asyncResult.cancel(true))
+            {
+                config.logger.error("Asynchronous processing timed out");
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "Processing timed out");
+            }
+            return;
+        }
+
         super.service(request, response);
     }
 
@@ -421,7 +508,7 @@ public final class RestProcessorServlet extends HttpServlet
             }
             parameters.put(key, request.getParameter(key));
         }
-        processRequest(response, input, parameters);
+        processRequest(request, response, input, parameters);
     }
 
     /**
@@ -483,20 +570,21 @@ public final class RestProcessorServlet extends HttpServlet
             }
         }
 
-        processRequest(response, input, parameters);
+        processRequest(request, response, input, parameters);
     }
 
     /**
-     * Process the clustering request.
+     * Process the clustering request. If asynchronous processing is enabled, the request
+     * is suspended and the response is sent when processing completes.
      * 
      * @param input {@link ProcessingResult}, if any available in the request.
      * @param parameters
      * @throws IOException
      */
     @SuppressWarnings("unchecked")
-    private void processRequest(HttpServletResponse response, 
-        ProcessingResult input, final Map<String, Object> parameters) 
-        throws IOException
+    private void processRequest(HttpServletRequest request,
+        HttpServletResponse response, ProcessingResult input,
+        final Map<String, Object> parameters) throws IOException
     {
         // Remove useless parameters, we don't want them to get to the attributes map
         parameters.remove("input-type");
@@ -548,30 +636,92 @@ public final class RestProcessorServlet extends HttpServlet
         }
 
         // Perform processing
+        final Object [] components;
+        final String logMsg;
+        if (requestModel.source != null)
+        {
+            logMsg = "Processed results from " + requestModel.source + " with " + requestModel.algorithm;
+            components = new Object [] { requestModel.source, requestModel.algorithm };
+        }
+        else
+        {
+            logMsg = "Processed direct results feed with " + requestModel.algorithm;
+            components = new Object [] { requestModel.algorithm };
+        }
+
+        final long start = System.currentTimeMillis();
+        final Continuation continuation = (config.asyncProcessing ? getContinuation(request) : null);
+        if (continuation != null)
+        {
+            // Release the container thread, the response will be sent by the thread
+            // completing the processing.
+            continuation.setTimeout(config.processingTimeout > 0 
+                ? config.processingTimeout + ASYNC_TIMEOUT_MARGIN : ASYNC_TIMEOUT_DEFAULT);
+            continuation.suspend(response);
+
+            final ListenableFuture<ProcessingResult> future = controller.processAsync(
+                config.processingTimeout, TimeUnit.MILLISECONDS, processingAttributes,
+                components);
+            request.setAttribute(DCS_ASYNC_RESULT, future);
+
+            Futures.addCallback(future, new FutureCallback<ProcessingResult>()
+            {
+                public void onSuccess(ProcessingResult result)
+                {
+                    try
+                    {
+                        logProcessingTime(logMsg, start);
+                        serializeResult(
+                            (HttpServletResponse) continuation.getServletResponse(),
+                            requestModel, result);
+                    }
+                    catch (IOException e)
+                    {
+                        config.logger.warn("Could not send response", e);
+                    }
+                    finally
+                    {
+                        completeQuietly(continuation);
+                    }
+                }
+
+                public void onFailure(Throwable t)
+                {
+                    try
+                    {
+                        if (!(t instanceof CancellationException))
+                        {
+                            sendInternalServerError("Could not perform processing",
+                                (HttpServletResponse) continuation.getServletResponse(), t);
+                        }
+                    }
+                    catch (IOException e)
+                    {
+                        config.logger.warn("Could not send response", e);
+                    }
+                    finally
+                    {
+                        completeQuietly(continuation);
+                    }
+                }
+            });
+            return;
+        }
+
         ProcessingResult result = null;
         try
         {
-            long start = System.currentTimeMillis();
-            final String logMsg;
-            if (requestModel.source != null)
+            if (config.processingTimeout > 0)
             {
-                logMsg = "Processed results from " + requestModel.source + " with " + requestModel.algorithm;
-                result = controller.process(processingAttributes, requestModel.source,
-                    requestModel.algorithm);
+                result = getUninterruptibly(controller.processAsync(
+                    config.processingTimeout, TimeUnit.MILLISECONDS, processingAttributes,
+                    components));
             }
             else
             {
-                logMsg = "Processed direct results feed with " + requestModel.algorithm;
-                result = controller.process(processingAttributes, requestModel.algorithm);
-            }
-
-            if (config.logger.isInfoEnabled()) {
-                config.logger.info(
-                    String.format(Locale.ENGLISH,
-                        "%s [%.2fs.]",
-                        logMsg,
-                        (System.currentTimeMillis() - start) / 1000.0));
+                result = controller.process(processingAttributes, components);
             }
+            logProcessingTime(logMsg, start);
         }
         catch (ProcessingException e)
         {
@@ -579,7 +729,45 @@ public final class RestProcessorServlet extends HttpServlet
             return;
         }
 
-        // Serialize the result
+        serializeResult(response, requestModel, result);
+    }
+
+    /**
+     * Waits for the result of asynchronous processing, unwrapping processing
+     * exceptions.
+     */
+    private static ProcessingResult getUninterruptibly(Future<ProcessingResult> future)
+    {
+        try
+        {
+            return Uninterruptibles.getUninterruptibly(future);
+        }
+        catch (ExecutionException e)
+        {
+            throw ExceptionUtils.wrapAs(ProcessingException.class, e.getCause());
+        }
+    }
+
+    /**
+     * Logs the time of processing started at <code>start</code>.
+     */
+    private void logProcessingTime(String logMsg, long start)
+    {
+        if (config.logger.isInfoEnabled()) {
+            config.logger.info(
+                String.format(Locale.ENGLISH,
+                    "%s [%.2fs.]",
+                    logMsg,
+                    (System.currentTimeMillis() - start) / 1000.0));
+        }
+    }
+
+    /**
+     * Serializes the result in the requested output format.
+     */
+    private void serializeResult(HttpServletResponse response,
+        DcsRequestModel requestModel, ProcessingResult result) throws IOException
+    {
         try
         {
             if (OutputFormat.XML.equals(requestModel.outputFormat))
@@ -606,6 +794,38 @@ public final class RestProcessorServlet extends HttpServlet
         }
     }
 
+    /**
+     * Returns the continuation of the request or <code>null</code> if the container
+     * supports neither Jetty continuations nor Servlet 3.0 asynchronous requests. The
+     * request is then processed synchronously.
+     */
+    private Continuation getContinuation(HttpServletRequest request)
+    {
+        try
+        {
+            return ContinuationSupport.getContinuation(request);
+        }
+        catch (IllegalStateException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Completes the continuation, which may have expired in the meantime.
+     */
+    private void completeQuietly(Continuation continuation)
+    {
+        try
+        {
+            continuation.complete();
+        }
+        catch (IllegalStateException e)
+        {
+            // Expired, the response has already been sent.
+        }
+    }
+
     /**
      * Serializes the result as XML, optionally applying the configured XSLT
      * transformation.
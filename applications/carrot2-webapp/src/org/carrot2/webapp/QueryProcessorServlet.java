@@ -12,6 +12,7 @@
 
 package org.carrot2.webapp;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
@@ -31,9 +32,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.lang.StringUtils;
+import org.carrot2.core.CachingProcessingComponentManager;
 import org.carrot2.core.Controller;
 import org.carrot2.core.ControllerFactory;
 import org.carrot2.core.ControllerStatistics;
+import org.carrot2.core.FileSecondLevelCache;
 import org.carrot2.core.ProcessingComponentDescriptor;
 import org.carrot2.core.ProcessingException;
 import org.carrot2.core.ProcessingResult;
@@ -154,8 +157,24 @@ public class QueryProcessorServlet extends HttpServlet
         if (Boolean.getBoolean(ENABLE_CLASSPATH_LOCATOR))
             locators.add(Location.CONTEXT_CLASS_LOADER.locator);
 
-        controller = ControllerFactory.createCachingPooling(
-            ResultsCacheModel.toClassArray(webappConfig.caches));
+        if (webappConfig.cacheSecondLevelDirectory != null)
+        {
+            controller = ControllerFactory.createCachingPooling(
+                ResultsCacheModel.toSpecMap(webappConfig.caches),
+                CachingProcessingComponentManager.DEFAULT_COALESCING_TIMEOUT_MILLIS,
+                new FileSecondLevelCache(new File(webappConfig.cacheSecondLevelDirectory),
+                    webappConfig.cacheSecondLevelSize));
+        }
+        else if (ResultsCacheModel.hasSpecs(webappConfig.caches))
+        {
+            controller = ControllerFactory.createCachingPooling(
+                ResultsCacheModel.toSpecMap(webappConfig.caches));
+        }
+        else
+        {
+            controller = ControllerFactory.createCachingPooling(
+                ResultsCacheModel.toClassArray(webappConfig.caches));
+        }
         controller.init(
             ImmutableMap.<String, Object> of(
                 AttributeUtils.getKey(DefaultLexicalDataFactory.class, "resourceLookup"),
@@ -397,6 +416,14 @@ public class QueryProcessorServlet extends HttpServlet
 
             output.write("cache.hits: " + statistics.cacheHitsTotal + "\n");
             output.write("cache.misses: " + statistics.cacheMisses + "\n");
+            output.write("cache.evictions: " + statistics.cacheEvictions + "\n");
+            output.write("cache.size: " + statistics.cacheSize + "\n");
+            output.write("cache.load-ms-average: " + statistics.cacheLoadTimeAverage + "\n");
+            if (statistics.cacheSecondLevelHits != null)
+            {
+                output.write("cache.second-level.hits: " + statistics.cacheSecondLevelHits + "\n");
+                output.write("cache.second-level.misses: " + statistics.cacheSecondLevelMisses + "\n");
+            }
 
             output.flush();
         }
@@ -13,10 +13,13 @@
 package org.carrot2.webapp.model;
 
 import java.util.List;
+import java.util.Map;
 
 import org.carrot2.core.IProcessingComponent;
 import org.simpleframework.xml.Attribute;
 
+import com.google.common.collect.Maps;
+
 /**
  * Represents results caching configuration entry
  */
@@ -24,6 +27,40 @@ public class ResultsCacheModel
 {
     @Attribute
     public Class<? extends IProcessingComponent> component;
+
+    /**
+     * Optional cache specification, e.g.
+     * <code>maximumWeight=50000000,expireAfterAccess=10m</code>. Entry weights are
+     * estimated in bytes.
+     */
+    @Attribute(required = false)
+    public String spec;
+
+    /**
+     * Returns <code>true</code> if any of the entries on the list defines its cache
+     * specification.
+     */
+    public static boolean hasSpecs(List<ResultsCacheModel> list)
+    {
+        for (ResultsCacheModel resultsCacheModel : list)
+        {
+            if (resultsCacheModel.spec != null)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Map<Class<? extends IProcessingComponent>, String> toSpecMap(List<ResultsCacheModel> list)
+    {
+        final Map<Class<? extends IProcessingComponent>, String> result = Maps.newLinkedHashMap();
+        for (ResultsCacheModel resultsCacheModel : list)
+        {
+            result.put(resultsCacheModel.component, resultsCacheModel.spec);
+        }
+        return result;
+    }
     
     @SuppressWarnings("unchecked")
     public static Class<? extends IProcessingComponent> [] toClassArray(List<ResultsCacheModel> list)
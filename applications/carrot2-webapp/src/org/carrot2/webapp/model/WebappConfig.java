@@ -77,6 +77,19 @@ public class WebappConfig
 
     @ElementList(entry = "cache", required = false)
     public ArrayList<ResultsCacheModel> caches = Lists.newArrayList();
+
+    /**
+     * If provided, results of the cached components are also stored in files in this
+     * directory and survive restarts of the application.
+     */
+    @Attribute(name = "cache-second-level-directory", required = false)
+    public String cacheSecondLevelDirectory;
+
+    /**
+     * The maximum total size of the files in {@link #cacheSecondLevelDirectory}, in bytes.
+     */
+    @Attribute(name = "cache-second-level-size", required = false)
+    public long cacheSecondLevelSize = 256L * 1024 * 1024;
     
     @Attribute(name = "skins-folder")
     public String skinsFolder;
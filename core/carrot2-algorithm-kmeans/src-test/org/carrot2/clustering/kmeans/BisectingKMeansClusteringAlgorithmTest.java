@@ -14,15 +14,21 @@ package org.carrot2.clustering.kmeans;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.carrot2.core.Cluster;
 import org.carrot2.core.Document;
+import org.carrot2.core.ProcessingException;
 import org.carrot2.core.ProcessingResult;
+import org.carrot2.core.attribute.AttributeNames;
 import org.carrot2.core.test.ClusteringAlgorithmTestBase;
 import org.carrot2.core.test.SampleDocumentData;
 import org.carrot2.core.test.assertions.Carrot2CoreAssertions;
 import org.carrot2.text.clustering.MultilingualClustering.LanguageAggregationStrategy;
 import org.carrot2.text.clustering.MultilingualClusteringDescriptor;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.attribute.AttributeUtils;
+import org.carrot2.util.tests.SteppingTicker;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
@@ -77,4 +83,45 @@ public class BisectingKMeansClusteringAlgorithmTest extends
 
         assertThat(clusterNames).contains("English", "Italian", "French", "Spanish", "German");
     }
+
+    @Test
+    public void testTimeBudgetExceededAborts()
+    {
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET, 1L);
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET_POLICY,
+            TimeBudget.Policy.ABORT);
+        processingAttributes.put(
+            AttributeUtils.getKey(BisectingKMeansClusteringAlgorithm.class, "processingTimeBudgetTicker"),
+            new SteppingTicker(1, TimeUnit.MILLISECONDS));
+        try
+        {
+            cluster(SampleDocumentData.DOCUMENTS_DATA_MINING);
+            fail("Expected an exception.");
+        }
+        catch (ProcessingException e)
+        {
+            assertThat(e.getMessage()).startsWith("Time budget of 1 ms exceeded");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTimeBudgetExceededDegrades()
+    {
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET, 1L);
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET_POLICY,
+            TimeBudget.Policy.DEGRADE);
+        processingAttributes.put(
+            AttributeUtils.getKey(BisectingKMeansClusteringAlgorithm.class, "processingTimeBudgetTicker"),
+            new SteppingTicker(1, TimeUnit.MILLISECONDS));
+        final ProcessingResult result = cluster(
+            SampleDocumentData.DOCUMENTS_DATA_MINING);
+
+        assertThat(result.getClusters()).isNotEmpty();
+        final List<String> degradations = (List<String>) result
+            .getAttribute(AttributeNames.PROCESSING_DEGRADATIONS);
+        assertThat(degradations).isNotEmpty();
+        assertThat(degradations.get(degradations.size() - 1)).startsWith(
+            "cluster splitting: ");
+    }
 }
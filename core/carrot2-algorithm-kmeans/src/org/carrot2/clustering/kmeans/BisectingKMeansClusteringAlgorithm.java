@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.mahout.math.function.Functions;
@@ -26,6 +27,7 @@ import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
 import org.carrot2.core.Cluster;
 import org.carrot2.core.Document;
 import org.carrot2.core.IClusteringAlgorithm;
+import org.carrot2.core.IControllerContext;
 import org.carrot2.core.LanguageCode;
 import org.carrot2.core.ProcessingComponentBase;
 import org.carrot2.core.ProcessingException;
@@ -45,6 +47,9 @@ import org.carrot2.text.vsm.ReducedVectorSpaceModelContext;
 import org.carrot2.text.vsm.TermDocumentMatrixBuilder;
 import org.carrot2.text.vsm.TermDocumentMatrixReducer;
 import org.carrot2.text.vsm.VectorSpaceModelContext;
+import org.carrot2.util.StageLatencies;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.TimeBudgetExceededException;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
 import org.carrot2.util.attribute.Bindable;
@@ -65,6 +70,7 @@ import com.carrotsearch.hppc.cursors.IntCursor;
 import com.carrotsearch.hppc.cursors.IntIntCursor;
 import com.carrotsearch.hppc.sorting.IndirectComparator;
 import com.carrotsearch.hppc.sorting.IndirectSort;
+import com.google.common.base.Ticker;
 import com.google.common.collect.Lists;
 
 /**
@@ -94,6 +100,43 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
     @Attribute(key = AttributeNames.CLUSTERS, inherit = true)
     public List<Cluster> clusters = null;
 
+    /**
+     * Processing time budget in milliseconds, zero means no budget.
+     */
+    @Processing
+    @Input
+    @Attribute(key = AttributeNames.PROCESSING_TIME_BUDGET, inherit = true)
+    public long processingTimeBudget = 0;
+
+    /**
+     * Action on exceeding {@link #processingTimeBudget}.
+     */
+    @Processing
+    @Input
+    @Required
+    @Attribute(key = AttributeNames.PROCESSING_TIME_BUDGET_POLICY, inherit = true)
+    public TimeBudget.Policy processingTimeBudgetPolicy = TimeBudget.Policy.ABORT;
+
+    /**
+     * Source of time of {@link #processingTimeBudget}.
+     */
+    @Processing
+    @Input
+    @Internal
+    @Required
+    @Attribute
+    @ImplementingClasses(classes = {}, strict = false)
+    @Level(AttributeLevel.ADVANCED)
+    public Ticker processingTimeBudgetTicker = Ticker.systemTicker();
+
+    /**
+     * Stages of clustering cut short because {@link #processingTimeBudget} was exceeded.
+     */
+    @Processing
+    @Output
+    @Attribute(key = AttributeNames.PROCESSING_DEGRADATIONS, inherit = true)
+    public List<String> processingDegradations;
+
     /**
      * The number of clusters to create. The algorithm will create at most the specified
      * number of clusters.
@@ -191,6 +234,26 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
      */
     public final MultilingualClustering multilingualClustering = new MultilingualClustering();
 
+    /**
+     * Time budget of the current request, set during {@link #process()}.
+     */
+    private TimeBudget timeBudget;
+
+    /**
+     * Sets up parallel preprocessing and matrix multiplication in threads shared by the
+     * components of the controller.
+     */
+    @Override
+    public void init(IControllerContext context)
+    {
+        super.init(context);
+
+        final ExecutorService executor = getSharedExecutor(
+            Runtime.getRuntime().availableProcessors(), getClass());
+        BasicPreprocessingPipeline.useExecutor(preprocessingPipeline, executor);
+        matrixReducer.setExecutor(executor);
+    }
+
     @Override
     public void process() throws ProcessingException
     {
@@ -201,17 +264,33 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
         // processing components are not thread-safe by definition and 
         // IMonolingualClusteringAlgorithm forbids concurrent execution by contract.
         final List<Document> originalDocuments = documents;
-        clusters = multilingualClustering.process(documents,
-            new IMonolingualClusteringAlgorithm()
-            {
-                public List<Cluster> process(List<Document> documents, LanguageCode language)
+        timeBudget = new TimeBudget(processingTimeBudget, processingTimeBudgetPolicy,
+            processingTimeBudgetTicker);
+        try
+        {
+            clusters = multilingualClustering.process(documents,
+                new IMonolingualClusteringAlgorithm()
                 {
-                    BisectingKMeansClusteringAlgorithm.this.documents = documents;
-                    BisectingKMeansClusteringAlgorithm.this.cluster(language);
-                    return BisectingKMeansClusteringAlgorithm.this.clusters;
-                }
-            });
-        documents = originalDocuments;
+                    public List<Cluster> process(List<Document> documents, LanguageCode language)
+                    {
+                        BisectingKMeansClusteringAlgorithm.this.documents = documents;
+                        BisectingKMeansClusteringAlgorithm.this.cluster(language);
+                        return BisectingKMeansClusteringAlgorithm.this.clusters;
+                    }
+                });
+            processingDegradations = Lists.newArrayList(timeBudget.getDegradations());
+        }
+        catch (TimeBudgetExceededException e)
+        {
+            throw new ProcessingException(e.getMessage(), e);
+        }
+        finally
+        {
+            timeBudget.finish();
+            StageLatencies.recordCurrent(timeBudget.getStageTimes());
+            documents = originalDocuments;
+            timeBudget = null;
+        }
     }
 
     /**
@@ -221,7 +300,8 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
     {
         // Preprocessing of documents
         final PreprocessingContext preprocessingContext = 
-            preprocessingPipeline.preprocess(documents, null, language);
+            BasicPreprocessingPipeline.preprocessWithin(preprocessingPipeline, documents,
+                null, language, timeBudget);
 
         // Add trivial AllLabels so that we can reuse the common TD matrix builder
         final int [] stemsMfow = preprocessingContext.allStems.mostFrequentOriginalWordIndex;
@@ -248,6 +328,7 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
             final ReducedVectorSpaceModelContext reducedVsmContext = new ReducedVectorSpaceModelContext(
                 vsmContext);
 
+            timeBudget.checkpoint("term-document matrix building");
             matrixBuilder.buildTermDocumentMatrix(vsmContext);
             matrixBuilder.buildTermPhraseMatrix(vsmContext);
 
@@ -261,7 +342,7 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
             final DoubleMatrix2D tdMatrix;
             if (useDimensionalityReduction && clusterCount * 2 < preprocessingContext.documents.size())
             {
-                matrixReducer.reduce(reducedVsmContext, clusterCount * 2);
+                matrixReducer.reduce(reducedVsmContext, clusterCount * 2, timeBudget);
                 tdMatrix = reducedVsmContext.coefficientMatrix.viewDice();
             }
             else
@@ -276,12 +357,21 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
                 columns.add(c);
             }
             final List<IntArrayList> rawClusters = Lists.newArrayList();
+            timeBudget.checkpoint("cluster splitting");
             rawClusters.addAll(split(partitionCount, tdMatrix, columns, maxIterations));
             Collections.sort(rawClusters, BY_SIZE_DESCENDING);
             
             int largestIndex = 0;
             while (rawClusters.size() < clusterCount && largestIndex < rawClusters.size())
             {
+                // Out of time, stop splitting
+                if (timeBudget.checkpoint("cluster splitting"))
+                {
+                    timeBudget.degraded("cluster splitting: " + rawClusters.size()
+                        + " of " + clusterCount + " clusters");
+                    break;
+                }
+
                 // Find largest cluster to split
                 IntArrayList largest = rawClusters.get(largestIndex);
                 if (largest.size() <= partitionCount * 2) 
@@ -307,6 +397,7 @@ public class BisectingKMeansClusteringAlgorithm extends ProcessingComponentBase
                 }
             }
 
+            timeBudget.checkpoint("cluster label building");
             for (int i = 0; i < rawClusters.size(); i++)
             {
                 final Cluster cluster = new Cluster();
@@ -141,7 +141,7 @@ public class ClusterMergerTest extends LingoProcessingComponentTestBase
             {
                 assertThat(lingoContext.clusterDocuments[i]).as(description).isNotNull();
                 assertThat(
-                    lingoContext.clusterDocuments[i].asIntLookupContainer().toArray()).as(description)
+                    lingoContext.clusterDocuments[i].toArray()).as(description)
                     .containsOnly(expectedDocumentIndices[i]);
             }
             else
@@ -17,8 +17,11 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.carrot2.core.Cluster;
+import org.carrot2.core.Controller;
+import org.carrot2.core.ControllerStatistics.StageLatency;
 import org.carrot2.core.Document;
 import org.carrot2.core.ProcessingException;
 import org.carrot2.core.ProcessingResult;
@@ -27,7 +30,9 @@ import org.carrot2.core.test.ClusteringAlgorithmTestBase;
 import org.carrot2.core.test.SampleDocumentData;
 import org.carrot2.text.analysis.ExtendedWhitespaceTokenizerImpl;
 import org.carrot2.text.preprocessing.CaseNormalizer;
+import org.carrot2.util.TimeBudget;
 import org.carrot2.util.attribute.AttributeUtils;
+import org.carrot2.util.tests.SteppingTicker;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -102,4 +107,71 @@ public class LingoClusteringAlgorithmTest extends
         assertThat(clusters).hasSize(2);
         assertThat(clusters.get(0).getLabel().toLowerCase()).startsWith("program");
     }
+
+    @Test
+    public void testTimeBudgetExceededAborts()
+    {
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET, 1L);
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET_POLICY,
+            TimeBudget.Policy.ABORT);
+        processingAttributes.put(
+            AttributeUtils.getKey(LingoClusteringAlgorithm.class, "processingTimeBudgetTicker"),
+            new SteppingTicker(1, TimeUnit.MILLISECONDS));
+        try
+        {
+            cluster(SampleDocumentData.DOCUMENTS_DATA_MINING);
+            fail("Expected an exception.");
+        }
+        catch (ProcessingException e)
+        {
+            assertThat(e.getMessage()).startsWith("Time budget of 1 ms exceeded");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTimeBudgetExceededDegrades()
+    {
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET, 1L);
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET_POLICY,
+            TimeBudget.Policy.DEGRADE);
+        processingAttributes.put(
+            AttributeUtils.getKey(LingoClusteringAlgorithm.class, "processingTimeBudgetTicker"),
+            new SteppingTicker(1, TimeUnit.MILLISECONDS));
+        final ProcessingResult result = cluster(
+            SampleDocumentData.DOCUMENTS_DATA_MINING);
+
+        assertThat(result.getClusters()).isNotEmpty();
+        final List<String> degradations = (List<String>) result
+            .getAttribute(AttributeNames.PROCESSING_DEGRADATIONS);
+        assertThat(degradations).hasSize(1);
+        assertThat(degradations.get(0)).startsWith("matrix factorization: 1 of ");
+    }
+
+    @Test
+    public void testStageLatenciesRecorded()
+    {
+        processingAttributes.put(AttributeNames.DOCUMENTS,
+            SampleDocumentData.DOCUMENTS_DATA_MINING);
+        final Controller controller = getSimpleController(initAttributes);
+        try
+        {
+            controller.process(processingAttributes, getComponentClass());
+
+            final List<String> stages = Lists.newArrayList();
+            for (StageLatency stage : controller.getStatistics().stageLatencies)
+            {
+                assertThat(stage.count).isEqualTo(1);
+                stages.add(stage.name);
+            }
+            assertThat(stages).contains(Controller.STAGE_ALGORITHM, "tokenization",
+                "phrase extraction", "term-document matrix building",
+                "matrix factorization", "cluster label building");
+        }
+        finally
+        {
+            controller.dispose();
+            simpleController = null;
+        }
+    }
 }
@@ -14,13 +14,16 @@ package org.carrot2.clustering.lingo;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.mahout.math.function.Functions;
 import org.apache.mahout.math.matrix.*;
 import org.carrot2.core.attribute.Processing;
+import org.carrot2.matrix.MatrixKernels;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.text.vsm.ITermWeighting;
 import org.carrot2.text.vsm.VectorSpaceModelContext;
+import org.carrot2.util.CompressedBitSet;
 import org.carrot2.util.GraphUtils;
 import org.carrot2.util.LinearApproximation;
 import org.carrot2.util.attribute.*;
@@ -126,10 +129,36 @@ public class ClusterBuilder
             1.0, 1.5, 1.3, 0.9, 0.7, 0.6, 0.3, 0.05, 0.05, 0.05, 0.05
         }, 0.0, 1.0);
 
+    /**
+     * Executor multiplying matrices in parallel, <code>null</code> to multiply them in the
+     * calling thread.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Sets the executor multiplying matrices in parallel. The executor is not shut down
+     * by the builder.
+     */
+    void setExecutor(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
     /**
      * Discovers labels for clusters.
      */
     void buildLabels(LingoProcessingContext context, ITermWeighting termWeighting)
+    {
+        buildLabels(context, termWeighting, 1);
+    }
+
+    /**
+     * Discovers labels for clusters, multiplying matrices with up to
+     * <code>threads</code> threads of the executor set with
+     * {@link #setExecutor(ExecutorService)}.
+     */
+    void buildLabels(LingoProcessingContext context, ITermWeighting termWeighting,
+        int threads)
     {
         final PreprocessingContext preprocessingContext = context.preprocessingContext;
         final VectorSpaceModelContext vsmContext = context.vsmContext;
@@ -138,7 +167,7 @@ public class ClusterBuilder
         final int [] labelsFeatureIndex = preprocessingContext.allLabels.featureIndex;
         final int [] mostFrequentOriginalWordIndex = preprocessingContext.allStems.mostFrequentOriginalWordIndex;
         final int [][] phrasesWordIndices = preprocessingContext.allPhrases.wordIndices;
-        final BitSet [] labelsDocumentIndices = preprocessingContext.allLabels.documentIndices;
+        final CompressedBitSet [] labelsDocumentIndices = preprocessingContext.allLabels.documentIndices;
         final int wordCount = preprocessingContext.allWords.image.length;
         final int documentCount = preprocessingContext.documents.size();
 
@@ -211,7 +240,8 @@ public class ClusterBuilder
         if (phraseMatrix != null)
         {
             // Build raw cosine similarities
-            phraseCos = phraseMatrix.zMult(reducedTdMatrix, null, 1, 0, false, false);
+            phraseCos = MatrixKernels.zMult(phraseMatrix, reducedTdMatrix, null, 1, 0,
+                false, false, threads, executor);
 
             // Apply phrase weighting
             if (phraseLengthPenaltyStop < phraseLengthPenaltyStart)
@@ -257,7 +287,7 @@ public class ClusterBuilder
     }
 
     private double getDocumentCountPenalty(int labelIndex, int documentCount,
-        BitSet [] labelsDocumentIndices)
+        CompressedBitSet [] labelsDocumentIndices)
     {
         return documentSizeCoefficients.getValue(
             labelsDocumentIndices[labelIndex].cardinality() / (double) documentCount);
@@ -269,10 +299,11 @@ public class ClusterBuilder
     void assignDocuments(LingoProcessingContext context)
     {
         final int [] clusterLabelFeatureIndex = context.clusterLabelFeatureIndex;
-        final BitSet [] clusterDocuments = new BitSet [clusterLabelFeatureIndex.length];
+        final CompressedBitSet [] clusterDocuments =
+            new CompressedBitSet [clusterLabelFeatureIndex.length];
 
         final int [] labelsFeatureIndex = context.preprocessingContext.allLabels.featureIndex;
-        final BitSet [] documentIndices = context.preprocessingContext.allLabels.documentIndices;
+        final CompressedBitSet [] documentIndices = context.preprocessingContext.allLabels.documentIndices;
         final IntIntOpenHashMap featureValueToIndex = new IntIntOpenHashMap();
 
         for (int i = 0; i < labelsFeatureIndex.length; i++)
@@ -295,42 +326,26 @@ public class ClusterBuilder
      */
     void merge(LingoProcessingContext context)
     {
-        final BitSet [] clusterDocuments = context.clusterDocuments;
+        final CompressedBitSet [] clusterDocuments = context.clusterDocuments;
         final int [] clusterLabelFeatureIndex = context.clusterLabelFeatureIndex;
         final double [] clusterLabelScore = context.clusterLabelScore;
 
         final List<IntArrayList> mergedClusters = GraphUtils.findCoherentSubgraphs(
             clusterDocuments.length, new GraphUtils.IArcPredicate()
             {
-                private BitSet temp = new BitSet();
-
                 public boolean isArcPresent(int clusterA, int clusterB)
                 {
-                    temp.clear();
-                    int size;
-                    BitSet setA = clusterDocuments[clusterA];
-                    BitSet setB = clusterDocuments[clusterB];
+                    final CompressedBitSet setA = clusterDocuments[clusterA];
+                    final CompressedBitSet setB = clusterDocuments[clusterB];
 
                     // Suitable for flat clustering
                     // A small subgroup contained within a bigger group
                     // will give small overlap ratio. Big ratios will
                     // be produced only for balanced group sizes.
-                    if (setA.cardinality() < setB.cardinality())
-                    {
-                        // addAll == or
-                        // reiatinAll == and | intersect
-                        temp.or(setA);
-                        temp.intersect(setB);
-                        size = (int) setB.cardinality();
-                    }
-                    else
-                    {
-                        temp.or(setB);
-                        temp.intersect(setA);
-                        size = (int) setA.cardinality();
-                    }
+                    final int size = Math.max(setA.cardinality(), setB.cardinality());
 
-                    return temp.cardinality() / (double) size >= clusterMergingThreshold;
+                    return CompressedBitSet.intersectionCount(setA, setB) / (double) size
+                        >= clusterMergingThreshold;
                 }
             }, true);
 
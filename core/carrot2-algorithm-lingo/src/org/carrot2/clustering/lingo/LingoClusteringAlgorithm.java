@@ -14,10 +14,12 @@ package org.carrot2.clustering.lingo;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.carrot2.core.Cluster;
 import org.carrot2.core.Document;
 import org.carrot2.core.IClusteringAlgorithm;
+import org.carrot2.core.IControllerContext;
 import org.carrot2.core.LanguageCode;
 import org.carrot2.core.ProcessingComponentBase;
 import org.carrot2.core.ProcessingException;
@@ -30,12 +32,17 @@ import org.carrot2.text.clustering.IMonolingualClusteringAlgorithm;
 import org.carrot2.text.clustering.MultilingualClustering;
 import org.carrot2.text.preprocessing.LabelFormatter;
 import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.text.preprocessing.pipeline.BasicPreprocessingPipeline;
 import org.carrot2.text.preprocessing.pipeline.CompletePreprocessingPipeline;
 import org.carrot2.text.preprocessing.pipeline.IPreprocessingPipeline;
 import org.carrot2.text.vsm.ReducedVectorSpaceModelContext;
 import org.carrot2.text.vsm.TermDocumentMatrixBuilder;
 import org.carrot2.text.vsm.TermDocumentMatrixReducer;
 import org.carrot2.text.vsm.VectorSpaceModelContext;
+import org.carrot2.util.CompressedBitSet;
+import org.carrot2.util.StageLatencies;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.TimeBudgetExceededException;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
 import org.carrot2.util.attribute.Bindable;
@@ -50,7 +57,7 @@ import org.carrot2.util.attribute.constraint.DoubleRange;
 import org.carrot2.util.attribute.constraint.ImplementingClasses;
 import org.carrot2.util.attribute.constraint.IntRange;
 
-import com.carrotsearch.hppc.BitSet;
+import com.google.common.base.Ticker;
 import com.google.common.collect.Lists;
 
 /**
@@ -89,6 +96,43 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
     @Attribute(key = AttributeNames.CLUSTERS, inherit = true)
     public List<Cluster> clusters = null;
 
+    /**
+     * Processing time budget in milliseconds, zero means no budget.
+     */
+    @Processing
+    @Input
+    @Attribute(key = AttributeNames.PROCESSING_TIME_BUDGET, inherit = true)
+    public long processingTimeBudget = 0;
+
+    /**
+     * Action on exceeding {@link #processingTimeBudget}.
+     */
+    @Processing
+    @Input
+    @Required
+    @Attribute(key = AttributeNames.PROCESSING_TIME_BUDGET_POLICY, inherit = true)
+    public TimeBudget.Policy processingTimeBudgetPolicy = TimeBudget.Policy.ABORT;
+
+    /**
+     * Source of time of {@link #processingTimeBudget}.
+     */
+    @Processing
+    @Input
+    @Internal
+    @Required
+    @Attribute
+    @ImplementingClasses(classes = {}, strict = false)
+    @Level(AttributeLevel.ADVANCED)
+    public Ticker processingTimeBudgetTicker = Ticker.systemTicker();
+
+    /**
+     * Stages of clustering cut short because {@link #processingTimeBudget} was exceeded.
+     */
+    @Processing
+    @Output
+    @Attribute(key = AttributeNames.PROCESSING_DEGRADATIONS, inherit = true)
+    public List<String> processingDegradations;
+
     /**
      * Balance between cluster score and size during cluster sorting. Value equal to 0.0
      * will cause Lingo to sort clusters based only on cluster size. Value equal to 1.0
@@ -154,6 +198,27 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
      */
     public final MultilingualClustering multilingualClustering = new MultilingualClustering();
 
+    /**
+     * Time budget of the current request, set during {@link #process()}.
+     */
+    private TimeBudget timeBudget;
+
+    /**
+     * Sets up parallel preprocessing and matrix multiplication in threads shared by the
+     * components of the controller.
+     */
+    @Override
+    public void init(IControllerContext context)
+    {
+        super.init(context);
+
+        final ExecutorService executor = getSharedExecutor(
+            Runtime.getRuntime().availableProcessors(), getClass());
+        BasicPreprocessingPipeline.useExecutor(preprocessingPipeline, executor);
+        matrixReducer.setExecutor(executor);
+        clusterBuilder.setExecutor(executor);
+    }
+
     /**
      * Performs Lingo clustering of {@link #documents}.
      */
@@ -167,18 +232,34 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
         // processing components are not thread-safe by definition and
         // IMonolingualClusteringAlgorithm forbids concurrent execution by contract.
         final List<Document> originalDocuments = documents;
-        clusters = multilingualClustering.process(documents,
-            new IMonolingualClusteringAlgorithm()
-            {
-                public List<Cluster> process(List<Document> documents,
-                    LanguageCode language)
+        timeBudget = new TimeBudget(processingTimeBudget, processingTimeBudgetPolicy,
+            processingTimeBudgetTicker);
+        try
+        {
+            clusters = multilingualClustering.process(documents,
+                new IMonolingualClusteringAlgorithm()
                 {
-                    LingoClusteringAlgorithm.this.documents = documents;
-                    LingoClusteringAlgorithm.this.cluster(language);
-                    return LingoClusteringAlgorithm.this.clusters;
-                }
-            });
-        documents = originalDocuments;
+                    public List<Cluster> process(List<Document> documents,
+                        LanguageCode language)
+                    {
+                        LingoClusteringAlgorithm.this.documents = documents;
+                        LingoClusteringAlgorithm.this.cluster(language);
+                        return LingoClusteringAlgorithm.this.clusters;
+                    }
+                });
+            processingDegradations = Lists.newArrayList(timeBudget.getDegradations());
+        }
+        catch (TimeBudgetExceededException e)
+        {
+            throw new ProcessingException(e.getMessage(), e);
+        }
+        finally
+        {
+            timeBudget.finish();
+            StageLatencies.recordCurrent(timeBudget.getStageTimes());
+            documents = originalDocuments;
+            timeBudget = null;
+        }
     }
 
     /**
@@ -188,8 +269,8 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
     private void cluster(LanguageCode language)
     {
         // Preprocessing of documents
-        final PreprocessingContext context = preprocessingPipeline.preprocess(documents,
-            query, language);
+        final PreprocessingContext context = BasicPreprocessingPipeline.preprocessWithin(
+            preprocessingPipeline, documents, query, language, timeBudget);
 
         // Further processing only if there are words to process
         clusters = Lists.newArrayList();
@@ -203,16 +284,21 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
             LingoProcessingContext lingoContext = new LingoProcessingContext(
                 reducedVsmContext);
 
+            timeBudget.checkpoint("term-document matrix building");
             matrixBuilder.buildTermDocumentMatrix(vsmContext);
             matrixBuilder.buildTermPhraseMatrix(vsmContext);
 
             matrixReducer.reduce(reducedVsmContext,
-                computeClusterCount(desiredClusterCountBase, documents.size()));
+                computeClusterCount(desiredClusterCountBase, documents.size()),
+                timeBudget);
 
             // Cluster label building
-            clusterBuilder.buildLabels(lingoContext, matrixBuilder.termWeighting);
+            timeBudget.checkpoint("cluster label building");
+            clusterBuilder.buildLabels(lingoContext, matrixBuilder.termWeighting,
+                matrixReducer.threads);
 
             // Document assignment
+            timeBudget.checkpoint("cluster document assignment");
             clusterBuilder.assignDocuments(lingoContext);
 
             // Cluster merging
@@ -220,7 +306,7 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
 
             // Format final clusters
             final int [] clusterLabelIndex = lingoContext.clusterLabelFeatureIndex;
-            final BitSet [] clusterDocuments = lingoContext.clusterDocuments;
+            final CompressedBitSet [] clusterDocuments = lingoContext.clusterDocuments;
             final double [] clusterLabelScore = lingoContext.clusterLabelScore;
             for (int i = 0; i < clusterLabelIndex.length; i++)
             {
@@ -238,7 +324,7 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
                 cluster.setAttribute(Cluster.SCORE, clusterLabelScore[i]);
 
                 // Add documents
-                final BitSet bs = clusterDocuments[i];
+                final CompressedBitSet bs = clusterDocuments[i];
                 for (int bit = bs.nextSetBit(0); bit >= 0; bit = bs.nextSetBit(bit + 1))
                 {
                     cluster.addDocuments(documents.get(bit));
@@ -15,14 +15,19 @@ package org.carrot2.clustering.stc;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.carrot2.core.Cluster;
 import org.carrot2.core.Document;
+import org.carrot2.core.ProcessingException;
 import org.carrot2.core.ProcessingResult;
+import org.carrot2.core.attribute.AttributeNames;
 import org.carrot2.core.test.ClusteringAlgorithmTestBase;
 import org.carrot2.core.test.SampleDocumentData;
 import org.carrot2.text.preprocessing.CaseNormalizer;
+import org.carrot2.util.TimeBudget;
 import org.carrot2.util.attribute.AttributeUtils;
+import org.carrot2.util.tests.SteppingTicker;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
@@ -127,4 +132,44 @@ public class STCClusteringAlgorithmTest extends
             clusterLabels.contains("Guns") &&
             clusterLabels.contains("Gun")).isFalse();
     }
+
+    @Test
+    public void testTimeBudgetExceededAborts()
+    {
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET, 1L);
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET_POLICY,
+            TimeBudget.Policy.ABORT);
+        processingAttributes.put(
+            AttributeUtils.getKey(STCClusteringAlgorithm.class, "processingTimeBudgetTicker"),
+            new SteppingTicker(1, TimeUnit.MILLISECONDS));
+        try
+        {
+            cluster(SampleDocumentData.DOCUMENTS_DATA_MINING);
+            fail("Expected an exception.");
+        }
+        catch (ProcessingException e)
+        {
+            assertThat(e.getMessage()).startsWith("Time budget of 1 ms exceeded");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTimeBudgetExceededDegrades()
+    {
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET, 1L);
+        processingAttributes.put(AttributeNames.PROCESSING_TIME_BUDGET_POLICY,
+            TimeBudget.Policy.DEGRADE);
+        processingAttributes.put(
+            AttributeUtils.getKey(STCClusteringAlgorithm.class, "processingTimeBudgetTicker"),
+            new SteppingTicker(1, TimeUnit.MILLISECONDS));
+        final ProcessingResult result = cluster(
+            SampleDocumentData.DOCUMENTS_DATA_MINING);
+
+        assertThat(result.getClusters()).isNotEmpty();
+        final List<String> degradations = (List<String>) result
+            .getAttribute(AttributeNames.PROCESSING_DEGRADATIONS);
+        assertThat(degradations).hasSize(1);
+        assertThat(degradations.get(0)).startsWith("suffix tree construction: ");
+    }
 }
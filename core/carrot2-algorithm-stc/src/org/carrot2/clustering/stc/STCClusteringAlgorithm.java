@@ -19,11 +19,13 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.carrot2.clustering.stc.GeneralizedSuffixTree.SequenceBuilder;
 import org.carrot2.core.Cluster;
 import org.carrot2.core.Document;
 import org.carrot2.core.IClusteringAlgorithm;
+import org.carrot2.core.IControllerContext;
 import org.carrot2.core.LanguageCode;
 import org.carrot2.core.ProcessingComponentBase;
 import org.carrot2.core.ProcessingException;
@@ -41,6 +43,10 @@ import org.carrot2.text.preprocessing.LabelFormatter;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.text.preprocessing.pipeline.BasicPreprocessingPipeline;
 import org.carrot2.text.preprocessing.pipeline.IPreprocessingPipeline;
+import org.carrot2.util.CompressedBitSet;
+import org.carrot2.util.StageLatencies;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.TimeBudgetExceededException;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
 import org.carrot2.util.attribute.Bindable;
@@ -56,10 +62,10 @@ import org.carrot2.util.attribute.constraint.ImplementingClasses;
 import org.carrot2.util.attribute.constraint.IntRange;
 
 import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.BitSetIterator;
 import com.carrotsearch.hppc.IntArrayList;
 import com.carrotsearch.hppc.IntStack;
 import com.google.common.base.Predicate;
+import com.google.common.base.Ticker;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -80,6 +86,9 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
     /** {@link Group} name. */
     private final static String MERGING_AND_OUTPUT = "Merging and output";
 
+    /** Stage name for {@link TimeBudget#checkpoint(String)}. */
+    private final static String SUFFIX_TREE_CONSTRUCTION = "suffix tree construction";
+
     /**
      * Query that produced the documents. The query will help the algorithm to create
      * better clusters. Therefore, providing the query is optional but desirable.
@@ -109,6 +118,43 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
     @Attribute(key = AttributeNames.CLUSTERS, inherit = true)
     public List<Cluster> clusters = null;
 
+    /**
+     * Processing time budget in milliseconds, zero means no budget.
+     */
+    @Processing
+    @Input
+    @Attribute(key = AttributeNames.PROCESSING_TIME_BUDGET, inherit = true)
+    public long processingTimeBudget = 0;
+
+    /**
+     * Action on exceeding {@link #processingTimeBudget}.
+     */
+    @Processing
+    @Input
+    @Required
+    @Attribute(key = AttributeNames.PROCESSING_TIME_BUDGET_POLICY, inherit = true)
+    public TimeBudget.Policy processingTimeBudgetPolicy = TimeBudget.Policy.ABORT;
+
+    /**
+     * Source of time of {@link #processingTimeBudget}.
+     */
+    @Processing
+    @Input
+    @Internal
+    @Required
+    @Attribute
+    @ImplementingClasses(classes = {}, strict = false)
+    @Level(AttributeLevel.ADVANCED)
+    public Ticker processingTimeBudgetTicker = Ticker.systemTicker();
+
+    /**
+     * Stages of clustering cut short because {@link #processingTimeBudget} was exceeded.
+     */
+    @Processing
+    @Output
+    @Attribute(key = AttributeNames.PROCESSING_DEGRADATIONS, inherit = true)
+    public List<String> processingDegradations;
+
     /**
      * Minimum word-document recurrences.
      */
@@ -327,6 +373,11 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
      */
     public final MultilingualClustering multilingualClustering = new MultilingualClustering();
 
+    /**
+     * Time budget of the current request, set during {@link #process()}.
+     */
+    private TimeBudget timeBudget;
+
     /**
      * Stores the preprocessing context during {@link #process()}.
      */
@@ -375,6 +426,20 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         }
     };
 
+    /**
+     * Sets up parallel preprocessing in threads shared by the components of the
+     * controller.
+     */
+    @Override
+    public void init(IControllerContext context)
+    {
+        super.init(context);
+
+        final ExecutorService executor = getSharedExecutor(
+            Runtime.getRuntime().availableProcessors(), getClass());
+        BasicPreprocessingPipeline.useExecutor(preprocessingPipeline, executor);
+    }
+
     /**
      * Performs STC clustering of {@link #documents}.
      */
@@ -388,18 +453,34 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         // processing components are not thread-safe by definition and 
         // IMonolingualClusteringAlgorithm forbids concurrent execution by contract.
         final List<Document> originalDocuments = documents;
-        clusters = multilingualClustering.process(documents,
-            new IMonolingualClusteringAlgorithm()
-            {
-                public List<Cluster> process(List<Document> documents,
-                    LanguageCode language)
+        timeBudget = new TimeBudget(processingTimeBudget, processingTimeBudgetPolicy,
+            processingTimeBudgetTicker);
+        try
+        {
+            clusters = multilingualClustering.process(documents,
+                new IMonolingualClusteringAlgorithm()
                 {
-                    STCClusteringAlgorithm.this.documents = documents;
-                    STCClusteringAlgorithm.this.cluster(language);
-                    return STCClusteringAlgorithm.this.clusters;
-                }
-            });
-        documents = originalDocuments;
+                    public List<Cluster> process(List<Document> documents,
+                        LanguageCode language)
+                    {
+                        STCClusteringAlgorithm.this.documents = documents;
+                        STCClusteringAlgorithm.this.cluster(language);
+                        return STCClusteringAlgorithm.this.clusters;
+                    }
+                });
+            processingDegradations = Lists.newArrayList(timeBudget.getDegradations());
+        }
+        catch (TimeBudgetExceededException e)
+        {
+            throw new ProcessingException(e.getMessage(), e);
+        }
+        finally
+        {
+            timeBudget.finish();
+            StageLatencies.recordCurrent(timeBudget.getStageTimes());
+            documents = originalDocuments;
+            timeBudget = null;
+        }
     }
 
     /**
@@ -413,15 +494,18 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         /*
          * Step 1. Preprocessing: tokenization, stop word marking and stemming (if available).
          */
-        context = preprocessingPipeline.preprocess(documents, query, language);
+        context = BasicPreprocessingPipeline.preprocessWithin(preprocessingPipeline,
+            documents, query, language, timeBudget);
 
         /*
          * Step 2: Create a generalized suffix tree from phrases in the input.
          */
+        timeBudget.checkpoint(SUFFIX_TREE_CONSTRUCTION);
         sb = new GeneralizedSuffixTree.SequenceBuilder();
 
         final int [] tokenIndex = context.allTokens.wordIndex;
         final short [] tokenType = context.allTokens.type;
+        int documentsAdded = 0;
         for (int i = 0; i < tokenIndex.length; i++)
         {
             /* Advance until the first real token. */
@@ -430,6 +514,16 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
                 if ((tokenType[i] & (ITokenizer.TF_SEPARATOR_DOCUMENT | ITokenizer.TF_TERMINATOR)) != 0)
                 {
                     sb.endDocument();
+
+                    /* Out of time, build the tree from the documents added so far. */
+                    documentsAdded++;
+                    if (documentsAdded < documents.size()
+                        && timeBudget.checkpoint(SUFFIX_TREE_CONSTRUCTION))
+                    {
+                        timeBudget.degraded(SUFFIX_TREE_CONSTRUCTION + ": "
+                            + documentsAdded + " of " + documents.size() + " documents");
+                        break;
+                    }
                 }
                 continue;
             }
@@ -451,17 +545,20 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
          * Step 3: Find "base" clusters by looking up frequently recurring phrases in the 
          * generalized suffix tree.
          */
+        timeBudget.checkpoint("base cluster discovery");
         List<ClusterCandidate> baseClusters = createBaseClusters(sb);
 
         /*
          * Step 4: Merge base clusters that overlap too much to form final clusters.
          */
+        timeBudget.checkpoint("base cluster merging");
         List<ClusterCandidate> mergedClusters = createMergedClusters(baseClusters);
 
         /*
          * Step 5: Create the junk (unassigned documents) cluster and create the final
          * set of clusters in Carrot2 format.
          */
+        timeBudget.checkpoint("cluster post-processing");
         postProcessing(mergedClusters);
     }
 
@@ -521,7 +618,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
                 final float score = baseClusterScore(effectivePhraseLen, cardinality);
                 candidates.add(
                     new ClusterCandidate(path.toArray(), 
-                        (BitSet) documents.clone(), cardinality, score));
+                        CompressedBitSet.valueOf(documents), cardinality, score));
             }
         }.visit();
 
@@ -640,7 +737,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         {
             if (cc.phrases.size() > 1)
             {
-                cc.cardinality = (int) cc.documents.cardinality();
+                cc.cardinality = cc.documents.cardinality();
                 scratch.buffer = cc.phrases.get(0);
                 scratch.elementsCount = scratch.buffer.length;
                 cc.score = baseClusterScore(
@@ -681,7 +778,8 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
 
                 final float a = c1.cardinality;
                 final float b = c2.cardinality;
-                final float c = BitSet.intersectionCount(c1.documents, c2.documents);
+                final float c = CompressedBitSet.intersectionCount(c1.documents,
+                    c2.documents);
 
                 if (c / a > m && c / b > m)
                 {
@@ -786,7 +884,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
             result.documents.or(cc.documents);
             result.score += cc.score;
         }
-        result.cardinality = (int) result.documents.cardinality();
+        result.cardinality = result.documents.cardinality();
 
         /*
          * Combine cluster labels and try to find the best description for the cluster.
@@ -1047,7 +1145,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
     private void postProcessing(List<ClusterCandidate> clusters)
     {
         // Adapt to Carrot2 classes, counting used documents on the way.
-        final BitSet all = new BitSet(documents.size());
+        final CompressedBitSet all = new CompressedBitSet();
         final ArrayList<Document> docs = Lists.newArrayListWithCapacity(documents.size());
         final ArrayList<String> phrases = Lists.newArrayListWithCapacity(3);
         for (ClusterCandidate c : clusters)
@@ -1085,15 +1183,14 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
     /**
      * Collect documents from a bitset.
      */
-    private List<Document> collectDocuments(List<Document> l, BitSet bitset)
+    private List<Document> collectDocuments(List<Document> l, CompressedBitSet bitset)
     {
         if (l == null)
         {
-            l = Lists.newArrayListWithCapacity((int) bitset.cardinality());
+            l = Lists.newArrayListWithCapacity(bitset.cardinality());
         }
 
-        final BitSetIterator i = bitset.iterator();
-        for (int d = i.nextSetBit(); d >= 0; d = i.nextSetBit())
+        for (int d = bitset.nextSetBit(0); d >= 0; d = bitset.nextSetBit(d + 1))
         {
             l.add(documents.get(d));
         }
@@ -1266,7 +1363,8 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
 
                 // If this word occurs in more than a given fraction of the input
                 // collection don't count it.
-                final int docCount = context.allWords.tfByDocument[termIndex].length / 2; 
+                final int docCount = context.allWords.tfByDocument
+                    .getDocumentFrequency(termIndex);
                 if (docCount < lower || docCount > upper)
                 {
                     continue;
@@ -0,0 +1,226 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.carrot2.core.AttributeFingerprint.Fingerprint;
+import org.carrot2.core.CachingProcessingComponentManager.AttributeMapCacheKey;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Test cases for {@link AttributeFingerprint}.
+ */
+public class AttributeFingerprintTest extends CarrotTestCase
+{
+    @Test
+    public void testEqualDocumentsEqualFingerprints()
+    {
+        final Fingerprint f1 = fingerprint(documents(), false);
+        final Fingerprint f2 = fingerprint(documents(), false);
+
+        assertThat(f1.stable).isTrue();
+        assertThat(f1.high).isEqualTo(f2.high);
+        assertThat(f1.low).isEqualTo(f2.low);
+        assertThat(f1.toHexString()).hasSize(32).isEqualTo(f2.toHexString());
+    }
+
+    @Test
+    public void testDifferentDocumentsDifferentFingerprints()
+    {
+        final Map<String, Object> changed = documents();
+        ((Document) ((List<?>) changed.get("documents")).get(1))
+            .setSummary("Snippet 2.");
+
+        assertThat(fingerprint(changed, false).toHexString()).isNotEqualTo(
+            fingerprint(documents(), false).toHexString());
+        assertThat(fingerprint(changed, true).toHexString()).isNotEqualTo(
+            fingerprint(documents(), true).toHexString());
+    }
+
+    @Test
+    public void testDocumentContentOnlyIgnoresOtherFields()
+    {
+        final Map<String, Object> changed = documents();
+        ((Document) ((List<?>) changed.get("documents")).get(0)).setScore(2.0);
+
+        assertThat(fingerprint(changed, true).toHexString()).isEqualTo(
+            fingerprint(documents(), true).toHexString());
+        assertThat(fingerprint(changed, false).toHexString()).isNotEqualTo(
+            fingerprint(documents(), false).toHexString());
+    }
+
+    @Test
+    public void testMapOrderIrrelevant()
+    {
+        final Map<String, Object> m1 = Maps.newLinkedHashMap();
+        m1.put("a", "1");
+        m1.put("b", "2");
+        final Map<String, Object> m2 = Maps.newLinkedHashMap();
+        m2.put("b", "2");
+        m2.put("a", "1");
+
+        assertThat(fingerprint(m1, false).toHexString()).isEqualTo(
+            fingerprint(m2, false).toHexString());
+    }
+
+    @Test
+    public void testValueTypesDistinguished()
+    {
+        final Map<String, Object> string = Maps.newHashMap();
+        string.put("a", "1");
+        final Map<String, Object> integer = Maps.newHashMap();
+        integer.put("a", 1);
+        final Map<String, Object> longInteger = Maps.newHashMap();
+        longInteger.put("a", 1L);
+        final Map<String, Object> list = Maps.newHashMap();
+        list.put("a", Arrays.asList("1"));
+
+        assertThat(
+            Lists.newArrayList(fingerprint(string, false).toHexString(),
+                fingerprint(integer, false).toHexString(),
+                fingerprint(longInteger, false).toHexString(),
+                fingerprint(list, false).toHexString())).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testEntriesNotMixed()
+    {
+        final Map<String, Object> m1 = Maps.newHashMap();
+        m1.put("ab", "c");
+        final Map<String, Object> m2 = Maps.newHashMap();
+        m2.put("a", "bc");
+
+        assertThat(fingerprint(m1, false).toHexString()).isNotEqualTo(
+            fingerprint(m2, false).toHexString());
+    }
+
+    @Test
+    public void testIdentityBasedValuesNotStable()
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put("a", "1");
+        attributes.put("b", new Object());
+
+        assertThat(fingerprint(attributes, false).stable).isFalse();
+    }
+
+    @Test
+    public void testSetsHashedByValue()
+    {
+        // "Aa" and "BB" have equal hash codes, so do sets of them
+        final Map<String, Object> aa = Maps.newHashMap();
+        aa.put("a", Sets.newHashSet("Aa", "c"));
+        final Map<String, Object> bb = Maps.newHashMap();
+        bb.put("a", Sets.newHashSet("BB", "c"));
+        final Map<String, Object> reordered = Maps.newHashMap();
+        reordered.put("a", Sets.newLinkedHashSet(Arrays.asList("c", "Aa")));
+
+        assertThat(fingerprint(aa, false).stable).isTrue();
+        assertThat(fingerprint(aa, false).toHexString()).isNotEqualTo(
+            fingerprint(bb, false).toHexString());
+        assertThat(fingerprint(aa, false).toHexString()).isEqualTo(
+            fingerprint(reordered, false).toHexString());
+    }
+
+    @Test
+    public void testPrimitiveArraysHashedByContent()
+    {
+        final Map<String, Object> a1 = Maps.newHashMap();
+        a1.put("a", new int [] {1, 2});
+        final Map<String, Object> a2 = Maps.newHashMap();
+        a2.put("a", new int [] {1, 2});
+        final Map<String, Object> a3 = Maps.newHashMap();
+        a3.put("a", new int [] {2, 1});
+        final Map<String, Object> longs = Maps.newHashMap();
+        longs.put("a", new long [] {1, 2});
+
+        assertThat(fingerprint(a1, false).stable).isTrue();
+        assertThat(fingerprint(a1, false).toHexString()).isEqualTo(
+            fingerprint(a2, false).toHexString());
+        assertThat(
+            Lists.newArrayList(fingerprint(a1, false).toHexString(),
+                fingerprint(a3, false).toHexString(),
+                fingerprint(longs, false).toHexString())).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testUnstableKeysComparedByValue()
+    {
+        final Map<String, Object> a = Maps.newHashMap();
+        a.put("a", new SameHashCode("a"));
+        final Map<String, Object> b = Maps.newHashMap();
+        b.put("a", new SameHashCode("b"));
+        final Map<String, Object> c = Maps.newHashMap();
+        c.put("a", new SameHashCode("a"));
+
+        assertThat(fingerprint(a, false).toHexString()).isEqualTo(
+            fingerprint(b, false).toHexString());
+        assertThat(key(a)).isNotEqualTo(key(b));
+        assertThat(key(a)).isEqualTo(key(c));
+    }
+
+    /**
+     * A value hashed by its hash code only, with the same hash code for all instances.
+     */
+    private static final class SameHashCode
+    {
+        private final String value;
+
+        SameHashCode(String value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof SameHashCode && ((SameHashCode) obj).value.equals(value);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 0;
+        }
+    }
+
+    private static AttributeMapCacheKey key(Map<String, Object> attributes)
+    {
+        return new AttributeMapCacheKey(attributes, attributes, false);
+    }
+
+    private static Fingerprint fingerprint(Map<String, Object> attributes,
+        boolean documentContentOnly)
+    {
+        return AttributeFingerprint.of(attributes, documentContentOnly);
+    }
+
+    private static Map<String, Object> documents()
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put("query", "data mining");
+        attributes.put("results", 100);
+        attributes.put("documents", Lists.newArrayList(
+            new Document("Title 1", "Snippet 1", "http://url1"),
+            new Document("Title 2", "Snippet 2", "http://url2")));
+        return attributes;
+    }
+}
@@ -12,15 +12,30 @@
 
 package org.carrot2.core;
 
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.carrot2.core.ControllerTestsBase.ComponentWithInitParameter;
+import org.carrot2.core.ControllerTestsBase.ComponentWithOutputAttribute;
+import org.carrot2.core.attribute.Processing;
+import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.Bindable;
+import org.carrot2.util.attribute.Input;
+import org.carrot2.util.attribute.Output;
 import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 import com.carrotsearch.randomizedtesting.annotations.ThreadLeakLingering;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * Runs matrix tests on {@link Controller} in all realistic configurations.
@@ -32,11 +47,16 @@ import com.google.common.collect.ImmutableMap;
     ControllerTest.SimpleControllerCommonTests.class,
     ControllerTest.PoolingControllerCommonTests.class,
     ControllerTest.PoolingControllerPoolingTests.class,
+    ControllerTest.ConcurrentPoolingControllerCommonTests.class,
+    ControllerTest.ConcurrentPoolingControllerPoolingTests.class,
     ControllerTest.CachingPoolingControllerCachingOffCommonTests.class,
     ControllerTest.CachingPoolingControllerCachingOffPoolingTests.class,
     ControllerTest.CachingPoolingControllerCachingOnCommonTests.class,
     ControllerTest.CachingPoolingControllerCachingOnPoolingTests.class,
     ControllerTest.CachingPoolingControllerCachingOnCachingTests.class,
+    ControllerTest.CachingPoolingControllerWeightedCachingTests.class,
+    ControllerTest.CachingPoolingControllerCoalescingTests.class,
+    ControllerTest.AsyncProcessingTests.class,
     ControllerTest.CachingControllerCachingOffCommonTests.class,
     ControllerTest.CachingControllerCachingOnCommonTests.class,
     ControllerTest.CachingControllerCachingOnCachingTests.class
@@ -238,6 +258,39 @@ public class ControllerTest
         }
     }
 
+    public static class ConcurrentPoolingControllerCommonTests extends ControllerTestsCommon
+    {
+        @Override
+        public Controller getSimpleController()
+        {
+            return ControllerFactory.createConcurrentPooling(4, 0);
+        }
+    }
+
+    public static class ConcurrentPoolingControllerPoolingTests extends ControllerTestsPooling
+    {
+        @Override
+        public Controller getPoolingController()
+        {
+            return ControllerFactory.createConcurrentPooling(4, 0);
+        }
+
+        @Test
+        public void testPoolStatistics()
+        {
+            performProcessing(ComponentWithInstanceCounter.class);
+            performProcessing(ComponentWithInstanceCounter.class);
+            final ControllerStatistics statistics = controller.getStatistics();
+            controller.dispose();
+            controller = null;
+
+            assertThat(statistics.poolBorrows).isEqualTo(2);
+            assertThat(statistics.poolReturns).isEqualTo(2);
+            assertThat(statistics.poolMisses).isEqualTo(1);
+            assertThat(statistics.poolEvictions).isEqualTo(0);
+        }
+    }
+
     public static class CachingPoolingControllerCachingOffCommonTests extends
         ControllerTestsCommon
     {
@@ -289,6 +342,409 @@ public class ControllerTest
         }
     }
 
+    public static class CachingPoolingControllerWeightedCachingTests extends
+        ControllerTestsCaching
+    {
+        @Override
+        public Controller getCachingController(
+            Class<? extends IProcessingComponent>... cachedComponentClasses)
+        {
+            return createWeighted("maximumWeight=10000000,expireAfterAccess=10m",
+                cachedComponentClasses);
+        }
+
+        @Test
+        public void testEntriesExceedingWeightEvicted()
+        {
+            controller = createWeighted("maximumWeight=1", IProcessingComponent.class);
+            controller.init(initAttributes);
+            processingAttributes.put("data", "d");
+            performProcessing(ComponentWithOutputAttribute.class);
+            processingAttributes.put("data", "d");
+            performProcessing(ComponentWithOutputAttribute.class);
+
+            final ControllerStatistics statistics = controller.getStatistics();
+            controller.dispose();
+            controller = null;
+
+            assertThat(statistics.cacheMisses).isEqualTo(2);
+            assertThat(statistics.cacheHitsTotal).isEqualTo(0);
+            assertThat(statistics.cacheEvictions).isEqualTo(2);
+            assertThat(statistics.cacheSize).isEqualTo(0);
+            assertThat(statistics.cacheLoadTimeAverage).isGreaterThan(0);
+        }
+
+        private Controller createWeighted(String spec,
+            Class<? extends IProcessingComponent>... cachedComponentClasses)
+        {
+            final Map<Class<? extends IProcessingComponent>, String> specs = Maps.newLinkedHashMap();
+            for (Class<? extends IProcessingComponent> clazz : cachedComponentClasses)
+            {
+                specs.put(clazz, spec);
+            }
+            return ControllerFactory.createCachingPooling(specs);
+        }
+    }
+
+    @ThreadLeakLingering(linger = 2000)
+    /**
+     * Waits until some thread waits for the result of an identical request.
+     */
+    private static void awaitCoalescingWait() throws InterruptedException
+    {
+        while (true)
+        {
+            for (Map.Entry<Thread, StackTraceElement []> entry : Thread
+                .getAllStackTraces().entrySet())
+            {
+                if (entry.getKey().getState() == Thread.State.TIMED_WAITING
+                    && isCoalescing(entry.getValue()))
+                {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean isCoalescing(StackTraceElement [] stackTrace)
+    {
+        for (StackTraceElement element : stackTrace)
+        {
+            if ("getCoalesced".equals(element.getMethodName()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static class CachingPoolingControllerCoalescingTests extends CarrotTestCase
+    {
+        @Before
+        public void resetComponent()
+        {
+            BlockingComponent.reset();
+        }
+
+        @Test
+        public void testIdenticalConcurrentRequestsCoalesced() throws Exception
+        {
+            final Controller controller = ControllerFactory.createCachingPooling(
+                60 * 1000, IProcessingComponent.class);
+            try
+            {
+                final ProcessingThread first = new ProcessingThread(controller);
+                first.start();
+                BlockingComponent.processing.await();
+
+                final ProcessingThread second = new ProcessingThread(controller);
+                second.start();
+                awaitCoalescingWait();
+
+                BlockingComponent.release.countDown();
+                first.join();
+                second.join();
+
+                assertThat(first.output).isEqualTo("processed:d");
+                assertThat(second.output).isEqualTo("processed:d");
+                assertThat(BlockingComponent.processed.get()).isEqualTo(1);
+
+                final ControllerStatistics statistics = controller.getStatistics();
+                assertThat(statistics.cacheCoalesced).isEqualTo(1);
+                assertThat(statistics.cacheCoalescingTimeouts).isEqualTo(0);
+                assertThat(statistics.cacheMisses).isEqualTo(1);
+            }
+            finally
+            {
+                BlockingComponent.release.countDown();
+                controller.dispose();
+            }
+        }
+
+        @Test
+        public void testCoalescingTimeout() throws Exception
+        {
+            final Controller controller = ControllerFactory.createCachingPooling(
+                50, IProcessingComponent.class);
+            try
+            {
+                final ProcessingThread first = new ProcessingThread(controller);
+                first.start();
+                BlockingComponent.processing.await();
+
+                // Waits for the blocked request, times out and processes on its own.
+                final ProcessingThread second = new ProcessingThread(controller);
+                second.run();
+                assertThat(second.output).isEqualTo("processed:d");
+                assertThat(BlockingComponent.processed.get()).isEqualTo(2);
+
+                BlockingComponent.release.countDown();
+                first.join();
+                assertThat(first.output).isEqualTo("processed:d");
+
+                // The timed out request did not receive the shared result
+                final ControllerStatistics statistics = controller.getStatistics();
+                assertThat(statistics.cacheCoalesced).isEqualTo(0);
+                assertThat(statistics.cacheCoalescingTimeouts).isEqualTo(1);
+            }
+            finally
+            {
+                BlockingComponent.release.countDown();
+                controller.dispose();
+            }
+        }
+
+        @Test
+        public void testInterruptedResultNotCached() throws Exception
+        {
+            BlockingComponent.completeWhenInterrupted = true;
+            final Map<String, Map<String, Object>> stored = Maps.newConcurrentMap();
+            final Map<Class<? extends IProcessingComponent>, String> specs = Maps
+                .newHashMap();
+            specs.put(IProcessingComponent.class, null);
+            final Controller controller = ControllerFactory.createCachingPooling(specs,
+                CachingProcessingComponentManager.DEFAULT_COALESCING_TIMEOUT_MILLIS,
+                new ISecondLevelCache()
+                {
+                    public Map<String, Object> get(String key)
+                    {
+                        return stored.get(key);
+                    }
+
+                    public void put(String key, Map<String, Object> attributes)
+                    {
+                        stored.put(key, attributes);
+                    }
+                });
+            try
+            {
+                final ProcessingThread first = new ProcessingThread(controller);
+                first.start();
+                BlockingComponent.processing.await();
+                first.interrupt();
+                first.join();
+                assertThat(first.exception).isNotNull();
+                assertThat(stored).isEmpty();
+
+                // The repeated request is processed again
+                final ProcessingThread second = new ProcessingThread(controller);
+                second.start();
+                second.join();
+                assertThat(second.output).isEqualTo("processed:d");
+                assertThat(BlockingComponent.processed.get()).isEqualTo(2);
+                assertThat(stored).hasSize(1);
+            }
+            finally
+            {
+                BlockingComponent.release.countDown();
+                controller.dispose();
+            }
+        }
+
+        private static class ProcessingThread extends Thread
+        {
+            private final Controller controller;
+            volatile Object output;
+            volatile ProcessingException exception;
+
+            ProcessingThread(Controller controller)
+            {
+                this.controller = controller;
+            }
+
+            @Override
+            public void run()
+            {
+                final Map<String, Object> attributes = Maps.newHashMap();
+                attributes.put("data", "d");
+                try
+                {
+                    output = controller.process(attributes, BlockingComponent.class)
+                        .getAttribute("result");
+                }
+                catch (ProcessingException e)
+                {
+                    exception = e;
+                }
+            }
+        }
+    }
+
+    public static class AsyncProcessingTests extends CarrotTestCase
+    {
+        @Before
+        public void resetComponent()
+        {
+            BlockingComponent.reset();
+        }
+
+        @Test
+        public void testProcessAsync() throws Exception
+        {
+            BlockingComponent.release.countDown();
+            final Controller controller = ControllerFactory.createSimple();
+            try
+            {
+                final ProcessingResult result = controller.processAsync(
+                    attributes(), BlockingComponent.class).get();
+                assertThat(result.getAttribute("result")).isEqualTo("processed:d");
+            }
+            finally
+            {
+                controller.dispose();
+            }
+        }
+
+        @Test
+        public void testDeadlineExceeded() throws Exception
+        {
+            final Controller controller = ControllerFactory.createSimple();
+            try
+            {
+                final ListenableFuture<ProcessingResult> future = controller
+                    .processAsync(50, TimeUnit.MILLISECONDS, attributes(),
+                        BlockingComponent.class);
+                try
+                {
+                    future.get();
+                    fail("Expected an exception.");
+                }
+                catch (ExecutionException e)
+                {
+                    assertThat(e.getCause()).isInstanceOf(ProcessingException.class);
+                    assertThat(e.getCause().getCause()).isInstanceOf(
+                        TimeoutException.class);
+                }
+
+                BlockingComponent.interrupted.await();
+            }
+            finally
+            {
+                BlockingComponent.release.countDown();
+                controller.dispose();
+            }
+        }
+
+        @Test
+        public void testCancellationInterruptsProcessing() throws Exception
+        {
+            final Controller controller = ControllerFactory.createSimple();
+            try
+            {
+                final ListenableFuture<ProcessingResult> future = controller
+                    .processAsync(attributes(), BlockingComponent.class);
+                BlockingComponent.processing.await();
+                assertThat(future.cancel(false)).isTrue();
+
+                BlockingComponent.interrupted.await();
+                assertThat(future.isCancelled()).isTrue();
+            }
+            finally
+            {
+                BlockingComponent.release.countDown();
+                controller.dispose();
+            }
+        }
+
+        @Test
+        public void testCoalescedRequestNotCancelled() throws Exception
+        {
+            final Controller controller = ControllerFactory.createCachingPooling(
+                60 * 1000, IProcessingComponent.class);
+            try
+            {
+                final ListenableFuture<ProcessingResult> first = controller
+                    .processAsync(attributes(), BlockingComponent.class);
+                BlockingComponent.processing.await();
+
+                final ListenableFuture<ProcessingResult> second = controller
+                    .processAsync(attributes(), BlockingComponent.class);
+                awaitCoalescingWait();
+
+                // Cancelling the first request makes the second one process on its own.
+                first.cancel(true);
+                assertThat(second.get().getAttribute("result")).isEqualTo("processed:d");
+                assertThat(BlockingComponent.processed.get()).isEqualTo(2);
+            }
+            finally
+            {
+                BlockingComponent.release.countDown();
+                controller.dispose();
+            }
+        }
+
+        private static Map<String, Object> attributes()
+        {
+            final Map<String, Object> attributes = Maps.newHashMap();
+            attributes.put("data", "d");
+            return attributes;
+        }
+    }
+
+    /**
+     * A document source blocking the first processing request until released.
+     */
+    @Bindable
+    public static class BlockingComponent extends ProcessingComponentBase implements
+        IDocumentSource
+    {
+        static volatile CountDownLatch processing;
+        static volatile CountDownLatch release;
+        static volatile CountDownLatch interrupted;
+        static final AtomicInteger processed = new AtomicInteger();
+
+        /**
+         * If <code>true</code>, an interrupted request returns a result and leaves the
+         * thread interrupted, like search engines returning the pages fetched so far.
+         */
+        static volatile boolean completeWhenInterrupted;
+
+        @Processing
+        @Input
+        @Attribute(key = "data")
+        protected String data;
+
+        @Processing
+        @Output
+        @Attribute(key = "result")
+        protected String result;
+
+        static void reset()
+        {
+            processing = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+            interrupted = new CountDownLatch(1);
+            processed.set(0);
+            completeWhenInterrupted = false;
+        }
+
+        @Override
+        public void process() throws ProcessingException
+        {
+            if (processed.incrementAndGet() == 1)
+            {
+                processing.countDown();
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                    if (completeWhenInterrupted)
+                    {
+                        result = "interrupted:" + data;
+                        return;
+                    }
+                    throw new ProcessingException(e);
+                }
+            }
+            result = "processed:" + data;
+        }
+    }
+
     public static class CachingControllerCachingOffCommonTests extends ControllerTestsCommon
     {
         @Override
@@ -16,6 +16,8 @@ import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.isA;
 import static org.fest.assertions.MapAssert.entry;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -550,6 +552,7 @@ public abstract class ControllerTestsCommon extends ControllerTestsBase
         assertThat(statistics.sourceTimeMeasurementsInWindow).isEqualTo(0);
         assertThat(statistics.totalTimeAverageInWindow).isEqualTo(0);
         assertThat(statistics.totalTimeMeasurementsInWindow).isEqualTo(0);
+        assertThat(statistics.stageLatencies).isEmpty();
 
         if (isCaching())
         {
@@ -566,7 +569,7 @@ public abstract class ControllerTestsCommon extends ControllerTestsBase
     }
 
     @Test
-    public void testStatsOneGoodQuery()
+    public void testStatsOneGoodQuery() throws IOException
     {
         final int delay = 100;
         final int halfDelay = delay / 2;
@@ -594,6 +597,22 @@ public abstract class ControllerTestsCommon extends ControllerTestsBase
         assertThat(statistics.sourceTimeMeasurementsInWindow).isEqualTo(1);
         assertThat(statistics.totalTimeAverageInWindow).isGreaterThanOrEqualTo(2 * halfDelay);
         assertThat(statistics.totalTimeMeasurementsInWindow).isEqualTo(1);
+
+        assertThat(statistics.stageLatencies).hasSize(3);
+        for (ControllerStatistics.StageLatency stage : statistics.stageLatencies)
+        {
+            assertThat(stage.name).isIn(Controller.STAGE_SOURCE,
+                Controller.STAGE_ALGORITHM, Controller.STAGE_TOTAL);
+            assertThat(stage.count).isEqualTo(1);
+            assertThat(stage.p50).isGreaterThanOrEqualTo(halfDelay);
+            assertThat(stage.p99).isGreaterThanOrEqualTo(stage.p50);
+        }
+
+        final StringWriter prometheus = new StringWriter();
+        statistics.serializePrometheus(prometheus);
+        assertThat(prometheus.toString()).contains("carrot2_queries_total 1\n").contains(
+            "carrot2_stage_latency_seconds_count{stage=\"total\"} 1\n");
+
         if (isCaching())
         {
             assertThat(statistics.cacheMisses).isEqualTo(2);
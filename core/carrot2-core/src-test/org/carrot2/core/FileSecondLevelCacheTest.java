@@ -0,0 +1,270 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.carrot2.core.attribute.AttributeNames;
+import org.carrot2.core.attribute.Processing;
+import org.carrot2.util.attribute.Attribute;
+import org.carrot2.util.attribute.Bindable;
+import org.carrot2.util.attribute.Input;
+import org.carrot2.util.attribute.Output;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Test cases for {@link FileSecondLevelCache}.
+ */
+public class FileSecondLevelCacheTest extends CarrotTestCase
+{
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDocumentsAndClustersRestoredByNewInstance()
+    {
+        final File directory = newTempDir();
+
+        final Document d1 = new Document("Title 1", "Snippet 1", "http://url1");
+        final Document d2 = new Document("Title 2", "Snippet 2", "http://url2");
+        final Cluster cluster = new Cluster("Label", d1, d2);
+        cluster.addSubclusters(new Cluster("Sublabel", d2));
+
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS, Lists.newArrayList(d1, d2));
+        attributes.put(AttributeNames.CLUSTERS, Lists.newArrayList(cluster));
+        attributes.put("string", "value");
+
+        new FileSecondLevelCache(directory, 1024 * 1024).put("0a", attributes);
+
+        final FileSecondLevelCache cache = new FileSecondLevelCache(directory, 1024 * 1024);
+        assertThat(cache.size()).isEqualTo(1);
+        final Map<String, Object> restored = cache.get("0a");
+
+        assertThat(restored.keySet()).containsOnly(AttributeNames.DOCUMENTS,
+            AttributeNames.CLUSTERS, "string");
+        assertThat(restored.get("string")).isEqualTo("value");
+
+        final List<Document> documents = (List<Document>) restored
+            .get(AttributeNames.DOCUMENTS);
+        assertThat(documents).hasSize(2);
+        assertThat(documents.get(0).getTitle()).isEqualTo("Title 1");
+        assertThat(documents.get(1).getContentUrl()).isEqualTo("http://url2");
+
+        final List<Cluster> clusters = (List<Cluster>) restored
+            .get(AttributeNames.CLUSTERS);
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).getLabel()).isEqualTo("Label");
+        assertThat(clusters.get(0).getDocuments()).containsExactly(documents.get(0),
+            documents.get(1));
+        assertThat(clusters.get(0).getSubclusters().get(0).getDocuments())
+            .containsExactly(documents.get(1));
+    }
+
+    @Test
+    public void testMissingKey()
+    {
+        final FileSecondLevelCache cache = new FileSecondLevelCache(newTempDir(), 1024);
+        assertThat(cache.get("0a")).isNull();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted()
+    {
+        final File directory = newTempDir();
+        final FileSecondLevelCache probe = new FileSecondLevelCache(directory, 1024 * 1024);
+        probe.put("0a", value("a"));
+        final long entrySize = probe.getSizeBytes();
+
+        final FileSecondLevelCache cache = new FileSecondLevelCache(directory,
+            entrySize * 2 + entrySize / 2);
+        cache.put("0b", value("b"));
+        assertThat(cache.get("0a")).isNotNull();
+        cache.put("0c", value("c"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("0b")).isNull();
+        assertThat(cache.get("0a").get("value")).isEqualTo("a");
+        assertThat(cache.get("0c").get("value")).isEqualTo("c");
+        assertThat(new File(directory, "0b" + FileSecondLevelCache.EXTENSION).exists())
+            .isFalse();
+    }
+
+    @Test
+    public void testCorruptedFileDiscarded() throws Exception
+    {
+        final File directory = newTempDir();
+        final FileSecondLevelCache cache = new FileSecondLevelCache(directory, 1024 * 1024);
+        cache.put("0a", value("a"));
+
+        final File file = new File(directory, "0a" + FileSecondLevelCache.EXTENSION);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try
+        {
+            raf.seek(raf.length() - 1);
+            final int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 0xff);
+        }
+        finally
+        {
+            raf.close();
+        }
+
+        assertThat(cache.get("0a")).isNull();
+        assertThat(file.exists()).isFalse();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.getSizeBytes()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonHexadecimalKey()
+    {
+        new FileSecondLevelCache(newTempDir(), 1024).get("../a");
+    }
+
+    @Test
+    public void testResultsSurviveControllerRestart()
+    {
+        final File directory = newTempDir();
+        CountingComponent.processed.set(0);
+
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put("data", "d");
+
+        for (int i = 0; i < 2; i++)
+        {
+            final Map<Class<? extends IProcessingComponent>, String> specs = Maps
+                .newHashMap();
+            specs.put(IProcessingComponent.class, null);
+            final Controller controller = ControllerFactory.createCachingPooling(specs,
+                CachingProcessingComponentManager.DEFAULT_COALESCING_TIMEOUT_MILLIS,
+                new FileSecondLevelCache(directory, 1024 * 1024));
+            try
+            {
+                final ProcessingResult result = controller.process(attributes,
+                    CountingComponent.class);
+                assertThat(result.getAttribute("result")).isEqualTo("processed:d");
+
+                final ControllerStatistics statistics = controller.getStatistics();
+                assertThat(statistics.cacheSecondLevelHits).isEqualTo(i);
+                assertThat(statistics.cacheSecondLevelMisses).isEqualTo(1 - i);
+            }
+            finally
+            {
+                controller.dispose();
+            }
+        }
+
+        assertThat(CountingComponent.processed.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testClusteringResultsNotStored()
+    {
+        final File directory = newTempDir();
+        ClusteringComponent.processed.set(0);
+
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS, Lists.newArrayList(new Document(
+            "Title 1"), new Document("Title 2")));
+
+        for (int i = 0; i < 2; i++)
+        {
+            final Map<Class<? extends IProcessingComponent>, String> specs = Maps
+                .newHashMap();
+            specs.put(IProcessingComponent.class, null);
+            final FileSecondLevelCache cache = new FileSecondLevelCache(directory,
+                1024 * 1024);
+            final Controller controller = ControllerFactory.createCachingPooling(specs,
+                CachingProcessingComponentManager.DEFAULT_COALESCING_TIMEOUT_MILLIS, cache);
+            try
+            {
+                final ProcessingResult result = controller.process(attributes,
+                    ClusteringComponent.class);
+                assertThat(result.getClusters()).hasSize(1);
+                assertThat(result.getClusters().get(0).getDocuments()).hasSize(2);
+                assertThat(cache.size()).isEqualTo(0);
+            }
+            finally
+            {
+                controller.dispose();
+            }
+        }
+
+        assertThat(ClusteringComponent.processed.get()).isEqualTo(2);
+    }
+
+    private static Map<String, Object> value(String value)
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put("value", value);
+        return attributes;
+    }
+
+    @Bindable
+    public static class CountingComponent extends ProcessingComponentBase implements
+        IDocumentSource
+    {
+        static final AtomicInteger processed = new AtomicInteger();
+
+        @Processing
+        @Input
+        @Attribute(key = "data")
+        protected String data;
+
+        @Processing
+        @Output
+        @Attribute(key = "result")
+        protected String result;
+
+        @Override
+        public void process() throws ProcessingException
+        {
+            processed.incrementAndGet();
+            result = "processed:" + data;
+        }
+    }
+
+    @Bindable
+    public static class ClusteringComponent extends ProcessingComponentBase implements
+        IClusteringAlgorithm
+    {
+        static final AtomicInteger processed = new AtomicInteger();
+
+        @Processing
+        @Input
+        @Attribute(key = AttributeNames.DOCUMENTS)
+        protected List<Document> documents;
+
+        @Processing
+        @Output
+        @Attribute(key = AttributeNames.CLUSTERS)
+        protected List<Cluster> clusters;
+
+        @Override
+        public void process() throws ProcessingException
+        {
+            processed.incrementAndGet();
+            final Cluster cluster = new Cluster("All");
+            cluster.addDocuments(documents);
+            clusters = Lists.newArrayList(cluster);
+        }
+    }
+}
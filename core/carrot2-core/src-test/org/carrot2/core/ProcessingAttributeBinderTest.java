@@ -0,0 +1,226 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.util.Map;
+
+import org.carrot2.core.attribute.Processing;
+import org.carrot2.util.attribute.*;
+import org.carrot2.util.attribute.constraint.IntRange;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Test cases for {@link ProcessingAttributeBinder}.
+ */
+public class ProcessingAttributeBinderTest extends CarrotTestCase
+{
+    @Bindable
+    public static class NestedComponent
+    {
+        @Processing
+        @Input
+        @Attribute(key = "nested.int")
+        @IntRange(min = 0, max = 10)
+        public int nestedInt = 1;
+
+        @Processing
+        @Output
+        @Attribute(key = "out")
+        public String out = "nested";
+
+        @Processing
+        @Output
+        @Attribute(key = "nested.out")
+        public String nestedOut;
+    }
+
+    @Bindable
+    public static class Component
+    {
+        @Processing
+        @Input
+        @Attribute(key = "int")
+        @IntRange(min = 0, max = 10)
+        public int integer = 0;
+
+        @Processing
+        @Input
+        @Output
+        @Attribute(key = "string")
+        public String string;
+
+        @Processing
+        @Input
+        @Required
+        @Attribute(key = "required")
+        public String required;
+
+        @Processing
+        @Output
+        @Attribute(key = "out")
+        public String out;
+
+        public NestedComponent nested = new NestedComponent();
+    }
+
+    @Test
+    public void testSameValuesAsAttributeBinder() throws Exception
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            final Map<String, Object> attributes = attributes(i, "s" + i);
+            attributes.put("nested.int", i + 1);
+
+            final Component planned = new Component();
+            ProcessingAttributeBinder.set(planned, attributes);
+            final Component reflective = new Component();
+            set(reflective, attributes);
+
+            assertThat(planned.integer).isEqualTo(reflective.integer).isEqualTo(i);
+            assertThat(planned.string).isEqualTo(reflective.string).isEqualTo("s" + i);
+            assertThat(planned.required).isEqualTo(reflective.required);
+            assertThat(planned.nested.nestedInt).isEqualTo(reflective.nested.nestedInt)
+                .isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    public void testAbsentAndNullValues() throws Exception
+    {
+        final Component component = new Component();
+        ProcessingAttributeBinder.set(component, attributes(2, "s"));
+
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put("required", "r");
+        attributes.put("string", null);
+        ProcessingAttributeBinder.set(component, attributes);
+
+        assertThat(component.integer).isEqualTo(2);
+        assertThat(component.string).isNull();
+    }
+
+    @Test
+    public void testConversionDelegated() throws Exception
+    {
+        final Component component = new Component();
+        ProcessingAttributeBinder.set(component, attributes(2, "s"));
+
+        final Map<String, Object> attributes = attributes(0, "s");
+        attributes.put("int", "5");
+        ProcessingAttributeBinder.set(component, attributes);
+
+        assertThat(component.integer).isEqualTo(5);
+    }
+
+    @Test
+    public void testConstraintViolation() throws Exception
+    {
+        ProcessingAttributeBinder.set(new Component(), attributes(2, "s"));
+
+        final Map<String, Object> attributes = attributes(2, "s");
+        attributes.put("nested.int", 20);
+
+        final String expected = bindingFailure(new Component(), attributes, false);
+        assertThat(expected).isNotNull();
+        assertThat(bindingFailure(new Component(), attributes, true)).isEqualTo(
+            expected);
+    }
+
+    @Test
+    public void testRequiredAttributeMissing() throws Exception
+    {
+        ProcessingAttributeBinder.set(new Component(), attributes(2, "s"));
+
+        final Map<String, Object> attributes = attributes(2, "s");
+        attributes.remove("required");
+
+        final String expected = bindingFailure(new Component(), attributes, false);
+        assertThat(expected).contains("required");
+        assertThat(bindingFailure(new Component(), attributes, true)).isEqualTo(
+            expected);
+
+        attributes.put("required", null);
+        assertThat(bindingFailure(new Component(), attributes, true)).isEqualTo(
+            bindingFailure(new Component(), attributes, false));
+    }
+
+    @Test
+    public void testGetSameValuesAsAttributeBinder() throws Exception
+    {
+        final Component component = new Component();
+        ProcessingAttributeBinder.set(component, attributes(2, "s"));
+        component.nested.nestedOut = "n";
+
+        final Map<String, Object> planned = Maps.newHashMap();
+        ProcessingAttributeBinder.get(component, planned);
+        final Map<String, Object> reflective = Maps.newHashMap();
+        get(component, reflective);
+
+        assertThat(planned).isEqualTo(reflective);
+        // The value of the least nested field wins
+        assertThat(planned.get("out")).isNull();
+        assertThat(planned.containsKey("out")).isTrue();
+        assertThat(planned.get("nested.out")).isEqualTo("n");
+    }
+
+    private static Map<String, Object> attributes(int integer, String string)
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put("int", integer);
+        attributes.put("string", string);
+        attributes.put("required", "r");
+        return attributes;
+    }
+
+    /**
+     * Returns the message of the binding exception or <code>null</code> if binding
+     * succeeded.
+     */
+    private static String bindingFailure(Component component,
+        Map<String, Object> attributes, boolean planned) throws Exception
+    {
+        try
+        {
+            if (planned)
+            {
+                ProcessingAttributeBinder.set(component, attributes);
+            }
+            else
+            {
+                set(component, attributes);
+            }
+            return null;
+        }
+        catch (AttributeBindingException e)
+        {
+            return e.getMessage();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void set(Component component, Map<String, Object> attributes)
+        throws Exception
+    {
+        AttributeBinder.set(component, attributes, Input.class, Processing.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void get(Component component, Map<String, Object> attributes)
+        throws Exception
+    {
+        AttributeBinder.get(component, attributes, Output.class, Processing.class);
+    }
+}
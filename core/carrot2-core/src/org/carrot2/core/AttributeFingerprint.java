@@ -0,0 +1,338 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Computes 128-bit fingerprints of attribute maps used as processing results cache keys.
+ * The hash is a streaming variant of MurmurHash3 (x64, 128-bit) applied directly to
+ * attribute values, without serializing them into intermediate buffers. Entries of maps
+ * (including {@link Document} fields) and elements of collections other than lists are
+ * combined in an order-independent way, so the fingerprint does not depend on the
+ * iteration order of maps and sets.
+ * <p>
+ * Strings, boxed primitives, enums, classes, {@link Document}s, primitive arrays and
+ * maps, collections and arrays of these are hashed by value, so their fingerprints do not
+ * change between JVM runs. Other values are hashed using their {@link Object#hashCode()},
+ * such fingerprints are not {@link Fingerprint#stable}.
+ * </p>
+ */
+final class AttributeFingerprint
+{
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /** Markers of value types, prevent collisions between values of different types. */
+    private static final long NULL = 0, STRING = 1, PRIMITIVE = 2, CLASS = 3,
+        DOCUMENT = 4, MAP = 5, SEQUENCE = 6, OTHER = 7, COLLECTION = 8,
+        PRIMITIVE_ARRAY = 9;
+
+    /** If <code>true</code>, only identifiers and text content of documents are hashed. */
+    private final boolean documentContentOnly;
+
+    private long h1, h2;
+    private long length;
+    private boolean stable = true;
+
+    private AttributeFingerprint(boolean documentContentOnly)
+    {
+        this.documentContentOnly = documentContentOnly;
+    }
+
+    /**
+     * Computes the fingerprint of the provided attributes.
+     *
+     * @param documentContentOnly if <code>true</code>, only identifiers, titles, summaries
+     *            and content URLs of {@link Document}s are hashed, otherwise all document
+     *            fields are hashed.
+     */
+    static Fingerprint of(Map<String, Object> attributes, boolean documentContentOnly)
+    {
+        final AttributeFingerprint hasher = new AttributeFingerprint(documentContentOnly);
+        hasher.putValue(attributes);
+        hasher.finish();
+        return new Fingerprint(hasher.h1, hasher.h2, hasher.stable);
+    }
+
+    /**
+     * A computed fingerprint.
+     */
+    static final class Fingerprint
+    {
+        final long high;
+        final long low;
+
+        /**
+         * <code>true</code> if the fingerprint depends only on values of the attributes
+         * and thus does not change between JVM runs.
+         */
+        final boolean stable;
+
+        Fingerprint(long high, long low, boolean stable)
+        {
+            this.high = high;
+            this.low = low;
+            this.stable = stable;
+        }
+
+        /**
+         * Returns the fingerprint as 32 hexadecimal digits.
+         */
+        String toHexString()
+        {
+            final String h = Long.toHexString(high);
+            final String l = Long.toHexString(low);
+            final StringBuilder b = new StringBuilder(32);
+            for (int i = h.length(); i < 16; i++)
+            {
+                b.append('0');
+            }
+            b.append(h);
+            for (int i = l.length(); i < 16; i++)
+            {
+                b.append('0');
+            }
+            return b.append(l).toString();
+        }
+    }
+
+    private void putValue(Object value)
+    {
+        if (value == null)
+        {
+            putLong(NULL);
+        }
+        else if (value instanceof CharSequence)
+        {
+            putLong(STRING);
+            putChars((CharSequence) value);
+        }
+        else if (value instanceof Number || value instanceof Boolean
+            || value instanceof Character || value instanceof Enum<?>)
+        {
+            putLong(PRIMITIVE);
+            putChars(value.getClass().getName());
+            putChars(value.toString());
+        }
+        else if (value instanceof Class<?>)
+        {
+            putLong(CLASS);
+            putChars(((Class<?>) value).getName());
+        }
+        else if (value instanceof Document)
+        {
+            putDocument((Document) value);
+        }
+        else if (value instanceof Map<?, ?>)
+        {
+            putLong(MAP);
+            putUnordered(((Map<?, ?>) value).entrySet());
+        }
+        else if (value instanceof List<?>)
+        {
+            final List<?> list = (List<?>) value;
+            putLong(SEQUENCE);
+            putLong(list.size());
+            if (list instanceof RandomAccess)
+            {
+                for (int i = 0; i < list.size(); i++)
+                {
+                    putValue(list.get(i));
+                }
+            }
+            else
+            {
+                for (Object element : list)
+                {
+                    putValue(element);
+                }
+            }
+        }
+        else if (value instanceof Object [])
+        {
+            final Object [] array = (Object []) value;
+            putLong(SEQUENCE);
+            putLong(array.length);
+            for (Object element : array)
+            {
+                putValue(element);
+            }
+        }
+        else if (value instanceof Collection<?>)
+        {
+            putLong(COLLECTION);
+            putUnordered((Collection<?>) value);
+        }
+        else if (value.getClass().isArray())
+        {
+            final int length = Array.getLength(value);
+            putLong(PRIMITIVE_ARRAY);
+            putChars(value.getClass().getComponentType().getName());
+            putLong(length);
+            for (int i = 0; i < length; i++)
+            {
+                putPrimitive(Array.get(value, i));
+            }
+        }
+        else
+        {
+            stable = false;
+            putLong(OTHER);
+            putLong(value.hashCode());
+        }
+    }
+
+    private void putDocument(Document document)
+    {
+        putLong(DOCUMENT);
+        putValue(document.getStringId());
+        if (documentContentOnly)
+        {
+            putValue(document.getTitle());
+            putValue(document.getSummary());
+            putValue(document.getContentUrl());
+        }
+        else
+        {
+            putUnordered(document.getFields().entrySet());
+        }
+    }
+
+    /**
+     * Hashes each element separately and combines the hashes with a commutative
+     * operation. Map entries are hashed as their keys followed by their values.
+     */
+    private void putUnordered(Collection<?> elements)
+    {
+        final long saved1 = h1, saved2 = h2, savedLength = length;
+
+        long sum1 = 0, sum2 = 0;
+        for (Object element : elements)
+        {
+            h1 = h2 = length = 0;
+            if (element instanceof Map.Entry<?, ?>)
+            {
+                putValue(((Map.Entry<?, ?>) element).getKey());
+                putValue(((Map.Entry<?, ?>) element).getValue());
+            }
+            else
+            {
+                putValue(element);
+            }
+            finish();
+            sum1 += h1;
+            sum2 += h2;
+        }
+
+        h1 = saved1;
+        h2 = saved2;
+        length = savedLength;
+        putLong(elements.size());
+        putLong(sum1);
+        putLong(sum2);
+    }
+
+    /**
+     * Hashes an element of a primitive array.
+     */
+    private void putPrimitive(Object value)
+    {
+        if (value instanceof Double || value instanceof Float)
+        {
+            putLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        }
+        else if (value instanceof Number)
+        {
+            putLong(((Number) value).longValue());
+        }
+        else if (value instanceof Character)
+        {
+            putLong((Character) value);
+        }
+        else
+        {
+            putLong((Boolean) value ? 1 : 0);
+        }
+    }
+
+    private void putChars(CharSequence chars)
+    {
+        final int count = chars.length();
+        putLong(count);
+
+        int i = 0;
+        for (; i + 4 <= count; i += 4)
+        {
+            putLong(((long) chars.charAt(i) << 48) | ((long) chars.charAt(i + 1) << 32)
+                | ((long) chars.charAt(i + 2) << 16) | chars.charAt(i + 3));
+        }
+
+        long tail = 0;
+        for (; i < count; i++)
+        {
+            tail = (tail << 16) | chars.charAt(i);
+        }
+        putLong(tail);
+    }
+
+    /**
+     * MurmurHash3 x64 128-bit round, mixing one 64-bit word into both halves.
+     */
+    private void putLong(long k)
+    {
+        long k1 = k * C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        long k2 = k * C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+
+        length++;
+    }
+
+    /**
+     * MurmurHash3 finalization.
+     */
+    private void finish()
+    {
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+    }
+
+    private static long fmix(long k)
+    {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -13,8 +13,8 @@
 package org.carrot2.core;
 
 import java.util.*;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.carrot2.core.Controller.IControllerStatisticsProvider;
 import org.carrot2.core.attribute.Processing;
@@ -22,8 +22,10 @@ import org.carrot2.util.ExceptionUtils;
 import org.carrot2.util.Pair;
 import org.carrot2.util.attribute.*;
 
+import com.google.common.base.Strings;
 import com.google.common.cache.*;
 import com.google.common.collect.*;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 
 /**
@@ -35,6 +37,22 @@ import com.google.common.util.concurrent.UncheckedExecutionException;
  * ) and wraps the components the delegate with a functionality that either returns the
  * results from cache or performs the processing if the result are not yet cached.
  * </p>
+ * <p>
+ * Concurrent requests for the same missing result are coalesced: only the first request
+ * performs the processing, the other ones wait for its result (at most for the
+ * configured coalescing timeout, after which they perform the processing on their own).
+ * Because the output of a cached document source is part of the cache key of the cached
+ * clustering algorithm that follows it, coalesced requests also share the clustering.
+ * </p>
+ * <p>
+ * Optionally, results missing in the in-memory cache can be looked up in (and stored to)
+ * a {@link ISecondLevelCache}, e.g. a {@link FileSecondLevelCache} that survives
+ * application restarts. Only results of {@link IDocumentSource}s whose input attributes
+ * can be fingerprinted in a stable way (strings, numbers, enums, classes, documents and
+ * collections and arrays of these) go to the second-level cache. Clusters refer to the
+ * documents of their input, which are not part of the clustering algorithm's results, so
+ * clusters restored from the second-level cache would have no documents.
+ * </p>
  */
 public class CachingProcessingComponentManager implements IProcessingComponentManager,
     Controller.IControllerStatisticsProvider
@@ -60,15 +78,72 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
      * {@link Processing} attributes of the component for which caching is performed. The
      * value of the cache is a map of all {@link Output} {@link Processing} attributes
      * produced by the component.
+     * <p>
+     * Each entry of {@link #cachedComponentClasses} is mapped to a cache, entries may
+     * share the same cache instance. The first entry to which a component class is
+     * assignable determines the cache the component's results go to.
+     * </p>
+     */
+    private Map<Class<? extends IProcessingComponent>, Cache<AttributeMapCacheKey, Map<String, Object>>> caches;
+
+    /**
+     * Results being computed at the moment, other requests with an equal key wait for
+     * these instead of repeating the processing.
+     */
+    private final ConcurrentMap<AttributeMapCacheKey, SettableFuture<Map<String, Object>>> inFlight = 
+        new ConcurrentHashMap<AttributeMapCacheKey, SettableFuture<Map<String, Object>>>();
+
+    /**
+     * The maximum time a request waits for an in-flight computation of the same result,
+     * in milliseconds.
+     */
+    private final long coalescingTimeoutMillis;
+
+    /** Number of requests that received the result of another request's processing. */
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /** Number of requests that stopped waiting for an in-flight result. */
+    private final AtomicLong coalescingTimeouts = new AtomicLong();
+
+    /** The second-level cache, may be <code>null</code>. */
+    private final ISecondLevelCache secondLevelCache;
+
+    /**
+     * If <code>true</code>, only identifiers and text content of documents contribute to
+     * cache keys.
      */
-    private Cache<AttributeMapCacheKey, Map<String,Object>> cache;
+    private final boolean fingerprintDocumentContentOnly;
+
+    /** Numbers of in-memory cache misses served and not served by the second level. */
+    private final AtomicLong secondLevelHits = new AtomicLong();
+    private final AtomicLong secondLevelMisses = new AtomicLong();
 
     /** Cache statistics keys. */
     static final String CACHE_MISSES = "cache.misses";
     static final String CACHE_HITS_TOTAL = "cache.hits.total";
+    static final String CACHE_EVICTIONS = "cache.evictions";
+    static final String CACHE_LOAD_TIME_AVERAGE = "cache.load.time.average";
+    static final String CACHE_SIZE = "cache.size";
+    static final String CACHE_COALESCED = "cache.coalesced";
+    static final String CACHE_COALESCING_TIMEOUTS = "cache.coalescing.timeouts";
+    static final String CACHE_SECOND_LEVEL_HITS = "cache.second-level.hits";
+    static final String CACHE_SECOND_LEVEL_MISSES = "cache.second-level.misses";
+
+    /**
+     * The cache specification used if none is provided: at most 100 entries shared by all
+     * cached component classes.
+     */
+    public static final String DEFAULT_CACHE_SPEC = "maximumSize=100";
+
+    /**
+     * The default maximum time a request waits for an identical request's processing to
+     * complete, in milliseconds.
+     */
+    public static final long DEFAULT_COALESCING_TIMEOUT_MILLIS = 60 * 1000;
 
     /**
-     * Creates a {@link CachingProcessingComponentManager}.
+     * Creates a {@link CachingProcessingComponentManager} with a single cache of
+     * {@link #DEFAULT_CACHE_SPEC} shared by all cached component classes.
      * 
      * @param delegate the manager to handle the preparation of the actual processing
      *            component instances
@@ -80,15 +155,172 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
      */
     public CachingProcessingComponentManager(IProcessingComponentManager delegate,
         Class<? extends IProcessingComponent>... cachedComponentClasses)
+    {
+        this(delegate, DEFAULT_COALESCING_TIMEOUT_MILLIS, cachedComponentClasses);
+    }
+
+    /**
+     * Creates a {@link CachingProcessingComponentManager} with a single cache of
+     * {@link #DEFAULT_CACHE_SPEC} shared by all cached component classes.
+     * 
+     * @param delegate the manager to handle the preparation of the actual processing
+     *            component instances
+     * @param coalescingTimeoutMillis the maximum time a request waits for the processing
+     *            of an identical concurrent request, in milliseconds. <code>0</code>
+     *            disables waiting, concurrent requests are then processed separately.
+     * @param cachedComponentClasses classes of components whose output should be cached
+     *            by the controller, see
+     *            {@link #CachingProcessingComponentManager(IProcessingComponentManager, Class...)}
+     */
+    public CachingProcessingComponentManager(IProcessingComponentManager delegate,
+        long coalescingTimeoutMillis,
+        Class<? extends IProcessingComponent>... cachedComponentClasses)
     {
         this.delegate = delegate;
+        this.coalescingTimeoutMillis = checkTimeout(coalescingTimeoutMillis);
+        this.secondLevelCache = null;
+        this.fingerprintDocumentContentOnly = false;
         this.cachedComponentClasses = ImmutableSet.copyOf(cachedComponentClasses);
 
         // Initialize cache.
-        cache = CacheBuilder.newBuilder()
-            .maximumSize(100)
-            .recordStats()
-            .build();
+        final Cache<AttributeMapCacheKey, Map<String, Object>> cache = 
+            buildCache(DEFAULT_CACHE_SPEC);
+        this.caches = Maps.newLinkedHashMap();
+        for (Class<? extends IProcessingComponent> clazz : this.cachedComponentClasses)
+        {
+            this.caches.put(clazz, cache);
+        }
+    }
+
+    /**
+     * Creates a {@link CachingProcessingComponentManager} with a separate cache (and thus
+     * a separate memory budget) for each cached component class.
+     * 
+     * @param delegate the manager to handle the preparation of the actual processing
+     *            component instances
+     * @param cacheSpecs classes of components whose output should be cached by the
+     *            controller mapped to the specification of their cache. If a superclass
+     *            is provided here, e.g. {@link IDocumentSource}, all its subclasses will
+     *            be subject to caching. Specifications follow the {@link CacheBuilderSpec}
+     *            syntax, e.g.
+     *            <code>maximumWeight=50000000,expireAfterWrite=10m</code>. The weight of
+     *            a cache entry is the estimated number of bytes retained by the cached
+     *            input and output attribute values (documents, clusters). If the
+     *            specification is <code>null</code> or empty, {@link #DEFAULT_CACHE_SPEC}
+     *            is used.
+     */
+    public CachingProcessingComponentManager(IProcessingComponentManager delegate,
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs)
+    {
+        this(delegate, cacheSpecs, DEFAULT_COALESCING_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a {@link CachingProcessingComponentManager} with a separate cache for each
+     * cached component class.
+     * 
+     * @param delegate the manager to handle the preparation of the actual processing
+     *            component instances
+     * @param cacheSpecs classes of components whose output should be cached mapped to
+     *            the specification of their cache, see
+     *            {@link #CachingProcessingComponentManager(IProcessingComponentManager, Map)}
+     * @param coalescingTimeoutMillis the maximum time a request waits for the processing
+     *            of an identical concurrent request, in milliseconds. <code>0</code>
+     *            disables waiting, concurrent requests are then processed separately.
+     */
+    public CachingProcessingComponentManager(IProcessingComponentManager delegate,
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs,
+        long coalescingTimeoutMillis)
+    {
+        this(delegate, cacheSpecs, coalescingTimeoutMillis, null);
+    }
+
+    /**
+     * Creates a {@link CachingProcessingComponentManager} with a separate cache for each
+     * cached component class and a second-level cache beneath them.
+     * 
+     * @param delegate the manager to handle the preparation of the actual processing
+     *            component instances
+     * @param cacheSpecs classes of components whose output should be cached mapped to
+     *            the specification of their cache, see
+     *            {@link #CachingProcessingComponentManager(IProcessingComponentManager, Map)}
+     * @param coalescingTimeoutMillis the maximum time a request waits for the processing
+     *            of an identical concurrent request, in milliseconds. <code>0</code>
+     *            disables waiting, concurrent requests are then processed separately.
+     * @param secondLevelCache the cache to consult when a result is missing in the
+     *            in-memory cache, may be <code>null</code>
+     */
+    public CachingProcessingComponentManager(IProcessingComponentManager delegate,
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs,
+        long coalescingTimeoutMillis, ISecondLevelCache secondLevelCache)
+    {
+        this(delegate, cacheSpecs, coalescingTimeoutMillis, secondLevelCache, false);
+    }
+
+    /**
+     * Creates a {@link CachingProcessingComponentManager} with a separate cache for each
+     * cached component class and a second-level cache beneath them.
+     * 
+     * @param delegate the manager to handle the preparation of the actual processing
+     *            component instances
+     * @param cacheSpecs classes of components whose output should be cached mapped to
+     *            the specification of their cache, see
+     *            {@link #CachingProcessingComponentManager(IProcessingComponentManager, Map)}
+     * @param coalescingTimeoutMillis the maximum time a request waits for the processing
+     *            of an identical concurrent request, in milliseconds. <code>0</code>
+     *            disables waiting, concurrent requests are then processed separately.
+     * @param secondLevelCache the cache to consult when a result is missing in the
+     *            in-memory cache, may be <code>null</code>
+     * @param fingerprintDocumentContentOnly if <code>true</code>, only identifiers,
+     *            titles, summaries and content URLs of input {@link Document}s are part
+     *            of the cache keys. This makes keys of large document sets cheaper to
+     *            compute, but documents differing only in other fields (e.g. scores or
+     *            sources) will share cached results.
+     */
+    public CachingProcessingComponentManager(IProcessingComponentManager delegate,
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs,
+        long coalescingTimeoutMillis, ISecondLevelCache secondLevelCache,
+        boolean fingerprintDocumentContentOnly)
+    {
+        this.delegate = delegate;
+        this.coalescingTimeoutMillis = checkTimeout(coalescingTimeoutMillis);
+        this.secondLevelCache = secondLevelCache;
+        this.fingerprintDocumentContentOnly = fingerprintDocumentContentOnly;
+        this.cachedComponentClasses = ImmutableSet.copyOf(cacheSpecs.keySet());
+
+        this.caches = Maps.newLinkedHashMap();
+        for (Map.Entry<Class<? extends IProcessingComponent>, String> entry : cacheSpecs
+            .entrySet())
+        {
+            final String spec = entry.getValue();
+            this.caches.put(entry.getKey(),
+                buildCache(Strings.isNullOrEmpty(spec) ? DEFAULT_CACHE_SPEC : spec));
+        }
+    }
+
+    private static long checkTimeout(long coalescingTimeoutMillis)
+    {
+        if (coalescingTimeoutMillis < 0)
+        {
+            throw new IllegalArgumentException("Coalescing timeout must not be negative: "
+                + coalescingTimeoutMillis);
+        }
+        return coalescingTimeoutMillis;
+    }
+
+    private static Cache<AttributeMapCacheKey, Map<String, Object>> buildCache(String spec)
+    {
+        final CacheBuilderSpec builderSpec = CacheBuilderSpec.parse(spec);
+        final CacheBuilder<Object, Object> builder = CacheBuilder.from(builderSpec)
+            .recordStats();
+
+        // The weigher can't be expressed in the specification. Guava refuses to build a
+        // weighted cache without a weight limit, so we need to check for its presence.
+        if (builderSpec.toParsableString().contains("maximumWeight"))
+        {
+            return builder.weigher(ResultWeigher.INSTANCE).build();
+        }
+        return builder.build();
     }
 
     public void init(IControllerContext context, Map<String, Object> attributes,
@@ -111,12 +343,13 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
         // use only the init-time attributes. The same goes for output attributes,
         // these will be collected to the map we provide during the creation of the
         // wrapper.
-        for (Class<?> cachedClass : cachedComponentClasses)
+        for (Map.Entry<Class<? extends IProcessingComponent>, Cache<AttributeMapCacheKey, Map<String, Object>>> entry : caches
+            .entrySet())
         {
-            if (cachedClass.isAssignableFrom(clazz))
+            if (entry.getKey().isAssignableFrom(clazz))
             {
                 return new CachedProcessingComponent(clazz, id, inputAttributes,
-                    outputAttributes);
+                    outputAttributes, entry.getValue());
             }
         }
 
@@ -142,21 +375,31 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
         try
         {
             delegate.dispose();
-            if (cache != null)
+            if (caches != null)
             {
-                cache.invalidateAll();
+                for (Cache<AttributeMapCacheKey, Map<String, Object>> cache : distinctCaches())
+                {
+                    cache.invalidateAll();
+                }
             }
         }
         finally
         {
-            cache = null;
+            caches = null;
         }
     }
 
     public Map<String, Object> getStatistics()
     {
         // Return some custom statistics
-        final CacheStats cacheStats = cache.stats();
+        CacheStats cacheStats = new CacheStats(0, 0, 0, 0, 0, 0);
+        long size = 0;
+        for (Cache<AttributeMapCacheKey, Map<String, Object>> cache : distinctCaches())
+        {
+            cacheStats = cacheStats.plus(cache.stats());
+            size += cache.size();
+        }
+
         final Map<String, Object> stats = Maps.newHashMap();
         if (delegate instanceof IControllerStatisticsProvider) 
         {
@@ -164,10 +407,32 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
         }
         stats.put(CACHE_MISSES, cacheStats.missCount());
         stats.put(CACHE_HITS_TOTAL, cacheStats.hitCount());
+        stats.put(CACHE_EVICTIONS, cacheStats.evictionCount());
+        stats.put(CACHE_SIZE, size);
+        // Average load penalty is in nanoseconds, the rest of the stats are in millis.
+        stats.put(CACHE_LOAD_TIME_AVERAGE, cacheStats.averageLoadPenalty() / 1e6);
+        stats.put(CACHE_COALESCED, coalesced.get());
+        stats.put(CACHE_COALESCING_TIMEOUTS, coalescingTimeouts.get());
+        if (secondLevelCache != null)
+        {
+            stats.put(CACHE_SECOND_LEVEL_HITS, secondLevelHits.get());
+            stats.put(CACHE_SECOND_LEVEL_MISSES, secondLevelMisses.get());
+        }
         
         return stats;
     }
 
+    /**
+     * Returns the distinct caches, some component classes may share the same cache.
+     */
+    private Collection<Cache<AttributeMapCacheKey, Map<String, Object>>> distinctCaches()
+    {
+        final Set<Cache<AttributeMapCacheKey, Map<String, Object>>> distinct = Sets
+            .newSetFromMap(Maps.<Cache<AttributeMapCacheKey, Map<String, Object>>, Boolean> newIdentityHashMap());
+        distinct.addAll(caches.values());
+        return distinct;
+    }
+
     // Two extra attributes to add to the input map. This way, they will also become
     // part of the cache key, which is what we need.
     private static final String COMPONENT_CLASS_KEY = 
@@ -194,14 +459,19 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
         /** A map to store the output attributes in. */
         private final Map<String, Object> outputAttributes;
 
+        /** The cache to store the results in. */
+        private final Cache<AttributeMapCacheKey, Map<String, Object>> cache;
+
         CachedProcessingComponent(Class<? extends IProcessingComponent> componentClass,
             String componentId, Map<String, Object> inputAttributes,
-            Map<String, Object> outputAttributes)
+            Map<String, Object> outputAttributes,
+            Cache<AttributeMapCacheKey, Map<String, Object>> cache)
         {
             this.componentClass = componentClass;
             this.inputAttributes = inputAttributes;
             this.outputAttributes = outputAttributes;
             this.componentId = componentId;
+            this.cache = cache;
         }
 
         @Override
@@ -226,7 +496,7 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
             // Get data from cache. If the result is not in the cache yet, it will
             // be created by the ValueProducer.
             final AttributeMapCacheKey key = new AttributeMapCacheKey(
-                inputProcessingAttributes, inputAttributes);
+                inputProcessingAttributes, inputAttributes, fingerprintDocumentContentOnly);
 
             // Cache bypass.
             if (inputAttributes.containsKey(CACHE_BYPASS_ATTR) &&
@@ -234,22 +504,111 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
                 cache.invalidate(key);
             }
 
-            try
+            final Map<String, Object> processingResult = getCoalesced(key);
+
+            // Copy the results @Output @Processing attributes back to the result
+            outputAttributes.putAll(getAttributesForDescriptors(
+                descriptors.outputDescriptors, processingResult));
+        }
+
+        /**
+         * Returns the result for the provided key. If an equal key is being processed
+         * at the moment, waits for that processing to complete, otherwise fetches the
+         * result from the cache (producing it on a miss).
+         */
+        private Map<String, Object> getCoalesced(AttributeMapCacheKey key)
+        {
+            final SettableFuture<Map<String, Object>> future = SettableFuture.create();
+            final SettableFuture<Map<String, Object>> existing = inFlight.putIfAbsent(key, future);
+
+            if (existing != null)
             {
-                final Map<String, Object> processingResult = cache.get(key, new ValueProducer(key));
+                try
+                {
+                    final Map<String, Object> result = existing.get(
+                        coalescingTimeoutMillis, TimeUnit.MILLISECONDS);
+                    coalesced.incrementAndGet();
+                    return result;
+                }
+                catch (TimeoutException e)
+                {
+                    coalescingTimeouts.incrementAndGet();
+                }
+                catch (CancellationException e)
+                {
+                    // The in-flight request was cancelled, process on our own.
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new ProcessingException(
+                        "Interrupted while waiting for an identical request", e);
+                }
+                catch (ExecutionException e)
+                {
+                    throw ExceptionUtils.wrapAs(ProcessingException.class, e.getCause());
+                }
 
-                // Copy the results @Output @Processing attributes back to the result
-                outputAttributes.putAll(getAttributesForDescriptors(
-                    descriptors.outputDescriptors, processingResult));
+                // The in-flight request takes too long or was cancelled, process on
+                // our own. The cache
+                // would block on the in-flight load, so we don't go through it. 
+                try
+                {
+                    return new ValueProducer(key).call();
+                }
+                catch (Exception e)
+                {
+                    throw ExceptionUtils.wrapAs(ProcessingException.class, e);
+                }
+            }
+
+            try
+            {
+                final Map<String, Object> result = cache.get(key, new ValueProducer(key));
+                future.set(result);
+                return result;
             }
             catch (UncheckedExecutionException e)
             {
+                fail(future, e.getCause());
                 throw ExceptionUtils.wrapAs(ProcessingException.class, e.getCause());
             }
             catch (ExecutionException e)
             {
+                fail(future, e.getCause());
                 throw ExceptionUtils.wrapAs(ProcessingException.class, e.getCause());
             }
+            catch (RuntimeException e)
+            {
+                fail(future, e);
+                throw e;
+            }
+            catch (Error e)
+            {
+                fail(future, e);
+                throw e;
+            }
+            finally
+            {
+                inFlight.remove(key, future);
+            }
+        }
+
+        /**
+         * Propagates a failure of the leading request to the coalesced ones. If the
+         * leading request failed because it was cancelled, the coalesced requests should
+         * not fail too, so they are notified with cancellation and process on their own.
+         */
+        private void fail(SettableFuture<Map<String, Object>> future, Throwable t)
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                future.cancel(false);
+            }
+            else
+            {
+                future.setException(t);
+            }
         }
 
         /**
@@ -325,23 +684,25 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
      * modifications to the attributes map or its values do not change the hashCode and
      * equality behavior of the key.
      */
-    private static final class AttributeMapCacheKey
+    static final class AttributeMapCacheKey
     {
         /** Input processing attributes, the key for the cache */
-        private Map<String, Object> inputProcessingAttributes;
+        final Map<String, Object> inputProcessingAttributes;
 
-        /** Hash code for input processing attributes */
-        private int hashCode;
+        /** 128-bit fingerprint of input processing attributes, computed once */
+        final AttributeFingerprint.Fingerprint fingerprint;
 
         /**
          * All input attributes. This map is not part of the cache key, but we will need
-         * it to properly retrieve entries from the cache.
+         * it to properly retrieve entries from the cache. Cleared once the value is
+         * produced, so that the cached key does not retain the whole request.
          */
-        private Map<String, Object> inputAttributes;
+        volatile Map<String, Object> inputAttributes;
 
-        private AttributeMapCacheKey(
+        AttributeMapCacheKey(
             Map<String, Object> inputProcessingAttributes,
-            Map<String, Object> inputAttributes)
+            Map<String, Object> inputAttributes,
+            boolean documentContentOnly)
         {
             /*
              * Empty attributes should never happen because the attributes object must
@@ -357,19 +718,18 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
              * To prevent simple errors, we make the map unmodifiable.
              */
             this.inputProcessingAttributes = Collections.unmodifiableMap(inputProcessingAttributes);
-            this.hashCode = inputProcessingAttributes.hashCode();
+            this.fingerprint = AttributeFingerprint.of(inputProcessingAttributes,
+                documentContentOnly);
 
             this.inputAttributes = inputAttributes;
         }
 
         /*
-         * We assume that equal hash codes means equal objects, which is not true in case
-         * of conflicts, but there is no other way really if we don't want to make deep
-         * copies of the attribute map. If a conflict occurs, we would retrieve a stale
-         * result from the cache (a result associated with a different query, possibly a
-         * different component even). The cache is in-memory only and is rather small (so
-         * that re-querying for documents and clusters does not cause duplicated
-         * processing), conflicts do not seem like a big problem.
+         * Equal stable fingerprints are taken for equal attributes, so that equality
+         * checks do not need to touch the (possibly large) attribute values. For values
+         * hashed by content, accidental conflicts of 128-bit fingerprints are practically
+         * impossible. Values of other types contribute only their hash codes, which may
+         * collide, so such attributes are compared by value.
          */
         @Override
         public boolean equals(Object obj)
@@ -379,19 +739,24 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
                 return false;
             }
 
-            final boolean result = (obj.hashCode() == this.hashCode);
-            if (result)
+            final AttributeMapCacheKey other = (AttributeMapCacheKey) obj;
+            if (other.fingerprint.high != fingerprint.high
+                || other.fingerprint.low != fingerprint.low)
+            {
+                return false;
+            }
+
+            if (!fingerprint.stable || !other.fingerprint.stable)
             {
-                assert ((AttributeMapCacheKey) obj).inputProcessingAttributes
-                    .equals(this.inputProcessingAttributes);
+                return inputProcessingAttributes.equals(other.inputProcessingAttributes);
             }
-            return result;
+            return true;
         }
 
         @Override
         public int hashCode()
         {
-            return hashCode;
+            return (int) fingerprint.low;
         }
     }
 
@@ -421,6 +786,22 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
 
             final String componentId = (String) inputProcessingAttributes.get(COMPONENT_ID_KEY);
 
+            final String secondLevelKey = (secondLevelCache != null
+                && key.fingerprint.stable
+                && IDocumentSource.class.isAssignableFrom(componentClass)
+                ? key.fingerprint.toHexString() : null);
+            if (secondLevelKey != null)
+            {
+                final Map<String, Object> stored = secondLevelCache.get(secondLevelKey);
+                if (stored != null)
+                {
+                    secondLevelHits.incrementAndGet();
+                    key.inputAttributes = null;
+                    return stored;
+                }
+                secondLevelMisses.incrementAndGet();
+            }
+
             IProcessingComponent component = null;
             try
             {
@@ -430,10 +811,22 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
 
                 ControllerUtils.performProcessing(component, inputProcessingAttributes, attributes);
 
+                // Interrupted components may return incomplete results (e.g. search
+                // engines return the pages fetched so far), these must not be cached.
+                if (Thread.currentThread().isInterrupted())
+                {
+                    throw new ProcessingException("Processing interrupted.");
+                }
+
+                if (secondLevelKey != null)
+                {
+                    secondLevelCache.put(secondLevelKey, attributes);
+                }
                 return attributes;
             }
             finally
             {
+                key.inputAttributes = null;
                 if (component != null)
                 {
                     delegate.recycle(component, componentId);
@@ -442,6 +835,88 @@ public class CachingProcessingComponentManager implements IProcessingComponentMa
         }
     }
 
+    /**
+     * Estimates the number of bytes retained by a cache entry: the values of the
+     * {@link Input} {@link Processing} attributes in the key plus the values of
+     * {@link Output} attributes. Values shared between entries (e.g. documents fed from a
+     * cached document source to a cached clustering algorithm) are counted for each
+     * entry, so the estimate errs on the safe side.
+     */
+    private static final class ResultWeigher implements
+        Weigher<AttributeMapCacheKey, Map<String, Object>>
+    {
+        static final ResultWeigher INSTANCE = new ResultWeigher();
+
+        /** Approximate sizes of object headers and references, in bytes. */
+        private static final int OBJECT = 16;
+        private static final int REFERENCE = 8;
+
+        @Override
+        public int weigh(AttributeMapCacheKey key, Map<String, Object> value)
+        {
+            final long bytes = estimate(key.inputProcessingAttributes) + estimate(value);
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+
+        static long estimate(Object value)
+        {
+            if (value == null)
+            {
+                return 0;
+            }
+            if (value instanceof CharSequence)
+            {
+                return OBJECT + 24 + 2 * ((CharSequence) value).length();
+            }
+            if (value instanceof Document)
+            {
+                // All document properties are kept in the fields map.
+                return OBJECT + 2 * REFERENCE + estimate(((Document) value).getFields());
+            }
+            if (value instanceof Cluster)
+            {
+                final Cluster cluster = (Cluster) value;
+                // Documents are only referenced from clusters, they're counted where
+                // they're contained (the documents list).
+                return OBJECT + 10 * REFERENCE
+                    + estimate(cluster.getPhrases())
+                    + estimate(cluster.getSubclusters())
+                    + estimate(cluster.getAttributes())
+                    + OBJECT + REFERENCE * (long) cluster.getDocuments().size();
+            }
+            if (value instanceof Collection<?>)
+            {
+                long bytes = OBJECT + 16;
+                for (Object o : (Collection<?>) value)
+                {
+                    bytes += REFERENCE + estimate(o);
+                }
+                return bytes;
+            }
+            if (value instanceof Map<?, ?>)
+            {
+                long bytes = OBJECT + 32;
+                for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet())
+                {
+                    bytes += 32 + estimate(e.getKey()) + estimate(e.getValue());
+                }
+                return bytes;
+            }
+            if (value instanceof Object [])
+            {
+                long bytes = OBJECT;
+                for (Object o : (Object []) value)
+                {
+                    bytes += REFERENCE + estimate(o);
+                }
+                return bytes;
+            }
+
+            // Boxed primitives, enums, classes and anything we don't know about.
+            return OBJECT + REFERENCE;
+        }
+    }
+
     /**
      * Stores a pair of maps of {@link Input} and {@link Output} descriptors.
      */
@@ -16,18 +16,31 @@ import java.io.Closeable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.carrot2.core.attribute.AttributeNames;
 import org.carrot2.core.attribute.Init;
 import org.carrot2.util.ReflectionUtils;
 import org.carrot2.util.RollingWindowAverage;
+import org.carrot2.util.StageLatencies;
 import org.carrot2.util.attribute.Input;
 import org.carrot2.util.attribute.Output;
 import org.simpleframework.xml.Attribute;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * A controller implementing the life cycle described in {@link IProcessingComponent}. Use
@@ -43,6 +56,14 @@ import com.google.common.collect.Maps;
  * {@link #process(Map, Class...)} and {@link #process(Map, Object...)}.
  * </p>
  * <p>
+ * Processing can also be performed asynchronously using
+ * {@link #processAsync(long, TimeUnit, Map, Object...)}, optionally with a deadline.
+ * Cancelling the returned future or exceeding the deadline interrupts the processing
+ * thread, which is checked by the controller between components and by components
+ * performing lengthy operations, such as fetching search results or iterative matrix
+ * factorizations.
+ * </p>
+ * <p>
  * Notice for {@link IProcessingComponent} developers: if data caching is used, values of
  * {@link Output} attributes produced by the components whose output is to be cached
  * (e.g., the {@link Document} instances in case {@link IDocumentSource} output is cached)
@@ -53,6 +74,15 @@ import com.google.common.collect.Maps;
  */
 public final class Controller implements Closeable
 {
+    /** Name of the stage of processing documents by an {@link IDocumentSource}. */
+    public static final String STAGE_SOURCE = "document source";
+
+    /** Name of the stage of processing documents by an {@link IClusteringAlgorithm}. */
+    public static final String STAGE_ALGORITHM = "clustering algorithm";
+
+    /** Name of the whole processing of a request. */
+    public static final String STAGE_TOTAL = "total";
+
     /** If <code>true</code>, the controller has been closed and is no longer usable. */
     private volatile boolean closed = false;
     
@@ -84,6 +114,18 @@ public final class Controller implements Closeable
      */
     private ProcessingStatistics statistics = new ProcessingStatistics();
 
+    /**
+     * Executor performing asynchronous processing, created on first use unless set with
+     * {@link #setAsyncExecutor(ExecutorService)}.
+     */
+    private ExecutorService asyncExecutor;
+
+    /** If <code>true</code>, {@link #asyncExecutor} is shut down with this controller. */
+    private boolean ownsAsyncExecutor;
+
+    /** Cancels asynchronous processing that exceeded its deadline, created on first use. */
+    private ScheduledExecutorService deadlineScheduler;
+
     /**
      * Creates a simple controller with no processing component pooling and no results
      * caching. A controller with equivalent configuration can be obtained from
@@ -307,6 +349,9 @@ public final class Controller implements Closeable
         final ProcessingComponentConfiguration [] configurations = new ProcessingComponentConfiguration [components.length];
 
         ProcessingResult processingResult = null;
+        final long processingStart = System.nanoTime();
+        final StageLatencies previousStageLatencies = StageLatencies
+            .bind(statistics.stageLatencies);
         try
         {
             // Prepare final maps of all init- and processing-time input attributes
@@ -336,6 +381,13 @@ public final class Controller implements Closeable
             // Perform processing
             for (int i = 0; i < components.length; i++)
             {
+                // Stop if processing has been cancelled, e.g. because the deadline of
+                // asynchronous processing passed.
+                if (Thread.currentThread().isInterrupted())
+                {
+                    throw new ProcessingException("Processing interrupted.");
+                }
+
                 // Create a component for processing. Depending on the manager, a new
                 // component may be instantiated, a pooled one may be returned or we may
                 // get some wrapper that performs some extra actions.
@@ -344,7 +396,7 @@ public final class Controller implements Closeable
                     configurations[i].componentId,
                     inputAttributes, resultAttributes);
 
-                final long componentStart = System.currentTimeMillis();
+                final long componentStart = System.nanoTime();
                 try
                 {
                     // It would be tempting to provide the inputAttributes map
@@ -362,10 +414,10 @@ public final class Controller implements Closeable
                 }
                 finally
                 {
-                    final long componentStop = System.currentTimeMillis();
+                    final long componentNanos = System.nanoTime() - componentStart;
 
                     // Log processing time
-                    final long time = componentStop - componentStart;
+                    final long time = TimeUnit.NANOSECONDS.toMillis(componentNanos);
 
                     // Count only regular processing components, omit wrappers
                     if (IDocumentSource.class
@@ -373,12 +425,14 @@ public final class Controller implements Closeable
                     {
                         addTime(AttributeNames.PROCESSING_TIME_SOURCE, time,
                             resultAttributes);
+                        statistics.stageLatencies.record(STAGE_SOURCE, componentNanos);
                     }
                     if (IClusteringAlgorithm.class
                         .isAssignableFrom(configurations[i].componentClass))
                     {
                         addTime(AttributeNames.PROCESSING_TIME_ALGORITHM, time,
                             resultAttributes);
+                        statistics.stageLatencies.record(STAGE_ALGORITHM, componentNanos);
                     }
                     addTime(AttributeNames.PROCESSING_TIME_TOTAL, time, resultAttributes);
                 }
@@ -393,6 +447,9 @@ public final class Controller implements Closeable
         }
         finally
         {
+            StageLatencies.bind(previousStageLatencies);
+            statistics.stageLatencies.record(STAGE_TOTAL, System.nanoTime()
+                - processingStart);
             statistics.update(processingResult);
 
             for (int i = 0; i < components.length; i++)
@@ -408,6 +465,146 @@ public final class Controller implements Closeable
         }
     }
 
+    /**
+     * Performs processing asynchronously, with no deadline. See
+     * {@link #processAsync(long, TimeUnit, Map, Object...)} for details.
+     */
+    public ListenableFuture<ProcessingResult> processAsync(Map<String, Object> attributes,
+        Object... processingComponentClassesOrIds)
+    {
+        return processAsync(0, TimeUnit.MILLISECONDS, attributes,
+            processingComponentClassesOrIds);
+    }
+
+    /**
+     * Performs processing asynchronously in the executor set with
+     * {@link #setAsyncExecutor(ExecutorService)} or, if none was set, in a pool of daemon
+     * threads owned by this controller. Cancelling the returned future interrupts the
+     * thread performing processing, regardless of the <code>mayInterruptIfRunning</code>
+     * flag.
+     * 
+     * @param timeout the deadline for processing, relative to the time of this call. If
+     *            processing does not finish before the deadline, the returned future
+     *            fails with a {@link ProcessingException} caused by a
+     *            {@link TimeoutException} and processing is interrupted. Zero or
+     *            negative values mean no deadline.
+     * @param unit the unit of <code>timeout</code>
+     * @param attributes attributes to be used during processing, see
+     *            {@link #process(Map, Object...)}. The map must not be modified until the
+     *            returned future completes.
+     * @param processingComponentClassesOrIds classes or identifiers of components to
+     *            perform processing, see {@link #process(Map, Object...)}
+     * @return a future completed with the results of the processing or failed with the
+     *         exception thrown during processing
+     */
+    public ListenableFuture<ProcessingResult> processAsync(long timeout, TimeUnit unit,
+        final Map<String, Object> attributes,
+        final Object... processingComponentClassesOrIds)
+    {
+        checkClosed();
+
+        final SettableFuture<ProcessingResult> result = SettableFuture.create();
+        final Future<?> task = getAsyncExecutor().submit(new Runnable()
+        {
+            public void run()
+            {
+                if (result.isDone())
+                {
+                    return;
+                }
+
+                try
+                {
+                    result.set(process(attributes, processingComponentClassesOrIds));
+                }
+                catch (Throwable t)
+                {
+                    result.setException(t);
+                }
+            }
+        });
+
+        result.addListener(new Runnable()
+        {
+            public void run()
+            {
+                if (result.isCancelled())
+                {
+                    task.cancel(true);
+                }
+            }
+        }, MoreExecutors.sameThreadExecutor());
+
+        if (timeout > 0)
+        {
+            final long timeoutMillis = unit.toMillis(timeout);
+            final ScheduledFuture<?> deadline = getDeadlineScheduler().schedule(
+                new Runnable()
+                {
+                    public void run()
+                    {
+                        if (result.setException(new ProcessingException(
+                            "Processing deadline of " + timeoutMillis + " ms exceeded.",
+                            new TimeoutException())))
+                        {
+                            task.cancel(true);
+                        }
+                    }
+                }, timeout, unit);
+
+            result.addListener(new Runnable()
+            {
+                public void run()
+                {
+                    deadline.cancel(false);
+                }
+            }, MoreExecutors.sameThreadExecutor());
+        }
+
+        return result;
+    }
+
+    /**
+     * Sets the executor performing asynchronous processing. The executor will not be
+     * shut down when this controller is disposed. Must be called before the first call
+     * to {@link #processAsync(long, TimeUnit, Map, Object...)}.
+     * 
+     * @return this controller for convenience
+     */
+    public synchronized Controller setAsyncExecutor(ExecutorService executor)
+    {
+        if (asyncExecutor != null)
+        {
+            throw new IllegalStateException("Asynchronous executor already set.");
+        }
+
+        this.asyncExecutor = executor;
+        this.ownsAsyncExecutor = false;
+        return this;
+    }
+
+    private synchronized ExecutorService getAsyncExecutor()
+    {
+        if (asyncExecutor == null)
+        {
+            asyncExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("carrot2-async-%d").setDaemon(true).build());
+            ownsAsyncExecutor = true;
+        }
+        return asyncExecutor;
+    }
+
+    private synchronized ScheduledExecutorService getDeadlineScheduler()
+    {
+        if (deadlineScheduler == null)
+        {
+            deadlineScheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("carrot2-deadlines-%d")
+                    .setDaemon(true).build());
+        }
+        return deadlineScheduler;
+    }
+
     /**
      * Shuts down this controller. For proper shut down, make sure this method is called
      * after all threads left the processing methods. No calls processing will be
@@ -418,6 +615,18 @@ public final class Controller implements Closeable
         if (closed) return;
         try
         {
+            synchronized (this)
+            {
+                if (deadlineScheduler != null)
+                {
+                    deadlineScheduler.shutdownNow();
+                }
+                if (ownsAsyncExecutor)
+                {
+                    asyncExecutor.shutdown();
+                }
+            }
+
             if (this.context != null)
             {
                 componentManager.dispose();
@@ -539,44 +748,47 @@ public final class Controller implements Closeable
     final class ProcessingStatistics
     {
         /** Total queries processed (including erroneous) */
-        long totalQueries = 0;
+        final AtomicLong totalQueries = new AtomicLong();
 
         /** Queries that resulted in a processing exception */
-        long goodQueries = 0;
+        final AtomicLong goodQueries = new AtomicLong();
 
         /** Document source processing rolling average time */
-        RollingWindowAverage sourceTimeAverage = new RollingWindowAverage(
+        final RollingWindowAverage sourceTimeAverage = new RollingWindowAverage(
             5 * RollingWindowAverage.MINUTE, 10 * RollingWindowAverage.SECOND);
 
         /** Clustering algorithm processing rolling average time */
-        RollingWindowAverage algorithmTimeAverage = new RollingWindowAverage(
+        final RollingWindowAverage algorithmTimeAverage = new RollingWindowAverage(
             5 * RollingWindowAverage.MINUTE, 10 * RollingWindowAverage.SECOND);
 
         /** Total processing time rolling average time */
-        RollingWindowAverage totalTimeAverage = new RollingWindowAverage(
+        final RollingWindowAverage totalTimeAverage = new RollingWindowAverage(
             5 * RollingWindowAverage.MINUTE, 10 * RollingWindowAverage.SECOND);
 
         /**
-         * Updates the statistics
+         * Latencies of the components and of the stages of processing they report, since
+         * the controller was created
+         */
+        final StageLatencies stageLatencies = new StageLatencies();
+
+        /**
+         * Updates the statistics. Does not block, so that concurrent requests do not
+         * contend for the statistics.
          */
         void update(ProcessingResult processingResult)
         {
-            synchronized (this)
+            totalQueries.incrementAndGet();
+            if (processingResult != null)
             {
-                totalQueries++;
-                if (processingResult != null)
-                {
-                    goodQueries++;
-
-                    final Map<String, Object> attributes = processingResult
-                        .getAttributes();
-                    addTimeToAverage(attributes, AttributeNames.PROCESSING_TIME_SOURCE,
-                        sourceTimeAverage);
-                    addTimeToAverage(attributes,
-                        AttributeNames.PROCESSING_TIME_ALGORITHM, algorithmTimeAverage);
-                    addTimeToAverage(attributes, AttributeNames.PROCESSING_TIME_TOTAL,
-                        totalTimeAverage);
-                }
+                goodQueries.incrementAndGet();
+
+                final Map<String, Object> attributes = processingResult.getAttributes();
+                addTimeToAverage(attributes, AttributeNames.PROCESSING_TIME_SOURCE,
+                    sourceTimeAverage);
+                addTimeToAverage(attributes, AttributeNames.PROCESSING_TIME_ALGORITHM,
+                    algorithmTimeAverage);
+                addTimeToAverage(attributes, AttributeNames.PROCESSING_TIME_TOTAL,
+                    totalTimeAverage);
             }
         }
 
@@ -593,26 +805,34 @@ public final class Controller implements Closeable
                 extraStats = Collections.emptyMap();
             }
 
-            // The stats may be still a little off because synchronization does not
-            // affect component manager specific stats. Complete accuracy is not
-            // worth the extra synchronizations though.
-            synchronized (this)
-            {
-                return new ControllerStatistics(
-                    totalQueries,
-                    goodQueries,
-                    algorithmTimeAverage.getCurrentAverage(),
-                    algorithmTimeAverage.getUpdatesInWindow(),
-                    algorithmTimeAverage.getWindowSizeMillis(),
-                    sourceTimeAverage.getCurrentAverage(),
-                    sourceTimeAverage.getUpdatesInWindow(),
-                    sourceTimeAverage.getWindowSizeMillis(),
-                    totalTimeAverage.getCurrentAverage(),
-                    totalTimeAverage.getUpdatesInWindow(),
-                    totalTimeAverage.getWindowSizeMillis(),
-                    (Long) extraStats.get(CachingProcessingComponentManager.CACHE_MISSES),
-                    (Long) extraStats.get(CachingProcessingComponentManager.CACHE_HITS_TOTAL));
-            }
+            // The stats may be a little off because they are updated concurrently
+            // with reading. Complete accuracy is not worth synchronizing the updates.
+            return new ControllerStatistics(
+                totalQueries.get(),
+                goodQueries.get(),
+                algorithmTimeAverage.getCurrentAverage(),
+                algorithmTimeAverage.getUpdatesInWindow(),
+                algorithmTimeAverage.getWindowSizeMillis(),
+                sourceTimeAverage.getCurrentAverage(),
+                sourceTimeAverage.getUpdatesInWindow(),
+                sourceTimeAverage.getWindowSizeMillis(),
+                totalTimeAverage.getCurrentAverage(),
+                totalTimeAverage.getUpdatesInWindow(),
+                totalTimeAverage.getWindowSizeMillis(),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_MISSES),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_HITS_TOTAL),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_EVICTIONS),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_SIZE),
+                (Double) extraStats.get(CachingProcessingComponentManager.CACHE_LOAD_TIME_AVERAGE),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_COALESCED),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_COALESCING_TIMEOUTS),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_SECOND_LEVEL_HITS),
+                (Long) extraStats.get(CachingProcessingComponentManager.CACHE_SECOND_LEVEL_MISSES),
+                (Long) extraStats.get(PoolingProcessingComponentManager.POOL_BORROWS),
+                (Long) extraStats.get(PoolingProcessingComponentManager.POOL_RETURNS),
+                (Long) extraStats.get(PoolingProcessingComponentManager.POOL_MISSES),
+                (Long) extraStats.get(PoolingProcessingComponentManager.POOL_EVICTIONS),
+                ControllerStatistics.StageLatency.of(stageLatencies));
         }
 
         private void addTimeToAverage(Map<String, Object> attributes, String key,
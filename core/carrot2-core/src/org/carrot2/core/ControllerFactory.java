@@ -12,7 +12,10 @@
 
 package org.carrot2.core;
 
+import java.util.Map;
+
 import org.carrot2.util.annotations.AspectModified;
+import org.carrot2.util.pool.ConcurrentBoundedPool;
 import org.carrot2.util.pool.FixedSizePool;
 
 /**
@@ -97,6 +100,35 @@ public final class ControllerFactory
         return create(instancePoolSize);
     }
 
+    /**
+     * Creates a controller with processing component pooling but with no results caching.
+     * The returned controller will maintain an internal non-blocking, bounded pool of
+     * processing components. Unlike {@link #createPooling(int)}, borrowing a component
+     * never blocks: a new instance is created if no idle one is available. At most
+     * <code>maxIdleInstances</code> idle instances are kept for a single component
+     * class-ID pair and instances idle for longer than <code>maxIdleTimeMillis</code>
+     * are disposed of.
+     * <p>
+     * Use this controller in long-running applications handling many concurrent
+     * requests. Pool utilization counters are available in
+     * {@link Controller#getStatistics()}.
+     * </p>
+     * 
+     * @param maxIdleInstances Maximum number of idle instances kept for a single
+     *            component class-ID pair.
+     * @param maxIdleTimeMillis Time after which idle instances are disposed of, in
+     *            milliseconds, <code>0</code> to keep idle instances indefinitely.
+     * 
+     * @see #createConcurrent(int, long, Class...)
+     */
+    public static Controller createConcurrentPooling(int maxIdleInstances,
+        long maxIdleTimeMillis)
+    {
+        return new Controller(new PoolingProcessingComponentManager(
+            new ConcurrentBoundedPool<IProcessingComponent, String>(maxIdleInstances,
+                maxIdleTimeMillis)));
+    }
+
     /**
      * Creates a controller with no processing component pooling but with results caching.
      * The returned controller will maintain a cache of the processing results. For each
@@ -144,6 +176,117 @@ public final class ControllerFactory
         return create(true, cachedProcessingComponents);
     }
 
+    /**
+     * Creates a controller with processing component pooling and results caching with
+     * a separate cache for each class of cached components. Use this method to put the
+     * outputs of different components into caches of different sizes or expiration
+     * times, e.g. to give document sources and clustering algorithms separate memory
+     * budgets.
+     * 
+     * @param cacheSpecs classes of components whose output should be cached by the
+     *            controller mapped to the specifications of their caches, see
+     *            {@link CachingProcessingComponentManager#CachingProcessingComponentManager(IProcessingComponentManager, Map)}
+     *            for the details.
+     */
+    public static Controller createCachingPooling(
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs)
+    {
+        return create(true, cacheSpecs);
+    }
+
+    /**
+     * Creates a controller with processing component pooling and results caching, with
+     * a custom limit on how long requests wait for identical concurrent requests.
+     * 
+     * @param coalescingTimeoutMillis the maximum time a request waits for the processing
+     *            of an identical concurrent request, in milliseconds, see
+     *            {@link CachingProcessingComponentManager#DEFAULT_COALESCING_TIMEOUT_MILLIS}
+     * @param cachedProcessingComponents classes of components whose output should be cached
+     *            by the controller. If a superclass is provided here, e.g.
+     *            {@link IDocumentSource}, all its subclasses will be subject to caching.
+     *            If {@link IProcessingComponent} is provided here, output of all
+     *            components will be cached.
+     */
+    public static Controller createCachingPooling(long coalescingTimeoutMillis,
+        Class<? extends IProcessingComponent>... cachedProcessingComponents)
+    {
+        return new Controller(new CachingProcessingComponentManager(
+            new PoolingProcessingComponentManager(), coalescingTimeoutMillis,
+            cachedProcessingComponents));
+    }
+
+    /**
+     * Creates a controller with processing component pooling and a separate cache for
+     * each class of cached components, with a custom limit on how long requests wait for
+     * identical concurrent requests.
+     * 
+     * @param cacheSpecs classes of components whose output should be cached by the
+     *            controller mapped to the specifications of their caches, see
+     *            {@link CachingProcessingComponentManager#CachingProcessingComponentManager(IProcessingComponentManager, Map)}
+     *            for the details.
+     * @param coalescingTimeoutMillis the maximum time a request waits for the processing
+     *            of an identical concurrent request, in milliseconds, see
+     *            {@link CachingProcessingComponentManager#DEFAULT_COALESCING_TIMEOUT_MILLIS}
+     */
+    public static Controller createCachingPooling(
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs,
+        long coalescingTimeoutMillis)
+    {
+        return new Controller(new CachingProcessingComponentManager(
+            new PoolingProcessingComponentManager(), cacheSpecs, coalescingTimeoutMillis));
+    }
+
+    /**
+     * Creates a controller with processing component pooling, a separate in-memory cache
+     * for each class of cached components and a second-level cache, e.g. a
+     * {@link FileSecondLevelCache} that survives application restarts. Only the results
+     * of {@link IDocumentSource}s are stored in the second-level cache.
+     * 
+     * @param cacheSpecs classes of components whose output should be cached by the
+     *            controller mapped to the specifications of their caches, see
+     *            {@link CachingProcessingComponentManager#CachingProcessingComponentManager(IProcessingComponentManager, Map)}
+     *            for the details.
+     * @param coalescingTimeoutMillis the maximum time a request waits for the processing
+     *            of an identical concurrent request, in milliseconds, see
+     *            {@link CachingProcessingComponentManager#DEFAULT_COALESCING_TIMEOUT_MILLIS}
+     * @param secondLevelCache the cache to consult when a result is missing in the
+     *            in-memory cache, may be <code>null</code>
+     */
+    public static Controller createCachingPooling(
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs,
+        long coalescingTimeoutMillis, ISecondLevelCache secondLevelCache)
+    {
+        return new Controller(new CachingProcessingComponentManager(
+            new PoolingProcessingComponentManager(), cacheSpecs, coalescingTimeoutMillis,
+            secondLevelCache));
+    }
+
+    /**
+     * Creates a controller with the specified pooling settings and a separate cache for
+     * each class of cached components.
+     * 
+     * @param componentPooling if <code>true</code>, component pooling 
+     *      will be performed (soft pool), otherwise no component pool will be used.
+     * @param cacheSpecs classes of components whose output should be cached by the
+     *            controller mapped to the specifications of their caches, see
+     *            {@link CachingProcessingComponentManager#CachingProcessingComponentManager(IProcessingComponentManager, Map)}
+     *            for the details.
+     */
+    public static Controller create(boolean componentPooling,
+        Map<Class<? extends IProcessingComponent>, String> cacheSpecs)
+    {
+        final IProcessingComponentManager baseManager = 
+            (componentPooling 
+                ? new PoolingProcessingComponentManager()
+                : new SimpleProcessingComponentManager());
+
+        if (cacheSpecs.isEmpty())
+            return new Controller(baseManager);
+
+        return new Controller(new CachingProcessingComponentManager(baseManager,
+            cacheSpecs));
+    }
+
     /**
      * Creates a controller with the specified pooling and caching settings.
      * 
@@ -192,6 +335,31 @@ public final class ControllerFactory
         return new Controller(addCachingManager(baseManager, cachedProcessingComponents));
     }
     
+    /**
+     * Creates a controller with non-blocking, bounded pooling and the specified caching
+     * settings.
+     * 
+     * @param maxIdleInstances Maximum number of idle instances kept for a single
+     *            component class-ID pair.
+     * @param maxIdleTimeMillis Time after which idle instances are disposed of, in
+     *            milliseconds, <code>0</code> to keep idle instances indefinitely.
+     * @param cachedProcessingComponents classes of components whose output should be
+     *            cached by the controller. If a superclass is provided here, e.g.
+     *            {@link IDocumentSource}, all its subclasses will be subject to caching.
+     *            If {@link IProcessingComponent} is provided here, output of all
+     *            components will be cached.
+     */
+    public static Controller createConcurrent(int maxIdleInstances, long maxIdleTimeMillis,
+        Class<? extends IProcessingComponent>... cachedProcessingComponents)
+    {
+        final IProcessingComponentManager baseManager = 
+            new PoolingProcessingComponentManager(
+                new ConcurrentBoundedPool<IProcessingComponent, String>(
+                    maxIdleInstances, maxIdleTimeMillis));
+
+        return new Controller(addCachingManager(baseManager, cachedProcessingComponents));
+    }
+
     /**
      * Adds caching manager wrapper if caching is requested.
      */
@@ -12,12 +12,23 @@
 
 package org.carrot2.core;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+import org.carrot2.util.LatencyHistogram;
+import org.carrot2.util.StageLatencies;
 import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.ElementList;
 import org.simpleframework.xml.Root;
 import org.simpleframework.xml.core.Persister;
 
+import com.google.common.collect.Lists;
+
 /**
  * Provides some statistics about processing performed in a {@link Controller}.
  */
@@ -107,12 +118,158 @@ public final class ControllerStatistics
     @Attribute(name = "cache-hits-total", required = false)
     public final Long cacheHitsTotal;
 
+    /**
+     * Number of cache entries evicted due to their size or expiration. May be null if the
+     * controller does not perform caching.
+     */
+    @Attribute(name = "cache-evictions", required = false)
+    public final Long cacheEvictions;
+
+    /**
+     * Number of entries currently in the cache. May be null if the controller does not
+     * perform caching.
+     */
+    @Attribute(name = "cache-size", required = false)
+    public final Long cacheSize;
+
+    /**
+     * Average time of producing a value missing in the cache, in milliseconds. May be
+     * null if the controller does not perform caching.
+     */
+    @Attribute(name = "cache-load-time-average", required = false)
+    public final Double cacheLoadTimeAverage;
+
+    /**
+     * Number of requests that, instead of processing, received the result of an identical
+     * concurrent request. May be null if the controller does not perform caching.
+     */
+    @Attribute(name = "cache-coalesced", required = false)
+    public final Long cacheCoalesced;
+
+    /**
+     * Number of requests that stopped waiting for the result of an identical concurrent
+     * request because of the coalescing timeout. May be null if the controller does not
+     * perform caching.
+     */
+    @Attribute(name = "cache-coalescing-timeouts", required = false)
+    public final Long cacheCoalescingTimeouts;
+
+    /**
+     * Number of in-memory cache misses served from the second-level cache. May be null if
+     * the controller does not use a second-level cache.
+     */
+    @Attribute(name = "cache-second-level-hits", required = false)
+    public final Long cacheSecondLevelHits;
+
+    /**
+     * Number of in-memory cache misses not served from the second-level cache. May be
+     * null if the controller does not use a second-level cache.
+     */
+    @Attribute(name = "cache-second-level-misses", required = false)
+    public final Long cacheSecondLevelMisses;
+
+    /**
+     * Number of component instances borrowed from the pool. May be null if the controller
+     * does not perform pooling or its pool does not keep statistics.
+     */
+    @Attribute(name = "pool-borrows", required = false)
+    public final Long poolBorrows;
+
+    /**
+     * Number of component instances returned to the pool. May be null if the controller
+     * does not perform pooling or its pool does not keep statistics.
+     */
+    @Attribute(name = "pool-returns", required = false)
+    public final Long poolReturns;
+
+    /**
+     * Number of borrow requests that required creating a new component instance. May be
+     * null if the controller does not perform pooling or its pool does not keep
+     * statistics.
+     */
+    @Attribute(name = "pool-misses", required = false)
+    public final Long poolMisses;
+
+    /**
+     * Number of idle component instances disposed of by the pool. May be null if the
+     * controller does not perform pooling or its pool does not keep statistics.
+     */
+    @Attribute(name = "pool-evictions", required = false)
+    public final Long poolEvictions;
+
+    /**
+     * Latencies of processing stages since the controller was created, sorted by stage
+     * name. Stages include {@link Controller#STAGE_SOURCE},
+     * {@link Controller#STAGE_ALGORITHM}, {@link Controller#STAGE_TOTAL} and the stages
+     * reported by the clustering algorithms, e.g. preprocessing steps or matrix
+     * factorization.
+     */
+    @ElementList(name = "stage-latencies", entry = "stage", required = false)
+    public final List<StageLatency> stageLatencies;
+
+    /**
+     * Latency percentiles of a single processing stage.
+     */
+    @Root(name = "stage")
+    public static final class StageLatency
+    {
+        /** Name of the stage. */
+        @Attribute(name = "name")
+        public final String name;
+
+        /** Number of times the stage was performed. */
+        @Attribute(name = "count")
+        public final long count;
+
+        /** Total time spent in the stage, in milliseconds. */
+        @Attribute(name = "sum")
+        public final double sum;
+
+        /** Median time of the stage, in milliseconds. */
+        @Attribute(name = "p50")
+        public final double p50;
+
+        /** 95th percentile of the time of the stage, in milliseconds. */
+        @Attribute(name = "p95")
+        public final double p95;
+
+        /** 99th percentile of the time of the stage, in milliseconds. */
+        @Attribute(name = "p99")
+        public final double p99;
+
+        StageLatency(String name, LatencyHistogram histogram)
+        {
+            final long [] percentiles = histogram.getValuesAtPercentiles(50, 95, 99);
+            this.name = name;
+            this.count = histogram.getCount();
+            this.sum = histogram.getSum() / 1e6;
+            this.p50 = percentiles[0] / 1e6;
+            this.p95 = percentiles[1] / 1e6;
+            this.p99 = percentiles[2] / 1e6;
+        }
+
+        static List<StageLatency> of(StageLatencies latencies)
+        {
+            final List<StageLatency> result = Lists.newArrayList();
+            for (Map.Entry<String, LatencyHistogram> entry : latencies.getHistograms()
+                .entrySet())
+            {
+                result.add(new StageLatency(entry.getKey(), entry.getValue()));
+            }
+            return result;
+        }
+    }
+
     ControllerStatistics(long totalQueries, long goodQueries,
         double algorithmTimeAverageInWindow, long algorithmTimeMeasurementsInWindow,
         long algorithmTimeWindowSize, double sourceTimeAverageInWindow,
         long sourceTimeMeasurementsInWindow, long sourceTimeWindowSize,
         double totalTimeAverageInWindow, long totalTimeMeasurementsInWindow,
-        long totalTimeWindowSize, Long cacheMisses, Long cacheHitsTotal)
+        long totalTimeWindowSize, Long cacheMisses, Long cacheHitsTotal,
+        Long cacheEvictions, Long cacheSize, Double cacheLoadTimeAverage,
+        Long cacheCoalesced, Long cacheCoalescingTimeouts, Long cacheSecondLevelHits,
+        Long cacheSecondLevelMisses, Long poolBorrows, Long poolReturns, Long poolMisses,
+        Long poolEvictions, List<StageLatency> stageLatencies)
     {
         this.totalQueries = totalQueries;
         this.goodQueries = goodQueries;
@@ -131,6 +288,20 @@ public final class ControllerStatistics
 
         this.cacheMisses = cacheMisses;
         this.cacheHitsTotal = cacheHitsTotal;
+        this.cacheEvictions = cacheEvictions;
+        this.cacheSize = cacheSize;
+        this.cacheLoadTimeAverage = cacheLoadTimeAverage;
+        this.cacheCoalesced = cacheCoalesced;
+        this.cacheCoalescingTimeouts = cacheCoalescingTimeouts;
+        this.cacheSecondLevelHits = cacheSecondLevelHits;
+        this.cacheSecondLevelMisses = cacheSecondLevelMisses;
+
+        this.poolBorrows = poolBorrows;
+        this.poolReturns = poolReturns;
+        this.poolMisses = poolMisses;
+        this.poolEvictions = poolEvictions;
+
+        this.stageLatencies = Collections.unmodifiableList(stageLatencies);
     }
 
     /**
@@ -140,4 +311,62 @@ public final class ControllerStatistics
     {
         new Persister().write(this, stream);
     }
+
+    /**
+     * Serializes query counts, cache statistics and stage latencies in the Prometheus
+     * text exposition format. Latencies are exposed as a summary in seconds.
+     */
+    public void serializePrometheus(Writer writer) throws IOException
+    {
+        counter(writer, "carrot2_queries_total",
+            "Queries handled, including queries resulting in an exception.", totalQueries);
+        counter(writer, "carrot2_good_queries_total",
+            "Queries handled without an exception.", goodQueries);
+        counter(writer, "carrot2_cache_hits_total", "Requests served from cache.",
+            cacheHitsTotal);
+        counter(writer, "carrot2_cache_misses_total",
+            "Requests that generated cache misses.", cacheMisses);
+        counter(writer, "carrot2_cache_evictions_total", "Cache entries evicted.",
+            cacheEvictions);
+
+        if (!stageLatencies.isEmpty())
+        {
+            final String name = "carrot2_stage_latency_seconds";
+            writer.write("# HELP " + name + " Latencies of processing stages.\n");
+            writer.write("# TYPE " + name + " summary\n");
+            for (StageLatency stage : stageLatencies)
+            {
+                final String label = "stage=\"" + escapeLabelValue(stage.name) + "\"";
+                sample(writer, name + "{" + label + ",quantile=\"0.5\"}", stage.p50 / 1e3);
+                sample(writer, name + "{" + label + ",quantile=\"0.95\"}", stage.p95 / 1e3);
+                sample(writer, name + "{" + label + ",quantile=\"0.99\"}", stage.p99 / 1e3);
+                sample(writer, name + "_sum{" + label + "}", stage.sum / 1e3);
+                writer.write(name + "_count{" + label + "} " + stage.count + "\n");
+            }
+        }
+        writer.flush();
+    }
+
+    private static void counter(Writer writer, String name, String help, Long value)
+        throws IOException
+    {
+        if (value != null)
+        {
+            writer.write("# HELP " + name + " " + help + "\n");
+            writer.write("# TYPE " + name + " counter\n");
+            writer.write(name + " " + value + "\n");
+        }
+    }
+
+    private static void sample(Writer writer, String name, double value)
+        throws IOException
+    {
+        writer.write(name + " " + String.format(Locale.ROOT, "%.9f", value) + "\n");
+    }
+
+    private static String escapeLabelValue(String value)
+    {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n",
+            "\\n");
+    }
 }
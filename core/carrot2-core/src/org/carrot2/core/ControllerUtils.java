@@ -64,7 +64,6 @@ final class ControllerUtils
     /**
      * Performs all life cycle actions required before processing starts.
      */
-    @SuppressWarnings("unchecked")
     public static void beforeProcessing(IProcessingComponent processingComponent,
         Map<String, Object> attributes) throws ProcessingException
     {
@@ -73,8 +72,7 @@ final class ControllerUtils
             // Check if we need to do binding.
             if (processingComponent.getClass().getAnnotation(Bindable.class) != null)
             {
-                AttributeBinder.set(processingComponent, attributes, Input.class,
-                    Processing.class);
+                ProcessingAttributeBinder.set(processingComponent, attributes);
             }
 
             processingComponent.beforeProcessing();
@@ -114,7 +112,6 @@ final class ControllerUtils
     /**
      * Perform all life cycle actions after processing is completed.
      */
-    @SuppressWarnings("unchecked")
     public static void afterProcessing(IProcessingComponent processingComponent,
         Map<String, Object> attributes)
     {
@@ -126,8 +123,8 @@ final class ControllerUtils
             // Check if we need to do binding.
             if (processingComponent.getClass().getAnnotation(Bindable.class) != null)
             {
-                AttributeBinder.get(processingComponent, outputAttributesWithNulls,
-                    Output.class, Processing.class);
+                ProcessingAttributeBinder.get(processingComponent,
+                    outputAttributesWithNulls);
             }
             attributes.putAll(Maps.filterValues(outputAttributesWithNulls,
                 Predicates.notNull()));
@@ -0,0 +1,385 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.carrot2.core.attribute.AttributeNames;
+import org.carrot2.util.CloseableUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Maps;
+
+/**
+ * A {@link ISecondLevelCache} that stores processing results in files in a local
+ * directory, so that they survive application restarts.
+ * <p>
+ * Each result is stored in a separate file named after its key. The file contains a
+ * header with the length and the CRC32 checksum of the compressed XML serialization of
+ * the result (see {@link ProcessingResult#serialize(OutputStream)}). Files that fail
+ * validation are deleted and treated as missing. The total size of the files is bounded,
+ * least recently used files are deleted first. Access times are recorded as file
+ * modification times, so that the order is preserved across restarts.
+ * </p>
+ * <p>
+ * Only results whose attributes can be serialized to XML are stored, other results are
+ * silently skipped. Multiple instances must not share the same directory.
+ * </p>
+ */
+public class FileSecondLevelCache implements ISecondLevelCache
+{
+    private final static Logger logger = LoggerFactory.getLogger(FileSecondLevelCache.class);
+
+    /** Extension of result files. */
+    static final String EXTENSION = ".c2r";
+
+    /** File header: magic, format version, checksum, payload length. */
+    private static final int MAGIC = 0xC2CAC4E1;
+    private static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 4 + 4 + 8 + 4;
+
+    /** The directory to store the files in. */
+    private final File directory;
+
+    /** The maximum total size of the result files, in bytes. */
+    private final long maxSizeBytes;
+
+    /** Keys of the stored results mapped to file sizes, in access order. */
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<String, Long>(
+        16, 0.75f, true);
+
+    /** Total size of the files in the {@link #index}, guarded by the index. */
+    private long sizeBytes;
+
+    /**
+     * Creates a cache storing results in the provided directory. Results stored in the
+     * directory by previous instances will be available from this instance.
+     *
+     * @param directory the directory to store the results in, will be created if it
+     *            does not exist
+     * @param maxSizeBytes the maximum total size of the stored results, in bytes
+     */
+    public FileSecondLevelCache(File directory, long maxSizeBytes)
+    {
+        if (maxSizeBytes <= 0)
+        {
+            throw new IllegalArgumentException("Maximum size must be greater than zero: "
+                + maxSizeBytes);
+        }
+
+        if (!directory.isDirectory() && !directory.mkdirs())
+        {
+            throw new IllegalArgumentException("Could not create cache directory: "
+                + directory.getAbsolutePath());
+        }
+
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+
+        loadIndex();
+    }
+
+    /**
+     * Indexes the files left by previous instances, least recently used first.
+     */
+    private void loadIndex()
+    {
+        final File [] files = directory.listFiles(new FileFilter()
+        {
+            public boolean accept(File file)
+            {
+                return file.isFile() && file.getName().endsWith(EXTENSION);
+            }
+        });
+
+        Arrays.sort(files, new Comparator<File>()
+        {
+            public int compare(File f1, File f2)
+            {
+                final long m1 = f1.lastModified();
+                final long m2 = f2.lastModified();
+                return m1 < m2 ? -1 : (m1 == m2 ? 0 : 1);
+            }
+        });
+
+        synchronized (index)
+        {
+            for (File file : files)
+            {
+                final String name = file.getName();
+                index.put(name.substring(0, name.length() - EXTENSION.length()),
+                    file.length());
+                sizeBytes += file.length();
+            }
+            evict();
+        }
+    }
+
+    @Override
+    public Map<String, Object> get(String key)
+    {
+        checkKey(key);
+        synchronized (index)
+        {
+            if (!index.containsKey(key))
+            {
+                return null;
+            }
+            // Marks the entry as recently used.
+            index.get(key);
+        }
+
+        final File file = fileFor(key);
+        try
+        {
+            final byte [] payload = read(file);
+            if (payload == null)
+            {
+                logger.warn("Removing invalid cache file: " + file.getAbsolutePath());
+                remove(key);
+                return null;
+            }
+
+            file.setLastModified(System.currentTimeMillis());
+            return deserialize(payload);
+        }
+        catch (Exception e)
+        {
+            logger.warn("Could not read cache file: " + file.getAbsolutePath(), e);
+            remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, Map<String, Object> attributes)
+    {
+        checkKey(key);
+
+        final byte [] payload;
+        try
+        {
+            payload = serialize(attributes);
+        }
+        catch (Exception e)
+        {
+            // Attributes not supported by the XML serialization.
+            logger.debug("Could not serialize results for caching", e);
+            return;
+        }
+
+        final long length = HEADER_LENGTH + payload.length;
+        if (length > maxSizeBytes)
+        {
+            return;
+        }
+
+        final File file = fileFor(key);
+        final File temp = new File(directory, key + "." + Thread.currentThread().getId()
+            + ".tmp");
+        try
+        {
+            write(temp, payload);
+            if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file)))
+            {
+                throw new IOException("Could not rename " + temp.getAbsolutePath());
+            }
+        }
+        catch (IOException e)
+        {
+            logger.warn("Could not write cache file: " + file.getAbsolutePath(), e);
+            temp.delete();
+            return;
+        }
+
+        synchronized (index)
+        {
+            final Long previous = index.put(key, length);
+            if (previous != null)
+            {
+                sizeBytes -= previous;
+            }
+            sizeBytes += length;
+            evict();
+        }
+    }
+
+    /**
+     * Returns the total size of the stored results, in bytes.
+     */
+    public long getSizeBytes()
+    {
+        synchronized (index)
+        {
+            return sizeBytes;
+        }
+    }
+
+    /**
+     * Returns the number of the stored results.
+     */
+    public int size()
+    {
+        synchronized (index)
+        {
+            return index.size();
+        }
+    }
+
+    /**
+     * Deletes least recently used files until the size limit is met. Must be called with
+     * the index lock held.
+     */
+    private void evict()
+    {
+        final Iterator<Map.Entry<String, Long>> i = index.entrySet().iterator();
+        while (sizeBytes > maxSizeBytes && i.hasNext())
+        {
+            final Map.Entry<String, Long> entry = i.next();
+            i.remove();
+            sizeBytes -= entry.getValue();
+            fileFor(entry.getKey()).delete();
+        }
+    }
+
+    private void remove(String key)
+    {
+        synchronized (index)
+        {
+            final Long length = index.remove(key);
+            if (length != null)
+            {
+                sizeBytes -= length;
+                fileFor(key).delete();
+            }
+        }
+    }
+
+    private File fileFor(String key)
+    {
+        return new File(directory, key + EXTENSION);
+    }
+
+    private static void checkKey(String key)
+    {
+        for (int i = 0; i < key.length(); i++)
+        {
+            final char c = key.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f')))
+            {
+                throw new IllegalArgumentException("Keys must be hexadecimal: " + key);
+            }
+        }
+    }
+
+    /**
+     * Reads and validates the payload of a result file. Returns <code>null</code> if the
+     * file is corrupted.
+     */
+    private static byte [] read(File file) throws IOException
+    {
+        final DataInputStream is = new DataInputStream(new BufferedInputStream(
+            new FileInputStream(file)));
+        try
+        {
+            if (file.length() < HEADER_LENGTH || is.readInt() != MAGIC
+                || is.readInt() != VERSION)
+            {
+                return null;
+            }
+
+            final long checksum = is.readLong();
+            final int length = is.readInt();
+            if (length != file.length() - HEADER_LENGTH)
+            {
+                return null;
+            }
+
+            final byte [] payload = new byte [length];
+            is.readFully(payload);
+
+            final CRC32 crc = new CRC32();
+            crc.update(payload);
+            return crc.getValue() == checksum ? payload : null;
+        }
+        finally
+        {
+            CloseableUtils.close(is);
+        }
+    }
+
+    private static void write(File file, byte [] payload) throws IOException
+    {
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        final DataOutputStream os = new DataOutputStream(new BufferedOutputStream(
+            new FileOutputStream(file)));
+        try
+        {
+            os.writeInt(MAGIC);
+            os.writeInt(VERSION);
+            os.writeLong(crc.getValue());
+            os.writeInt(payload.length);
+            os.write(payload);
+        }
+        finally
+        {
+            CloseableUtils.close(os);
+        }
+    }
+
+    private static byte [] serialize(Map<String, Object> attributes) throws Exception
+    {
+        // ProcessingResult wraps document and cluster lists and assigns identifiers
+        // (which the controller would do anyway), keep the original map intact.
+        final ProcessingResult result = new ProcessingResult(
+            Maps.newHashMap(attributes));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final GZIPOutputStream os = new GZIPOutputStream(bytes);
+        result.serialize(os);
+        os.close();
+        return bytes.toByteArray();
+    }
+
+    private static Map<String, Object> deserialize(byte [] payload) throws Exception
+    {
+        final GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(payload));
+        final Map<String, Object> attributes;
+        try
+        {
+            attributes = Maps.newHashMap(ProcessingResult.deserialize(is).getAttributes());
+        }
+        finally
+        {
+            CloseableUtils.close(is);
+        }
+
+        // Deserialization always sets these, even if they were not there originally.
+        for (String key : new String []
+        {
+            AttributeNames.QUERY, AttributeNames.DOCUMENTS, AttributeNames.CLUSTERS
+        })
+        {
+            if (attributes.get(key) == null)
+            {
+                attributes.remove(key);
+            }
+        }
+        return attributes;
+    }
+}
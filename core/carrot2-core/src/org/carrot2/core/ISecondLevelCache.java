@@ -0,0 +1,50 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.util.Map;
+
+/**
+ * A second-level store of processing results consulted by the
+ * {@link CachingProcessingComponentManager} when a result is missing in its in-memory
+ * cache. Unlike the in-memory cache, a second-level cache may outlive the controller (e.g.
+ * store results on disk so that they survive application restarts). Only results of
+ * {@link IDocumentSource}s are stored in the second-level cache.
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ *
+ * @see FileSecondLevelCache
+ */
+public interface ISecondLevelCache
+{
+    /**
+     * Returns the output attributes stored under the provided key or <code>null</code>
+     * if there are none (or they could not be read).
+     *
+     * @param key a stable fingerprint of the component and its input attributes,
+     *            consisting of lowercase hexadecimal digits only
+     */
+    public Map<String, Object> get(String key);
+
+    /**
+     * Stores the output attributes under the provided key. Implementations may skip
+     * values they cannot store (e.g. attributes of unsupported types or too large
+     * results).
+     *
+     * @param key a stable fingerprint of the component and its input attributes,
+     *            consisting of lowercase hexadecimal digits only
+     * @param attributes output attributes to store. The map must not be modified.
+     */
+    public void put(String key, Map<String, Object> attributes);
+}
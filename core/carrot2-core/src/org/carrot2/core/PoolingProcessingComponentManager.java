@@ -36,6 +36,7 @@ import org.carrot2.util.attribute.AttributeBindingException;
 import org.carrot2.util.attribute.BindableUtils;
 import org.carrot2.util.attribute.Input;
 import org.carrot2.util.attribute.Output;
+import org.carrot2.util.pool.ConcurrentBoundedPool;
 import org.carrot2.util.pool.IActivationListener;
 import org.carrot2.util.pool.IDisposalListener;
 import org.carrot2.util.pool.IInstantiationListener;
@@ -53,7 +54,8 @@ import com.google.common.collect.Maps;
 /**
  * An {@link IProcessingComponentManager} that pools instances of processing components.
  */
-public class PoolingProcessingComponentManager implements IProcessingComponentManager
+public class PoolingProcessingComponentManager implements IProcessingComponentManager,
+    Controller.IControllerStatisticsProvider
 {
     /** Controller context */
     private IControllerContext context;
@@ -76,6 +78,12 @@ public class PoolingProcessingComponentManager implements IProcessingComponentMa
      */
     private ConcurrentHashMap<Pair<Class<? extends IProcessingComponent>, String>, Map<String, Object>> initOutputAttributes = new ConcurrentHashMap<Pair<Class<? extends IProcessingComponent>, String>, Map<String, Object>>();
 
+    /** Pool statistics keys. */
+    static final String POOL_BORROWS = "pool.borrows";
+    static final String POOL_RETURNS = "pool.returns";
+    static final String POOL_MISSES = "pool.misses";
+    static final String POOL_EVICTIONS = "pool.evictions";
+
     /**
      * Creates a new {@link PoolingProcessingComponentManager} using the default pool
      * implementation {@link SoftUnboundedPool}).
@@ -163,6 +171,21 @@ public class PoolingProcessingComponentManager implements IProcessingComponentMa
         componentPool.dispose();
     }
 
+    public Map<String, Object> getStatistics()
+    {
+        // Only the concurrent pool keeps track of its utilization.
+        final Map<String, Object> stats = Maps.newHashMap();
+        if (componentPool instanceof ConcurrentBoundedPool<?, ?>)
+        {
+            final ConcurrentBoundedPool<?, ?> pool = (ConcurrentBoundedPool<?, ?>) componentPool;
+            stats.put(POOL_BORROWS, pool.getBorrowCount());
+            stats.put(POOL_RETURNS, pool.getReturnCount());
+            stats.put(POOL_MISSES, pool.getMissCount());
+            stats.put(POOL_EVICTIONS, pool.getEvictionCount());
+        }
+        return stats;
+    }
+
     /**
      * Initializes newly created component instances, remembers attribute values so that
      * they can be reset after the component gets returned to the pool.
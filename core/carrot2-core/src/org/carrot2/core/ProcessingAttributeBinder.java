@@ -0,0 +1,362 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+
+import org.carrot2.core.attribute.Processing;
+import org.carrot2.util.attribute.*;
+import org.carrot2.util.attribute.constraint.ConstraintValidator;
+import org.carrot2.util.attribute.constraint.IsConstraint;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Primitives;
+
+/**
+ * Binds {@link Input} {@link Processing} attributes to and collects {@link Output}
+ * {@link Processing} attributes from processing components with the same semantics as
+ * {@link AttributeBinder}, but using binding plans computed once per component class:
+ * arrays of accessible fields with their keys and annotations. This avoids the field
+ * lookups and annotation scans {@link AttributeBinder} performs on every call.
+ * <p>
+ * Plans are only used for values that {@link AttributeBinder} would assign without
+ * conversions: instances of the field's type other than {@link String}s bound to
+ * non-{@link String} fields, {@link Class}es and {@link IObjectFactory}s, satisfying the
+ * field's constraints. In all other cases, including all errors, binding of the whole
+ * component is delegated to {@link AttributeBinder}, which reports errors exactly as
+ * before. The same happens for classes not yet bound by {@link AttributeBinder}, so plans
+ * are only computed for classes that passed its consistency checks.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+final class ProcessingAttributeBinder
+{
+    /** Binding plans of classes, {@link #NOT_BINDABLE} for non-{@link Bindable} classes. */
+    private static final ConcurrentMap<Class<?>, FieldPlan []> plans = Maps
+        .newConcurrentMap();
+
+    private static final FieldPlan [] NOT_BINDABLE = new FieldPlan [0];
+
+    private ProcessingAttributeBinder()
+    {
+        // no instances.
+    }
+
+    /**
+     * Binds {@link Input} {@link Processing} attributes to a {@link Bindable} component
+     * and its {@link Bindable} fields, like
+     * {@link AttributeBinder#set(Object, Map, Class...)} does.
+     */
+    @SuppressWarnings("unchecked")
+    static void set(Object component, Map<String, Object> attributes)
+        throws InstantiationException, AttributeBindingException
+    {
+        if (!trySet(component, attributes, Sets.newHashSet()))
+        {
+            AttributeBinder.set(component, attributes, Input.class, Processing.class);
+            compile(component);
+        }
+    }
+
+    /**
+     * Collects {@link Output} {@link Processing} attributes of a {@link Bindable}
+     * component and its {@link Bindable} fields, like
+     * {@link AttributeBinder#get(Object, Map, Class...)} does.
+     */
+    @SuppressWarnings("unchecked")
+    static void get(Object component, Map<String, Object> attributes)
+        throws InstantiationException, AttributeBindingException
+    {
+        if (!tryGet(component, attributes, new HashMap<String, Integer>(), 0,
+            Sets.newHashSet()))
+        {
+            AttributeBinder.get(component, attributes, Output.class, Processing.class);
+        }
+    }
+
+    /**
+     * Sets attributes of <code>object</code> and its nested components, returns
+     * <code>false</code> if the binding must be delegated to {@link AttributeBinder}.
+     * Values set before returning <code>false</code> are the ones
+     * {@link AttributeBinder} would set, so they are simply set again.
+     */
+    private static boolean trySet(Object object, Map<String, Object> attributes,
+        Set<Object> bound)
+    {
+        final FieldPlan [] fields = plans.get(object.getClass());
+        if (fields == null || fields == NOT_BINDABLE || !bound.add(object))
+        {
+            return false;
+        }
+
+        try
+        {
+            for (FieldPlan field : fields)
+            {
+                if (field.input && !field.set(object, attributes))
+                {
+                    return false;
+                }
+
+                if (field.nestable)
+                {
+                    final Object value = field.field.get(object);
+                    if (value != null && isBindable(value.getClass())
+                        && !trySet(value, attributes, bound))
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        catch (IllegalAccessException e)
+        {
+            return false;
+        }
+        catch (IllegalArgumentException e)
+        {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Collects attributes of <code>object</code> and its nested components, returns
+     * <code>false</code> if collecting must be delegated to {@link AttributeBinder}. As
+     * in {@link AttributeBinder}, the value of the least nested field wins if more than
+     * one field has the same key.
+     */
+    private static boolean tryGet(Object object, Map<String, Object> attributes,
+        Map<String, Integer> levels, int level, Set<Object> bound)
+    {
+        final FieldPlan [] fields = plans.get(object.getClass());
+        if (fields == null || fields == NOT_BINDABLE || !bound.add(object))
+        {
+            return false;
+        }
+
+        try
+        {
+            for (FieldPlan field : fields)
+            {
+                if (field.output)
+                {
+                    final Integer previous = levels.get(field.key);
+                    if (previous == null || previous > level)
+                    {
+                        levels.put(field.key, level);
+                        attributes.put(field.key, field.field.get(object));
+                    }
+                }
+
+                if (field.nestable)
+                {
+                    final Object value = field.field.get(object);
+                    if (value != null && isBindable(value.getClass())
+                        && !tryGet(value, attributes, levels, level + 1, bound))
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        catch (IllegalAccessException e)
+        {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes plans for <code>object</code> and its nested components after they have
+     * been successfully bound by {@link AttributeBinder}.
+     */
+    private static void compile(Object object)
+    {
+        final Class<?> clazz = object.getClass();
+        FieldPlan [] fields = plans.get(clazz);
+        if (fields == null)
+        {
+            fields = compile(clazz);
+            if (fields == null)
+            {
+                return;
+            }
+            plans.putIfAbsent(clazz, fields);
+        }
+
+        for (FieldPlan field : fields)
+        {
+            if (field.nestable)
+            {
+                try
+                {
+                    final Object value = field.field.get(object);
+                    if (value != null && isBindable(value.getClass()))
+                    {
+                        compile(value);
+                    }
+                }
+                catch (IllegalAccessException e)
+                {
+                    // Not possible for accessible fields, the class will just not be planned.
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the plan of a {@link Bindable} class, fields are listed in the order in which
+     * {@link AttributeBinder} visits them. Returns <code>null</code> if the class cannot
+     * be planned.
+     */
+    private static FieldPlan [] compile(Class<?> clazz)
+    {
+        final List<FieldPlan> fields = new ArrayList<FieldPlan>();
+        final Set<String> outputKeys = new HashSet<String>();
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass())
+        {
+            if (c.getAnnotation(Bindable.class) == null)
+            {
+                continue;
+            }
+
+            for (Field field : c.getDeclaredFields())
+            {
+                try
+                {
+                    field.setAccessible(true);
+                }
+                catch (SecurityException e)
+                {
+                    return null;
+                }
+
+                final FieldPlan plan = new FieldPlan(field);
+                if (plan.output && !outputKeys.add(plan.key))
+                {
+                    // AttributeBinder fails on duplicate keys within one instance.
+                    return null;
+                }
+                fields.add(plan);
+            }
+        }
+        return fields.toArray(new FieldPlan [fields.size()]);
+    }
+
+    private static boolean isBindable(Class<?> clazz)
+    {
+        FieldPlan [] fields = plans.get(clazz);
+        if (fields == null && clazz.getAnnotation(Bindable.class) == null)
+        {
+            plans.putIfAbsent(clazz, NOT_BINDABLE);
+            return false;
+        }
+        return fields != NOT_BINDABLE;
+    }
+
+    /**
+     * Binding information about one field of a {@link Bindable} class.
+     */
+    private static final class FieldPlan
+    {
+        final Field field;
+        final String key;
+
+        /** Field's type, wrapped if primitive. */
+        final Class<?> type;
+
+        /** Field's annotations, only if any of them is a constraint. */
+        final Annotation [] constraints;
+
+        final boolean input;
+        final boolean output;
+        final boolean required;
+
+        /** <code>true</code> if the field can hold a {@link Bindable} component. */
+        final boolean nestable;
+
+        FieldPlan(Field field)
+        {
+            this.field = field;
+            this.key = BindableUtils.getKey(field);
+            this.type = Primitives.wrap(field.getType());
+
+            final boolean processing = field.getAnnotation(Processing.class) != null;
+            this.input = processing && field.getAnnotation(Input.class) != null;
+            this.output = processing && field.getAnnotation(Output.class) != null;
+            this.required = field.getAnnotation(Required.class) != null;
+            this.nestable = !field.getType().isPrimitive();
+
+            final Annotation [] annotations = field.getAnnotations();
+            Annotation [] constraints = null;
+            for (Annotation annotation : annotations)
+            {
+                if (annotation.annotationType().getAnnotation(IsConstraint.class) != null)
+                {
+                    constraints = annotations;
+                    break;
+                }
+            }
+            this.constraints = constraints;
+        }
+
+        /**
+         * Sets the field's value, returns <code>false</code> if {@link AttributeBinder}
+         * would convert the value or fail.
+         */
+        boolean set(Object object, Map<String, Object> attributes)
+            throws IllegalAccessException
+        {
+            final Object value = attributes.get(key);
+            if (value == null)
+            {
+                if (!attributes.containsKey(key))
+                {
+                    return !required || field.get(object) != null;
+                }
+                if (required || field.getType().isPrimitive())
+                {
+                    return false;
+                }
+                field.set(object, null);
+                return true;
+            }
+
+            if (!type.isInstance(value) || value instanceof Class<?>
+                || value instanceof IObjectFactory<?>
+                || (value instanceof String && type != String.class)
+                || Modifier.isFinal(field.getModifiers()))
+            {
+                return false;
+            }
+
+            if (constraints != null
+                && ConstraintValidator.isMet(value, constraints).length > 0)
+            {
+                return false;
+            }
+
+            field.set(object, value);
+            return true;
+        }
+    }
+}
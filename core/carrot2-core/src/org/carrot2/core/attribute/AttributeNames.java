@@ -65,6 +65,21 @@ public final class AttributeNames
      */
     public static final String PROCESSING_TIME_ALGORITHM = "processing-time-algorithm";
 
+    /**
+     * @see CommonAttributesDescriptor.Keys#PROCESSING_TIME_BUDGET
+     */
+    public static final String PROCESSING_TIME_BUDGET = "processing-time-budget";
+
+    /**
+     * @see CommonAttributesDescriptor.Keys#PROCESSING_TIME_BUDGET_POLICY
+     */
+    public static final String PROCESSING_TIME_BUDGET_POLICY = "processing-time-budget-policy";
+
+    /**
+     * @see CommonAttributesDescriptor.Keys#PROCESSING_DEGRADATIONS
+     */
+    public static final String PROCESSING_DEGRADATIONS = "processing-degradations";
+
     /**
      * @see CommonAttributesDescriptor.Keys#PROCESSING_RESULT_TITLE
      */
@@ -15,6 +15,7 @@ package org.carrot2.core.attribute;
 import java.util.List;
 
 import org.carrot2.core.*;
+import org.carrot2.util.TimeBudget;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
 import org.carrot2.util.attribute.Bindable;
@@ -137,6 +138,41 @@ public final class CommonAttributes
     @Group(DefaultGroups.RESULT_INFO)
     public Long processingTimeAlgorithm;
 
+    /**
+     * Processing time budget in milliseconds. If clustering takes longer, the algorithm
+     * aborts or returns clusters of lower quality, depending on
+     * {@link #processingTimeBudgetPolicy}. Zero means no budget.
+     */
+    @Input
+    @Attribute(key = "processing-time-budget")
+    @Label("Processing time budget")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.CLUSTERS)
+    public long processingTimeBudget;
+
+    /**
+     * Action on exceeding the processing time budget. The algorithm either aborts with an
+     * error or cuts the lengthy stages of clustering short, returning clusters of lower
+     * quality.
+     */
+    @Input
+    @Attribute(key = "processing-time-budget-policy")
+    @Label("Time budget policy")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.CLUSTERS)
+    public TimeBudget.Policy processingTimeBudgetPolicy;
+
+    /**
+     * Stages of clustering cut short because the processing time budget was exceeded.
+     * Empty if clusters are of full quality.
+     */
+    @Output
+    @Attribute(key = "processing-degradations")
+    @Label("Processing degradations")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.RESULT_INFO)
+    public List<String> processingDegradations;
+
     /**
      * Processing result title. A typical title for a processing result will be the query
      * used to fetch documents from that source. For certain document sources the query
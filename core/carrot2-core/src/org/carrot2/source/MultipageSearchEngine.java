@@ -173,7 +173,14 @@ public abstract class MultipageSearchEngine extends SearchEngineBase
                 }
             }
 
-            // Run concurrent requests using the executor.
+            // Don't issue further requests if processing has been cancelled.
+            if (Thread.interrupted())
+            {
+                throw new InterruptedException();
+            }
+
+            // Run concurrent requests using the executor. If interrupted while waiting,
+            // the requests that are still running are cancelled.
             final ArrayList<Callable<SearchEngineResponse>> fetchers = new ArrayList<Callable<SearchEngineResponse>>(
                 buckets.length);
 
@@ -203,7 +210,9 @@ public abstract class MultipageSearchEngine extends SearchEngineBase
         }
         catch (final InterruptedException e)
         {
-            // If interrupted, return with no error.
+            // If interrupted, return with no error. The interrupted status is restored
+            // so that the controller can stop processing.
+            Thread.currentThread().interrupt();
             return new SearchEngineResponse [0];
         }
         catch (final Exception e)
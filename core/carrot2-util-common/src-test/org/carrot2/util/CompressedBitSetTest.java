@@ -0,0 +1,130 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.carrotsearch.hppc.BitSet;
+
+/**
+ * Test cases for {@link CompressedBitSet}.
+ */
+public class CompressedBitSetTest extends CarrotTestCase
+{
+    @Test
+    public void testEmpty()
+    {
+        final CompressedBitSet set = new CompressedBitSet();
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.cardinality()).isEqualTo(0);
+        assertThat(set.nextSetBit(0)).isEqualTo(-1);
+        assertThat(set.toArray()).isEmpty();
+        assertThat(set.toString()).isEqualTo("{}");
+        assertThat(set).isEqualTo(CompressedBitSet.fromSorted(new int [0], 0, 0));
+    }
+
+    @Test
+    public void testSetAndGet()
+    {
+        final CompressedBitSet set = new CompressedBitSet();
+        set.set(70000);
+        set.set(3);
+        set.set(3);
+        set.set(65535);
+        assertThat(set.cardinality()).isEqualTo(3);
+        assertThat(set.get(3)).isTrue();
+        assertThat(set.get(4)).isFalse();
+        assertThat(set.get(-1)).isFalse();
+        assertThat(set.nextSetBit(4)).isEqualTo(65535);
+        assertThat(set.nextSetBit(65536)).isEqualTo(70000);
+        assertThat(set.nextSetBit(70001)).isEqualTo(-1);
+        assertThat(set.toArray()).isEqualTo(new int []
+        {
+            3, 65535, 70000
+        });
+        assertThat(set.toString()).isEqualTo("{3, 65535, 70000}");
+    }
+
+    @Test
+    public void testSameAsBitSet()
+    {
+        for (int round = 0; round < 20; round++)
+        {
+            final int range = randomIntBetween(1, 200000);
+            final BitSet expectedA = randomBits(range);
+            final BitSet expectedB = randomBits(range);
+            final CompressedBitSet a = CompressedBitSet.valueOf(expectedA);
+            final CompressedBitSet b = CompressedBitSet.fromSorted(expectedB
+                .asIntLookupContainer().toArray(), 0, (int) expectedB.cardinality());
+            assertEquivalent(expectedA, a);
+            assertEquivalent(expectedB, b);
+
+            assertThat(CompressedBitSet.intersectionCount(a, b)).isEqualTo(
+                (int) BitSet.intersectionCount(expectedA, expectedB));
+
+            final BitSet expectedAnd = (BitSet) expectedA.clone();
+            expectedAnd.and(expectedB);
+            final CompressedBitSet and = a.clone();
+            and.and(b);
+            assertEquivalent(expectedAnd, and);
+
+            final CompressedBitSet andSorted = a.clone();
+            final int [] sorted = expectedB.asIntLookupContainer().toArray();
+            andSorted.and(sorted, 0, sorted.length);
+            assertEquivalent(expectedAnd, andSorted);
+
+            final BitSet expectedOr = (BitSet) expectedA.clone();
+            expectedOr.or(expectedB);
+            final CompressedBitSet or = a.clone();
+            or.or(b);
+            assertEquivalent(expectedOr, or);
+
+            // The operations must not modify their arguments.
+            assertEquivalent(expectedA, a);
+            assertEquivalent(expectedB, b);
+        }
+    }
+
+    private BitSet randomBits(int range)
+    {
+        final BitSet bits = new BitSet(range);
+        final double density = randomBoolean() ? 0.001 + randomDouble() * 0.05
+            : randomDouble();
+        for (int i = 0; i < range; i++)
+        {
+            if (randomDouble() < density)
+            {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static void assertEquivalent(BitSet expected, CompressedBitSet actual)
+    {
+        assertThat(actual.cardinality()).isEqualTo((int) expected.cardinality());
+        assertThat(actual.toArray()).isEqualTo(expected.asIntLookupContainer().toArray());
+        assertThat(actual).isEqualTo(CompressedBitSet.valueOf(expected));
+        assertThat(actual.hashCode()).isEqualTo(CompressedBitSet.valueOf(expected).hashCode());
+
+        int value = -1;
+        for (int bit = expected.nextSetBit(0); bit >= 0; bit = expected.nextSetBit(bit + 1))
+        {
+            value = actual.nextSetBit(value + 1);
+            assertThat(value).isEqualTo(bit);
+            assertThat(actual.get(bit)).isTrue();
+        }
+        assertThat(actual.nextSetBit(value + 1)).isEqualTo(-1);
+    }
+}
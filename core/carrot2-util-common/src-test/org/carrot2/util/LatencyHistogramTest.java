@@ -0,0 +1,102 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+/**
+ * Tests {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest extends CarrotTestCase
+{
+    @Test
+    public void testEmpty()
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getValuesAtPercentiles(50, 99)).isEqualTo(new long []
+        {
+            0, 0
+        });
+    }
+
+    @Test
+    public void testSmallValuesExact()
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++)
+        {
+            histogram.record(i);
+        }
+        assertThat(histogram.getCount()).isEqualTo(10);
+        assertThat(histogram.getSum()).isEqualTo(55);
+        assertThat(histogram.getValuesAtPercentiles(0, 50, 90, 100)).isEqualTo(
+            new long []
+            {
+                1, 5, 9, 10
+            });
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision()
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++)
+        {
+            histogram.record(i * 1000000L);
+        }
+
+        final long [] values = histogram.getValuesAtPercentiles(50, 95, 99);
+        final long [] expected =
+        {
+            500000000L, 950000000L, 990000000L
+        };
+        for (int i = 0; i < values.length; i++)
+        {
+            assertThat((double) values[i]).isGreaterThanOrEqualTo(expected[i]);
+            assertThat((double) values[i]).isLessThanOrEqualTo(
+                expected[i] * (1 + 1.0 / LatencyHistogram.SUB_BUCKET_COUNT));
+        }
+    }
+
+    @Test
+    public void testBucketBounds()
+    {
+        for (long value : new long []
+        {
+            0, 1, 63, 64, 65, 127, 128, 129, 1000, 123456789,
+            LatencyHistogram.MAX_TRACKABLE_VALUE
+        })
+        {
+            final int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(
+                value);
+            if (index > 0)
+            {
+                assertThat(LatencyHistogram.highestValueOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeValuesClamped()
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        assertThat(histogram.getCount()).isEqualTo(2);
+        assertThat(histogram.getValuesAtPercentiles(100)[0]).isEqualTo(
+            LatencyHistogram.MAX_TRACKABLE_VALUE);
+    }
+}
@@ -93,18 +93,51 @@ public class RollingWindowAverageTest extends CarrotTestCase
         rwa.add(now, 3);
         rwa.add(now, 5);
 
-        assertEquals(1, rwa.buckets.size());
+        assertEquals(1, rwa.getBucketsInWindow());
 
         sleep(120 * RollingWindowAverage.MILLIS);
 
         rwa.add(now, 7);
 
-        assertEquals(2, rwa.buckets.size());
+        assertEquals(2, rwa.getBucketsInWindow());
 
         sleep(3000 * RollingWindowAverage.MILLIS);
 
         rwa.getCurrentAverage();
-        assertEquals(0, rwa.buckets.size());
+        assertEquals(0, rwa.getBucketsInWindow());
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException
+    {
+        final RollingWindowAverageFakeTime rwa = new RollingWindowAverageFakeTime(
+            1 * RollingWindowAverage.SECOND, 100 * RollingWindowAverage.MILLIS);
+        final int threadCount = 4;
+        final int updates = 10000;
+
+        final Thread [] threads = new Thread [threadCount];
+        for (int i = 0; i < threads.length; i++)
+        {
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    for (int j = 0; j < updates; j++)
+                    {
+                        // Spread the updates over several buckets.
+                        rwa.add(now + (j % 5) * 100, 2);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(threadCount * updates, rwa.getUpdatesInWindow());
+        assertEquals(2, rwa.getCurrentAverage(), 0.01d);
     }
 
     /**
@@ -0,0 +1,112 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.carrot2.util.TimeBudget.Policy;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.carrot2.util.tests.SteppingTicker;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests {@link TimeBudget}.
+ */
+public class TimeBudgetTest extends CarrotTestCase
+{
+    @Test
+    public void testUnlimited()
+    {
+        final TimeBudget budget = TimeBudget.unlimited();
+        assertThat(budget.isExceeded()).isFalse();
+        assertThat(budget.checkpoint("stage")).isFalse();
+    }
+
+    @Test
+    public void testExceededAborts() throws InterruptedException
+    {
+        final TimeBudget budget = new TimeBudget(1, Policy.ABORT);
+        sleep(20);
+        assertThat(budget.isExceeded()).isTrue();
+        try
+        {
+            budget.checkpoint("stage");
+            fail("Expected an exception.");
+        }
+        catch (TimeBudgetExceededException e)
+        {
+            assertThat(e.getMessage()).isEqualTo(
+                "Time budget of 1 ms exceeded during stage.");
+        }
+    }
+
+    @Test
+    public void testExceededDegrades() throws InterruptedException
+    {
+        final TimeBudget budget = new TimeBudget(1, Policy.DEGRADE);
+        assertThat(budget.getDegradations()).isEmpty();
+        sleep(20);
+        assertThat(budget.checkpoint("stage")).isTrue();
+
+        budget.degraded("stage: cut short");
+        assertThat(budget.getDegradations()).containsExactly("stage: cut short");
+    }
+
+    @Test
+    public void testTicker()
+    {
+        final TimeBudget budget = new TimeBudget(1000, Policy.ABORT, new SteppingTicker(
+            400, TimeUnit.MILLISECONDS));
+        assertThat(budget.isExceeded()).isFalse();
+        assertThat(budget.isExceeded()).isFalse();
+        assertThat(budget.isExceeded()).isTrue();
+    }
+
+    @Test
+    public void testInterruptionAbortsRegardlessOfPolicy()
+    {
+        final TimeBudget budget = new TimeBudget(0, Policy.DEGRADE);
+        Thread.currentThread().interrupt();
+        try
+        {
+            budget.checkpoint("stage");
+            fail("Expected an exception.");
+        }
+        catch (TimeBudgetExceededException e)
+        {
+            assertThat(e.getMessage()).isEqualTo("Processing interrupted during stage.");
+        }
+        finally
+        {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testStageTimes() throws InterruptedException
+    {
+        final TimeBudget budget = TimeBudget.unlimited();
+        budget.checkpoint("first");
+        sleep(10);
+        budget.checkpoint("second");
+        budget.checkpoint("second");
+        budget.finish();
+
+        assertThat(Lists.newArrayList(budget.getStageTimes().keySet())).containsExactly(
+            "first", "second");
+        assertThat(budget.getStageTimes().get("first")).isGreaterThanOrEqualTo(
+            10 * 1000000L);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util.pool;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Test cases for {@link ConcurrentBoundedPool}.
+ */
+public class ConcurrentBoundedPoolTest extends ParameterizedPoolTestBase
+{
+    protected IParameterizedPool<Object, String> createPool()
+    {
+        return new ConcurrentBoundedPool<Object, String>(getPoolSize());
+    }
+
+    protected int getPoolSize()
+    {
+        return 4;
+    }
+
+    @Test
+    public void testIdleInstancesBounded() throws Exception
+    {
+        final ConcurrentBoundedPool<Object, String> pool = new ConcurrentBoundedPool<Object, String>(2);
+        final CountingDisposalListener disposalListener = new CountingDisposalListener();
+        pool.init(null, null, null, disposalListener);
+
+        final List<String> borrowed = Lists.newArrayList();
+        for (int i = 0; i < 5; i++)
+        {
+            borrowed.add(pool.borrowObject(String.class, "p"));
+        }
+        for (String s : borrowed)
+        {
+            pool.returnObject(s, "p");
+        }
+
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(3, disposalListener.disposed);
+        assertEquals(3, pool.getEvictionCount());
+
+        pool.dispose();
+        assertEquals(5, disposalListener.disposed);
+    }
+
+    @Test
+    public void testIdleInstancesExpire() throws Exception
+    {
+        final ConcurrentBoundedPool<Object, String> pool = new ConcurrentBoundedPool<Object, String>(4, 50);
+        final CountingDisposalListener disposalListener = new CountingDisposalListener();
+        pool.init(null, null, null, disposalListener);
+
+        final String first = pool.borrowObject(String.class, null);
+        pool.returnObject(first, null);
+        Thread.sleep(100);
+
+        final String second = pool.borrowObject(String.class, null);
+        assertNotSame(first, second);
+        assertEquals(1, disposalListener.disposed);
+        assertEquals(1, pool.getEvictionCount());
+
+        pool.returnObject(second, null);
+        Thread.sleep(100);
+        pool.evictIdle();
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(2, disposalListener.disposed);
+
+        pool.dispose();
+    }
+
+    @Test
+    public void testCounters() throws Exception
+    {
+        final ConcurrentBoundedPool<Object, String> pool = new ConcurrentBoundedPool<Object, String>(4);
+
+        final String a = pool.borrowObject(String.class, null);
+        final String b = pool.borrowObject(String.class, null);
+        pool.returnObject(a, null);
+        pool.returnObject(pool.borrowObject(String.class, null), null);
+        pool.returnObject(b, null);
+
+        assertEquals(3, pool.getBorrowCount());
+        assertEquals(3, pool.getReturnCount());
+        assertEquals(2, pool.getMissCount());
+        assertEquals(0, pool.getEvictionCount());
+        assertEquals(2, pool.getIdleCount());
+
+        pool.dispose();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReturnNeverBorrowedObject()
+    {
+        pool.returnObject(new String(), null);
+    }
+
+    private static final class CountingDisposalListener implements
+        IDisposalListener<Object, String>
+    {
+        int disposed;
+
+        public synchronized void dispose(Object object, String parameter)
+        {
+            disposed++;
+        }
+    }
+}
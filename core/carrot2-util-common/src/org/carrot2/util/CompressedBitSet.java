@@ -0,0 +1,917 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import java.util.Arrays;
+
+import com.carrotsearch.hppc.BitSet;
+
+/**
+ * A compressed set of non-negative integers, e.g. indices of documents assigned to a
+ * label or a cluster. Integers are split into blocks of 65536 by their upper 16 bits,
+ * each non-empty block is stored in a container. A block with at most
+ * {@value #MAX_ARRAY_SIZE} values is a sorted array of the lower 16 bits, a denser block is
+ * a bitmap of 65536 bits (the "Roaring" layout). Sparse sets take two bytes per value,
+ * dense sets take one bit per possible value, regardless of the largest value.
+ * <p>
+ * {@link #and(CompressedBitSet)}, {@link #and(int[], int, int)} and
+ * {@link #intersectionCount(CompressedBitSet, CompressedBitSet)} do not allocate memory
+ * unless a container changes from a bitmap to an array.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class CompressedBitSet implements Cloneable
+{
+    /**
+     * The maximum number of values in an array container.
+     */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    /**
+     * Upper 16 bits of values in {@link #containers}, in ascending order.
+     */
+    private char [] keys;
+    private Container [] containers;
+    private int size;
+
+    /**
+     * Creates an empty set.
+     */
+    public CompressedBitSet()
+    {
+        keys = new char [1];
+        containers = new Container [1];
+    }
+
+    /**
+     * Creates a set of values from <code>values[start]</code> to
+     * <code>values[start + length - 1]</code>, which must be in strictly ascending order.
+     */
+    public static CompressedBitSet fromSorted(int [] values, int start, int length)
+    {
+        final CompressedBitSet set = new CompressedBitSet();
+        final int end = start + length;
+        int from = start;
+        while (from < end)
+        {
+            final int key = values[from] >>> 16;
+            int to = from + 1;
+            while (to < end && (values[to] >>> 16) == key)
+            {
+                to++;
+            }
+
+            final Container container;
+            if (to - from <= MAX_ARRAY_SIZE)
+            {
+                final char [] lowBits = new char [to - from];
+                for (int i = from; i < to; i++)
+                {
+                    lowBits[i - from] = (char) values[i];
+                }
+                container = new ArrayContainer(lowBits, lowBits.length);
+            }
+            else
+            {
+                final BitmapContainer bitmap = new BitmapContainer();
+                for (int i = from; i < to; i++)
+                {
+                    bitmap.set((char) values[i]);
+                }
+                container = bitmap;
+            }
+            set.append((char) key, container);
+            from = to;
+        }
+        return set;
+    }
+
+    /**
+     * Creates a set of bits set in a {@link BitSet}.
+     */
+    public static CompressedBitSet valueOf(BitSet bits)
+    {
+        final CompressedBitSet set = new CompressedBitSet();
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1))
+        {
+            set.set(bit);
+        }
+        return set;
+    }
+
+    /**
+     * Adds a value to this set.
+     */
+    public void set(int value)
+    {
+        final char key = (char) (value >>> 16);
+        final int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0)
+        {
+            containers[index] = containers[index].add((char) value);
+        }
+        else
+        {
+            final ArrayContainer container = new ArrayContainer(new char [4], 0);
+            container.add((char) value);
+            insert(-index - 1, key, container);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if this set contains the value.
+     */
+    public boolean get(int value)
+    {
+        if (value < 0)
+        {
+            return false;
+        }
+        final int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in this set.
+     */
+    public int cardinality()
+    {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++)
+        {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns <code>true</code> if this set contains no values.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the smallest value in this set greater or equal to <code>from</code>, or
+     * <code>-1</code> if there is no such value.
+     */
+    public int nextSetBit(int from)
+    {
+        if (from < 0)
+        {
+            from = 0;
+        }
+        final char key = (char) (from >>> 16);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0)
+        {
+            final int next = containers[index].next(from & 0xffff);
+            if (next >= 0)
+            {
+                return (key << 16) | next;
+            }
+            index++;
+        }
+        else
+        {
+            index = -index - 1;
+        }
+        return index < size ? (keys[index] << 16) | containers[index].next(0) : -1;
+    }
+
+    /**
+     * Returns values of this set in ascending order.
+     */
+    public int [] toArray()
+    {
+        final int [] result = new int [cardinality()];
+        int offset = 0;
+        for (int i = 0; i < size; i++)
+        {
+            offset = containers[i].toArray(result, offset, keys[i] << 16);
+        }
+        return result;
+    }
+
+    /**
+     * Retains only values also contained in the other set.
+     */
+    public void and(CompressedBitSet other)
+    {
+        int retained = 0;
+        int j = 0;
+        for (int i = 0; i < size; i++)
+        {
+            while (j < other.size && other.keys[j] < keys[i])
+            {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i])
+            {
+                final Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0)
+                {
+                    keys[retained] = keys[i];
+                    containers[retained++] = container;
+                }
+            }
+        }
+        truncate(retained);
+    }
+
+    /**
+     * Retains only values contained in <code>values[start]</code> to
+     * <code>values[start + length - 1]</code>, which must be in strictly ascending order.
+     */
+    public void and(int [] values, int start, int length)
+    {
+        final int end = start + length;
+        int retained = 0;
+        int from = start;
+        for (int i = 0; i < size; i++)
+        {
+            final int key = keys[i];
+            while (from < end && (values[from] >>> 16) < key)
+            {
+                from++;
+            }
+            int to = from;
+            while (to < end && (values[to] >>> 16) == key)
+            {
+                to++;
+            }
+            if (to > from)
+            {
+                final Container container = containers[i].and(values, from, to);
+                if (container.cardinality() > 0)
+                {
+                    keys[retained] = keys[i];
+                    containers[retained++] = container;
+                }
+            }
+            from = to;
+        }
+        truncate(retained);
+    }
+
+    /**
+     * Adds all values of the other set to this set.
+     */
+    public void or(CompressedBitSet other)
+    {
+        int j = 0;
+        for (int i = 0; i < size && j < other.size; i++)
+        {
+            while (j < other.size && other.keys[j] < keys[i])
+            {
+                insert(i++, other.keys[j], other.containers[j].copy());
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i])
+            {
+                containers[i] = containers[i].or(other.containers[j]);
+                j++;
+            }
+        }
+        for (; j < other.size; j++)
+        {
+            append(other.keys[j], other.containers[j].copy());
+        }
+    }
+
+    /**
+     * Returns the number of values contained in both sets.
+     */
+    public static int intersectionCount(CompressedBitSet a, CompressedBitSet b)
+    {
+        int count = 0;
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size)
+        {
+            if (a.keys[i] < b.keys[j])
+            {
+                i++;
+            }
+            else if (a.keys[i] > b.keys[j])
+            {
+                j++;
+            }
+            else
+            {
+                count += a.containers[i++].intersectionCount(b.containers[j++]);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public CompressedBitSet clone()
+    {
+        final CompressedBitSet clone = new CompressedBitSet();
+        clone.keys = Arrays.copyOf(keys, Math.max(size, 1));
+        clone.containers = new Container [clone.keys.length];
+        for (int i = 0; i < size; i++)
+        {
+            clone.containers[i] = containers[i].copy();
+        }
+        clone.size = size;
+        return clone;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (obj == this)
+        {
+            return true;
+        }
+        if (!(obj instanceof CompressedBitSet))
+        {
+            return false;
+        }
+
+        // Containers of equal sets are of the same type, see Container.
+        final CompressedBitSet other = (CompressedBitSet) obj;
+        if (other.size != size)
+        {
+            return false;
+        }
+        for (int i = 0; i < size; i++)
+        {
+            if (keys[i] != other.keys[i] || !containers[i].equals(other.containers[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hash = 0;
+        for (int value = nextSetBit(0); value >= 0; value = nextSetBit(value + 1))
+        {
+            hash = hash * 31 + value;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder b = new StringBuilder("{");
+        for (int value = nextSetBit(0); value >= 0; value = nextSetBit(value + 1))
+        {
+            if (b.length() > 1)
+            {
+                b.append(", ");
+            }
+            b.append(value);
+        }
+        return b.append("}").toString();
+    }
+
+    private void append(char key, Container container)
+    {
+        insert(size, key, container);
+    }
+
+    private void insert(int index, char key, Container container)
+    {
+        if (size == keys.length)
+        {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void truncate(int newSize)
+    {
+        Arrays.fill(containers, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Lower 16 bits of values with the same upper 16 bits. Operations return the
+     * container holding the result, which is either this container modified in place or
+     * a new one. A container is an {@link ArrayContainer} if and only if it holds at most
+     * {@link CompressedBitSet#MAX_ARRAY_SIZE} values.
+     */
+    private static abstract class Container
+    {
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container and(Container other);
+
+        /**
+         * Retains values whose lower 16 bits are in <code>values[from]</code> to
+         * <code>values[to - 1]</code>.
+         */
+        abstract Container and(int [] values, int from, int to);
+
+        abstract Container or(Container other);
+
+        abstract int intersectionCount(Container other);
+
+        /**
+         * Returns the smallest value greater or equal to <code>from</code> or
+         * <code>-1</code>.
+         */
+        abstract int next(int from);
+
+        abstract int toArray(int [] target, int offset, int high);
+
+        abstract Container copy();
+    }
+
+    private static final class ArrayContainer extends Container
+    {
+        char [] values;
+        int size;
+
+        ArrayContainer(char [] values, int size)
+        {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return size;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        Container add(char value)
+        {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0)
+            {
+                return this;
+            }
+            if (size == MAX_ARRAY_SIZE)
+            {
+                final BitmapContainer bitmap = toBitmap();
+                bitmap.set(value);
+                return bitmap;
+            }
+
+            index = -index - 1;
+            if (size == values.length)
+            {
+                values = Arrays.copyOf(values, Math.min(size * 2, MAX_ARRAY_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container and(Container other)
+        {
+            int retained = 0;
+            if (other instanceof ArrayContainer)
+            {
+                final ArrayContainer array = (ArrayContainer) other;
+                int j = 0;
+                for (int i = 0; i < size && j < array.size; i++)
+                {
+                    while (j < array.size && array.values[j] < values[i])
+                    {
+                        j++;
+                    }
+                    if (j < array.size && array.values[j] == values[i])
+                    {
+                        values[retained++] = values[i];
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < size; i++)
+                {
+                    if (other.contains(values[i]))
+                    {
+                        values[retained++] = values[i];
+                    }
+                }
+            }
+            size = retained;
+            return this;
+        }
+
+        @Override
+        Container and(int [] others, int from, int to)
+        {
+            int retained = 0;
+            int j = from;
+            for (int i = 0; i < size && j < to; i++)
+            {
+                while (j < to && (char) others[j] < values[i])
+                {
+                    j++;
+                }
+                if (j < to && (char) others[j] == values[i])
+                {
+                    values[retained++] = values[i];
+                }
+            }
+            size = retained;
+            return this;
+        }
+
+        @Override
+        Container or(Container other)
+        {
+            if (other instanceof BitmapContainer)
+            {
+                final BitmapContainer bitmap = (BitmapContainer) other.copy();
+                for (int i = 0; i < size; i++)
+                {
+                    bitmap.set(values[i]);
+                }
+                return bitmap;
+            }
+
+            final ArrayContainer array = (ArrayContainer) other;
+            if (size + array.size > MAX_ARRAY_SIZE)
+            {
+                final BitmapContainer bitmap = toBitmap();
+                for (int i = 0; i < array.size; i++)
+                {
+                    bitmap.set(array.values[i]);
+                }
+                return bitmap.cardinality > MAX_ARRAY_SIZE ? bitmap : bitmap.toArray();
+            }
+
+            final char [] merged = new char [size + array.size];
+            int i = 0, j = 0, k = 0;
+            while (i < size && j < array.size)
+            {
+                if (values[i] < array.values[j])
+                {
+                    merged[k++] = values[i++];
+                }
+                else if (values[i] > array.values[j])
+                {
+                    merged[k++] = array.values[j++];
+                }
+                else
+                {
+                    merged[k++] = values[i++];
+                    j++;
+                }
+            }
+            while (i < size)
+            {
+                merged[k++] = values[i++];
+            }
+            while (j < array.size)
+            {
+                merged[k++] = array.values[j++];
+            }
+            values = merged;
+            size = k;
+            return this;
+        }
+
+        @Override
+        int intersectionCount(Container other)
+        {
+            int count = 0;
+            if (other instanceof ArrayContainer)
+            {
+                final ArrayContainer array = (ArrayContainer) other;
+                int i = 0, j = 0;
+                while (i < size && j < array.size)
+                {
+                    if (values[i] < array.values[j])
+                    {
+                        i++;
+                    }
+                    else if (values[i] > array.values[j])
+                    {
+                        j++;
+                    }
+                    else
+                    {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < size; i++)
+                {
+                    if (other.contains(values[i]))
+                    {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        int next(int from)
+        {
+            int index = Arrays.binarySearch(values, 0, size, (char) from);
+            if (index < 0)
+            {
+                index = -index - 1;
+            }
+            return index < size ? values[index] : -1;
+        }
+
+        @Override
+        int toArray(int [] target, int offset, int high)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                target[offset++] = high | values[i];
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(values, size), size);
+        }
+
+        BitmapContainer toBitmap()
+        {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++)
+            {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof ArrayContainer))
+            {
+                return false;
+            }
+            final ArrayContainer other = (ArrayContainer) obj;
+            if (other.size != size)
+            {
+                return false;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                if (values[i] != other.values[i])
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return size;
+        }
+    }
+
+    private static final class BitmapContainer extends Container
+    {
+        final long [] words;
+        int cardinality;
+
+        BitmapContainer()
+        {
+            this(new long [1 << 10], 0);
+        }
+
+        BitmapContainer(long [] words, int cardinality)
+        {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        void set(char value)
+        {
+            final long bit = 1L << value;
+            final int word = value >>> 6;
+            if ((words[word] & bit) == 0)
+            {
+                words[word] |= bit;
+                cardinality++;
+            }
+        }
+
+        @Override
+        int cardinality()
+        {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value)
+        {
+            set(value);
+            return this;
+        }
+
+        @Override
+        Container and(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                final ArrayContainer array = (ArrayContainer) other.copy();
+                return array.and(this);
+            }
+
+            final long [] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < words.length; i++)
+            {
+                words[i] &= otherWords[i];
+                count += Long.bitCount(words[i]);
+            }
+            cardinality = count;
+            return cardinality > MAX_ARRAY_SIZE ? this : toArray();
+        }
+
+        @Override
+        Container and(int [] values, int from, int to)
+        {
+            int count = 0;
+            for (int i = from; i < to; i++)
+            {
+                if (contains((char) values[i]))
+                {
+                    count++;
+                }
+            }
+
+            if (count > MAX_ARRAY_SIZE)
+            {
+                final long [] retained = new long [words.length];
+                for (int i = from; i < to; i++)
+                {
+                    final char value = (char) values[i];
+                    retained[value >>> 6] |= words[value >>> 6] & (1L << value);
+                }
+                System.arraycopy(retained, 0, words, 0, words.length);
+                cardinality = count;
+                return this;
+            }
+
+            final char [] retained = new char [count];
+            int k = 0;
+            for (int i = from; i < to; i++)
+            {
+                if (contains((char) values[i]))
+                {
+                    retained[k++] = (char) values[i];
+                }
+            }
+            return new ArrayContainer(retained, count);
+        }
+
+        @Override
+        Container or(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                final ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.size; i++)
+                {
+                    set(array.values[i]);
+                }
+                return this;
+            }
+
+            final long [] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < words.length; i++)
+            {
+                words[i] |= otherWords[i];
+                count += Long.bitCount(words[i]);
+            }
+            cardinality = count;
+            return this;
+        }
+
+        @Override
+        int intersectionCount(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                return other.intersectionCount(this);
+            }
+
+            final long [] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < words.length; i++)
+            {
+                count += Long.bitCount(words[i] & otherWords[i]);
+            }
+            return count;
+        }
+
+        @Override
+        int next(int from)
+        {
+            int word = from >>> 6;
+            long bits = words[word] & (-1L << from);
+            while (bits == 0)
+            {
+                if (++word == words.length)
+                {
+                    return -1;
+                }
+                bits = words[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        @Override
+        int toArray(int [] target, int offset, int high)
+        {
+            for (int word = 0; word < words.length; word++)
+            {
+                long bits = words[word];
+                while (bits != 0)
+                {
+                    target[offset++] = high | (word << 6)
+                        + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        Container copy()
+        {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        ArrayContainer toArray()
+        {
+            final char [] values = new char [cardinality];
+            int k = 0;
+            for (int value = next(0); value >= 0; value = value < 0xffff ? next(value + 1) : -1)
+            {
+                values[k++] = (char) value;
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof BitmapContainer
+                && Arrays.equals(words, ((BitmapContainer) obj).words);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return cardinality;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in nanoseconds with buckets of logarithmically growing width,
+ * similar to HdrHistogram. Each power of two range is split into
+ * {@link #SUB_BUCKET_COUNT} equal buckets, so values reported by
+ * {@link #getValuesAtPercentiles(double...)} are within 1/{@link #SUB_BUCKET_COUNT} of
+ * the recorded ones. Values larger than {@link #MAX_TRACKABLE_VALUE} are counted in the
+ * last bucket.
+ * <p>
+ * This class is thread-safe, recording does not block.
+ */
+public final class LatencyHistogram
+{
+    /** Base 2 logarithm of {@link #SUB_BUCKET_COUNT}. */
+    private static final int SUB_BUCKET_BITS = 6;
+
+    /** Number of buckets in each power of two range. */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Base 2 logarithm of the largest value with a dedicated bucket, about 4.9 hours. */
+    private static final int MAX_EXPONENT = 44;
+
+    /** The largest value with a dedicated bucket. */
+    public static final long MAX_TRACKABLE_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(
+        (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+
+    /**
+     * Records a single value. Negative values are recorded as zero.
+     */
+    public void record(long nanos)
+    {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(Math.min(value, MAX_TRACKABLE_VALUE)));
+        sum.addAndGet(value);
+        count.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    /**
+     * Returns the sum of recorded values, in nanoseconds.
+     */
+    public long getSum()
+    {
+        return sum.get();
+    }
+
+    /**
+     * Returns the values below which the provided percentages of recorded values fall,
+     * all computed for the same state of the histogram. Returns zeros if no values have
+     * been recorded.
+     *
+     * @param percentiles percentiles in the 0..100 range, in increasing order
+     */
+    public long [] getValuesAtPercentiles(double... percentiles)
+    {
+        final long [] snapshot = new long [counts.length()];
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++)
+        {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        final long [] values = new long [percentiles.length];
+        if (total == 0)
+        {
+            return values;
+        }
+
+        int index = 0;
+        long cumulative = snapshot[0];
+        for (int p = 0; p < percentiles.length; p++)
+        {
+            final long rank = Math.max(1,
+                (long) Math.ceil(Math.min(100, percentiles[p]) / 100 * total));
+            while (cumulative < rank)
+            {
+                cumulative += snapshot[++index];
+            }
+            values[p] = highestValueOf(index);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the index of the bucket for a non-negative value not larger than
+     * {@link #MAX_TRACKABLE_VALUE}.
+     */
+    static int indexOf(long value)
+    {
+        if (value < SUB_BUCKET_COUNT)
+        {
+            return (int) value;
+        }
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT
+            + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Returns the largest value counted in the bucket at <code>index</code>.
+     */
+    static long highestValueOf(int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long lowest = (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
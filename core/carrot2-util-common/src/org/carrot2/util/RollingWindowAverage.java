@@ -12,13 +12,17 @@
 
 package org.carrot2.util;
 
-import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Calculates an average of values showing up in a given time window. To keep processing
- * efficient, bucketing is performed.
+ * efficient, bucketing is performed: values are added to a fixed ring of preallocated
+ * time buckets, a bucket is reused once it falls outside of the window. Similar to
+ * <code>LongAdder</code>, each bucket is split into stripes updated by different
+ * threads, so that concurrent updates do not contend for the same memory.
  * <p>
- * This class is not thread-safe.
+ * This class is thread-safe. Updates do not take locks and do not allocate memory, they
+ * may briefly spin only while another thread is recycling the same bucket.
  */
 public class RollingWindowAverage
 {
@@ -31,40 +35,33 @@ public class RollingWindowAverage
     /** Helpful constant for one minute. */
     public static final int MINUTE = 60 * SECOND;
 
-    /**
-     * An entry in {@link #buckets}.
-     */
-    private final static class Bucket
-    {
-        public final long deadline;
+    /** {@link #epochs} value of a bucket that has never been used. */
+    private static final long UNUSED = -1;
 
-        public long elements;
-        public long sum;
-
-        public Bucket(long deadline)
-        {
-            this.deadline = deadline;
-        }
-    }
+    /** {@link #epochs} value of a bucket being reset by one of the threads. */
+    private static final long RECYCLING = -2;
 
     /**
-     * Each entry in this list is a partial sum of all objects that fell into the same
-     * time period.
+     * Number of longs reserved for each stripe of a bucket, so that different stripes
+     * do not share a cache line. The count is stored at offset 0, the sum at offset 1.
      */
-    final LinkedList<Bucket> buckets = new LinkedList<Bucket>();
+    private static final int STRIPE_SIZE = 8;
 
-    /**
-     * Up-to-date sum of elements in all buckets.
-     */
-    private long currentSum;
+    /** Number of stripes of each bucket, a power of two. */
+    private static final int STRIPES = Math.min(16,
+        Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
 
     /**
-     * Up-to-date count of all elements in all buckets.
+     * For each bucket, the number of the time period (timestamp divided by bucket size)
+     * its values come from.
      */
-    private long currentCount;
+    private final AtomicLongArray epochs;
 
-    private long bucketSizeMillis;
-    private long windowSizeMillis;
+    /** For each stripe of each bucket, the number and the sum of values added. */
+    private final AtomicLongArray stripes;
+
+    private final long bucketSizeMillis;
+    private final long windowSizeMillis;
 
     /**
      * 
@@ -79,28 +76,55 @@ public class RollingWindowAverage
 
         this.bucketSizeMillis = bucketSizeMillis;
         this.windowSizeMillis = windowSizeMillis;
+
+        // Buckets covering the window plus the one partially out of it.
+        final int buckets = (int) ((windowSizeMillis + bucketSizeMillis - 1)
+            / bucketSizeMillis) + 1;
+        this.epochs = new AtomicLongArray(buckets);
+        this.stripes = new AtomicLongArray(buckets * STRIPES * STRIPE_SIZE);
+        for (int i = 0; i < buckets; i++)
+        {
+            epochs.set(i, UNUSED);
+        }
     }
 
     /**
-     * Adds a new entry.
+     * Adds a new entry. Entries with timestamps older than the period covered by the
+     * buckets are ignored.
      */
     public final void add(long timestamp, long value)
     {
-        final long now = getNow();
-        removeOldBuckets(now);
+        final long epoch = timestamp / bucketSizeMillis;
+        final int bucket = (int) (epoch % epochs.length());
 
-        Bucket bucket;
-        if (buckets.isEmpty() || (bucket = buckets.getFirst()).deadline < timestamp)
+        long current;
+        while ((current = epochs.get(bucket)) != epoch)
         {
-            // Create new bucket.
-            bucket = new Bucket(now + bucketSizeMillis);
-            buckets.addFirst(bucket);
+            if (current == RECYCLING)
+            {
+                Thread.yield();
+            }
+            else if (current > epoch)
+            {
+                // The bucket already holds newer values.
+                return;
+            }
+            else if (epochs.compareAndSet(bucket, current, RECYCLING))
+            {
+                for (int i = 0; i < STRIPES; i++)
+                {
+                    final int offset = offset(bucket, i);
+                    stripes.set(offset, 0);
+                    stripes.set(offset + 1, 0);
+                }
+                epochs.set(bucket, epoch);
+            }
         }
 
-        bucket.elements++;
-        currentCount++;
-        bucket.sum += value;
-        currentSum += value;
+        final int offset = offset(bucket,
+            (int) Thread.currentThread().getId() & (STRIPES - 1));
+        stripes.addAndGet(offset + 1, value);
+        stripes.incrementAndGet(offset);
     }
 
     /**
@@ -108,15 +132,28 @@ public class RollingWindowAverage
      */
     public final double getCurrentAverage()
     {
-        removeOldBuckets(getNow());
+        final long now = getNow();
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < epochs.length(); i++)
+        {
+            if (inWindow(epochs.get(i), now))
+            {
+                for (int j = 0; j < STRIPES; j++)
+                {
+                    count += stripes.get(offset(i, j));
+                    sum += stripes.get(offset(i, j) + 1);
+                }
+            }
+        }
 
-        if (this.currentCount == 0)
+        if (count == 0)
         {
             return 0;
         }
         else
         {
-            return ((double) this.currentSum) / this.currentCount;
+            return ((double) sum) / count;
         }
     }
 
@@ -125,8 +162,19 @@ public class RollingWindowAverage
      */
     public final long getUpdatesInWindow()
     {
-        removeOldBuckets(getNow());
-        return this.currentCount;
+        final long now = getNow();
+        long count = 0;
+        for (int i = 0; i < epochs.length(); i++)
+        {
+            if (inWindow(epochs.get(i), now))
+            {
+                for (int j = 0; j < STRIPES; j++)
+                {
+                    count += stripes.get(offset(i, j));
+                }
+            }
+        }
+        return count;
     }
 
     /**
@@ -137,6 +185,23 @@ public class RollingWindowAverage
         return windowSizeMillis;
     }
 
+    /**
+     * Returns the number of buckets holding values within the rolling window's scope.
+     */
+    final int getBucketsInWindow()
+    {
+        final long now = getNow();
+        int buckets = 0;
+        for (int i = 0; i < epochs.length(); i++)
+        {
+            if (inWindow(epochs.get(i), now))
+            {
+                buckets++;
+            }
+        }
+        return buckets;
+    }
+
     /**
      * Returns <code>System.currentTimeMillise()</code>, but moved to a separate method to speed
      * up JUnit tests and make them independent of actual wall time.
@@ -147,19 +212,19 @@ public class RollingWindowAverage
     }
 
     /**
-     * Remove buckets that fall outside the rolling window's scope.
+     * Returns the index of the count of a stripe of a bucket in {@link #stripes}.
      */
-    private void removeOldBuckets(long now)
+    private static int offset(int bucket, int stripe)
     {
-        final long purgeTimestamp = now - this.windowSizeMillis;
+        return (bucket * STRIPES + stripe) * STRIPE_SIZE;
+    }
 
-        Bucket bucket;
-        while (!buckets.isEmpty()
-            && (bucket = buckets.getLast()).deadline < purgeTimestamp)
-        {
-            currentSum -= bucket.sum;
-            currentCount -= bucket.elements;
-            buckets.removeLast();
-        }
+    /**
+     * Returns <code>true</code> if the time period <code>epoch</code> ends within the
+     * rolling window's scope.
+     */
+    private boolean inWindow(long epoch, long now)
+    {
+        return epoch >= 0 && (epoch + 1) * bucketSizeMillis > now - windowSizeMillis;
     }
 }
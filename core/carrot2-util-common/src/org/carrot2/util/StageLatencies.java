@@ -0,0 +1,108 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Maps;
+
+/**
+ * {@link LatencyHistogram}s of processing stages, keyed by stage name. Code that does
+ * not own an instance of this class, e.g. a processing component, records its stage
+ * times using {@link #recordCurrent(Map)}, which records them in the instance
+ * {@link #bind(StageLatencies)}ed to the current thread, if any.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class StageLatencies
+{
+    /** The instance bound to the current thread. */
+    private static final ThreadLocal<StageLatencies> current = new ThreadLocal<StageLatencies>();
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = Maps
+        .newConcurrentMap();
+
+    /**
+     * Records a single time of a stage.
+     */
+    public void record(String stage, long nanos)
+    {
+        LatencyHistogram histogram = histograms.get(stage);
+        if (histogram == null)
+        {
+            final LatencyHistogram created = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(stage, created);
+            if (histogram == null)
+            {
+                histogram = created;
+            }
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Records times of stages, in nanoseconds, keyed by stage name.
+     */
+    public void record(Map<String, Long> stageTimes)
+    {
+        for (Map.Entry<String, Long> entry : stageTimes.entrySet())
+        {
+            record(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the histograms of all stages recorded so far, sorted by stage name. The
+     * histograms are live, the map is a copy.
+     */
+    public SortedMap<String, LatencyHistogram> getHistograms()
+    {
+        return new TreeMap<String, LatencyHistogram>(histograms);
+    }
+
+    /**
+     * Binds <code>latencies</code> to the current thread.
+     *
+     * @param latencies the instance to bind, <code>null</code> to unbind
+     * @return the instance bound previously, to be restored when the caller is done
+     */
+    public static StageLatencies bind(StageLatencies latencies)
+    {
+        final StageLatencies previous = current.get();
+        if (latencies != null)
+        {
+            current.set(latencies);
+        }
+        else
+        {
+            current.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * Records stage times in the instance bound to the current thread, does nothing if
+     * no instance is bound.
+     */
+    public static void recordCurrent(Map<String, Long> stageTimes)
+    {
+        final StageLatencies latencies = current.get();
+        if (latencies != null)
+        {
+            latencies.record(stageTimes);
+        }
+    }
+}
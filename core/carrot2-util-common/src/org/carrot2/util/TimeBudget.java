@@ -0,0 +1,214 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Processing time budget of a single request, passed to the lengthy stages of
+ * processing. A budget is exceeded when its deadline passes or when the processing thread
+ * is interrupted. Stages call {@link #checkpoint(String)} to abort processing, or, if
+ * the {@link Policy} allows and the stage can produce results of lower quality, check
+ * {@link #isExceeded()} and record what they skipped using {@link #degraded(String)}.
+ * <p>
+ * Each call to {@link #checkpoint(String)} also marks the start of a stage, the time
+ * between consecutive checkpoints is added to the stage that was in progress and is
+ * available from {@link #getStageTimes()} once the budget is {@link #finish()}ed.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class TimeBudget
+{
+    /**
+     * What to do when the budget is exceeded.
+     */
+    public enum Policy
+    {
+        /**
+         * Abort processing with an exception.
+         */
+        ABORT,
+
+        /**
+         * Cut lengthy stages short and return results of lower quality. Processing
+         * is still aborted if the processing thread is interrupted.
+         */
+        DEGRADE;
+    }
+
+    /** The budget in milliseconds, zero means no budget. */
+    private final long budgetMillis;
+
+    /** {@link #ticker} reading at which the budget is exceeded. */
+    private final long deadlineNanos;
+
+    private final Policy policy;
+
+    /** The source of time of this budget. */
+    private final Ticker ticker;
+
+    /** Descriptions of the stages cut short because the budget was exceeded. */
+    private final List<String> degradations = Lists.newArrayList();
+
+    /** Time spent in each stage, in nanoseconds, in the order of first checkpoints. */
+    private final Map<String, Long> stageTimes = Maps.newLinkedHashMap();
+
+    /** The stage in progress, <code>null</code> before the first checkpoint. */
+    private String stage;
+
+    /** {@link #ticker} reading at which {@link #stage} started. */
+    private long stageStartNanos;
+
+    /**
+     * Starts a budget of <code>budgetMillis</code> milliseconds.
+     *
+     * @param budgetMillis the budget in milliseconds, zero or negative values mean no
+     *            budget (processing is then cut short only when interrupted).
+     * @param policy what to do when the budget is exceeded
+     */
+    public TimeBudget(long budgetMillis, Policy policy)
+    {
+        this(budgetMillis, policy, Ticker.systemTicker());
+    }
+
+    /**
+     * Starts a budget of <code>budgetMillis</code> milliseconds measured by the provided
+     * <code>ticker</code>.
+     * 
+     * @param budgetMillis the budget in milliseconds, zero or negative values mean no
+     *            budget (processing is then cut short only when interrupted).
+     * @param policy what to do when the budget is exceeded
+     * @param ticker the source of time, e.g. {@link Ticker#systemTicker()}
+     */
+    public TimeBudget(long budgetMillis, Policy policy, Ticker ticker)
+    {
+        this.budgetMillis = Math.max(0, budgetMillis);
+        this.ticker = ticker;
+        this.deadlineNanos = ticker.read() + this.budgetMillis * 1000000L;
+        this.policy = policy;
+    }
+
+    /**
+     * Returns a budget that is exceeded only when the processing thread is interrupted.
+     */
+    public static TimeBudget unlimited()
+    {
+        return new TimeBudget(0, Policy.ABORT);
+    }
+
+    /**
+     * Returns <code>true</code> if the deadline has passed or the current thread has
+     * been interrupted.
+     */
+    public boolean isExceeded()
+    {
+        return Thread.currentThread().isInterrupted()
+            || (budgetMillis > 0 && ticker.read() - deadlineNanos >= 0);
+    }
+
+    /**
+     * Aborts processing if the budget is exceeded and cannot be handled by degrading the
+     * quality of results.
+     *
+     * @param stage the name of the stage about to start or in progress, used in the
+     *            exception message
+     * @return <code>true</code> if the budget is exceeded and the caller should cut its
+     *         stage short
+     * @throws TimeBudgetExceededException if the budget is exceeded and the policy is
+     *             {@link Policy#ABORT} or the current thread has been interrupted
+     */
+    public boolean checkpoint(String stage)
+    {
+        enter(stage);
+
+        if (!isExceeded())
+        {
+            return false;
+        }
+
+        if (Thread.currentThread().isInterrupted())
+        {
+            throw new TimeBudgetExceededException("Processing interrupted during "
+                + stage + ".");
+        }
+
+        if (policy == Policy.ABORT)
+        {
+            throw new TimeBudgetExceededException("Time budget of " + budgetMillis
+                + " ms exceeded during " + stage + ".");
+        }
+
+        return true;
+    }
+
+    /**
+     * Ends the stage in progress. Subsequent checkpoints start measuring time again.
+     */
+    public void finish()
+    {
+        enter(null);
+    }
+
+    /**
+     * Returns the time spent in each finished stage, in nanoseconds, in the order in
+     * which the stages started.
+     */
+    public Map<String, Long> getStageTimes()
+    {
+        return Collections.unmodifiableMap(stageTimes);
+    }
+
+    /**
+     * Adds the time elapsed since the previous checkpoint to the stage in progress and
+     * starts <code>next</code>.
+     */
+    private void enter(String next)
+    {
+        final long now = ticker.read();
+        if (stage != null)
+        {
+            final Long time = stageTimes.get(stage);
+            stageTimes.put(stage, (time != null ? time : 0) + now - stageStartNanos);
+        }
+        stage = next;
+        stageStartNanos = now;
+    }
+
+    /**
+     * Records that a stage was cut short because the budget was exceeded.
+     */
+    public void degraded(String description)
+    {
+        degradations.add(description);
+    }
+
+    /**
+     * Returns descriptions of the stages cut short because the budget was exceeded, in
+     * the order they were recorded.
+     */
+    public List<String> getDegradations()
+    {
+        return Collections.unmodifiableList(degradations);
+    }
+
+    public Policy getPolicy()
+    {
+        return policy;
+    }
+}
@@ -0,0 +1,25 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+/**
+ * Thrown by {@link TimeBudget#checkpoint(String)} when processing must be aborted.
+ */
+@SuppressWarnings("serial")
+public class TimeBudgetExceededException extends RuntimeException
+{
+    public TimeBudgetExceededException(String message)
+    {
+        super(message);
+    }
+}
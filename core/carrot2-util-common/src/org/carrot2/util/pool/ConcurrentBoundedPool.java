@@ -0,0 +1,501 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util.pool;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.carrot2.util.ExceptionUtils;
+import org.carrot2.util.Pair;
+
+/**
+ * A non-blocking, bounded object pool. Idle objects of each [class, parameter] pair are
+ * kept on a separate lock-free stack, so threads borrowing objects of different classes
+ * (or different parameters) never contend with each other and threads borrowing objects
+ * of the same class only race on a single compare-and-set.
+ * <p>
+ * The pool never blocks on borrowing: if no idle instance is available, a new one is
+ * created (a <i>miss</i>). At most <code>maxIdlePerKey</code> idle instances are kept for
+ * each key, instances returned in excess of this limit are disposed of. Instances that
+ * stayed idle for longer than <code>maxIdleTime</code> are disposed of as well, so that
+ * the pool shrinks back after a burst of concurrent requests.
+ * </p>
+ * <p>
+ * The pool keeps counters of borrowed, returned, newly created and evicted instances,
+ * see {@link #getBorrowCount()}, {@link #getReturnCount()}, {@link #getMissCount()} and
+ * {@link #getEvictionCount()}.
+ * </p>
+ */
+public final class ConcurrentBoundedPool<T, P> implements IParameterizedPool<T, P>
+{
+    /** Idle instance stacks, one per [class, parameter] pair. */
+    private final ConcurrentMap<Pair<Class<? extends T>, P>, IdleStack<T>> stacks =
+        new ConcurrentHashMap<Pair<Class<? extends T>, P>, IdleStack<T>>();
+
+    /** Instances currently borrowed from the pool and the keys they were borrowed at. */
+    private final ConcurrentMap<IdentityKey, Pair<Class<? extends T>, P>> borrowed =
+        new ConcurrentHashMap<IdentityKey, Pair<Class<? extends T>, P>>();
+
+    private volatile boolean disposed;
+
+    private IInstantiationListener<T, P> instantiationListener;
+    private IActivationListener<T, P> activationListener;
+    private IPassivationListener<T, P> passivationListener;
+    private IDisposalListener<T, P> disposalListener;
+
+    /** Maximum number of idle instances kept for each key. */
+    private final int maxIdlePerKey;
+
+    /** Maximum idle time of an instance, in nanoseconds, 0 if idle instances never expire. */
+    private final long maxIdleNanos;
+
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong returns = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a pool with no idle time limit.
+     *
+     * @param maxIdlePerKey the maximum number of idle instances kept for each key.
+     */
+    public ConcurrentBoundedPool(int maxIdlePerKey)
+    {
+        this(maxIdlePerKey, 0);
+    }
+
+    /**
+     * @param maxIdlePerKey the maximum number of idle instances kept for each key.
+     * @param maxIdleTimeMillis the time after which idle instances are disposed of, in
+     *            milliseconds. If <code>0</code>, idle instances are never disposed of
+     *            due to their idle time.
+     */
+    public ConcurrentBoundedPool(int maxIdlePerKey, long maxIdleTimeMillis)
+    {
+        if (maxIdlePerKey <= 0)
+            throw new IllegalArgumentException("Pool size must be greater than zero: "
+                + maxIdlePerKey);
+        if (maxIdleTimeMillis < 0)
+            throw new IllegalArgumentException("Idle time must not be negative: "
+                + maxIdleTimeMillis);
+
+        this.maxIdlePerKey = maxIdlePerKey;
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleTimeMillis);
+    }
+
+    /**
+     * Initialize listeners.
+     */
+    public void init(IInstantiationListener<T, P> objectInstantiationListener,
+        IActivationListener<T, P> objectActivationListener,
+        IPassivationListener<T, P> objectPassivationListener,
+        IDisposalListener<T, P> objectDisposalListener)
+    {
+        this.instantiationListener = objectInstantiationListener;
+        this.activationListener = objectActivationListener;
+        this.passivationListener = objectPassivationListener;
+        this.disposalListener = objectDisposalListener;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <I extends T> I borrowObject(Class<I> clazz, P parameter)
+        throws InstantiationException, IllegalAccessException
+    {
+        if (disposed)
+        {
+            throw new IllegalStateException("The pool has already been disposed of");
+        }
+
+        final Pair<Class<? extends T>, P> key = new Pair<Class<? extends T>, P>(clazz,
+            parameter);
+
+        I instance = null;
+        final IdleStack<T> stack = stacks.get(key);
+        if (stack != null)
+        {
+            // This cast goes unchecked and can be broken by bad calls, but we shift
+            // the responsibility to the users of this class.
+            instance = (I) pollFresh(stack, parameter);
+        }
+
+        if (instance == null)
+        {
+            misses.incrementAndGet();
+            instance = instantiate(clazz);
+            if (instantiationListener != null)
+            {
+                instantiationListener.objectInstantiated(instance, parameter);
+            }
+        }
+
+        borrowed.put(new IdentityKey(instance), key);
+        borrows.incrementAndGet();
+
+        if (activationListener != null)
+        {
+            activationListener.activate(instance, parameter);
+        }
+
+        return instance;
+    }
+
+    public void returnObject(T object, P parameter)
+    {
+        if (object == null)
+        {
+            return;
+        }
+
+        final Pair<Class<? extends T>, P> key = borrowed.remove(new IdentityKey(object));
+        if (key == null)
+        {
+            throw new IllegalStateException("Object has not been borrowed: " + object);
+        }
+
+        if (passivationListener != null)
+        {
+            passivationListener.passivate(object, parameter);
+        }
+        returns.incrementAndGet();
+
+        if (disposed)
+        {
+            dispose(object, parameter);
+            return;
+        }
+
+        IdleStack<T> stack = stacks.get(key);
+        if (stack == null)
+        {
+            final IdleStack<T> existing = stacks.putIfAbsent(key,
+                stack = new IdleStack<T>());
+            if (existing != null)
+            {
+                stack = existing;
+            }
+        }
+
+        final long now = System.nanoTime();
+        if (!stack.push(new Node<T>(object, now), maxIdlePerKey))
+        {
+            evict(object, parameter);
+        }
+
+        if (maxIdleNanos > 0 && stack.trySweep(now, maxIdleNanos))
+        {
+            sweep(stack, parameter, now);
+        }
+
+        // Don't leave instances behind if we raced with dispose().
+        if (disposed)
+        {
+            drain(stack, parameter);
+        }
+    }
+
+    /**
+     * Disposes of all instances that stayed idle for longer than the configured maximum
+     * idle time. Idle instances are also evicted on the go when objects are borrowed and
+     * returned, this method can be called periodically to shrink the pool if there is no
+     * traffic at all.
+     */
+    public void evictIdle()
+    {
+        if (maxIdleNanos <= 0 || disposed)
+        {
+            return;
+        }
+
+        final long now = System.nanoTime();
+        for (Map.Entry<Pair<Class<? extends T>, P>, IdleStack<T>> entry : stacks.entrySet())
+        {
+            sweep(entry.getValue(), entry.getKey().objectB, now);
+        }
+    }
+
+    public void dispose()
+    {
+        if (disposed)
+        {
+            return;
+        }
+        disposed = true;
+
+        for (Map.Entry<Pair<Class<? extends T>, P>, IdleStack<T>> entry : stacks.entrySet())
+        {
+            drain(entry.getValue(), entry.getKey().objectB);
+        }
+    }
+
+    /**
+     * Returns the total number of successful {@link #borrowObject(Class, Object)} calls.
+     */
+    public long getBorrowCount()
+    {
+        return borrows.get();
+    }
+
+    /**
+     * Returns the total number of successful {@link #returnObject(Object, Object)} calls.
+     */
+    public long getReturnCount()
+    {
+        return returns.get();
+    }
+
+    /**
+     * Returns the number of borrow requests that could not be served by an idle instance
+     * and required creating a new one.
+     */
+    public long getMissCount()
+    {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of instances disposed of because they exceeded the idle time or
+     * were returned to a full pool.
+     */
+    public long getEvictionCount()
+    {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the current number of idle instances held by the pool (all keys).
+     */
+    public int getIdleCount()
+    {
+        int idle = 0;
+        for (IdleStack<T> stack : stacks.values())
+        {
+            idle += stack.size.get();
+        }
+        return idle;
+    }
+
+    /**
+     * Creates an instance with the default constructor of its class.
+     */
+    private static <I> I instantiate(Class<I> clazz) throws InstantiationException,
+        IllegalAccessException
+    {
+        try
+        {
+            return clazz.getDeclaredConstructor().newInstance();
+        }
+        catch (NoSuchMethodException e)
+        {
+            throw (InstantiationException) new InstantiationException(clazz.getName()
+                + " has no default constructor").initCause(e);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw ExceptionUtils.wrapAsRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Pops idle instances until a non-expired one is found, disposes of the expired ones.
+     */
+    private T pollFresh(IdleStack<T> stack, P parameter)
+    {
+        Node<T> node;
+        while ((node = stack.pop()) != null)
+        {
+            if (maxIdleNanos > 0 && System.nanoTime() - node.idleSince > maxIdleNanos)
+            {
+                evict(node.instance, parameter);
+                continue;
+            }
+            return node.instance;
+        }
+        return null;
+    }
+
+    /**
+     * Detaches all idle instances of a stack, disposes of the expired ones and pushes the
+     * remaining ones back, preserving their order.
+     */
+    private void sweep(IdleStack<T> stack, P parameter, long now)
+    {
+        Node<T> head = stack.detach();
+        Node<T> fresh = null;
+        for (Node<T> node = head; node != null; node = node.next)
+        {
+            if (now - node.idleSince > maxIdleNanos)
+            {
+                evict(node.instance, parameter);
+            }
+            else
+            {
+                // Reverse the order, so that the least recently used instance goes
+                // back to the stack first.
+                fresh = new Node<T>(node.instance, node.idleSince, fresh);
+            }
+        }
+
+        for (Node<T> node = fresh; node != null; node = node.next)
+        {
+            if (!stack.push(new Node<T>(node.instance, node.idleSince), maxIdlePerKey))
+            {
+                evict(node.instance, parameter);
+            }
+        }
+    }
+
+    private void drain(IdleStack<T> stack, P parameter)
+    {
+        for (Node<T> node = stack.detach(); node != null; node = node.next)
+        {
+            dispose(node.instance, parameter);
+        }
+    }
+
+    private void evict(T instance, P parameter)
+    {
+        evictions.incrementAndGet();
+        dispose(instance, parameter);
+    }
+
+    private void dispose(T instance, P parameter)
+    {
+        if (disposalListener != null)
+        {
+            disposalListener.dispose(instance, parameter);
+        }
+    }
+
+    /**
+     * A Treiber stack of idle instances with a size counter. The counter is incremented
+     * before an instance is pushed and decremented after it is popped, so the actual
+     * number of instances on the stack never exceeds the limit.
+     */
+    private static final class IdleStack<T>
+    {
+        final AtomicReference<Node<T>> head = new AtomicReference<Node<T>>();
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+        boolean push(Node<T> node, int limit)
+        {
+            int current;
+            do
+            {
+                current = size.get();
+                if (current >= limit)
+                {
+                    return false;
+                }
+            }
+            while (!size.compareAndSet(current, current + 1));
+
+            Node<T> top;
+            do
+            {
+                top = head.get();
+                node.next = top;
+            }
+            while (!head.compareAndSet(top, node));
+            return true;
+        }
+
+        Node<T> pop()
+        {
+            Node<T> top;
+            do
+            {
+                top = head.get();
+                if (top == null)
+                {
+                    return null;
+                }
+            }
+            while (!head.compareAndSet(top, top.next));
+
+            size.decrementAndGet();
+            return top;
+        }
+
+        Node<T> detach()
+        {
+            final Node<T> top = head.getAndSet(null);
+            int count = 0;
+            for (Node<T> node = top; node != null; node = node.next)
+            {
+                count++;
+            }
+            size.addAndGet(-count);
+            return top;
+        }
+
+        /**
+         * Returns <code>true</code> if the calling thread should sweep this stack. At most
+         * one sweep per idle time period is performed.
+         */
+        boolean trySweep(long now, long period)
+        {
+            final long last = lastSweep.get();
+            return now - last > period && lastSweep.compareAndSet(last, now);
+        }
+    }
+
+    private static final class Node<T>
+    {
+        final T instance;
+        final long idleSince;
+        Node<T> next;
+
+        Node(T instance, long idleSince)
+        {
+            this.instance = instance;
+            this.idleSince = idleSince;
+        }
+
+        Node(T instance, long idleSince, Node<T> next)
+        {
+            this(instance, idleSince);
+            this.next = next;
+        }
+    }
+
+    /**
+     * Wraps an object so that it is compared by reference and hashed by identity.
+     */
+    private static final class IdentityKey
+    {
+        private final Object object;
+
+        IdentityKey(Object object)
+        {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof IdentityKey && ((IdentityKey) obj).object == object;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(object);
+        }
+    }
+}
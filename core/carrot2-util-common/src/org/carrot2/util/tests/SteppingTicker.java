@@ -0,0 +1,39 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util.tests;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+
+/**
+ * A {@link Ticker} advancing by a fixed step on each reading, e.g. to make a time budget
+ * run out at its first check regardless of the speed of the machine.
+ */
+public final class SteppingTicker extends Ticker
+{
+    private final long stepNanos;
+    private final AtomicLong nanos = new AtomicLong();
+
+    public SteppingTicker(long step, TimeUnit unit)
+    {
+        this.stepNanos = unit.toNanos(step);
+    }
+
+    @Override
+    public long read()
+    {
+        return nanos.addAndGet(stepNanos);
+    }
+}
@@ -0,0 +1,240 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import org.apache.mahout.math.function.Functions;
+import org.apache.mahout.math.function.IntIntDoubleFunction;
+import org.apache.mahout.math.matrix.DoubleMatrix1D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CompressedRowDoubleMatrix2D}.
+ */
+@SuppressWarnings("deprecation")
+public class CompressedRowDoubleMatrix2DTest extends CarrotTestCase
+{
+    @Test
+    public void testBuilder()
+    {
+        final CompressedRowDoubleMatrix2D matrix = new CompressedRowDoubleMatrix2D.Builder(
+            4).set(3, 1).set(0, 2).set(3, 3).endRow().endRow().set(1, 4).set(2, 0)
+            .endRow().build();
+
+        assertThat(matrix.getNonZeroCount()).isEqualTo(3);
+        MatrixAssertions.assertThat(matrix).isEquivalentTo(new double [] []
+        {
+            {
+                2, 0, 0, 3
+            },
+            {
+                0, 0, 0, 0
+            },
+            {
+                0, 4, 0, 0
+            }
+        });
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAlreadyBuilt()
+    {
+        final CompressedRowDoubleMatrix2D.Builder builder = new CompressedRowDoubleMatrix2D.Builder(
+            1);
+        builder.build();
+        builder.build();
+    }
+
+    @Test
+    public void testSetQuick()
+    {
+        final DoubleMatrix2D matrix = new CompressedRowDoubleMatrix2D.Builder(2).set(1, 1)
+            .endRow().build();
+        matrix.setQuick(0, 1, 5);
+        matrix.setQuick(0, 0, 0);
+        assertThat(matrix.getQuick(0, 1)).isEqualTo(5.0);
+
+        try
+        {
+            matrix.setQuick(0, 0, 1);
+            fail();
+        }
+        catch (UnsupportedOperationException e)
+        {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLike1D()
+    {
+        final CompressedRowDoubleMatrix2D matrix = new CompressedRowDoubleMatrix2D.Builder(
+            2).set(1, 1).endRow().build();
+        final DoubleMatrix1D vector = matrix.like1D(3, 1, 2);
+
+        assertThat(vector.size()).isEqualTo(3);
+        vector.setQuick(2, 4);
+        assertThat(vector.getQuick(2)).isEqualTo(4.0);
+        assertThat(matrix.getQuick(0, 1)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testViews()
+    {
+        final DoubleMatrix2D dense = randomMatrix(randomIntBetween(1, 20),
+            randomIntBetween(1, 20));
+        final DoubleMatrix2D sparse = toSparse(dense);
+
+        MatrixAssertions.assertThat(sparse).isEquivalentTo(dense);
+        MatrixAssertions.assertThat(sparse.viewDice()).isEquivalentTo(dense.viewDice());
+        MatrixAssertions.assertThat(sparse.viewDice().viewDice()).isEquivalentTo(dense);
+        MatrixAssertions.assertThat(sparse.viewRowFlip().viewDice()).isEquivalentTo(
+            dense.viewRowFlip().viewDice());
+
+        final int row = randomIntBetween(0, dense.rows() - 1);
+        final int column = randomIntBetween(0, dense.columns() - 1);
+        MatrixAssertions.assertThat(sparse.viewPart(row, column, dense.rows() - row,
+            dense.columns() - column).viewDice()).isEquivalentTo(
+            dense.viewPart(row, column, dense.rows() - row, dense.columns() - column)
+                .viewDice());
+
+        final int [] rows = randomIndices(dense.rows());
+        final int [] columns = randomIndices(dense.columns());
+        MatrixAssertions.assertThat(sparse.viewSelection(rows, columns))
+            .isEquivalentTo(dense.viewSelection(rows, columns));
+        MatrixAssertions.assertThat(sparse.viewDice().viewSelection(columns, rows))
+            .isEquivalentTo(dense.viewDice().viewSelection(columns, rows));
+        MatrixAssertions.assertThat(sparse.viewSelection(rows, columns).viewDice())
+            .isEquivalentTo(dense.viewSelection(rows, columns).viewDice());
+
+        MatrixAssertions.assertThat(sparse.viewRow(row)).isEquivalentTo(
+            dense.viewRow(row).toArray());
+        MatrixAssertions.assertThat(sparse.viewColumn(column)).isEquivalentTo(
+            dense.viewColumn(column).toArray());
+        MatrixAssertions.assertThat(sparse.viewRow(row).viewPart(column,
+            dense.columns() - column)).isEquivalentTo(
+            dense.viewRow(row).viewPart(column, dense.columns() - column).toArray());
+
+        MatrixAssertions.assertThat(sparse.copy()).isEquivalentTo(dense);
+    }
+
+    @Test
+    public void testForEachNonZero()
+    {
+        final DoubleMatrix2D dense = randomMatrix(randomIntBetween(1, 20),
+            randomIntBetween(1, 20));
+        final DoubleMatrix2D sparse = randomBoolean() ? toSparse(dense) : toSparse(
+            dense.viewDice().copy()).viewDice();
+
+        final double [][] visited = new double [dense.rows()] [dense.columns()];
+        sparse.forEachNonZero(new IntIntDoubleFunction()
+        {
+            @Override
+            public double apply(int row, int column, double value)
+            {
+                visited[row][column] = value;
+                return value * 2;
+            }
+        });
+
+        MatrixAssertions.assertThat(dense).isEquivalentTo(visited);
+        dense.assign(Functions.mult(2));
+        MatrixAssertions.assertThat(sparse).isEquivalentTo(dense);
+    }
+
+    @Test
+    public void testZMult()
+    {
+        final int m = randomIntBetween(1, 20);
+        final int n = randomIntBetween(1, 20);
+        final int p = randomIntBetween(1, 5);
+        final DoubleMatrix2D dense = randomMatrix(m, n);
+
+        for (int flags = 0; flags < 8; flags++)
+        {
+            final boolean diced = (flags & 1) != 0;
+            final boolean transposeA = (flags & 2) != 0;
+            final boolean transposeB = (flags & 4) != 0;
+
+            final DoubleMatrix2D a = diced ? toSparse(dense.viewDice().copy()).viewDice()
+                : toSparse(dense);
+            DoubleMatrix2D b = randomMatrix(transposeA ? m : n, p);
+            if (transposeB)
+            {
+                b = b.viewDice().copy();
+            }
+            final DoubleMatrix2D c = randomMatrix(transposeA ? n : m, p);
+
+            MatrixAssertions.assertThat(
+                a.zMult(b, c.copy(), 2, 0.5, transposeA, transposeB)).isEquivalentTo(
+                dense.zMult(b, c.copy(), 2, 0.5, transposeA, transposeB), 1e-9);
+            MatrixAssertions.assertThat(a.zMult(b, null, 2, 0, transposeA, transposeB))
+                .isEquivalentTo(dense.zMult(b, null, 2, 0, transposeA, transposeB), 1e-9);
+        }
+    }
+
+    @Test
+    public void testNormalizeColumnL2()
+    {
+        final DoubleMatrix2D dense = randomMatrix(randomIntBetween(1, 20),
+            randomIntBetween(1, 20));
+        final DoubleMatrix2D sparse = toSparse(dense);
+
+        MatrixUtils.normalizeColumnL2(dense, null);
+        MatrixUtils.normalizeColumnL2(sparse, null);
+        MatrixAssertions.assertThat(sparse).isEquivalentTo(dense, 1e-9);
+    }
+
+    private DoubleMatrix2D randomMatrix(int rows, int columns)
+    {
+        final DoubleMatrix2D matrix = new DenseDoubleMatrix2D(rows, columns);
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                if (randomIntBetween(0, 3) == 0)
+                {
+                    matrix.setQuick(r, c, randomDouble());
+                }
+            }
+        }
+        return matrix;
+    }
+
+    private int [] randomIndices(int size)
+    {
+        final int [] indices = new int [randomIntBetween(1, size * 2)];
+        for (int i = 0; i < indices.length; i++)
+        {
+            indices[i] = randomIntBetween(0, size - 1);
+        }
+        return indices;
+    }
+
+    static CompressedRowDoubleMatrix2D toSparse(DoubleMatrix2D matrix)
+    {
+        final CompressedRowDoubleMatrix2D.Builder builder = new CompressedRowDoubleMatrix2D.Builder(
+            matrix.columns());
+        for (int r = 0; r < matrix.rows(); r++)
+        {
+            for (int c = 0; c < matrix.columns(); c++)
+            {
+                builder.set(c, matrix.getQuick(r, c));
+            }
+            builder.endRow();
+        }
+        return builder.build();
+    }
+}
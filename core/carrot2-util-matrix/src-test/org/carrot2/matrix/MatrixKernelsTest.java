@@ -0,0 +1,190 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.fest.assertions.Delta;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link MatrixKernels}.
+ */
+@SuppressWarnings("deprecation")
+public class MatrixKernelsTest extends CarrotTestCase
+{
+    @Test
+    public void testZMult()
+    {
+        final int m = randomIntBetween(1, 300);
+        final int n = randomIntBetween(1, 100);
+        final int p = randomIntBetween(1, 300);
+
+        for (int flags = 0; flags < 4; flags++)
+        {
+            final boolean transposeA = (flags & 1) != 0;
+            final boolean transposeB = (flags & 2) != 0;
+
+            final DoubleMatrix2D a = transposeA ? randomMatrix(n, m) : randomMatrix(m, n);
+            final DoubleMatrix2D b = transposeB ? randomMatrix(p, n) : randomMatrix(n, p);
+            final DoubleMatrix2D c = randomMatrix(m, p);
+            final int threads = randomIntBetween(1, 4);
+
+            MatrixAssertions.assertThat(
+                MatrixKernels.zMult(a, b, c.copy(), 2, 0.5, transposeA, transposeB,
+                    threads)).isEquivalentTo(
+                a.zMult(b, c.copy(), 2, 0.5, transposeA, transposeB), 1e-9);
+            MatrixAssertions.assertThat(
+                MatrixKernels.zMult(a, b, null, 1, 0, transposeA, transposeB, threads))
+                .isEquivalentTo(a.zMult(b, null, 1, 0, transposeA, transposeB), 1e-9);
+        }
+    }
+
+    @Test
+    public void testZMultViews()
+    {
+        final DoubleMatrix2D a = randomMatrix(30, 20).viewPart(5, 2, 20, 15);
+        final DoubleMatrix2D b = randomMatrix(20, 30).viewRowFlip().viewPart(0, 3, 15,
+            20);
+        final DoubleMatrix2D c = new DenseDoubleMatrix2D(25, 30).viewPart(5, 10, 20, 20);
+
+        MatrixKernels.zMult(a, b, c, 1, 0, false, false, 1);
+        MatrixAssertions.assertThat(c).isEquivalentTo(
+            a.zMult(b, null, 1, 0, false, false), 1e-9);
+    }
+
+    @Test
+    public void testZMultSparse()
+    {
+        final DoubleMatrix2D dense = randomMatrix(randomIntBetween(1, 20),
+            randomIntBetween(1, 20));
+        final DoubleMatrix2D sparse = CompressedRowDoubleMatrix2DTest.toSparse(dense);
+        final DoubleMatrix2D b = randomMatrix(dense.columns(), 5);
+
+        MatrixAssertions.assertThat(
+            MatrixKernels.zMult(sparse, b, null, 1, 0, false, false, 2)).isEquivalentTo(
+            dense.zMult(b, null, 1, 0, false, false), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZMultIncompatible()
+    {
+        MatrixKernels.zMult(randomMatrix(3, 4), randomMatrix(3, 4), null, 1, 0, false,
+            false, 1);
+    }
+
+    @Test
+    public void testGram()
+    {
+        final DoubleMatrix2D u = randomMatrix(randomIntBetween(1, 2000),
+            randomIntBetween(1, 30));
+        final DoubleMatrix2D t = MatrixKernels.gram(u, null, randomIntBetween(1, 4));
+
+        MatrixAssertions.assertThat(t).isEquivalentTo(
+            u.zMult(u, null, 1, 0, true, false), 1e-9);
+        for (int r = 0; r < t.rows(); r++)
+        {
+            for (int c = 0; c < r; c++)
+            {
+                assertThat(t.getQuick(r, c)).isEqualTo(t.getQuick(c, r));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyInChunks()
+    {
+        final int m = randomIntBetween(1, 50);
+        final int n = randomIntBetween(1, 300);
+        final int p = randomIntBetween(1, 300);
+        final DoubleMatrix2D a = randomMatrix(m, n);
+        final DoubleMatrix2D b = randomMatrix(n, p);
+
+        final double [] c = new double [m * p];
+        for (int i = 0; i < c.length; i++)
+        {
+            c[i] = randomDouble();
+        }
+        MatrixKernels.multiplyInChunks(toArray(a), toArray(b), c, m, n, p,
+            randomIntBetween(1, m), null);
+
+        final DoubleMatrix2D expected = a.zMult(b, null, 1, 0, false, false);
+        for (int i = 0; i < c.length; i++)
+        {
+            assertThat(c[i]).isEqualTo(expected.getQuick(i / p, i % p),
+                Delta.delta(1e-9));
+        }
+    }
+
+    @Test
+    public void testSharedExecutor()
+    {
+        final int m = randomIntBetween(2, 50);
+        final int n = randomIntBetween(1, 100);
+        final int p = randomIntBetween(1, 100);
+        final DoubleMatrix2D a = randomMatrix(m, n);
+        final DoubleMatrix2D b = randomMatrix(n, p);
+        final DoubleMatrix2D expected = a.zMult(b, null, 1, 0, false, false);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try
+        {
+            for (int i = 0; i < 3; i++)
+            {
+                final double [] c = new double [m * p];
+                MatrixKernels.multiplyInChunks(toArray(a), toArray(b), c, m, n, p,
+                    randomIntBetween(2, m), executor);
+                for (int j = 0; j < c.length; j++)
+                {
+                    assertThat(c[j]).isEqualTo(expected.getQuick(j / p, j % p),
+                        Delta.delta(1e-9));
+                }
+            }
+            assertThat(executor.isShutdown()).isFalse();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private DoubleMatrix2D randomMatrix(int rows, int columns)
+    {
+        final DoubleMatrix2D matrix = new DenseDoubleMatrix2D(rows, columns);
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                matrix.setQuick(r, c, randomDouble());
+            }
+        }
+        return matrix;
+    }
+
+    private static double [] toArray(DoubleMatrix2D matrix)
+    {
+        final double [] array = new double [matrix.rows() * matrix.columns()];
+        for (int r = 0; r < matrix.rows(); r++)
+        {
+            for (int c = 0; c < matrix.columns(); c++)
+            {
+                array[r * matrix.columns() + c] = matrix.getQuick(r, c);
+            }
+        }
+        return array;
+    }
+}
@@ -12,12 +12,26 @@
 
 package org.carrot2.matrix.factorization;
 
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.mahout.math.function.Functions;
 import org.apache.mahout.math.matrix.DoubleMatrix2D;
 import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
+import org.carrot2.matrix.CompressedRowDoubleMatrix2D;
 import org.carrot2.matrix.MatrixAssertions;
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategy;
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategyFactory;
+import org.carrot2.matrix.factorization.seeding.WarmStartSeedingStrategy;
+import org.carrot2.matrix.factorization.seeding.WarmStartSeedingStrategyFactory;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.TimeBudget.Policy;
+import org.carrot2.util.TimeBudgetExceededException;
 import org.carrot2.util.tests.CarrotTestCase;
+import org.carrot2.util.tests.SteppingTicker;
+import org.fest.assertions.Delta;
 import org.junit.Test;
 
 /**
@@ -372,6 +386,257 @@ public class MatrixFactorizationTest extends CarrotTestCase
             new LocalNonnegativeMatrixFactorizationFactory());
     }
 
+    @Test
+    public void testSparseInput()
+    {
+        final DoubleMatrix2D sparse = toSparse(A);
+
+        for (IterativeMatrixFactorizationFactory factory : new IterativeMatrixFactorizationFactory []
+        {
+            new NonnegativeMatrixFactorizationEDFactory(),
+            new NonnegativeMatrixFactorizationKLFactory(),
+            new LocalNonnegativeMatrixFactorizationFactory(),
+            new KMeansMatrixFactorizationFactory()
+        })
+        {
+            factory.setK(K);
+            factory.setMaxIterations(MAX_ITERATIONS);
+            factory.setStopThreshold(STOP_THRESHOLD);
+            factory.setSeedingFactory(ConstantSeedingStrategyFactory.INSTANCE);
+            check(factory.factorize(A).getU(), factory.factorize(A).getV(),
+                factory.factorize(sparse));
+        }
+    }
+
+    @Test
+    public void testRandomizedSVD()
+    {
+        final PartialSingularValueDecompositionFactory exactFactory = new PartialSingularValueDecompositionFactory();
+        exactFactory.setK(K);
+        final PartialSingularValueDecomposition exact = (PartialSingularValueDecomposition) exactFactory
+            .factorize(A);
+
+        final RandomizedSingularValueDecompositionFactory factory = new RandomizedSingularValueDecompositionFactory();
+        factory.setK(K);
+        factory.setSeed(randomLong());
+        for (DoubleMatrix2D input : new DoubleMatrix2D []
+        {
+            A, toSparse(A)
+        })
+        {
+            final RandomizedSingularValueDecomposition factorization = (RandomizedSingularValueDecomposition) factory
+                .factorize(input);
+
+            // Singular vectors are unique up to their signs
+            MatrixAssertions.assertThat(abs(factorization.getU())).as("U").isEquivalentTo(
+                abs(exact.getU()), DELTA);
+            MatrixAssertions.assertThat(abs(factorization.getV())).as("V").isEquivalentTo(
+                abs(exact.getV()), DELTA);
+            org.junit.Assert.assertArrayEquals(exact.getSingularValues(),
+                factorization.getSingularValues(), DELTA);
+        }
+    }
+
+    @Test
+    public void testRandomizedSVDLowRank()
+    {
+        // A random matrix of rank 8, oversampling captures its whole range
+        final int rows = randomIntBetween(20, 100);
+        final int columns = randomIntBetween(20, 100);
+        final DoubleMatrix2D input = randomMatrix(rows, 8).zMult(
+            randomMatrix(8, columns), null, 1, 0, false, false);
+
+        final PartialSingularValueDecomposition exact = new PartialSingularValueDecomposition(
+            input);
+        exact.compute();
+        final RandomizedSingularValueDecomposition factorization = new RandomizedSingularValueDecomposition(
+            input);
+        factorization.setK(5);
+        factorization.setPowerIterations(0);
+        factorization.setSeed(randomLong());
+        factorization.compute();
+
+        assertThat(factorization.getU().rows()).isEqualTo(rows);
+        assertThat(factorization.getU().columns()).isEqualTo(5);
+        assertThat(factorization.getV().rows()).isEqualTo(columns);
+        assertThat(factorization.getV().columns()).isEqualTo(5);
+        org.junit.Assert.assertArrayEquals(
+            Arrays.copyOf(exact.getSingularValues(), 5),
+            factorization.getSingularValues(), 1e-6);
+        MatrixAssertions.assertThat(abs(factorization.getU())).isEquivalentTo(
+            abs(exact.getU().viewPart(0, 0, rows, 5)), 1e-6);
+    }
+
+    @Test
+    public void testApproximationError()
+    {
+        final DoubleMatrix2D input = randomBoolean() ? A : toSparse(A);
+        final NonnegativeMatrixFactorizationEDFactory factory = new NonnegativeMatrixFactorizationEDFactory();
+        factory.setK(K);
+        factory.setMaxIterations(randomIntBetween(1, MAX_ITERATIONS));
+        factory.setStopThreshold(STOP_THRESHOLD);
+        factory.setSeedingFactory(ConstantSeedingStrategyFactory.INSTANCE);
+
+        final IterativeMatrixFactorizationBase factorization = (IterativeMatrixFactorizationBase) factory
+            .factorize(input);
+        final DoubleMatrix2D difference = A.copy();
+        difference.assign(factorization.getU().zMult(factorization.getV(), null, 1, 0,
+            false, true), Functions.MINUS);
+
+        assertThat(factorization.getApproximationError()).isEqualTo(
+            Math.sqrt(difference.aggregate(Functions.PLUS, Functions.SQUARE)),
+            Delta.delta(1e-9));
+    }
+
+    @Test
+    public void testConvergenceThreshold()
+    {
+        final NonnegativeMatrixFactorizationEDFactory factory = new NonnegativeMatrixFactorizationEDFactory();
+        factory.setK(K);
+        factory.setMaxIterations(MAX_ITERATIONS);
+        factory.setSeedingFactory(ConstantSeedingStrategyFactory.INSTANCE);
+
+        factory.setConvergenceThreshold(-1);
+        assertThat(
+            ((IterativeMatrixFactorizationBase) factory.factorize(A))
+                .getIterationsCompleted()).isEqualTo(MAX_ITERATIONS);
+
+        factory.setConvergenceThreshold(0.05);
+        final int iterations = ((IterativeMatrixFactorizationBase) factory.factorize(A))
+            .getIterationsCompleted();
+        assertThat(iterations).isGreaterThan(0).isLessThan(MAX_ITERATIONS);
+    }
+
+    @Test
+    public void testTimeBudget()
+    {
+        final NonnegativeMatrixFactorizationEDFactory factory = new NonnegativeMatrixFactorizationEDFactory();
+        factory.setK(K);
+        factory.setMaxIterations(MAX_ITERATIONS);
+        factory.setSeedingFactory(ConstantSeedingStrategyFactory.INSTANCE);
+
+        // Converging early is not a degradation
+        final TimeBudget unlimited = new TimeBudget(0, Policy.DEGRADE);
+        factory.setTimeBudget(unlimited);
+        factory.setConvergenceThreshold(0.05);
+        assertThat(
+            ((IterativeMatrixFactorizationBase) factory.factorize(A))
+                .getIterationsCompleted()).isLessThan(MAX_ITERATIONS);
+        assertThat(unlimited.getDegradations()).isEmpty();
+
+        final TimeBudget expired = new TimeBudget(1, Policy.DEGRADE, new SteppingTicker(1,
+            TimeUnit.MILLISECONDS));
+        factory.setTimeBudget(expired);
+        factory.setConvergenceThreshold(-1);
+        assertThat(
+            ((IterativeMatrixFactorizationBase) factory.factorize(A))
+                .getIterationsCompleted()).isEqualTo(1);
+        assertThat(expired.getDegradations()).containsExactly(
+            "matrix factorization: 1 of " + MAX_ITERATIONS + " iterations");
+
+        factory.setTimeBudget(new TimeBudget(1, Policy.ABORT, new SteppingTicker(1,
+            TimeUnit.MILLISECONDS)));
+        try
+        {
+            factory.factorize(A);
+            fail("Expected an exception.");
+        }
+        catch (TimeBudgetExceededException e)
+        {
+            assertThat(e.getMessage()).startsWith("Time budget of 1 ms exceeded");
+        }
+    }
+
+    @Test
+    public void testSharedExecutor()
+    {
+        // Large enough for products to be computed in more than one chunk of rows
+        final DoubleMatrix2D input = randomMatrix(600, 400);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            for (IterativeMatrixFactorizationFactory factory : new IterativeMatrixFactorizationFactory []
+            {
+                new NonnegativeMatrixFactorizationEDFactory(),
+                new NonnegativeMatrixFactorizationKLFactory(),
+                new KMeansMatrixFactorizationFactory()
+            })
+            {
+                factory.setK(10);
+                factory.setMaxIterations(3);
+                final IMatrixFactorization expected = factory.factorize(input);
+
+                factory.setThreads(3);
+                factory.setExecutor(executor);
+                check(expected.getU(), expected.getV(), factory.factorize(input));
+            }
+            assertThat(executor.isShutdown()).isFalse();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWarmStart()
+    {
+        final NonnegativeMatrixFactorizationEDFactory factory = new NonnegativeMatrixFactorizationEDFactory();
+        factory.setK(K);
+        factory.setMaxIterations(MAX_ITERATIONS);
+        factory.setSeedingFactory(ConstantSeedingStrategyFactory.INSTANCE);
+        factory.setConvergenceThreshold(0.05);
+        final IterativeMatrixFactorizationBase cold = (IterativeMatrixFactorizationBase) factory
+            .factorize(A);
+
+        factory.setSeedingFactory(new WarmStartSeedingStrategyFactory(cold.getU()
+            .toArray(), ConstantSeedingStrategyFactory.INSTANCE));
+        final IterativeMatrixFactorizationBase warm = (IterativeMatrixFactorizationBase) factory
+            .factorize(A);
+
+        assertThat(warm.getIterationsCompleted()).isLessThan(
+            cold.getIterationsCompleted());
+        MatrixAssertions.assertThat(warm.getU()).isEquivalentTo(cold.getU(), 0.1);
+    }
+
+    @Test
+    public void testWarmStartSeeding()
+    {
+        final DoubleMatrix2D U = new DenseDoubleMatrix2D(3, 2);
+        final DoubleMatrix2D V = new DenseDoubleMatrix2D(4, 2);
+        new WarmStartSeedingStrategy(new double [] []
+        {
+            null,
+            {
+                1, 2
+            },
+            {
+                3
+            }
+        }, new ISeedingStrategy()
+        {
+            public void seed(DoubleMatrix2D A, DoubleMatrix2D U, DoubleMatrix2D V)
+            {
+                U.assign(7);
+                V.assign(5);
+            }
+        }).seed(A, U, V);
+
+        MatrixAssertions.assertThat(U).isEquivalentTo(new double [] []
+        {
+            {
+                7, 7
+            },
+            {
+                1, 2
+            },
+            {
+                3, 7
+            }
+        });
+        assertThat(V.aggregate(Functions.PLUS, Functions.IDENTITY)).isEqualTo(40.0);
+    }
+
     private IMatrixFactorization checkIterative(DoubleMatrix2D expectedU,
         DoubleMatrix2D expectedV, IterativeMatrixFactorizationFactory factory)
     {
@@ -386,6 +651,41 @@ public class MatrixFactorizationTest extends CarrotTestCase
         return factorization;
     }
 
+    private static DoubleMatrix2D toSparse(DoubleMatrix2D matrix)
+    {
+        final CompressedRowDoubleMatrix2D.Builder builder = new CompressedRowDoubleMatrix2D.Builder(
+            matrix.columns());
+        for (int r = 0; r < matrix.rows(); r++)
+        {
+            for (int c = 0; c < matrix.columns(); c++)
+            {
+                builder.set(c, matrix.getQuick(r, c));
+            }
+            builder.endRow();
+        }
+        return builder.build();
+    }
+
+    private DoubleMatrix2D randomMatrix(int rows, int columns)
+    {
+        final DoubleMatrix2D matrix = new DenseDoubleMatrix2D(rows, columns);
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                matrix.setQuick(r, c, randomDouble());
+            }
+        }
+        return matrix;
+    }
+
+    private static DoubleMatrix2D abs(DoubleMatrix2D matrix)
+    {
+        final DoubleMatrix2D abs = matrix.copy();
+        abs.assign(Functions.ABS);
+        return abs;
+    }
+
     private void check(DoubleMatrix2D expectedU, DoubleMatrix2D expectedV,
         IMatrixFactorization factorization)
     {
@@ -0,0 +1,507 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import org.apache.mahout.math.function.IntIntDoubleFunction;
+import org.apache.mahout.math.matrix.DoubleMatrix1D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.impl.AbstractMatrix2D;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix1D;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.sorting.IndirectComparator;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+
+/**
+ * A sparse matrix storing the non-zero elements of each row one after another, in the
+ * compressed sparse row (CSR) format. The transposition of the matrix,
+ * {@link #viewDice()}, is a matrix in the compressed sparse column (CSC) format. The
+ * matrix takes memory proportional to the number of its non-zero elements and so does
+ * multiplying it by a dense matrix with
+ * {@link #zMult(DoubleMatrix2D, DoubleMatrix2D, double, double, boolean, boolean)}.
+ * <p>
+ * Positions of the non-zero elements are fixed when the matrix is built with a
+ * {@link Builder}. Values at these positions can be changed, setting any other element
+ * to a value other than zero throws an {@link UnsupportedOperationException}. Matrices
+ * created by {@link #like(int, int)}, including copies and products, are dense.
+ */
+@SuppressWarnings("deprecation")
+public final class CompressedRowDoubleMatrix2D extends DoubleMatrix2D
+{
+    /**
+     * Elements of row <code>i</code> are stored from <code>offsets[i]</code> (inclusive)
+     * to <code>offsets[i + 1]</code> (exclusive).
+     */
+    private final int [] offsets;
+
+    /**
+     * Column indices of elements, in the ascending order within each row.
+     */
+    private final int [] indices;
+
+    /**
+     * Values of elements.
+     */
+    private final double [] values;
+
+    /**
+     * The number of columns of the stored matrix.
+     */
+    private final int storedColumns;
+
+    /**
+     * If <code>true</code>, rows of this view are columns of the stored matrix.
+     */
+    private boolean diced;
+
+    /**
+     * Positions of rows and columns of a selection view, <code>null</code> for other
+     * views.
+     */
+    private int [] rowOffsets;
+    private int [] columnOffsets;
+
+    private CompressedRowDoubleMatrix2D(int columns, int [] offsets, int [] indices,
+        double [] values)
+    {
+        setUp(offsets.length - 1, columns, 0, 0, 1, 1);
+        this.offsets = offsets;
+        this.indices = indices;
+        this.values = values;
+        this.storedColumns = columns;
+    }
+
+    /**
+     * Returns the number of stored (non-zero) elements.
+     */
+    public int getNonZeroCount()
+    {
+        return offsets[offsets.length - 1];
+    }
+
+    @Override
+    public double getQuick(int row, int column)
+    {
+        final int position = position(row, column);
+        return position >= 0 ? values[position] : 0;
+    }
+
+    @Override
+    public void setQuick(int row, int column, double value)
+    {
+        final int position = position(row, column);
+        if (position >= 0)
+        {
+            values[position] = value;
+        }
+        else if (value != 0)
+        {
+            throw new UnsupportedOperationException("Element (" + row + ", " + column
+                + ") is not stored in the sparse matrix.");
+        }
+    }
+
+    /**
+     * Returns the position of an element in {@link #values} or <code>-1</code> if the
+     * element is not stored.
+     */
+    private int position(int row, int column)
+    {
+        final int r = rowOffset(rowRank(row));
+        final int c = columnOffset(columnRank(column));
+        final int storedRow = diced ? c : r;
+        final int storedColumn = diced ? r : c;
+
+        int from = offsets[storedRow];
+        int to = offsets[storedRow + 1] - 1;
+        while (from <= to)
+        {
+            final int mid = (from + to) >>> 1;
+            final int index = indices[mid];
+            if (index < storedColumn)
+            {
+                from = mid + 1;
+            }
+            else if (index > storedColumn)
+            {
+                to = mid - 1;
+            }
+            else
+            {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if this view covers the whole stored matrix (possibly
+     * transposed) with no flips, parts or selections.
+     */
+    private boolean isWholeView()
+    {
+        return rowOffsets == null && columnOffsets == null && rowZero == 0
+            && columnZero == 0 && rowStride == 1 && columnStride == 1
+            && (diced ? columns : rows) == offsets.length - 1
+            && (diced ? rows : columns) == storedColumns;
+    }
+
+    @Override
+    public void forEachNonZero(IntIntDoubleFunction function)
+    {
+        if (!isWholeView())
+        {
+            super.forEachNonZero(function);
+            return;
+        }
+
+        for (int r = 0; r < offsets.length - 1; r++)
+        {
+            for (int i = offsets[r]; i < offsets[r + 1]; i++)
+            {
+                final double value = values[i];
+                if (value != 0)
+                {
+                    final double result = diced ? function.apply(indices[i], r, value)
+                        : function.apply(r, indices[i], value);
+                    if (result != value)
+                    {
+                        values[i] = result;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes <code>C = alpha * op(A) * op(B) + beta * C</code>, where <code>A</code>
+     * is this matrix, in time proportional to the number of non-zero elements of
+     * <code>A</code> times the number of columns of <code>op(B)</code>.
+     */
+    @Override
+    public DoubleMatrix2D zMult(DoubleMatrix2D B, DoubleMatrix2D C, double alpha,
+        double beta, boolean transposeA, boolean transposeB)
+    {
+        if (!isWholeView())
+        {
+            return super.zMult(B, C, alpha, beta, transposeA, transposeB);
+        }
+
+        if (transposeB)
+        {
+            B = B.viewDice();
+        }
+        final int m = transposeA ? columns : rows;
+        final int n = transposeA ? rows : columns;
+        final int p = B.columns();
+        if (C == null)
+        {
+            C = like(m, p);
+        }
+        if (B.rows() != n || C.rows() != m || C.columns() != p)
+        {
+            throw new IllegalArgumentException("Incompatible args: " + m + "x" + n
+                + ", " + B.rows() + "x" + p + ", " + C.rows() + "x" + C.columns());
+        }
+        if (C == this || C == B)
+        {
+            throw new IllegalArgumentException("Matrices must not be identical");
+        }
+
+        // Rows of B one after another, so that rows of the product are sums of them
+        final double [] b = new double [n * p];
+        for (int r = 0; r < n; r++)
+        {
+            for (int c = 0; c < p; c++)
+            {
+                b[r * p + c] = B.getQuick(r, c);
+            }
+        }
+
+        // Multiply either the stored matrix or its transposition
+        final boolean stored = transposeA == diced;
+        final double [] product = new double [m * p];
+        for (int r = 0; r < offsets.length - 1; r++)
+        {
+            for (int i = offsets[r]; i < offsets[r + 1]; i++)
+            {
+                final double value = values[i];
+                final int from = (stored ? indices[i] : r) * p;
+                final int to = (stored ? r : indices[i]) * p;
+                for (int c = 0; c < p; c++)
+                {
+                    product[to + c] += value * b[from + c];
+                }
+            }
+        }
+
+        for (int r = 0; r < m; r++)
+        {
+            for (int c = 0; c < p; c++)
+            {
+                C.setQuick(r, c, alpha * product[r * p + c] + beta * C.getQuick(r, c));
+            }
+        }
+        return C;
+    }
+
+    @Override
+    public DoubleMatrix2D like(int rows, int columns)
+    {
+        return new DenseDoubleMatrix2D(rows, columns);
+    }
+
+    @Override
+    public DoubleMatrix1D like1D(int size)
+    {
+        return new DenseDoubleMatrix1D(size);
+    }
+
+    /**
+     * Returns a dense vector, the compressed storage cannot be shared with it.
+     */
+    @Override
+    protected DoubleMatrix1D like1D(int size, int zero, int stride)
+    {
+        return new DenseDoubleMatrix1D(size);
+    }
+
+    @Override
+    public DoubleMatrix1D viewRow(int row)
+    {
+        checkRow(row);
+        return new VectorView(viewPart(row, 0, 1, columns));
+    }
+
+    @Override
+    public DoubleMatrix1D viewColumn(int column)
+    {
+        checkColumn(column);
+        return new VectorView(viewPart(0, column, rows, 1).viewDice());
+    }
+
+    @Override
+    protected AbstractMatrix2D vDice()
+    {
+        super.vDice();
+        final int [] tmp = rowOffsets;
+        rowOffsets = columnOffsets;
+        columnOffsets = tmp;
+        diced = !diced;
+        return this;
+    }
+
+    @Override
+    protected DoubleMatrix2D viewSelectionLike(int [] rowOffsets, int [] columnOffsets)
+    {
+        final CompressedRowDoubleMatrix2D view = (CompressedRowDoubleMatrix2D) view();
+        view.setUp(rowOffsets.length, columnOffsets.length, 0, 0, 1, 1);
+        view.rowOffsets = rowOffsets;
+        view.columnOffsets = columnOffsets;
+        return view;
+    }
+
+    @Override
+    protected int rowOffset(int absRank)
+    {
+        return rowOffsets != null ? rowOffsets[absRank] : absRank;
+    }
+
+    @Override
+    protected int columnOffset(int absRank)
+    {
+        return columnOffsets != null ? columnOffsets[absRank] : absRank;
+    }
+
+    /**
+     * A row or column view, backed by a single row view of the matrix.
+     */
+    private static final class VectorView extends DoubleMatrix1D
+    {
+        private final DoubleMatrix2D row;
+
+        VectorView(DoubleMatrix2D row)
+        {
+            this.row = row;
+            setUp(row.columns());
+        }
+
+        @Override
+        public double getQuick(int index)
+        {
+            return row.getQuick(0, index(index));
+        }
+
+        @Override
+        public void setQuick(int index, double value)
+        {
+            row.setQuick(0, index(index), value);
+        }
+
+        @Override
+        public DoubleMatrix1D like(int size)
+        {
+            return new DenseDoubleMatrix1D(size);
+        }
+
+        @Override
+        public DoubleMatrix2D like2D(int rows, int columns)
+        {
+            return new DenseDoubleMatrix2D(rows, columns);
+        }
+
+        @Override
+        protected DoubleMatrix1D viewSelectionLike(int [] offsets)
+        {
+            return new VectorView(row.viewSelection(new int []
+            {
+                0
+            }, offsets));
+        }
+    }
+
+    /**
+     * Builds {@link CompressedRowDoubleMatrix2D}s row by row. This class is not
+     * thread-safe.
+     */
+    public static final class Builder
+    {
+        private final int columns;
+        private final IntArrayList offsets = new IntArrayList();
+        private final IntArrayList indices;
+        private final DoubleArrayList values;
+
+        /**
+         * Whether the elements of the current row have been set in the order of columns.
+         */
+        private boolean ordered = true;
+
+        private boolean built;
+
+        public Builder(int columns)
+        {
+            this(columns, 16);
+        }
+
+        public Builder(int columns, int expectedNonZeroCount)
+        {
+            this.columns = columns;
+            this.indices = new IntArrayList(expectedNonZeroCount);
+            this.values = new DoubleArrayList(expectedNonZeroCount);
+            this.offsets.add(0);
+        }
+
+        /**
+         * Sets an element of the current row. Setting an element again replaces its
+         * value.
+         */
+        public Builder set(int column, double value)
+        {
+            if (column < 0 || column >= columns)
+            {
+                throw new IndexOutOfBoundsException("Column: " + column + ", columns: "
+                    + columns);
+            }
+
+            final int rowStart = offsets.get(offsets.size() - 1);
+            if (indices.size() > rowStart && indices.get(indices.size() - 1) >= column)
+            {
+                ordered = false;
+            }
+            indices.add(column);
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * Ends the current row, further elements will be set in the next row.
+         */
+        public Builder endRow()
+        {
+            final int rowStart = offsets.get(offsets.size() - 1);
+            if (!ordered)
+            {
+                sortRow(rowStart);
+                ordered = true;
+            }
+
+            // Remove zeros, setting an element to zero removes it from the matrix.
+            int to = rowStart;
+            for (int i = rowStart; i < indices.size(); i++)
+            {
+                if (values.get(i) != 0)
+                {
+                    indices.set(to, indices.get(i));
+                    values.set(to, values.get(i));
+                    to++;
+                }
+            }
+            indices.elementsCount = to;
+            values.elementsCount = to;
+
+            offsets.add(to);
+            return this;
+        }
+
+        /**
+         * Sorts elements of the current row by column and leaves the last set value of
+         * each column.
+         */
+        private void sortRow(int rowStart)
+        {
+            final int [] rowIndices = indices.buffer;
+            final int [] order = IndirectSort.mergesort(rowStart, indices.size()
+                - rowStart, new IndirectComparator.AscendingIntComparator(rowIndices));
+            final int [] sortedIndices = new int [order.length];
+            final double [] sortedValues = new double [order.length];
+            int count = 0;
+            for (int i = 0; i < order.length; i++)
+            {
+                // The merge sort is stable, later values come after earlier ones.
+                if (count > 0 && sortedIndices[count - 1] == rowIndices[order[i]])
+                {
+                    count--;
+                }
+                sortedIndices[count] = rowIndices[order[i]];
+                sortedValues[count] = values.get(order[i]);
+                count++;
+            }
+
+            System.arraycopy(sortedIndices, 0, indices.buffer, rowStart, count);
+            System.arraycopy(sortedValues, 0, values.buffer, rowStart, count);
+            indices.elementsCount = rowStart + count;
+            values.elementsCount = rowStart + count;
+        }
+
+        /**
+         * Builds the matrix with the rows ended so far. Elements set after the last
+         * {@link #endRow()} are ignored. The builder cannot be used afterwards.
+         */
+        public CompressedRowDoubleMatrix2D build()
+        {
+            if (built)
+            {
+                throw new IllegalStateException("The matrix has already been built.");
+            }
+            built = true;
+
+            final int nonZeroCount = offsets.get(offsets.size() - 1);
+            indices.elementsCount = nonZeroCount;
+            values.elementsCount = nonZeroCount;
+            return new CompressedRowDoubleMatrix2D(columns, offsets.toArray(), indices
+                .toArray(), values.toArray());
+        }
+    }
+}
@@ -0,0 +1,409 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.carrot2.util.ExceptionUtils;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Dense matrix multiplication kernels working on flat, row-major <code>double []</code>
+ * arrays. The kernels are cache-blocked and, for large enough matrices, split rows of
+ * the result among a number of threads. The {@link DoubleMatrix2D} methods copy their
+ * arguments into flat arrays, which takes time proportional to the size of the
+ * arguments rather than to the number of multiplications.
+ * <p>
+ * Methods taking an {@link ExecutorService} compute all chunks of rows but the first one
+ * in its threads, so that all multiplications, e.g. the iterations of a matrix
+ * factorization, share one long-lived executor. The other methods compute the chunks
+ * one after another in the current thread.
+ */
+@SuppressWarnings("deprecation")
+public final class MatrixKernels
+{
+    /**
+     * Block sizes: the number of columns of the result and the length of the inner
+     * dimension processed at a time, so that a block of the right hand side matrix
+     * stays in the processor's cache.
+     */
+    private static final int BLOCK_COLUMNS = 256;
+    private static final int BLOCK_INNER = 64;
+
+    /**
+     * The minimum number of multiplications computed by one thread.
+     */
+    static final int MIN_MULTIPLICATIONS_PER_CHUNK = 1 << 20;
+
+    /**
+     * No instantiation.
+     */
+    private MatrixKernels()
+    {
+    }
+
+    /**
+     * Computes <code>C = alpha * op(A) * op(B) + beta * C</code>, where
+     * <code>op(X)</code> is <code>X</code> or its transposition, like
+     * {@link DoubleMatrix2D#zMult(DoubleMatrix2D, DoubleMatrix2D, double, double, boolean, boolean)}
+     * . {@link CompressedRowDoubleMatrix2D} left hand side matrices use their own sparse
+     * multiplication.
+     *
+     * @param C the result matrix or <code>null</code> to create a new dense one
+     * @param threads the maximum number of chunks of rows, computed in the current thread
+     * @return <code>C</code>
+     */
+    public static DoubleMatrix2D zMult(DoubleMatrix2D A, DoubleMatrix2D B,
+        DoubleMatrix2D C, double alpha, double beta, boolean transposeA,
+        boolean transposeB, int threads)
+    {
+        return zMult(A, B, C, alpha, beta, transposeA, transposeB, threads, null);
+    }
+
+    /**
+     * Computes <code>C = alpha * op(A) * op(B) + beta * C</code> like
+     * {@link #zMult(DoubleMatrix2D, DoubleMatrix2D, DoubleMatrix2D, double, double, boolean, boolean, int)}
+     * , in the threads of the provided executor.
+     *
+     * @param C the result matrix or <code>null</code> to create a new dense one
+     * @param threads the maximum number of threads to use, including the current one
+     * @param executor the executor computing all chunks of rows but the first one or
+     *            <code>null</code> to compute all chunks in the current thread
+     * @return <code>C</code>
+     */
+    public static DoubleMatrix2D zMult(DoubleMatrix2D A, DoubleMatrix2D B,
+        DoubleMatrix2D C, double alpha, double beta, boolean transposeA,
+        boolean transposeB, int threads, ExecutorService executor)
+    {
+        if (A instanceof CompressedRowDoubleMatrix2D)
+        {
+            return A.zMult(B, C, alpha, beta, transposeA, transposeB);
+        }
+
+        final int m = transposeA ? A.columns() : A.rows();
+        final int n = transposeA ? A.rows() : A.columns();
+        final int p = transposeB ? B.rows() : B.columns();
+        if ((transposeB ? B.columns() : B.rows()) != n)
+        {
+            throw new IllegalArgumentException("Incompatible args: " + m + "x" + n + ", "
+                + (transposeB ? B.columns() : B.rows()) + "x" + p);
+        }
+        if (C == null)
+        {
+            C = A.like(m, p);
+        }
+        else if (C.rows() != m || C.columns() != p)
+        {
+            throw new IllegalArgumentException("Incompatible result: " + C.rows() + "x"
+                + C.columns() + ", expected: " + m + "x" + p);
+        }
+
+        final double [] product = new double [m * p];
+        multiplyInChunks(toArray(A, transposeA), toArray(B, transposeB), product, m, n,
+            p, chunkCount(m, (long) m * n * p, threads), executor);
+        store(product, C, alpha, beta);
+        return C;
+    }
+
+    /**
+     * Computes the Gram matrix <code>T = U'U</code>, computing only one of each pair of
+     * the symmetric elements.
+     *
+     * @param T the result matrix of <code>U.columns()</code> rows and columns or
+     *            <code>null</code> to create a new dense one
+     * @param threads the maximum number of chunks of rows, computed in the current thread
+     * @return <code>T</code>
+     */
+    public static DoubleMatrix2D gram(DoubleMatrix2D U, DoubleMatrix2D T, int threads)
+    {
+        return gram(U, T, threads, null);
+    }
+
+    /**
+     * Computes the Gram matrix <code>T = U'U</code> like
+     * {@link #gram(DoubleMatrix2D, DoubleMatrix2D, int)}, in the threads of the provided
+     * executor.
+     *
+     * @param T the result matrix of <code>U.columns()</code> rows and columns or
+     *            <code>null</code> to create a new dense one
+     * @param threads the maximum number of threads to use, including the current one
+     * @param executor the executor computing all chunks of rows but the first one or
+     *            <code>null</code> to compute all chunks in the current thread
+     * @return <code>T</code>
+     */
+    public static DoubleMatrix2D gram(DoubleMatrix2D U, DoubleMatrix2D T, int threads,
+        ExecutorService executor)
+    {
+        final int m = U.rows();
+        final int k = U.columns();
+        if (T == null)
+        {
+            T = U.like(k, k);
+        }
+        else if (T.rows() != k || T.columns() != k)
+        {
+            throw new IllegalArgumentException("Incompatible result: " + T.rows() + "x"
+                + T.columns() + ", expected: " + k + "x" + k);
+        }
+
+        final double [] u = toArray(U, false);
+        final int chunkCount = chunkCount(m, (long) m * k * (k + 1) / 2, threads);
+        final double [][] partial = new double [chunkCount] [];
+        run(chunkCount, m, new Chunk()
+        {
+            public void compute(int chunk, int rowFrom, int rowTo)
+            {
+                partial[chunk] = gram(u, m, k, rowFrom, rowTo);
+            }
+        }, executor);
+
+        final double [] gram = partial[0];
+        for (int chunk = 1; chunk < chunkCount; chunk++)
+        {
+            for (int i = 0; i < gram.length; i++)
+            {
+                gram[i] += partial[chunk][i];
+            }
+        }
+        for (int a = 0; a < k; a++)
+        {
+            for (int b = 0; b < a; b++)
+            {
+                gram[a * k + b] = gram[b * k + a];
+            }
+        }
+        store(gram, T, 1, 0);
+        return T;
+    }
+
+    /**
+     * Computes <code>c = a * b</code>, where <code>a</code> is an <code>m</code> by
+     * <code>n</code> matrix, <code>b</code> is an <code>n</code> by <code>p</code>
+     * matrix and <code>c</code> is an <code>m</code> by <code>p</code> matrix, all stored
+     * row by row. The previous contents of <code>c</code> are overwritten.
+     *
+     * @param threads the maximum number of chunks of rows, computed in the current thread
+     */
+    public static void multiply(final double [] a, final double [] b, final double [] c,
+        final int m, final int n, final int p, int threads)
+    {
+        multiplyInChunks(a, b, c, m, n, p, chunkCount(m, (long) m * n * p, threads),
+            null);
+    }
+
+    /**
+     * Computes {@link #multiply(double[], double[], double[], int, int, int, int)} in
+     * the provided number of chunks of rows, in the threads of the provided executor or
+     * in the current thread if <code>null</code>.
+     */
+    static void multiplyInChunks(final double [] a, final double [] b, final double [] c,
+        final int m, final int n, final int p, int chunkCount, ExecutorService executor)
+    {
+        run(chunkCount, m, new Chunk()
+        {
+            public void compute(int chunk, int rowFrom, int rowTo)
+            {
+                multiplyRows(a, b, c, n, p, rowFrom, rowTo);
+            }
+        }, executor);
+    }
+
+    /**
+     * Computes rows <code>rowFrom</code> (inclusive) to <code>rowTo</code> (exclusive) of
+     * <code>c = a * b</code>.
+     */
+    private static void multiplyRows(double [] a, double [] b, double [] c, int n,
+        int p, int rowFrom, int rowTo)
+    {
+        for (int i = rowFrom * p; i < rowTo * p; i++)
+        {
+            c[i] = 0;
+        }
+
+        for (int columnBlock = 0; columnBlock < p; columnBlock += BLOCK_COLUMNS)
+        {
+            final int columnEnd = Math.min(p, columnBlock + BLOCK_COLUMNS);
+            for (int innerBlock = 0; innerBlock < n; innerBlock += BLOCK_INNER)
+            {
+                final int innerEnd = Math.min(n, innerBlock + BLOCK_INNER);
+                for (int i = rowFrom; i < rowTo; i++)
+                {
+                    final int aRow = i * n;
+                    final int cRow = i * p;
+                    for (int l = innerBlock; l < innerEnd; l++)
+                    {
+                        final double value = a[aRow + l];
+                        final int bRow = l * p;
+                        for (int j = columnBlock; j < columnEnd; j++)
+                        {
+                            c[cRow + j] += value * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the upper triangle of the Gram matrix of rows <code>rowFrom</code>
+     * (inclusive) to <code>rowTo</code> (exclusive) of <code>u</code>.
+     */
+    private static double [] gram(double [] u, int m, int k, int rowFrom, int rowTo)
+    {
+        final double [] gram = new double [k * k];
+        for (int i = rowFrom; i < rowTo; i++)
+        {
+            final int uRow = i * k;
+            for (int a = 0; a < k; a++)
+            {
+                final double value = u[uRow + a];
+                final int gramRow = a * k;
+                for (int b = a; b < k; b++)
+                {
+                    gram[gramRow + b] += value * u[uRow + b];
+                }
+            }
+        }
+        return gram;
+    }
+
+    /**
+     * Returns the number of chunks of rows to compute in parallel.
+     */
+    private static int chunkCount(int rows, long multiplications, int threads)
+    {
+        return (int) Math.max(1, Math.min(Math.min(threads, rows), multiplications
+            / MIN_MULTIPLICATIONS_PER_CHUNK));
+    }
+
+    /**
+     * Computation on a contiguous chunk of rows.
+     */
+    private static interface Chunk
+    {
+        public void compute(int chunk, int rowFrom, int rowTo);
+    }
+
+    /**
+     * Computes <code>chunkCount</code> chunks of <code>rows</code>, the first one in the
+     * current thread and the others in the threads of the provided executor or, if
+     * <code>null</code>, also in the current thread.
+     */
+    private static void run(final int chunkCount, final int rows, final Chunk chunk,
+        ExecutorService executor)
+    {
+        if (chunkCount <= 1)
+        {
+            chunk.compute(0, 0, rows);
+            return;
+        }
+
+        if (executor == null)
+        {
+            for (int i = 0; i < chunkCount; i++)
+            {
+                chunk.compute(i, rows * i / chunkCount, rows * (i + 1) / chunkCount);
+            }
+            return;
+        }
+
+        final List<Future<?>> futures = Lists.newArrayList();
+        boolean completed = false;
+        try
+        {
+            for (int i = 1; i < chunkCount; i++)
+            {
+                final int index = i;
+                futures.add(executor.submit(new Callable<Void>()
+                {
+                    public Void call()
+                    {
+                        chunk.compute(index, rows * index / chunkCount, rows * (index + 1)
+                            / chunkCount);
+                        return null;
+                    }
+                }));
+            }
+
+            chunk.compute(0, 0, rows / chunkCount);
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+            completed = true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Matrix multiplication interrupted", e);
+        }
+        catch (ExecutionException e)
+        {
+            throw ExceptionUtils.wrapAsRuntimeException(e.getCause());
+        }
+        finally
+        {
+            if (!completed)
+            {
+                // Do not leave chunks of a failed multiplication in a shared executor
+                for (Future<?> future : futures)
+                {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a matrix or its transposition into a row-major array.
+     */
+    private static double [] toArray(DoubleMatrix2D matrix, boolean transpose)
+    {
+        final DoubleMatrix2D view = transpose ? matrix.viewDice() : matrix;
+        final int rows = view.rows();
+        final int columns = view.columns();
+        final double [] array = new double [rows * columns];
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                array[r * columns + c] = view.getQuick(r, c);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Stores <code>alpha * product + beta * C</code> in <code>C</code>.
+     */
+    private static void store(double [] product, DoubleMatrix2D C, double alpha,
+        double beta)
+    {
+        final int rows = C.rows();
+        final int columns = C.columns();
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                final double value = alpha * product[r * columns + c];
+                C.setQuick(r, c, beta == 0 ? value : value + beta * C.getQuick(r, c));
+            }
+        }
+    }
+}
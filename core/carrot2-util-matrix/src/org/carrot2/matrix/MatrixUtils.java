@@ -30,7 +30,8 @@ public class MatrixUtils
 {
     /**
      * Normalizes column vectors of matrix <code>A</code> so that their L2 norm (Euclidean
-     * distance) is equal to 1.0.
+     * distance) is equal to 1.0. {@link CompressedRowDoubleMatrix2D}s are normalized with
+     * {@link #normalizeSparseColumnL2(DoubleMatrix2D, double[])}.
      * 
      * @param A matrix to normalize
      * @param work a temporary array of <code>A.columns()</code> doubles that will be
@@ -42,6 +43,11 @@ public class MatrixUtils
      */
     public static DoubleMatrix2D normalizeColumnL2(DoubleMatrix2D A, double [] work)
     {
+        if (A instanceof CompressedRowDoubleMatrix2D)
+        {
+            return normalizeSparseColumnL2(A, work);
+        }
+
         work = prepareWork(A, work);
 
         // Calculate the L2 norm for each column
@@ -98,14 +104,13 @@ public class MatrixUtils
             w[c] = Math.sqrt(w[c]);
         }
 
-        // Normalize
+        // Normalize, forEachNonZero() stores the returned values
         A.forEachNonZero(new IntIntDoubleFunction()
         {
             @Override
             public double apply(int row, int column, double value)
             {
-                A.setQuick(row, column, value / w[column]);
-                return 0;
+                return value / w[column];
             }
         });
 
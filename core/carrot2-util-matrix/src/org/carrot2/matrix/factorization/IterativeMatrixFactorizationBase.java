@@ -12,11 +12,17 @@
 
 package org.carrot2.matrix.factorization;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.mahout.math.function.Functions;
+import org.apache.mahout.math.function.IntIntDoubleFunction;
 import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.carrot2.matrix.MatrixKernels;
 import org.carrot2.matrix.MatrixUtils;
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategy;
 import org.carrot2.matrix.factorization.seeding.RandomSeedingStrategy;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.TimeBudgetExceededException;
 
 import com.carrotsearch.hppc.sorting.IndirectComparator;
 
@@ -27,6 +33,9 @@ import com.carrotsearch.hppc.sorting.IndirectComparator;
 abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase implements
     IIterativeMatrixFactorization
 {
+    /** Stage name for {@link TimeBudget#checkpoint(String)}. */
+    private static final String MATRIX_FACTORIZATION = "matrix factorization";
+
     /** The desired number of base vectors */
     protected int k;
     protected static int DEFAULT_K = 15;
@@ -37,14 +46,23 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
 
     /**
      * If the percentage decrease in approximation error becomes smaller than
-     * <code>stopThreshold</code>, the algorithm will stop. Note: calculation of
-     * approximation error is quite costly. Setting the threshold to -1 turns off
-     * approximation error calculation and hence makes the algorithm do the maximum number
-     * of iterations.
+     * <code>stopThreshold</code>, the algorithm will stop. Setting the threshold to -1
+     * turns off approximation error calculation and hence makes the algorithm do the
+     * maximum number of iterations.
      */
     protected double stopThreshold;
     protected static double DEFAULT_STOP_THRESHOLD = -1.0;
 
+    /**
+     * If the relative change of U in an iteration, that is
+     * <code>||U - U<sub>previous</sub>|| / ||U||</code>, becomes smaller than
+     * <code>convergenceThreshold</code>, the algorithm will stop. The change is much
+     * cheaper to compute than the approximation error. Setting the threshold to -1 turns
+     * off this criterion.
+     */
+    protected double convergenceThreshold;
+    protected static final double DEFAULT_CONVERGENCE_THRESHOLD = -1.0;
+
     /** Seeding strategy */
     protected ISeedingStrategy seedingStrategy;
     protected static final ISeedingStrategy DEFAULT_SEEDING_STRATEGY = new RandomSeedingStrategy(
@@ -60,12 +78,30 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
     /** Approximation errors during subsequent iterations */
     protected double [] approximationErrors;
 
+    /** Squared Frobenius norm of A, <code>NaN</code> until computed */
+    private double squaredNormA;
+
+    /** U after the previous iteration, row by row */
+    private double [] previousU;
+
     /** Iteration counter */
     protected int iterationsCompleted;
 
     /** Sorting aggregates */
     protected double [] aggregates;
 
+    /** Time budget of the factorization */
+    protected TimeBudget timeBudget;
+
+    /** The maximum number of threads multiplying matrices */
+    protected int threads;
+
+    /**
+     * Executor multiplying matrices in {@link #threads} threads, <code>null</code> to
+     * multiply them in the current thread
+     */
+    protected ExecutorService executor;
+
     /**
      * @param A
      */
@@ -76,11 +112,15 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         this.k = DEFAULT_K;
         this.maxIterations = DEFAULT_MAX_ITERATIONS;
         this.stopThreshold = DEFAULT_STOP_THRESHOLD;
+        this.convergenceThreshold = DEFAULT_CONVERGENCE_THRESHOLD;
         this.seedingStrategy = DEFAULT_SEEDING_STRATEGY;
         this.ordered = DEFAULT_ORDERED;
         this.approximationErrors = null;
         this.approximationError = -1;
+        this.squaredNormA = Double.NaN;
         this.iterationsCompleted = 0;
+        this.timeBudget = TimeBudget.unlimited();
+        this.threads = 1;
     }
 
     /**
@@ -112,9 +152,16 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
             approximationErrors = new double [maxIterations + 1];
         }
 
-        // Approximation error
-        double newApproximationError = MatrixUtils.frobeniusNorm(U.zMult(V, null, 1, 0,
-            false, true).assign(A, Functions.MINUS));
+        // Approximation error: ||A - UV'||^2 = ||A||^2 - 2 tr(V'A'U) + tr(U'U V'V),
+        // which takes one product with A instead of computing the dense UV'.
+        if (Double.isNaN(squaredNormA))
+        {
+            squaredNormA = squaredFrobeniusNorm(A);
+        }
+        final DoubleMatrix2D AtU = zMult(A, U, null, true, false);
+        final double squaredError = squaredNormA - 2 * sumOfProducts(AtU, V)
+            + sumOfProducts(gram(U, null), gram(V, null));
+        double newApproximationError = Math.sqrt(Math.max(0, squaredError));
         approximationErrors[iterationsCompleted] = newApproximationError;
 
         if ((approximationError - newApproximationError) / approximationError < stopThreshold)
@@ -129,6 +176,110 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         }
     }
 
+    /**
+     * Remembers the current U and compares it to the U remembered before.
+     * 
+     * @return true if the relative change of U is smaller than the
+     *         <code>convergenceThreshold</code>
+     */
+    protected boolean updateConvergence()
+    {
+        final int rows = U.rows();
+        final int columns = U.columns();
+        final boolean first = (previousU == null);
+        if (first)
+        {
+            previousU = new double [rows * columns];
+        }
+
+        double change = 0;
+        double norm = 0;
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                final double value = U.getQuick(r, c);
+                final double difference = value - previousU[r * columns + c];
+                change += difference * difference;
+                norm += value * value;
+                previousU[r * columns + c] = value;
+            }
+        }
+
+        return !first && change <= convergenceThreshold * convergenceThreshold * norm;
+    }
+
+    /**
+     * Computes <code>C = op(A) * op(B)</code> using {@link MatrixKernels} with
+     * {@link #threads} and {@link #executor}.
+     */
+    protected DoubleMatrix2D zMult(DoubleMatrix2D A, DoubleMatrix2D B, DoubleMatrix2D C,
+        boolean transposeA, boolean transposeB)
+    {
+        return MatrixKernels.zMult(A, B, C, 1, 0, transposeA, transposeB, threads,
+            executor);
+    }
+
+    /**
+     * Computes <code>T = U'U</code> using {@link MatrixKernels} with {@link #threads}
+     * and {@link #executor}.
+     */
+    protected DoubleMatrix2D gram(DoubleMatrix2D U, DoubleMatrix2D T)
+    {
+        return MatrixKernels.gram(U, T, threads, executor);
+    }
+
+    /**
+     * Returns the sum of squares of elements of a possibly sparse matrix.
+     */
+    private static double squaredFrobeniusNorm(DoubleMatrix2D matrix)
+    {
+        final double [] sum = new double [1];
+        matrix.forEachNonZero(new IntIntDoubleFunction()
+        {
+            public double apply(int row, int column, double value)
+            {
+                sum[0] += value * value;
+                return value;
+            }
+        });
+        return sum[0];
+    }
+
+    /**
+     * Returns the sum of products of corresponding elements of two matrices of equal
+     * size, that is <code>tr(X'Y)</code>.
+     */
+    private static double sumOfProducts(DoubleMatrix2D X, DoubleMatrix2D Y)
+    {
+        return X.aggregate(Y, Functions.PLUS, Functions.MULT);
+    }
+
+    /**
+     * Returns <code>true</code> if the iterations should stop because, after at least one
+     * completed iteration, the {@link #timeBudget} has been exceeded and its policy allows
+     * degrading the results. The results of the iterations completed so far are then left
+     * in the factorization and the cut is recorded in the budget's degradations.
+     * 
+     * @throws TimeBudgetExceededException if the current thread has been interrupted or
+     *             the budget has been exceeded and its policy requires aborting
+     */
+    protected boolean isTimeBudgetExceeded()
+    {
+        if (iterationsCompleted == 0 && !Thread.currentThread().isInterrupted())
+        {
+            return false;
+        }
+
+        if (timeBudget.checkpoint(MATRIX_FACTORIZATION))
+        {
+            timeBudget.degraded(MATRIX_FACTORIZATION + ": " + iterationsCompleted + " of "
+                + maxIterations + " iterations");
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Orders U and V matrices according to the 'activity' of base vectors.
      */
@@ -164,6 +315,53 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         this.seedingStrategy = seedingStrategy;
     }
 
+    /**
+     * Sets the time budget of the factorization. If the budget is exceeded and its policy
+     * allows degrading the results, the factorization stops before completing
+     * {@link #getMaxIterations()} iterations and records that in the budget's
+     * degradations.
+     */
+    public void setTimeBudget(TimeBudget timeBudget)
+    {
+        this.timeBudget = (timeBudget != null ? timeBudget : TimeBudget.unlimited());
+    }
+
+    /**
+     * Returns the maximum number of threads multiplying matrices.
+     */
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * Sets the maximum number of threads multiplying matrices, see {@link MatrixKernels}.
+     */
+    public void setThreads(int threads)
+    {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the executor multiplying matrices, <code>null</code> if matrices are
+     * multiplied in the current thread.
+     */
+    public ExecutorService getExecutor()
+    {
+        return executor;
+    }
+
+    /**
+     * Sets the executor multiplying matrices in {@link #getThreads()} threads, so that
+     * all multiplications of the factorization share it. The executor is not shut down
+     * by the factorization. If <code>null</code>, matrices are multiplied in the current
+     * thread.
+     */
+    public void setExecutor(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
     /**
      * Returns the maximum number of iterations the algorithm is allowed to run.
      */
@@ -195,15 +393,35 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
      * approximation error becomes smaller than <code>stopThreshold</code>, the algorithm
      * will stop.
      * <p>
-     * Note: calculation of approximation error is quite costly. Setting the threshold to
-     * -1 turns off calculation of the approximation error and hence makes the algorithm
-     * do the maximum allowed number of iterations.
+     * Calculation of the approximation error takes about as long as updating V. Setting
+     * the threshold to -1 turns off calculation of the approximation error and hence
+     * makes the algorithm do the maximum allowed number of iterations.
      */
     public void setStopThreshold(double stopThreshold)
     {
         this.stopThreshold = stopThreshold;
     }
 
+    /**
+     * Returns the algorithms <code>convergenceThreshold</code>. If the relative change of
+     * U in an iteration becomes smaller than <code>convergenceThreshold</code>, the
+     * algorithm will stop.
+     */
+    public double getConvergenceThreshold()
+    {
+        return convergenceThreshold;
+    }
+
+    /**
+     * Sets the algorithms <code>convergenceThreshold</code>. If the relative change of
+     * U in an iteration becomes smaller than <code>convergenceThreshold</code>, the
+     * algorithm will stop. Setting the threshold to -1 turns off this criterion.
+     */
+    public void setConvergenceThreshold(double convergenceThreshold)
+    {
+        this.convergenceThreshold = convergenceThreshold;
+    }
+
     /**
      * Returns final approximation error or -1 if the approximation error calculation has
      * been turned off (see {@link #setMaxIterations(int)}.
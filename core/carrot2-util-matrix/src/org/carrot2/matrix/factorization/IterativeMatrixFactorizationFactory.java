@@ -12,10 +12,13 @@
 
 package org.carrot2.matrix.factorization;
 
+import java.util.concurrent.ExecutorService;
+
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategy;
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategyFactory;
 import org.carrot2.matrix.factorization.seeding.RandomSeedingStrategy;
 import org.carrot2.matrix.factorization.seeding.RandomSeedingStrategyFactory;
+import org.carrot2.util.TimeBudget;
 
 /**
  * A factory for {@link IMatrixFactorization}s.
@@ -41,6 +44,12 @@ public abstract class IterativeMatrixFactorizationFactory implements
     /** The default stop threshold */
     protected final static double DEFAULT_STOP_THRESHOLD = -1;
 
+    /** The algorithm's convergence threshold */
+    protected double convergenceThreshold;
+
+    /** The default convergence threshold */
+    protected final static double DEFAULT_CONVERGENCE_THRESHOLD = -1;
+
     /** Matrix seeding strategy factory */
     protected ISeedingStrategyFactory seedingFactory;
 
@@ -52,13 +61,27 @@ public abstract class IterativeMatrixFactorizationFactory implements
     protected boolean ordered;
     protected static final boolean DEFAULT_ORDERED = true;
 
+    /** Time budget of the factorizations, <code>null</code> means no budget */
+    protected TimeBudget timeBudget;
+
+    /** The maximum number of threads multiplying matrices */
+    protected int threads;
+
+    /** The default number of threads */
+    protected final static int DEFAULT_THREADS = 1;
+
+    /** Executor multiplying matrices, <code>null</code> to use the current thread */
+    protected ExecutorService executor;
+
     public IterativeMatrixFactorizationFactory()
     {
         this.k = DEFAULT_K;
         this.maxIterations = DEFAULT_MAX_ITERATIONS;
         this.stopThreshold = DEFAULT_STOP_THRESHOLD;
+        this.convergenceThreshold = DEFAULT_CONVERGENCE_THRESHOLD;
         this.seedingFactory = DEFAULT_SEEDING_FACTORY;
         this.ordered = DEFAULT_ORDERED;
+        this.threads = DEFAULT_THREADS;
     }
 
     /**
@@ -103,6 +126,60 @@ public abstract class IterativeMatrixFactorizationFactory implements
         this.maxIterations = maxIterations;
     }
 
+    /**
+     * Returns the time budget of the factorizations created by this factory.
+     */
+    public TimeBudget getTimeBudget()
+    {
+        return timeBudget;
+    }
+
+    /**
+     * Sets the time budget of the factorizations created by this factory,
+     * <code>null</code> means no budget.
+     */
+    public void setTimeBudget(TimeBudget timeBudget)
+    {
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Returns the maximum number of threads multiplying matrices in the factorizations
+     * created by this factory.
+     */
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * Sets the maximum number of threads multiplying matrices in the factorizations
+     * created by this factory.
+     */
+    public void setThreads(int threads)
+    {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the executor multiplying matrices in the factorizations created by this
+     * factory.
+     */
+    public ExecutorService getExecutor()
+    {
+        return executor;
+    }
+
+    /**
+     * Sets the executor multiplying matrices in the factorizations created by this
+     * factory, <code>null</code> to multiply matrices in the current thread. The executor
+     * is not shut down by this factory.
+     */
+    public void setExecutor(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
     /**
      * Returns the stop threshold used by this factory.
      */
@@ -119,6 +196,22 @@ public abstract class IterativeMatrixFactorizationFactory implements
         this.stopThreshold = stopThreshold;
     }
 
+    /**
+     * Returns the convergence threshold used by this factory.
+     */
+    public double getConvergenceThreshold()
+    {
+        return convergenceThreshold;
+    }
+
+    /**
+     * Sets the convergence threshold to be used by this factory.
+     */
+    public void setConvergenceThreshold(double convergenceThreshold)
+    {
+        this.convergenceThreshold = convergenceThreshold;
+    }
+
     /**
      * Returns the {@link ISeedingStrategyFactory} used by this factory.
      */
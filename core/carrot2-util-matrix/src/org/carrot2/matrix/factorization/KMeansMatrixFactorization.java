@@ -56,8 +56,13 @@ public class KMeansMatrixFactorization extends IterativeMatrixFactorizationBase
 
         for (iterationsCompleted = 0; iterationsCompleted < maxIterations; iterationsCompleted++)
         {
-            // Calculate cosine distances
-            U.zMult(A, D, 1, 0, true, false);
+            if (isTimeBudgetExceeded())
+            {
+                break;
+            }
+
+            // Calculate cosine distances, D' <- A'U so that sparse A multiplies
+            zMult(A, U, D.viewDice(), true, false);
 
             V.assign(0);
             U.assign(0);
@@ -25,6 +25,9 @@ public class KMeansMatrixFactorizationFactory extends IterativeMatrixFactorizati
         KMeansMatrixFactorization factorization = new KMeansMatrixFactorization(A);
         factorization.setK(k);
         factorization.setMaxIterations(maxIterations);
+        factorization.setTimeBudget(timeBudget);
+        factorization.setThreads(threads);
+        factorization.setExecutor(executor);
         factorization.setStopThreshold(stopThreshold);
 
         factorization.compute();
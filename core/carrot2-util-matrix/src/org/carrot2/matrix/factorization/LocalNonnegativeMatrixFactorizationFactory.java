@@ -27,7 +27,11 @@ public class LocalNonnegativeMatrixFactorizationFactory extends
             A);
         factorization.setK(k);
         factorization.setMaxIterations(maxIterations);
+        factorization.setTimeBudget(timeBudget);
+        factorization.setThreads(threads);
+        factorization.setExecutor(executor);
         factorization.setStopThreshold(stopThreshold);
+        factorization.setConvergenceThreshold(convergenceThreshold);
         factorization.setSeedingStrategy(createSeedingStrategy());
         factorization.setOrdered(ordered);
 
@@ -73,22 +73,31 @@ public class NonnegativeMatrixFactorizationED extends IterativeMatrixFactorizati
         {
             updateApproximationError();
         }
+        if (convergenceThreshold >= 0)
+        {
+            updateConvergence();
+        }
 
         for (int i = 0; i < maxIterations; i++)
         {
+            if (isTimeBudgetExceeded())
+            {
+                break;
+            }
+
             // Update V
-            U.zMult(U, T, 1, 0, true, false); // T <- U'U
-            A.zMult(U, VT1, 1, 0, true, false); // VT1 <- A'U
-            V.zMult(T, VT2, 1, 0, false, false); // VT2 <- VT
+            gram(U, T); // T <- U'U
+            zMult(A, U, VT1, true, false); // VT1 <- A'U
+            zMult(V, T, VT2, false, false); // VT2 <- VT
             VT1.assign(plusEps); // TODO: shift this to the dividing function?
             VT2.assign(plusEps);
             VT1.assign(VT2, Functions.DIV); // VT1 <- VT1 ./ VT2
             V.assign(VT1, Functions.MULT); // V <- V .* VT1
 
             // Update U
-            V.zMult(V, T, 1, 0, true, false); // T <- V'V
-            A.zMult(V, UT1, 1, 0, false, false); // UT1 <- AV
-            U.zMult(T, UT2, 1, 0, false, false); // UT2 <- UT
+            gram(V, T); // T <- V'V
+            zMult(A, V, UT1, false, false); // UT1 <- AV
+            zMult(U, T, UT2, false, false); // UT2 <- UT
             UT1.assign(plusEps);
             UT2.assign(plusEps);
             UT1.assign(UT2, Functions.DIV); // UT1 <- UT1 ./ UT2
@@ -102,6 +111,13 @@ public class NonnegativeMatrixFactorizationED extends IterativeMatrixFactorizati
                     break;
                 }
             }
+            if (convergenceThreshold >= 0)
+            {
+                if (updateConvergence())
+                {
+                    break;
+                }
+            }
         }
 
         if (ordered)
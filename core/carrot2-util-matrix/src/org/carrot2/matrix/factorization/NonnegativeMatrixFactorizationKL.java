@@ -84,21 +84,30 @@ public class NonnegativeMatrixFactorizationKL extends IterativeMatrixFactorizati
         {
             updateApproximationError();
         }
+        if (convergenceThreshold >= 0)
+        {
+            updateConvergence();
+        }
 
         for (int i = 0; i < maxIterations; i++)
         {
+            if (isTimeBudgetExceeded())
+            {
+                break;
+            }
+
             // Update V
-            U.zMult(V, UV, 1, 0, false, true); // UV <- U*V'
+            zMult(U, V, UV, false, true); // UV <- U*V'
             UV.assign(plusEps); // UV <- UV + eps
             UV.assign(Aeps, invDiv); // UV <- Aeps ./ UV
-            UV.zMult(U, VT, 1, 0, true, false); // VT <- UV' * U
+            zMult(UV, U, VT, true, false); // VT <- UV' * U
             V.assign(VT, Functions.MULT); // V <- V .* VT
 
             // Update U
-            U.zMult(V, UV, 1, 0, false, true); // UV <- U*V'
+            zMult(U, V, UV, false, true); // UV <- U*V'
             UV.assign(plusEps); // UV <- UV + eps
             UV.assign(Aeps, invDiv); // UV <- Aeps ./ UV
-            UV.zMult(V, UT, 1, 0, false, false); // UT <- UV * V
+            zMult(UV, V, UT, false, false); // UT <- UV * V
             U.assign(UT, Functions.MULT); // U <- U .* UT
 
             MatrixUtils.normalizeColumnL1(U, work);
@@ -111,6 +120,13 @@ public class NonnegativeMatrixFactorizationKL extends IterativeMatrixFactorizati
                     break;
                 }
             }
+            if (convergenceThreshold >= 0)
+            {
+                if (updateConvergence())
+                {
+                    break;
+                }
+            }
         }
 
         if (ordered)
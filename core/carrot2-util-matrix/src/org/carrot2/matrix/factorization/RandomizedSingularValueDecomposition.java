@@ -0,0 +1,220 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix.factorization;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.mahout.math.DenseMatrix;
+import org.apache.mahout.math.QRDecomposition;
+import org.apache.mahout.math.SingularValueDecomposition;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
+import org.carrot2.matrix.MatrixKernels;
+
+/**
+ * Computes the <i>k</i> largest singular values and vectors of a matrix using a
+ * randomized range finder (Halko, Martinsson, Tropp, <i>Finding structure with
+ * randomness</i>). The input matrix <code>A</code> is multiplied by a random Gaussian
+ * matrix of <i>k</i> plus oversampling columns, a few power iterations sharpen the
+ * approximation of the range of <code>A</code>, and only the small projection of
+ * <code>A</code> onto that range is decomposed exactly. Unlike
+ * {@link PartialSingularValueDecomposition}, the input matrix is never copied into a
+ * dense array, so sparse matrices stay sparse.
+ */
+@SuppressWarnings("deprecation")
+public class RandomizedSingularValueDecomposition extends MatrixFactorizationBase
+    implements IMatrixFactorization
+{
+    /** The desired number of base vectors */
+    protected int k;
+
+    /** The default number of desired base vectors */
+    protected static final int DEFAULT_K = -1;
+
+    /** The number of additional random vectors */
+    protected int oversampling;
+
+    /** The default number of additional random vectors */
+    protected static final int DEFAULT_OVERSAMPLING = 10;
+
+    /** The number of power iterations */
+    protected int powerIterations;
+
+    /** The default number of power iterations */
+    protected static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    /** Seed of the random matrix */
+    protected long seed;
+
+    /** The default seed of the random matrix */
+    protected static final long DEFAULT_SEED = 0;
+
+    /** Singular values */
+    private double [] S;
+
+    /**
+     * Computes a randomized SVD of a matrix. Before accessing results, perform
+     * computations by calling the {@link #compute()} method.
+     *
+     * @param A matrix to be factorized
+     */
+    public RandomizedSingularValueDecomposition(DoubleMatrix2D A)
+    {
+        super(A);
+
+        this.k = DEFAULT_K;
+        this.oversampling = DEFAULT_OVERSAMPLING;
+        this.powerIterations = DEFAULT_POWER_ITERATIONS;
+        this.seed = DEFAULT_SEED;
+    }
+
+    public void compute()
+    {
+        final int rank = Math.min(A.rows(), A.columns());
+        final int dimensions = k > 0 ? Math.min(k, rank) : rank;
+        final int samples = Math.min(dimensions + oversampling, rank);
+
+        // Orthonormal basis Q of the range of A (A * Omega)
+        DoubleMatrix2D Q = orthonormalize(MatrixKernels.zMult(A, gaussian(A.columns(),
+            samples), null, 1, 0, false, false, 1));
+        for (int i = 0; i < powerIterations; i++)
+        {
+            final DoubleMatrix2D Z = orthonormalize(MatrixKernels.zMult(A, Q, null, 1, 0,
+                true, false, 1));
+            Q = orthonormalize(MatrixKernels.zMult(A, Z, null, 1, 0, false, false, 1));
+        }
+
+        // A ~ Q * B, where B' = A' * Q = Ub * S * Vb', so that A ~ (Q * Vb) * S * Ub'
+        final DoubleMatrix2D Bt = MatrixKernels.zMult(A, Q, null, 1, 0, true, false, 1);
+        final SingularValueDecomposition svd = new SingularValueDecomposition(
+            new DenseMatrix(Bt.toArray()));
+        final DoubleMatrix2D Vb = PartialSingularValueDecomposition.toColtMatrix(svd
+            .getV());
+
+        U = MatrixKernels.zMult(Q, Vb.viewPart(0, 0, Vb.rows(), dimensions), null, 1, 0,
+            false, false, 1);
+        V = PartialSingularValueDecomposition.toColtMatrix(svd.getU()).viewPart(0, 0,
+            A.columns(), dimensions);
+        S = Arrays.copyOf(svd.getSingularValues(), dimensions);
+    }
+
+    /**
+     * Returns a matrix of standard normal random values.
+     */
+    private DoubleMatrix2D gaussian(int rows, int columns)
+    {
+        final Random random = new Random(seed);
+        final DoubleMatrix2D matrix = new DenseDoubleMatrix2D(rows, columns);
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                matrix.setQuick(r, c, random.nextGaussian());
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Returns an orthonormal basis of the columns of a matrix with no fewer rows than
+     * columns.
+     */
+    private static DoubleMatrix2D orthonormalize(DoubleMatrix2D matrix)
+    {
+        return PartialSingularValueDecomposition.toColtMatrix(new QRDecomposition(
+            new DenseMatrix(matrix.toArray())).getQ());
+    }
+
+    public String toString()
+    {
+        return "RSVD";
+    }
+
+    /**
+     * Returns the <i>k</i> largest singular values of the matrix.
+     */
+    public double [] getSingularValues()
+    {
+        return S;
+    }
+
+    /**
+     * Sets the number of base vectors <i>k </i>. A non-positive value computes all of
+     * them.
+     *
+     * @param k the number of base vectors
+     */
+    public void setK(int k)
+    {
+        this.k = k;
+    }
+
+    /**
+     * Returns the number of base vectors <i>k </i>.
+     */
+    public int getK()
+    {
+        return k;
+    }
+
+    /**
+     * Sets the number of random vectors sampled in addition to <i>k</i>. More vectors
+     * give more accurate results.
+     */
+    public void setOversampling(int oversampling)
+    {
+        this.oversampling = oversampling;
+    }
+
+    /**
+     * Returns the number of random vectors sampled in addition to <i>k</i>.
+     */
+    public int getOversampling()
+    {
+        return oversampling;
+    }
+
+    /**
+     * Sets the number of power iterations. More iterations give more accurate results
+     * for matrices with slowly decaying singular values.
+     */
+    public void setPowerIterations(int powerIterations)
+    {
+        this.powerIterations = powerIterations;
+    }
+
+    /**
+     * Returns the number of power iterations.
+     */
+    public int getPowerIterations()
+    {
+        return powerIterations;
+    }
+
+    /**
+     * Sets the seed of the random matrix.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the seed of the random matrix.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+}
@@ -0,0 +1,128 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix.factorization;
+
+import org.apache.mahout.math.matrix.*;
+
+/**
+ * Factory for {@link RandomizedSingularValueDecomposition}s.
+ */
+@SuppressWarnings("deprecation")
+public class RandomizedSingularValueDecompositionFactory implements
+    IMatrixFactorizationFactory
+{
+    /** The desired number of base vectors */
+    protected int k;
+
+    /** The number of additional random vectors */
+    protected int oversampling;
+
+    /** The number of power iterations */
+    protected int powerIterations;
+
+    /** Seed of the random matrix */
+    protected long seed;
+
+    /**
+     * Creates the factory that creates factorizations that compute the maximum number of
+     * base vectors.
+     */
+    public RandomizedSingularValueDecompositionFactory()
+    {
+        this.k = RandomizedSingularValueDecomposition.DEFAULT_K;
+        this.oversampling = RandomizedSingularValueDecomposition.DEFAULT_OVERSAMPLING;
+        this.powerIterations =
+            RandomizedSingularValueDecomposition.DEFAULT_POWER_ITERATIONS;
+        this.seed = RandomizedSingularValueDecomposition.DEFAULT_SEED;
+    }
+
+    public IMatrixFactorization factorize(DoubleMatrix2D A)
+    {
+        final RandomizedSingularValueDecomposition factorization = new RandomizedSingularValueDecomposition(
+            A);
+
+        factorization.setK(k);
+        factorization.setOversampling(oversampling);
+        factorization.setPowerIterations(powerIterations);
+        factorization.setSeed(seed);
+        factorization.compute();
+
+        return factorization;
+    }
+
+    /**
+     * Sets the number of base vectors <i>k </i>.
+     *
+     * @param k the number of base vectors
+     */
+    public void setK(int k)
+    {
+        this.k = k;
+    }
+
+    /**
+     * Returns the number of base vectors <i>k </i>.
+     */
+    public int getK()
+    {
+        return k;
+    }
+
+    /**
+     * Sets the number of random vectors sampled in addition to <i>k</i>.
+     */
+    public void setOversampling(int oversampling)
+    {
+        this.oversampling = oversampling;
+    }
+
+    /**
+     * Returns the number of random vectors sampled in addition to <i>k</i>.
+     */
+    public int getOversampling()
+    {
+        return oversampling;
+    }
+
+    /**
+     * Sets the number of power iterations.
+     */
+    public void setPowerIterations(int powerIterations)
+    {
+        this.powerIterations = powerIterations;
+    }
+
+    /**
+     * Returns the number of power iterations.
+     */
+    public int getPowerIterations()
+    {
+        return powerIterations;
+    }
+
+    /**
+     * Sets the seed of the random matrix.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the seed of the random matrix.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+}
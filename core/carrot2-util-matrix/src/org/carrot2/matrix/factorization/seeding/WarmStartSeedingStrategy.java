@@ -0,0 +1,64 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix.factorization.seeding;
+
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+
+/**
+ * Seeds the base vectors with known initial values, for example the base vectors of a
+ * similar matrix factorized before, so that the factorization converges in fewer
+ * iterations. Rows of U with no known values and V are seeded with another strategy.
+ */
+@SuppressWarnings("deprecation")
+public class WarmStartSeedingStrategy implements ISeedingStrategy
+{
+    /** Known rows of U, <code>null</code> for unknown rows */
+    private final double [][] initialU;
+
+    /** Seeds unknown values */
+    private final ISeedingStrategy delegate;
+
+    /**
+     * Creates the strategy.
+     * 
+     * @param initialU known rows of U, <code>null</code> for unknown rows. Known rows
+     *            may have fewer values than U has columns.
+     * @param delegate seeds V and unknown values of U
+     */
+    public WarmStartSeedingStrategy(double [][] initialU, ISeedingStrategy delegate)
+    {
+        this.initialU = initialU;
+        this.delegate = delegate;
+    }
+
+    public void seed(DoubleMatrix2D A, DoubleMatrix2D U, DoubleMatrix2D V)
+    {
+        delegate.seed(A, U, V);
+
+        for (int r = 0; r < Math.min(U.rows(), initialU.length); r++)
+        {
+            if (initialU[r] != null)
+            {
+                for (int c = 0; c < Math.min(U.columns(), initialU[r].length); c++)
+                {
+                    U.setQuick(r, c, initialU[r][c]);
+                }
+            }
+        }
+    }
+
+    public String toString()
+    {
+        return "WS-" + delegate.toString();
+    }
+}
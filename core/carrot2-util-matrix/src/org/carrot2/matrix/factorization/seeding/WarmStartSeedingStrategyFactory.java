@@ -0,0 +1,48 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix.factorization.seeding;
+
+/**
+ * Creates {@link WarmStartSeedingStrategy}s.
+ */
+public class WarmStartSeedingStrategyFactory implements ISeedingStrategyFactory
+{
+    /** Known rows of U, <code>null</code> for unknown rows */
+    private final double [][] initialU;
+
+    /** Creates strategies seeding unknown values */
+    private final ISeedingStrategyFactory delegate;
+
+    /**
+     * Creates the factory.
+     * 
+     * @param initialU known rows of U, <code>null</code> for unknown rows
+     * @param delegate creates strategies seeding V and unknown values of U
+     */
+    public WarmStartSeedingStrategyFactory(double [][] initialU,
+        ISeedingStrategyFactory delegate)
+    {
+        this.initialU = initialU;
+        this.delegate = delegate;
+    }
+
+    public ISeedingStrategy createSeedingStrategy()
+    {
+        return new WarmStartSeedingStrategy(initialU, delegate.createSeedingStrategy());
+    }
+
+    public String toString()
+    {
+        return "WS-" + delegate.toString();
+    }
+}
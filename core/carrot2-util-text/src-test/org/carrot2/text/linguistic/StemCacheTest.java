@@ -0,0 +1,134 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.carrot2.core.Document;
+import org.carrot2.core.LanguageCode;
+import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.text.preprocessing.pipeline.BasicPreprocessingPipeline;
+import org.carrot2.text.util.MutableCharArray;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link StemCache}.
+ */
+public class StemCacheTest extends CarrotTestCase
+{
+    /**
+     * Stems words by removing the trailing "s", counts calls.
+     */
+    private static class CountingStemmer implements IStemmer
+    {
+        int calls;
+
+        public CharSequence stem(CharSequence word)
+        {
+            calls++;
+            final String s = word.toString();
+            return s.endsWith("s") ? s.substring(0, s.length() - 1) : null;
+        }
+    }
+
+    @Test
+    public void testCachedStems()
+    {
+        final StemCache cache = new StemCache(1000);
+        final CountingStemmer counting = new CountingStemmer();
+        final IStemmer stemmer = cache.decorate(LanguageCode.ENGLISH, counting);
+
+        assertThat(stemmer.stem("cats").toString()).isEqualTo("cat");
+        assertThat(stemmer.stem("dog")).isNull();
+        assertThat(stemmer.stem("cats").toString()).isEqualTo("cat");
+        assertThat(stemmer.stem(new MutableCharArray("dog"))).isNull();
+
+        assertThat(counting.calls).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+
+        // Stems are shared by stemmers of the same language and class
+        final CountingStemmer other = new CountingStemmer();
+        cache.decorate(LanguageCode.ENGLISH, other).stem("cats");
+        cache.decorate(LanguageCode.POLISH, other).stem("cats");
+        assertThat(other.calls).isEqualTo(1);
+    }
+
+    @Test
+    public void testReusedBuffers()
+    {
+        final StemCache cache = new StemCache(1000);
+        final IStemmer stemmer = cache.decorate(LanguageCode.ENGLISH,
+            new CountingStemmer());
+
+        final char [] buffer = "cats".toCharArray();
+        final MutableCharArray word = new MutableCharArray(buffer);
+        stemmer.stem(word);
+        "rats".getChars(0, 4, buffer, 0);
+        word.reset(buffer);
+
+        assertThat(stemmer.stem(word).toString()).isEqualTo("rat");
+        assertThat(stemmer.stem("cats").toString()).isEqualTo("cat");
+    }
+
+    @Test
+    public void testBoundedSize()
+    {
+        final int maxSize = 64;
+        final StemCache cache = new StemCache(maxSize);
+        final CountingStemmer counting = new CountingStemmer();
+        final IStemmer stemmer = cache.decorate(LanguageCode.ENGLISH, counting);
+
+        for (int i = 0; i < maxSize * 10; i++)
+        {
+            stemmer.stem("word" + i);
+        }
+        assertThat(counting.calls).isEqualTo(maxSize * 10);
+
+        // Only the most recent words may remain cached
+        for (int i = 0; i < maxSize * 10; i++)
+        {
+            stemmer.stem("word" + i);
+        }
+        assertThat(cache.getHitCount()).isLessThanOrEqualTo(maxSize);
+    }
+
+    @Test
+    public void testPipelineWithStemCache()
+    {
+        final List<Document> documents = Arrays.asList(new Document(
+            "Data mining", "Mining data with data miners"), new Document("Web miners",
+            "Mined data"));
+
+        final BasicPreprocessingPipeline pipeline = new BasicPreprocessingPipeline();
+        final PreprocessingContext expected = pipeline.preprocess(documents, "data",
+            LanguageCode.ENGLISH);
+
+        pipeline.stemCache = new StemCache(1000);
+        pipeline.preprocess(documents, "data", LanguageCode.ENGLISH);
+        final long misses = pipeline.stemCache.getMissCount();
+        final long hits = pipeline.stemCache.getHitCount();
+        final PreprocessingContext actual = pipeline.preprocess(documents, "data",
+            LanguageCode.ENGLISH);
+
+        // All words and query words are stemmed from the cache
+        assertThat(pipeline.stemCache.getMissCount()).isEqualTo(misses);
+        assertThat(pipeline.stemCache.getHitCount() - hits).isEqualTo(misses + hits);
+        assertThat(Arrays.deepEquals(actual.allStems.image, expected.allStems.image))
+            .isTrue();
+        assertThat(actual.allWords.stemIndex).isEqualTo(expected.allWords.stemIndex);
+        assertThat(actual.allWords.type).isEqualTo(expected.allWords.type);
+    }
+}
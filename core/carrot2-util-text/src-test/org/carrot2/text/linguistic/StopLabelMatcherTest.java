@@ -0,0 +1,167 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import static org.carrot2.util.resource.ResourceLookup.Location.CONTEXT_CLASS_LOADER;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.carrot2.core.LanguageCode;
+import org.carrot2.util.resource.ResourceLookup;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Test cases for {@link StopLabelMatcher}.
+ */
+public class StopLabelMatcherTest extends CarrotTestCase
+{
+    @Test
+    public void testTranslate()
+    {
+        assertThat(StopLabelMatcher.translate("new (york)?", false)).isEqualTo(
+            "new\\ (york)?");
+        assertThat(StopLabelMatcher.translate("Page \\d+", true)).isEqualTo(
+            "page\\ [0-9]+");
+        assertThat(StopLabelMatcher.translate("a{2,}b*?", false)).isEqualTo("a{2,}b*");
+        assertThat(StopLabelMatcher.translate("[0-9.]", false)).isEqualTo("[0-9\\.]");
+
+        assertThat(StopLabelMatcher.translate("(?:a)", false)).isNull();
+        assertThat(StopLabelMatcher.translate("\\w+", false)).isNull();
+        assertThat(StopLabelMatcher.translate("a*+", false)).isNull();
+        assertThat(StopLabelMatcher.translate("^a", false)).isNull();
+        assertThat(StopLabelMatcher.translate("[a-z]", true)).isNull();
+        assertThat(StopLabelMatcher.translate("[!-~]", true)).isNull();
+    }
+
+    @Test
+    public void testFallback()
+    {
+        final StopLabelMatcher matcher = new StopLabelMatcher(compile("(?i)new",
+            "(?i)(?:old|new)er", "\\w+ \\w+"));
+        assertThat(matcher.getFallbackCount()).isEqualTo(2);
+        assertThat(matcher.matches("NEW")).isTrue();
+        assertThat(matcher.matches("Older")).isTrue();
+        assertThat(matcher.matches("two words")).isTrue();
+        assertThat(matcher.matches("three more words")).isFalse();
+    }
+
+    @Test
+    public void testIgnoreCaseAsciiOnly()
+    {
+        final StopLabelMatcher matcher = new StopLabelMatcher(compile("(?i)année",
+            "Ä"));
+        assertThat(matcher.matches("ANNéE")).isTrue();
+        assertThat(matcher.matches("ANNÉE")).isFalse();
+        assertThat(matcher.matches("Ä")).isTrue();
+        assertThat(matcher.matches("ä")).isFalse();
+    }
+
+    @Test
+    public void testBundledStopLabels() throws IOException
+    {
+        final ResourceLookup resourceLookup = new ResourceLookup(CONTEXT_CLASS_LOADER);
+        final List<Pattern> patterns = Lists.newArrayList();
+        for (LanguageCode language : LanguageCode.values())
+        {
+            for (String pattern : DefaultLexicalDataFactory.load(resourceLookup
+                .getFirst("stoplabels." + language.getIsoCode())))
+            {
+                patterns.add(Pattern.compile(pattern));
+            }
+        }
+
+        final StopLabelMatcher matcher = new StopLabelMatcher(patterns);
+        assertThat(matcher.getFallbackCount()).isEqualTo(0);
+
+        for (String label : new String []
+        {
+            "Information", "information about carrot", "List of clusters", "Copyright 2014",
+            "page 12 of 30", "PAGE 1", "Offering", "known", "a range", "data mining",
+            "strona domowa", "ホームページ", "années", "Neue", "rights reserved", "x\ny"
+        })
+        {
+            assertSameAsPatterns(patterns, matcher, label);
+        }
+    }
+
+    @Test
+    public void testSameAsPatterns()
+    {
+        final String [] elements =
+        {
+            "a", "B", "ab", "\\d", ".", "[a-c]", "[^b]", "[0-9x]", " ", "é", "\\.", "(a|bc)",
+            "(x|)"
+        };
+        final String [] quantifiers =
+        {
+            "", "", "", "?", "*", "+", "{1,2}", "??", "*?"
+        };
+        final String [] characters =
+        {
+            "a", "A", "b", "B", "c", "x", "1", " ", ".", "é", "É", "\n"
+        };
+
+        for (int round = 0; round < 100; round++)
+        {
+            final List<Pattern> patterns = Lists.newArrayList();
+            for (int i = randomIntBetween(1, 5); i > 0; i--)
+            {
+                final StringBuilder pattern = new StringBuilder(randomBoolean() ? "(?i)"
+                    : "");
+                for (int j = randomIntBetween(1, 4); j > 0; j--)
+                {
+                    pattern.append(randomFrom(elements)).append(randomFrom(quantifiers));
+                }
+                patterns.add(Pattern.compile(pattern.toString()));
+            }
+
+            final StopLabelMatcher matcher = new StopLabelMatcher(patterns);
+            for (int i = 0; i < 50; i++)
+            {
+                final StringBuilder label = new StringBuilder();
+                for (int j = randomIntBetween(0, 5); j > 0; j--)
+                {
+                    label.append(randomFrom(characters));
+                }
+                assertSameAsPatterns(patterns, matcher, label.toString());
+            }
+        }
+    }
+
+    private static List<Pattern> compile(String... patterns)
+    {
+        final List<Pattern> compiled = new ArrayList<Pattern>();
+        for (String pattern : patterns)
+        {
+            compiled.add(Pattern.compile(pattern));
+        }
+        return compiled;
+    }
+
+    private static void assertSameAsPatterns(List<Pattern> patterns,
+        StopLabelMatcher matcher, String label)
+    {
+        boolean expected = false;
+        for (Pattern pattern : patterns)
+        {
+            expected |= pattern.matcher(label).matches();
+        }
+        assertThat(matcher.matches(label)).as(patterns + " " + label).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,96 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Test cases for {@link StopwordDictionary}.
+ */
+public class StopwordDictionaryTest extends CarrotTestCase
+{
+    @Test
+    public void testEmpty()
+    {
+        final StopwordDictionary dictionary = new StopwordDictionary.Builder().build();
+        assertThat(dictionary.size()).isEqualTo(0);
+        assertThat(getLanguages(dictionary, "the")).isEqualTo(0);
+        assertThat(getLanguages(dictionary, "")).isEqualTo(0);
+    }
+
+    @Test
+    public void testIgnoreCase()
+    {
+        final StopwordDictionary dictionary = new StopwordDictionary.Builder()
+            .add("The", 1).add("der", 2).add("die", 2).add("die", 4).add("Łódź", 8).build();
+        assertThat(dictionary.size()).isEqualTo(4);
+        assertThat(getLanguages(dictionary, "the")).isEqualTo(1);
+        assertThat(getLanguages(dictionary, "THE")).isEqualTo(1);
+        assertThat(getLanguages(dictionary, "DiE")).isEqualTo(6);
+        assertThat(getLanguages(dictionary, "łÓdŹ")).isEqualTo(8);
+        assertThat(getLanguages(dictionary, "th")).isEqualTo(0);
+        assertThat(getLanguages(dictionary, "them")).isEqualTo(0);
+
+        final char [] buffer = "xxTHEyy".toCharArray();
+        assertThat(dictionary.getLanguages(buffer, 2, 3)).isEqualTo(1);
+    }
+
+    @Test
+    public void testSameAsMap()
+    {
+        final StopwordDictionary.Builder builder = new StopwordDictionary.Builder();
+        final Map<String, Long> expected = Maps.newHashMap();
+        for (int i = randomIntBetween(0, 5000); i > 0; i--)
+        {
+            final String word = randomRealisticUnicodeOfLengthBetween(1, 10);
+            final long languages = 1L << randomIntBetween(0, 63);
+            builder.add(word, languages);
+
+            final String lowerCase = toLowerCase(word);
+            final Long previous = expected.get(lowerCase);
+            expected.put(lowerCase, languages | (previous != null ? previous : 0));
+        }
+
+        final StopwordDictionary dictionary = builder.build();
+        assertThat(dictionary.size()).isEqualTo(expected.size());
+        for (Map.Entry<String, Long> e : expected.entrySet())
+        {
+            assertThat(getLanguages(dictionary, e.getKey())).isEqualTo(e.getValue());
+            final String upperCase = e.getKey().toUpperCase(Locale.ROOT);
+            final Long languages = expected.get(toLowerCase(upperCase));
+            assertThat(getLanguages(dictionary, upperCase)).isEqualTo(
+                languages != null ? languages : 0L);
+        }
+    }
+
+    private static long getLanguages(StopwordDictionary dictionary, String word)
+    {
+        return dictionary.getLanguages(word.toCharArray(), 0, word.length());
+    }
+
+    private static String toLowerCase(String word)
+    {
+        final char [] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++)
+        {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -18,12 +18,17 @@ import static org.carrot2.text.preprocessing.PreprocessingContextAssert.DS;
 import static org.carrot2.text.preprocessing.PreprocessingContextAssert.FS;
 import static org.carrot2.text.preprocessing.PreprocessingContextAssert.EOS;
 
+import java.util.Arrays;
+
 import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.preprocessing.pipeline.BasicPreprocessingPipeline;
 import org.carrot2.util.attribute.AttributeUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.carrotsearch.hppc.sorting.IndirectComparator;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+
 /**
  * Test cases for {@link CaseNormalizer}.
  */
@@ -276,5 +281,87 @@ public class CaseNormalizerTest extends PreprocessingContextTestBase
     }
 
     // @formatter:on
+
+    @Test
+    public void testHashSameAsMergesort()
+    {
+        final String [] words =
+        {
+            "data", "Data", "DATA", "mining", "Mining", "web", "a", "A", ".", ",", "-",
+            "http://www.carrot2.org", "2.0"
+        };
+        final int dfThreshold = randomIntBetween(1, 3);
+        final PreprocessingContextBuilder mergesortBuilder = builder(
+            CaseNormalizer.CaseNormalizationAlgorithm.MERGESORT, dfThreshold);
+        final PreprocessingContextBuilder hashBuilder = builder(
+            CaseNormalizer.CaseNormalizationAlgorithm.HASH, dfThreshold);
+        for (int i = randomIntBetween(500, 1500); i > 0; i--)
+        {
+            final StringBuilder title = new StringBuilder("data");
+            for (int j = randomIntBetween(0, 5); j > 0; j--)
+            {
+                title.append(' ').append(words[randomIntBetween(0, words.length - 1)]);
+            }
+            final String summary = words[randomIntBetween(0, words.length - 1)];
+            mergesortBuilder.newDoc(title.toString(), summary);
+            hashBuilder.newDoc(title.toString(), summary);
+        }
+
+        final PreprocessingContext expected = mergesortBuilder.buildContext();
+        final PreprocessingContext actual = hashBuilder.buildContext();
+
+        assertThat(actual.allTokens.wordIndex).isEqualTo(expected.allTokens.wordIndex);
+        assertThat(Arrays.deepEquals(actual.allWords.image, expected.allWords.image))
+            .isTrue();
+        assertThat(actual.allWords.imageOffset).isEqualTo(expected.allWords.imageOffset);
+        assertThat(actual.allWords.imageLength).isEqualTo(expected.allWords.imageLength);
+        assertThat(actual.allWords.type).isEqualTo(expected.allWords.type);
+        assertThat(actual.allWords.tf).isEqualTo(expected.allWords.tf);
+        assertThat(actual.allWords.fieldIndices).isEqualTo(expected.allWords.fieldIndices);
+        assertThat(actual.allWords.tfByDocument.size()).isEqualTo(
+            expected.allWords.tfByDocument.size());
+        for (int i = 0; i < expected.allWords.tfByDocument.size(); i++)
+        {
+            assertThat(actual.allWords.tfByDocument.toSparseArray(i)).isEqualTo(
+                expected.allWords.tfByDocument.toSparseArray(i));
+        }
+    }
+
+    @Test
+    public void testGroupByImageSameAsMergesort()
+    {
+        // Images: "b", "" sharing the offset of "B", "B", "bb", null
+        final char [] imageChars = "bBbb".toCharArray();
+        final int [] offsets = new int [randomIntBetween(1, 200)];
+        final int [] lengths = new int [offsets.length];
+        for (int i = 0; i < offsets.length; i++)
+        {
+            switch (randomIntBetween(0, 4))
+            {
+                case 0: offsets[i] = 0; lengths[i] = 1; break;
+                case 1: offsets[i] = 1; lengths[i] = 0; break;
+                case 2: offsets[i] = 1; lengths[i] = 1; break;
+                case 3: offsets[i] = 2; lengths[i] = 2; break;
+                default: offsets[i] = -1; lengths[i] = 0; break;
+            }
+        }
+
+        final IndirectComparator comparator = new CaseNormalizer.ImageComparator(
+            imageChars, offsets, lengths);
+        assertThat(
+            CaseNormalizer.groupByImage(imageChars.length, offsets, lengths, comparator))
+            .isEqualTo(IndirectSort.mergesort(0, offsets.length, comparator));
+    }
+
+    private static PreprocessingContextBuilder builder(
+        CaseNormalizer.CaseNormalizationAlgorithm algorithm, int dfThreshold)
+    {
+        return new PreprocessingContextBuilder()
+            .withPreprocessingPipeline(new BasicPreprocessingPipeline())
+            .setAttribute(AttributeUtils.getKey(CaseNormalizer.class, "algorithm"),
+                algorithm)
+            .setAttribute(AttributeUtils.getKey(CaseNormalizer.class, "dfThreshold"),
+                dfThreshold);
+    }
 }
 
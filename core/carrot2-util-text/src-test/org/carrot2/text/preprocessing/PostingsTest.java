@@ -0,0 +1,147 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Test cases for {@link Postings}.
+ */
+public class PostingsTest extends CarrotTestCase
+{
+    @Test
+    public void testBuilder()
+    {
+        final Postings.Builder builder = new Postings.Builder();
+        builder.add(7, 1);
+        builder.add(2, 3);
+        builder.add(7, 2);
+        assertThat(builder.getDocumentFrequency()).isEqualTo(2);
+        assertThat(builder.endFeature()).isEqualTo(0);
+
+        builder.add(1, 1);
+        builder.clearFeature();
+        assertThat(builder.endFeature()).isEqualTo(1);
+
+        builder.add(300, 1);
+        assertThat(builder.endFeature()).isEqualTo(2);
+
+        final Postings built = builder.build();
+        assertThat(built.getPostingCount()).isEqualTo(3);
+        for (Postings postings : Lists.newArrayList(built, built.compress()))
+        {
+            assertThat(postings.size()).isEqualTo(3);
+            assertThat(postings.getDocumentFrequency(0)).isEqualTo(2);
+            assertThat(postings.toSparseArray(0)).isEqualTo(new int []
+            {
+                2, 3, 7, 3
+            });
+            assertThat(postings.getDocumentFrequency(1)).isEqualTo(0);
+            assertThat(postings.toSparseArray(1)).isEmpty();
+            assertThat(postings.toSparseArray(2)).isEqualTo(new int []
+            {
+                300, 1
+            });
+        }
+    }
+
+    @Test
+    public void testCompressedSameAsUncompressed()
+    {
+        final int documentCount = randomIntBetween(1, 100000);
+        final Postings.Builder builder = new Postings.Builder();
+        final Map<Integer, TreeMap<Integer, Integer>> expected = Maps.newTreeMap();
+        for (int feature = randomIntBetween(0, 100); feature > 0; feature--)
+        {
+            final TreeMap<Integer, Integer> tfs = Maps.newTreeMap();
+            for (int i = randomIntBetween(0, 50); i > 0; i--)
+            {
+                final int document = randomIntBetween(0, documentCount - 1);
+                final int tf = randomIntBetween(1, 1000);
+                builder.add(document, tf);
+                tfs.put(document, tf + (tfs.containsKey(document) ? tfs.get(document) : 0));
+            }
+            expected.put(builder.endFeature(), tfs);
+        }
+
+        final Postings postings = builder.build();
+        final Postings compressed = postings.compress();
+        assertThat(compressed.isCompressed()).isTrue();
+        assertThat(compressed.compress()).isSameAs(compressed);
+
+        final int [] documents = new int [documentCount];
+        final int [] tfs = new int [documentCount];
+        for (Map.Entry<Integer, TreeMap<Integer, Integer>> e : expected.entrySet())
+        {
+            final int feature = e.getKey();
+            final int df = compressed.getPostings(feature, documents, tfs);
+            assertThat(df).isEqualTo(e.getValue().size());
+            assertThat(compressed.getDocumentFrequency(feature)).isEqualTo(df);
+            assertThat(compressed.toSparseArray(feature)).isEqualTo(
+                postings.toSparseArray(feature));
+
+            int i = 0;
+            for (Map.Entry<Integer, Integer> tf : e.getValue().entrySet())
+            {
+                assertThat(documents[i]).isEqualTo(tf.getKey());
+                assertThat(tfs[i]).isEqualTo(tf.getValue());
+                i++;
+            }
+        }
+    }
+
+    @Test
+    public void testAddFromPostings()
+    {
+        final Postings.Builder builder = new Postings.Builder();
+        builder.add(5, 1);
+        builder.add(1, 2);
+        builder.endFeature();
+        builder.add(1, 3);
+        builder.add(9, 1);
+        builder.endFeature();
+        final Postings postings = builder.build().compress();
+
+        final Postings.Builder merged = new Postings.Builder();
+        merged.add(postings, 0);
+        merged.add(postings, 1);
+        merged.endFeature();
+        assertThat(merged.build().toSparseArray(0)).isEqualTo(new int []
+        {
+            1, 5, 5, 1, 9, 1
+        });
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFeatureNotEnded()
+    {
+        final Postings.Builder builder = new Postings.Builder();
+        builder.add(0, 1);
+        builder.build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAlreadyBuilt()
+    {
+        final Postings.Builder builder = new Postings.Builder();
+        builder.build();
+        builder.endFeature();
+    }
+}
@@ -58,7 +58,7 @@ class PreprocessingContextAssert
 
         public PreprocessingContextPhraseAssert withDocumentTf(int documentIndex, int expectedTf)
         {
-            int [] byDocTf = context.allPhrases.tfByDocument[phraseIndex];
+            int [] byDocTf = context.allPhrases.tfByDocument.toSparseArray(phraseIndex);
             for (int i = 0; i < byDocTf.length; i += 2)
             {
                 if (byDocTf[i] == documentIndex) {
@@ -84,7 +84,7 @@ class PreprocessingContextAssert
                 withDocumentTf(docTf[0], docTf[1]);
             }
 
-            Assertions.assertThat(context.allPhrases.tfByDocument[phraseIndex].length / 2)
+            Assertions.assertThat(context.allPhrases.tfByDocument.getDocumentFrequency(phraseIndex))
                 .describedAs("tfByDocument array size for phrase: '" + context.allPhrases.getPhrase(phraseIndex) + "'")
                 .isEqualTo(docTfPairs.length);
 
@@ -250,7 +250,7 @@ nextPhrase:
 
         public StemAssert withDocumentTf(int documentIndex, int expectedTf)
         {
-            int [] byDocTf = context.allStems.tfByDocument[stemIndex];
+            int [] byDocTf = context.allStems.tfByDocument.toSparseArray(stemIndex);
             for (int i = 0; i < byDocTf.length; i += 2)
             {
                 if (byDocTf[i] == documentIndex) {
@@ -272,7 +272,7 @@ nextPhrase:
                 withDocumentTf(docTf[0], docTf[1]);
             }
 
-            Assertions.assertThat(context.allStems.tfByDocument[stemIndex].length / 2)
+            Assertions.assertThat(context.allStems.tfByDocument.getDocumentFrequency(stemIndex))
                 .describedAs("tfByDocument array size for stem: '" + stemImage + "'")
                 .isEqualTo(docTfPairs.length);
 
@@ -335,7 +335,7 @@ nextPhrase:
 
         public WordAssert withDocumentTf(int documentIndex, int expectedTf)
         {
-            int [] byDocTf = context.allWords.tfByDocument[wordIndex];
+            int [] byDocTf = context.allWords.tfByDocument.toSparseArray(wordIndex);
             for (int i = 0; i < byDocTf.length; i += 2)
             {
                 if (byDocTf[i] == documentIndex) {
@@ -357,7 +357,7 @@ nextPhrase:
                 withDocumentTf(docTf[0], docTf[1]);
             }
 
-            Assertions.assertThat(context.allWords.tfByDocument[wordIndex].length / 2)
+            Assertions.assertThat(context.allWords.tfByDocument.getDocumentFrequency(wordIndex))
                 .describedAs("tfByDocument array size for word: '" + wordImage + "'")
                 .isEqualTo(docTfPairs.length);
 
@@ -426,14 +426,14 @@ nextPhrase:
         
         public String getTokenImage() 
         { 
-            if (context.allTokens.image[tokenIndex] == null)
+            if (context.allTokens.getImage()[tokenIndex] == null)
                 return null;
-            return new String(context.allTokens.image[tokenIndex]);
+            return new String(context.allTokens.getImage()[tokenIndex]);
         }
 
         public String getWordImage() 
         { 
-            if (context.allTokens.image[tokenIndex] == null)
+            if (context.allTokens.getImage()[tokenIndex] == null)
             {
                 if (TokenTypeUtils.isDocumentSeparator(context.allTokens.type[tokenIndex]))
                     return DS;
@@ -471,7 +471,7 @@ nextPhrase:
     public List<TokenEntry> tokens()
     {
         List<TokenEntry> result = Lists.newArrayList();
-        for (int i = 0; i < context.allTokens.image.length; i++)
+        for (int i = 0; i < context.allTokens.getImage().length; i++)
             result.add(new TokenEntry(i));
         return result;
     }
@@ -485,7 +485,7 @@ nextPhrase:
         {
             this.tokenIndex = tokenIndex;
             this.tokenImage = tokenIndex + ":"
-                + (context.allTokens.image[tokenIndex] != null ? new String(context.allTokens.image[tokenIndex]) : "<null>");
+                + (context.allTokens.getImage()[tokenIndex] != null ? new String(context.allTokens.getImage()[tokenIndex]) : "<null>");
         }
 
         /** type masked to token type only. */
@@ -511,9 +511,9 @@ nextPhrase:
             Assertions.assertThat(
                 CharArrayComparators.FAST_CHAR_ARRAY_COMPARATOR.compare(
                     image != null ? image.toCharArray() : null,
-                    context.allTokens.image[tokenIndex]) == 0)
+                    context.allTokens.getImage()[tokenIndex]) == 0)
                     .as("token image equality: " + image + " vs. " + 
-                    new String(Objects.firstNonNull(context.allTokens.image[tokenIndex], "<null>".toCharArray())))
+                    new String(Objects.firstNonNull(context.allTokens.getImage()[tokenIndex], "<null>".toCharArray())))
                     .isTrue();
             return this;
         }
@@ -568,7 +568,7 @@ nextPhrase:
             Assertions
                 .assertThat(
                     IntMapUtils.flattenSortedByKey(IntMapUtils.addAllFromFlattened(
-                        new IntIntOpenHashMap(), allPhrases.tfByDocument[index])))
+                        new IntIntOpenHashMap(), allPhrases.tfByDocument.toSparseArray(index))))
                 .as("Phrase: " + allPhrases.getPhrase(index))
                 .isEqualTo(IntMapUtils.flattenSortedByKey(realTfByDocuments));
         }
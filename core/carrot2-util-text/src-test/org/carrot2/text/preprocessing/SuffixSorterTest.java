@@ -12,6 +12,7 @@
 
 package org.carrot2.text.preprocessing;
 
+import org.carrot2.text.preprocessing.SuffixSorter.SuffixSortingAlgorithm;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -160,14 +161,78 @@ public class SuffixSorterTest extends PreprocessingComponentTestBase
         checkAsserts(expectedSuffixOrder, expectedLcpArray);
     }
 
-    private void checkAsserts(int [] expectedSuffixOrder, int [] expectedLcpArray)
+    @Test
+    public void testRepetitiveInput()
     {
+        final String [] fieldValues = new String [200];
+        for (int i = 0; i < fieldValues.length; i++)
+        {
+            fieldValues[i] = "data mining data mining clustering "
+                + (i % 7 == 0 ? "search results" : "data mining") + " copyright "
+                + (i % 3);
+        }
+        createDocuments(fieldValues);
+
         tokenizer.tokenize(context);
         caseNormalizer.normalize(context);
+        suffixSorter.algorithm = SuffixSortingAlgorithm.MERGESORT;
         suffixSorter.suffixSort(context);
+        final int [] expectedSuffixOrder = context.allTokens.suffixOrder;
+        final int [] expectedLcpArray = context.allTokens.lcp;
+
+        suffixSorter.algorithm = SuffixSortingAlgorithm.SAIS;
+        suffixSorter.suffixSort(context);
+        assertThat(context.allTokens.suffixOrder).isEqualTo(expectedSuffixOrder);
+        assertThat(context.allTokens.lcp).isEqualTo(expectedLcpArray);
+    }
+
+    @Test
+    public void testSuffixArrayOfRandomInput()
+    {
+        for (int round = 0; round < 100; round++)
+        {
+            final int upper = randomIntBetween(0, 5);
+            final int [] s = new int [randomIntBetween(0, 300)];
+            for (int i = 0; i < s.length; i++)
+            {
+                s[i] = randomIntBetween(0, upper);
+            }
+
+            final int [] suffixArray = SuffixSorter.suffixArray(s, upper);
+            final int [] lcp = SuffixSorter.lcp(s, suffixArray);
+            assertThat(suffixArray.length).isEqualTo(s.length);
+            for (int i = 1; i < s.length; i++)
+            {
+                final int a = suffixArray[i - 1];
+                final int b = suffixArray[i];
+                int common = 0;
+                while (a + common < s.length && b + common < s.length
+                    && s[a + common] == s[b + common])
+                {
+                    common++;
+                }
+                assertThat(lcp[i]).as("lcp at " + i).isEqualTo(common);
+                assertThat(b + common < s.length
+                    && (a + common == s.length || s[a + common] < s[b + common])).as(
+                    "order at " + i).isTrue();
+            }
+        }
+    }
 
-        assertThat(context.allTokens.suffixOrder).as("allTokens.suffixOrder").isEqualTo(
-            expectedSuffixOrder);
-        assertThat(context.allTokens.lcp).as("allTokens.lcp").isEqualTo(expectedLcpArray);
+    private void checkAsserts(int [] expectedSuffixOrder, int [] expectedLcpArray)
+    {
+        tokenizer.tokenize(context);
+        caseNormalizer.normalize(context);
+
+        for (SuffixSortingAlgorithm algorithm : SuffixSortingAlgorithm.values())
+        {
+            suffixSorter.algorithm = algorithm;
+            suffixSorter.suffixSort(context);
+
+            assertThat(context.allTokens.suffixOrder).as(
+                "allTokens.suffixOrder, " + algorithm).isEqualTo(expectedSuffixOrder);
+            assertThat(context.allTokens.lcp).as("allTokens.lcp, " + algorithm)
+                .isEqualTo(expectedLcpArray);
+        }
     }
 }
@@ -16,7 +16,11 @@ import static org.carrot2.text.preprocessing.PreprocessingContextAssert.tokens;
 import static org.carrot2.text.preprocessing.PreprocessingContextBuilder.FieldValue.*;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.carrot2.core.Document;
 import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.preprocessing.pipeline.BasicPreprocessingPipeline;
 import org.carrot2.util.attribute.AttributeUtils;
@@ -213,4 +217,115 @@ public class TokenizerTest extends PreprocessingContextTestBase
     }
 
     // @formatter:on
+
+    @Test
+    public void testParallelTokenization()
+    {
+        final String [] words = {"data", "mining", "Data", "web", "site", "", "test"};
+        final int documents = Tokenizer.MIN_DOCUMENTS_PER_CHUNK * 5 + 3;
+        final BasicPreprocessingPipeline parallelPipeline = new BasicPreprocessingPipeline();
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        parallelPipeline.tokenizer.setExecutor(executor);
+        PreprocessingContextBuilder parallelBuilder = new PreprocessingContextBuilder()
+            .withPreprocessingPipeline(parallelPipeline)
+            .setAttribute(AttributeUtils.getKey(Tokenizer.class, "threads"), 4);
+        for (int i = 0; i < documents; i++)
+        {
+            final String title = words[randomIntBetween(0, words.length - 1)] + " "
+                + words[randomIntBetween(0, words.length - 1)];
+            final String summary = words[randomIntBetween(0, words.length - 1)];
+            contextBuilder.newDoc(title, summary);
+            parallelBuilder.newDoc(title, summary);
+        }
+
+        final PreprocessingContext expected = contextBuilder.buildContext();
+        final PreprocessingContext actual;
+        try
+        {
+            actual = parallelBuilder.buildContext();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertThat(actual.allTokens.documentIndex).isEqualTo(
+            expected.allTokens.documentIndex);
+        assertThat(actual.allTokens.fieldIndex).isEqualTo(expected.allTokens.fieldIndex);
+        assertThat(actual.allTokens.type).isEqualTo(expected.allTokens.type);
+        assertThat(
+            Arrays.deepEquals(actual.allTokens.getImage(), expected.allTokens.getImage()))
+            .isTrue();
+        assertThat(actual.allTokens.wordIndex).isEqualTo(expected.allTokens.wordIndex);
+        assertThat(actual.allTokens.imageChars).isEqualTo(expected.allTokens.imageChars);
+        assertThat(actual.allTokens.imageOffset).isEqualTo(
+            expected.allTokens.imageOffset);
+        assertThat(actual.allTokens.imageLength).isEqualTo(
+            expected.allTokens.imageLength);
+
+        // Images of the same tokens are interned across chunks
+        final char [][] images = actual.allTokens.getImage();
+        for (int i = 0; i < images.length; i++)
+        {
+            if (images[i] != null && Arrays.equals(images[i], images[0]))
+            {
+                assertThat(images[i]).isSameAs(images[0]);
+            }
+        }
+    }
+
+    @Test
+    public void testImageArena()
+    {
+        contextBuilder.newDoc("data mining Data", "mining");
+        contextBuilder.newDoc("web site", "data");
+        final PreprocessingContext context = contextBuilder.buildContext();
+
+        final char [][] images = context.allTokens.getImage();
+        for (int i = 0; i < images.length; i++)
+        {
+            final int offset = context.allTokens.imageOffset[i];
+            if (images[i] == null)
+            {
+                assertThat(offset).isEqualTo(-1);
+            }
+            else
+            {
+                assertThat(
+                    Arrays.copyOfRange(context.allTokens.imageChars, offset, offset
+                        + context.allTokens.imageLength[i])).isEqualTo(images[i]);
+            }
+        }
+
+        // Each distinct image is stored once
+        assertThat(new String(context.allTokens.imageChars)).isEqualTo(
+            "dataminingDatawebsite");
+    }
+
+    @Test
+    public void testImageViewWithEmptyImage()
+    {
+        final PreprocessingContext context = new PreprocessingContext(null,
+            Collections.<Document> emptyList(), null);
+        assertThat(context.allTokens.getImage()).isNull();
+
+        // The empty image shares its offset with "ab"
+        context.allTokens.imageChars = "ab".toCharArray();
+        context.allTokens.imageOffset = new int []
+        {
+            0, 0, 0, 1, -1
+        };
+        context.allTokens.imageLength = new int []
+        {
+            0, 2, 0, 1, 0
+        };
+
+        final char [][] images = context.allTokens.getImage();
+        assertThat(new String(images[0])).isEqualTo("");
+        assertThat(new String(images[1])).isEqualTo("ab");
+        assertThat(images[2]).isSameAs(images[0]);
+        assertThat(new String(images[3])).isEqualTo("b");
+        assertThat(images[4]).isNull();
+        assertThat(context.allTokens.getImage()).isSameAs(images);
+    }
 }
@@ -0,0 +1,159 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing.pipeline;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.carrot2.core.Document;
+import org.carrot2.core.LanguageCode;
+import org.carrot2.text.linguistic.StemCache;
+import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Test cases for {@link IncrementalPreprocessing}.
+ */
+public class IncrementalPreprocessingTest extends CarrotTestCase
+{
+    private static final String [] WORDS =
+    {
+        "data", "mining", "Data", "web", "sites", "site", "", "test", "tests", "Mining", ".",
+        "DATA", ",", "http://www.carrot2.org", "2.0"
+    };
+
+    @Test
+    public void testSameAsPreprocess()
+    {
+        final List<Document> documents = documents(randomIntBetween(0, 60));
+        final CompletePreprocessingPipeline pipeline = new CompletePreprocessingPipeline();
+        pipeline.caseNormalizer.dfThreshold = randomIntBetween(1, 3);
+        final PreprocessingContext expected = pipeline.preprocess(documents, "data",
+            LanguageCode.ENGLISH);
+
+        final IncrementalPreprocessing incremental = pipeline.startIncremental("data",
+            LanguageCode.ENGLISH);
+        for (int i = 0; i < documents.size();)
+        {
+            final int end = Math.min(documents.size(), i + randomIntBetween(0, 10));
+            incremental.add(documents.subList(i, end));
+            i = end;
+        }
+        final PreprocessingContext actual = incremental.finish();
+
+        assertSame(actual, expected);
+    }
+
+    @Test
+    public void testBatchesAddedFromOtherThreads() throws Exception
+    {
+        final List<Document> documents = documents(40);
+        final CompletePreprocessingPipeline pipeline = new CompletePreprocessingPipeline();
+        pipeline.stemCache = new StemCache(1000);
+
+        final IncrementalPreprocessing incremental = pipeline.startIncremental(null,
+            LanguageCode.ENGLISH);
+        final Thread [] threads = new Thread [4];
+        for (int i = 0; i < threads.length; i++)
+        {
+            final List<Document> batch = documents.subList(10 * i, 10 * (i + 1));
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    incremental.add(batch);
+                }
+            };
+        }
+
+        for (Thread thread : threads)
+        {
+            thread.start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        final PreprocessingContext actual = incremental.finish();
+        final long hits = pipeline.stemCache.getHitCount();
+
+        // Documents are ordered by add() calls, whichever thread made them first
+        assertThat(actual.documents).containsOnly(documents.toArray());
+        final PreprocessingContext expected = pipeline.preprocess(actual.documents, null,
+            LanguageCode.ENGLISH);
+        assertSame(actual, expected);
+        assertThat(hits).isGreaterThan(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddAfterFinish()
+    {
+        final IncrementalPreprocessing incremental = new BasicPreprocessingPipeline()
+            .startIncremental(null, LanguageCode.ENGLISH);
+        incremental.add(documents(2));
+        incremental.finish();
+        incremental.add(documents(2));
+    }
+
+    private static List<Document> documents(int count)
+    {
+        final List<Document> documents = Lists.newArrayList();
+        for (int i = 0; i < count; i++)
+        {
+            documents.add(new Document(randomWord() + " " + randomWord(), randomWord()
+                + " " + randomWord() + " " + randomWord()));
+        }
+        return documents;
+    }
+
+    private static String randomWord()
+    {
+        return WORDS[randomIntBetween(0, WORDS.length - 1)];
+    }
+
+    private static void assertSame(PreprocessingContext actual,
+        PreprocessingContext expected)
+    {
+        assertThat(actual.documents).isEqualTo(expected.documents);
+        assertThat(actual.allTokens.type).isEqualTo(expected.allTokens.type);
+        assertThat(actual.allTokens.documentIndex).isEqualTo(
+            expected.allTokens.documentIndex);
+        assertThat(actual.allTokens.fieldIndex).isEqualTo(expected.allTokens.fieldIndex);
+        assertThat(actual.allTokens.wordIndex).isEqualTo(expected.allTokens.wordIndex);
+        assertThat(actual.allTokens.imageChars).isEqualTo(expected.allTokens.imageChars);
+        assertThat(Arrays.deepEquals(actual.allWords.image, expected.allWords.image))
+            .isTrue();
+        assertThat(actual.allWords.type).isEqualTo(expected.allWords.type);
+        assertThat(actual.allWords.tf).isEqualTo(expected.allWords.tf);
+        assertThat(actual.allWords.fieldIndices).isEqualTo(expected.allWords.fieldIndices);
+        assertThat(actual.allWords.tfByDocument.size()).isEqualTo(
+            expected.allWords.tfByDocument.size());
+        for (int i = 0; i < expected.allWords.tfByDocument.size(); i++)
+        {
+            assertThat(actual.allWords.tfByDocument.toSparseArray(i)).isEqualTo(
+                expected.allWords.tfByDocument.toSparseArray(i));
+        }
+        assertThat(actual.allWords.stemIndex).isEqualTo(expected.allWords.stemIndex);
+        assertThat(Arrays.deepEquals(actual.allStems.image, expected.allStems.image))
+            .isTrue();
+        assertThat(Arrays.deepEquals(actual.allPhrases.wordIndices,
+            expected.allPhrases.wordIndices)).isTrue();
+        assertThat(actual.allLabels.featureIndex).isEqualTo(
+            expected.allLabels.featureIndex);
+        assertThat(actual.allLabels.documentIndices).isEqualTo(
+            expected.allLabels.documentIndices);
+    }
+}
@@ -0,0 +1,78 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.util;
+
+import java.util.Map;
+
+import org.carrot2.util.tests.CarrotTestCase;
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Test cases for {@link CharArena}.
+ */
+public class CharArenaTest extends CarrotTestCase
+{
+    @Test
+    public void testIntern()
+    {
+        final CharArena arena = new CharArena();
+        final char [] chars = "xdataminingdata".toCharArray();
+
+        assertThat(arena.intern(chars, 1, 4)).isEqualTo(0);
+        assertThat(arena.intern(chars, 5, 6)).isEqualTo(1);
+        assertThat(arena.intern(chars, 11, 4)).isEqualTo(0);
+        assertThat(arena.intern(chars, 0, 0)).isEqualTo(2);
+
+        assertThat(arena.size()).isEqualTo(3);
+        assertThat(arena.getCharCount()).isEqualTo(10);
+        assertThat(arena.getOffset(1)).isEqualTo(4);
+        assertThat(arena.getLength(1)).isEqualTo(6);
+        assertThat(new String(arena.toCharArray(0))).isEqualTo("data");
+        assertThat(new String(arena.toCharArray(2))).isEqualTo("");
+        assertThat(new String(arena.getBuffer(), 0, arena.getCharCount())).isEqualTo(
+            "datamining");
+    }
+
+    @Test
+    public void testGrowth()
+    {
+        final CharArena arena = new CharArena(1);
+        final Map<String, Integer> indices = Maps.newHashMap();
+        for (int i = 0; i < 10000; i++)
+        {
+            final String s = Integer.toString(randomIntBetween(0, 2000), 36);
+            final char [] chars = ("_" + s).toCharArray();
+            final int index = arena.intern(chars, 1, s.length());
+
+            final Integer expected = indices.get(s);
+            if (expected == null)
+            {
+                assertThat(index).isEqualTo(indices.size());
+                indices.put(s, index);
+            }
+            else
+            {
+                assertThat(index).isEqualTo(expected);
+            }
+        }
+
+        assertThat(arena.size()).isEqualTo(indices.size());
+        for (Map.Entry<String, Integer> entry : indices.entrySet())
+        {
+            assertThat(new String(arena.toCharArray(entry.getValue()))).isEqualTo(
+                entry.getKey());
+        }
+    }
+}
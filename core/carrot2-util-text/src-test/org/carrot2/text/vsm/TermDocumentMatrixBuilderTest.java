@@ -13,6 +13,7 @@
 package org.carrot2.text.vsm;
 
 import org.carrot2.matrix.MatrixAssertions;
+import org.carrot2.text.preprocessing.Postings;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.junit.Test;
 
@@ -198,23 +199,55 @@ public class TermDocumentMatrixBuilderTest extends TermDocumentMatrixBuilderTest
             this.context.query, 
             this.context.language.getLanguageCode());
 
-        // The preprocessing pipeline will produce increasing indices in tfByDocument,
-        // so to reproduce the bug, we need to perturb them, e.g. reverse. 
-        final int [][] tfByDocument = context.allStems.tfByDocument;
-        for (int s = 0; s < tfByDocument.length; s++)
+        // The preprocessing pipeline adds documents to postings in increasing order, so
+        // to reproduce the bug, we need to perturb the order, e.g. reverse.
+        final Postings tfByDocument = context.allStems.tfByDocument;
+        final Postings.Builder reversed = new Postings.Builder();
+        for (int s = 0; s < tfByDocument.size(); s++)
         {
-            final int [] stemTfByDocument = tfByDocument[s];
-            for (int i = 0; i < stemTfByDocument.length / 4; i++)
+            final int [] stemTfByDocument = tfByDocument.toSparseArray(s);
+            for (int i = stemTfByDocument.length / 2 - 1; i >= 0; i--)
             {
-                int t = stemTfByDocument[i * 2];
-                stemTfByDocument[i * 2] = stemTfByDocument[(stemTfByDocument.length / 2 - i - 1) * 2];
-                stemTfByDocument[(stemTfByDocument.length / 2 - i - 1) * 2] = t;
-                
-                t = stemTfByDocument[i * 2 + 1];
-                stemTfByDocument[i * 2 + 1] = stemTfByDocument[(stemTfByDocument.length / 2 - i - 1) * 2 + 1];
-                stemTfByDocument[(stemTfByDocument.length / 2 - i - 1) * 2 + 1] = t;
+                reversed.add(stemTfByDocument[i * 2], stemTfByDocument[i * 2 + 1]);
             }
+            reversed.endFeature();
         }
+        context.allStems.tfByDocument = reversed.build();
+
+        vsmContext = new VectorSpaceModelContext(context);
+        matrixBuilder.buildTermDocumentMatrix(vsmContext);
+        matrixBuilder.buildTermPhraseMatrix(vsmContext);
+
+        int [] expectedTdMatrixStemIndices = new int []
+        {
+            2, 0, 1
+        };
+        double [][] expectedTdMatrixElements = new double [] []
+        {
+            {
+                0, 1, 2
+            },
+            {
+                1, 0, 1
+            },
+            {
+                1, 1, 0
+            }
+        };
+
+        checkOnly(expectedTdMatrixElements, expectedTdMatrixStemIndices);
+    }
+
+    @Test
+    public void testCompressedPostings()
+    {
+        createDocuments("", "aa . bb", "", "bb . cc", "", "aa . cc . cc");
+
+        PreprocessingContext context = preprocessingPipeline.preprocess(
+            this.context.documents, 
+            this.context.query, 
+            this.context.language.getLanguageCode());
+        context.compressPostings();
 
         vsmContext = new VectorSpaceModelContext(context);
         matrixBuilder.buildTermDocumentMatrix(vsmContext);
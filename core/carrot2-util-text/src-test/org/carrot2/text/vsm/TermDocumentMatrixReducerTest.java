@@ -0,0 +1,89 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.vsm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.carrot2.matrix.factorization.IterativeMatrixFactorizationFactory;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.TimeBudget.Policy;
+import org.carrot2.util.tests.SteppingTicker;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link TermDocumentMatrixReducer}.
+ */
+public class TermDocumentMatrixReducerTest extends ReducedTermDocumentMatrixBuilderTestBase
+{
+    @Test
+    public void testWarmStartNotCachedWhenCutShort()
+    {
+        createDocuments("", "aa bb", "", "bb cc", "", "cc dd", "", "dd aa", "", "aa cc");
+        createPreprocessingContext("query");
+        reducer.warmStart = true;
+        final IterativeMatrixFactorizationFactory factory =
+            (IterativeMatrixFactorizationFactory) reducer.factorizationFactory;
+
+        final TimeBudget expired = new TimeBudget(1, Policy.DEGRADE, new SteppingTicker(1,
+            TimeUnit.MILLISECONDS));
+        reduce(expired);
+        assertThat(expired.getDegradations()).hasSize(1);
+
+        // No base vectors cached, starts cold
+        reduce(TimeBudget.unlimited());
+        assertThat(factory.getConvergenceThreshold()).isEqualTo(-1);
+
+        // Starts from the base vectors of the complete factorization
+        reduce(TimeBudget.unlimited());
+        assertThat(factory.getConvergenceThreshold()).isEqualTo(
+            reducer.convergenceThreshold);
+    }
+
+    @Test
+    public void testWarmStartKeyedByDimensions()
+    {
+        createDocuments("", "aa bb", "", "bb cc", "", "cc dd", "", "dd aa", "", "aa cc");
+        createPreprocessingContext("query");
+        reducer.warmStart = true;
+        final IterativeMatrixFactorizationFactory factory =
+            (IterativeMatrixFactorizationFactory) reducer.factorizationFactory;
+
+        reduce(TimeBudget.unlimited(), 2);
+
+        // Base vectors of a different number of dimensions are not reused
+        reduce(TimeBudget.unlimited(), 1);
+        assertThat(factory.getConvergenceThreshold()).isEqualTo(-1);
+
+        reduce(TimeBudget.unlimited(), 2);
+        assertThat(factory.getConvergenceThreshold()).isEqualTo(
+            reducer.convergenceThreshold);
+    }
+
+    private void reduce(TimeBudget budget)
+    {
+        reduce(budget, getDimensions());
+    }
+
+    private void reduce(TimeBudget budget, int dimensions)
+    {
+        buildTermDocumentMatrix();
+        reducedVsmContext = new ReducedVectorSpaceModelContext(vsmContext);
+        reducer.reduce(reducedVsmContext, dimensions, budget);
+    }
+
+    @Override
+    protected int getDimensions()
+    {
+        return 2;
+    }
+}
@@ -0,0 +1,36 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import org.carrot2.core.LanguageCode;
+
+/**
+ * Decorates stemmers of another {@link IStemmerFactory} with a {@link StemCache}.
+ */
+public final class CachingStemmerFactory implements IStemmerFactory
+{
+    private final IStemmerFactory delegate;
+    private final StemCache cache;
+
+    public CachingStemmerFactory(IStemmerFactory delegate, StemCache cache)
+    {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public IStemmer getStemmer(LanguageCode languageCode)
+    {
+        return cache.decorate(languageCode, delegate.getStemmer(languageCode));
+    }
+}
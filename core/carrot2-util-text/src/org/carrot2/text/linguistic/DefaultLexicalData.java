@@ -17,34 +17,37 @@ import java.util.regex.Pattern;
 
 import org.carrot2.text.util.MutableCharArray;
 
-import com.carrotsearch.hppc.ObjectOpenHashSet;
-
 /**
- * {@link ILexicalData} implemented on top of a hash set (stopwords) and a regular
- * expression pattern (stoplabels).
+ * {@link ILexicalData} implemented on top of a stop word dictionary shared by all
+ * languages (stopwords, see {@link StopwordDictionary}) and an automaton matching regular
+ * expressions (stoplabels, see {@link StopLabelMatcher}).
  */
 final class DefaultLexicalData implements ILexicalData
 {
-    private final ObjectOpenHashSet<MutableCharArray> stopwords;
-    private final Pattern stoplabelPattern;
+    private final StopwordDictionary stopwords;
+    private final long languages;
+    private final StopLabelMatcher stoplabelMatcher;
 
-    /*
-     * 
+    /**
+     * @param languages the bit mask of languages of stop words in
+     *            <code>stopwords</code> to use
      */
-    public DefaultLexicalData(ObjectOpenHashSet<MutableCharArray> stopwords, 
+    public DefaultLexicalData(StopwordDictionary stopwords, long languages,
                               ArrayList<Pattern> stoplabels)
     {
         this.stopwords = stopwords;
-        this.stoplabelPattern = union(stoplabels);
+        this.languages = languages;
+        this.stoplabelMatcher = stoplabels.isEmpty() ? null : new StopLabelMatcher(stoplabels);
     }
 
-    /*
-     * 
+    /**
+     * Ignores the case of the word.
      */
     @Override
     public boolean isCommonWord(MutableCharArray word)
     {
-        return stopwords.contains(word);
+        return (stopwords.getLanguages(word.getBuffer(), word.getStart(), word.length())
+            & languages) != 0;
     }
 
     /*
@@ -53,34 +56,9 @@ final class DefaultLexicalData implements ILexicalData
     @Override
     public boolean isStopLabel(CharSequence label)
     {
-        if (this.stoplabelPattern == null)
+        if (this.stoplabelMatcher == null)
             return false;
 
-        return stoplabelPattern.matcher(label).matches();
-    }
-
-    /**
-     * Combines a number of patterns into a single pattern with a union
-     * of all of them. With automata-based pattern engines, this should
-     * be faster and memory-friendly.
-     */
-    private static Pattern union(ArrayList<Pattern> patterns)
-    {
-        final StringBuilder union = new StringBuilder();
-        if (patterns.size() > 0)
-        {
-            union.append("(");
-            for (int i = 0; i < patterns.size(); i++)
-            {
-                if (i > 0) union.append(")|(");
-                union.append(patterns.get(i).toString());
-            }
-            union.append(")");
-            return Pattern.compile(union.toString());
-        }
-        else
-        {
-            return null;
-        }
+        return stoplabelMatcher.matches(label);
     }
 }
@@ -22,7 +22,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -30,8 +29,6 @@ import org.carrot2.core.LanguageCode;
 import org.carrot2.core.attribute.Init;
 import org.carrot2.core.attribute.Internal;
 import org.carrot2.core.attribute.Processing;
-import org.carrot2.text.util.MutableCharArray;
-import org.carrot2.util.CharArrayUtils;
 import org.carrot2.util.annotations.AspectModified;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
@@ -48,7 +45,6 @@ import org.carrot2.util.resource.ResourceLookup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.carrotsearch.hppc.ObjectOpenHashSet;
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -149,46 +145,43 @@ public class DefaultLexicalDataFactory implements ILexicalDataFactory
      */
     private static HashMap<LanguageCode, ILexicalData> reloadResources(ResourceLookup resourceLookup)
     {
-        // Load lexical resources.
-        ObjectOpenHashSet<MutableCharArray> mergedStopwords = ObjectOpenHashSet.newInstance();
-        ArrayList<Pattern> mergedStoplabels = Lists.newArrayList();
+        // Load lexical resources. Stop words of all languages are kept in one dictionary.
+        final LanguageCode [] languageCodes = LanguageCode.values();
+        assert languageCodes.length <= Long.SIZE : "Language bit masks too short.";
 
-        HashMap<LanguageCode, ILexicalData> resourceMap = Maps.newHashMap();
-        for (LanguageCode languageCode : LanguageCode.values())
+        StopwordDictionary.Builder stopwords = new StopwordDictionary.Builder();
+        HashMap<LanguageCode, ArrayList<Pattern>> stoplabels = Maps.newHashMap();
+        ArrayList<Pattern> mergedStoplabels = Lists.newArrayList();
+        for (LanguageCode languageCode : languageCodes)
         {
             final String isoCode = languageCode.getIsoCode();
 
-            ObjectOpenHashSet<MutableCharArray> stopwords = 
-                toLower(load(resourceLookup, "stopwords." + isoCode));
-            ArrayList<Pattern> stoplabels = 
+            for (String stopword : load(resourceLookup, "stopwords." + isoCode))
+            {
+                stopwords.add(stopword, languageMask(languageCode));
+            }
+            ArrayList<Pattern> languageStoplabels = 
                 compile(load(resourceLookup, "stoplabels." + isoCode));
 
-            mergedStopwords.addAll(stopwords);
-            mergedStoplabels.addAll(stoplabels);
-            
-            resourceMap.put(languageCode, new DefaultLexicalData(stopwords, stoplabels));
+            mergedStoplabels.addAll(languageStoplabels);
+            stoplabels.put(languageCode, languageStoplabels);
         }
-        resourceMap.put(null, new DefaultLexicalData(mergedStopwords, mergedStoplabels));
+
+        final StopwordDictionary dictionary = stopwords.build();
+        HashMap<LanguageCode, ILexicalData> resourceMap = Maps.newHashMap();
+        for (LanguageCode languageCode : languageCodes)
+        {
+            resourceMap.put(languageCode, new DefaultLexicalData(dictionary,
+                languageMask(languageCode), stoplabels.get(languageCode)));
+        }
+        resourceMap.put(null, new DefaultLexicalData(dictionary, ~0L, mergedStoplabels));
 
         return resourceMap;
     }
 
-    /**
-     * All entries to lowercase.
-     */
-    private static ObjectOpenHashSet<MutableCharArray> toLower(Set<String> input)
+    private static long languageMask(LanguageCode languageCode)
     {
-        ObjectOpenHashSet<MutableCharArray> cloned = 
-            new ObjectOpenHashSet<MutableCharArray>(input.size());
-
-        for (String entry : input)
-        {
-            char [] chars = entry.toCharArray();
-            CharArrayUtils.toLowerCaseInPlace(chars);
-            cloned.add(new MutableCharArray(chars));
-        }
-
-        return cloned;
+        return 1L << languageCode.ordinal();
     }
 
     /**
@@ -25,7 +25,9 @@ public final class LanguageModel
 {
     private final LanguageCode languageCode;
     private final IFactory<IStemmer> stemmerFactory;
+    private final IFactory<IStemmer> newStemmerFactory;
     private final IFactory<ITokenizer> tokenizerFactory;
+    private final IFactory<ITokenizer> newTokenizerFactory;
     private final IFactory<ILexicalData> lexicalDataFactory;
 
     LanguageModel(LanguageCode languageCode, IFactory<IStemmer> stemmerFactory,
@@ -33,8 +35,10 @@ public final class LanguageModel
     {
         this.languageCode = languageCode;
         this.stemmerFactory = new CachedInstanceFactoryDecorator<IStemmer>(stemmerFactory);
+        this.newStemmerFactory = stemmerFactory;
         this.tokenizerFactory = new CachedInstanceFactoryDecorator<ITokenizer>(
             tokenizerFactory);
+        this.newTokenizerFactory = tokenizerFactory;
         this.lexicalDataFactory = new CachedInstanceFactoryDecorator<ILexicalData>(
             lexicalDataFactory);
     }
@@ -92,4 +96,23 @@ public final class LanguageModel
     {
         return tokenizerFactory.createInstance();
     }
+
+    /**
+     * Returns a new tokenizer instance, not shared with other callers, e.g. for
+     * tokenizing in a separate thread. {@link #getTokenizer()} always returns the same
+     * instance.
+     */
+    public ITokenizer createTokenizer()
+    {
+        return newTokenizerFactory.createInstance();
+    }
+
+    /**
+     * Returns a new stemmer instance, not shared with other callers, e.g. for stemming in
+     * a separate thread. {@link #getStemmer()} always returns the same instance.
+     */
+    public IStemmer createStemmer()
+    {
+        return newStemmerFactory.createInstance();
+    }
 }
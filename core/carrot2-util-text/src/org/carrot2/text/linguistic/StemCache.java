@@ -0,0 +1,225 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.carrot2.core.LanguageCode;
+import org.carrot2.text.util.MutableCharArray;
+import org.carrot2.util.annotations.ThreadSafe;
+
+import com.carrotsearch.hppc.ObjectObjectOpenHashMap;
+import com.google.common.collect.Maps;
+
+/**
+ * A bounded cache of stems shared by {@link IStemmer}s decorated with
+ * {@link #decorate(LanguageCode, IStemmer)}, e.g. by all stemmers a
+ * {@link CachingStemmerFactory} creates. Stems are cached separately for each language
+ * and class of the decorated stemmer, so one cache can be used with any
+ * {@link IStemmerFactory}.
+ * <p>
+ * The cache of each language is split into segments locked independently. Each segment
+ * keeps two generations of entries: when the current generation is full, it becomes the
+ * previous one and the old previous generation is dropped. Entries found in the previous
+ * generation are moved to the current one, so frequently used stems stay cached. At most
+ * {@link #getMaxSize()} stems are cached for each language.
+ */
+@ThreadSafe
+public final class StemCache
+{
+    /**
+     * Base 2 logarithm of the number of segments of each language's cache.
+     */
+    private static final int SEGMENT_BITS = 4;
+
+    /**
+     * Cached value of words with no stem.
+     */
+    private static final MutableCharArray NO_STEM = new MutableCharArray();
+
+    /**
+     * Segments by language and stemmer class.
+     */
+    private final ConcurrentMap<List<Object>, Segment []> segments = Maps
+        .newConcurrentMap();
+
+    private final int maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxSize the maximum number of stems cached for each language
+     */
+    public StemCache(int maxSize)
+    {
+        if (maxSize < 2 << SEGMENT_BITS)
+        {
+            throw new IllegalArgumentException("Maximum cache size must be at least "
+                + (2 << SEGMENT_BITS) + ": " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns a stemmer returning stems of <code>stemmer</code>, calling it only for words
+     * not in the cache. The returned stemmer is as thread-safe as <code>stemmer</code>,
+     * stems it returns are shared and must not be modified.
+     */
+    public IStemmer decorate(LanguageCode language, IStemmer stemmer)
+    {
+        final List<Object> key = Arrays.<Object> asList(language, stemmer.getClass());
+        Segment [] languageSegments = segments.get(key);
+        if (languageSegments == null)
+        {
+            final Segment [] created = new Segment [1 << SEGMENT_BITS];
+            for (int i = 0; i < created.length; i++)
+            {
+                created[i] = new Segment(maxSize >> (SEGMENT_BITS + 1));
+            }
+            languageSegments = segments.putIfAbsent(key, created);
+            if (languageSegments == null)
+            {
+                languageSegments = created;
+            }
+        }
+        return new CachingStemmer(stemmer, languageSegments);
+    }
+
+    /**
+     * Returns the maximum number of stems cached for each language.
+     */
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of stems found in the cache.
+     */
+    public long getHitCount()
+    {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of stems not found in the cache and computed by the decorated
+     * stemmers.
+     */
+    public long getMissCount()
+    {
+        return misses.get();
+    }
+
+    /**
+     * Removes all cached stems, hit and miss counts remain unchanged.
+     */
+    public void clear()
+    {
+        for (Segment [] languageSegments : segments.values())
+        {
+            for (Segment segment : languageSegments)
+            {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Stems of one segment of a language's words.
+     */
+    private static final class Segment
+    {
+        private final int generationSize;
+        private ObjectObjectOpenHashMap<MutableCharArray, MutableCharArray> current;
+        private ObjectObjectOpenHashMap<MutableCharArray, MutableCharArray> previous;
+
+        Segment(int generationSize)
+        {
+            this.generationSize = generationSize;
+            clear();
+        }
+
+        synchronized MutableCharArray get(MutableCharArray word)
+        {
+            if (current.containsKey(word))
+            {
+                return current.lget();
+            }
+            if (previous.containsKey(word))
+            {
+                final MutableCharArray stem = previous.lget();
+                put(previous.lkey(), stem);
+                return stem;
+            }
+            return null;
+        }
+
+        synchronized void put(MutableCharArray word, MutableCharArray stem)
+        {
+            if (current.size() >= generationSize)
+            {
+                previous = current;
+                current = new ObjectObjectOpenHashMap<MutableCharArray, MutableCharArray>();
+            }
+            current.put(word, stem);
+        }
+
+        synchronized void clear()
+        {
+            current = new ObjectObjectOpenHashMap<MutableCharArray, MutableCharArray>();
+            previous = new ObjectObjectOpenHashMap<MutableCharArray, MutableCharArray>();
+        }
+    }
+
+    /**
+     * A stemmer looking up stems in the cache first.
+     */
+    private final class CachingStemmer implements IStemmer
+    {
+        private final IStemmer stemmer;
+        private final Segment [] languageSegments;
+
+        CachingStemmer(IStemmer stemmer, Segment [] languageSegments)
+        {
+            this.stemmer = stemmer;
+            this.languageSegments = languageSegments;
+        }
+
+        public CharSequence stem(CharSequence word)
+        {
+            final MutableCharArray key = word instanceof MutableCharArray
+                ? (MutableCharArray) word : new MutableCharArray(word);
+            final Segment segment = languageSegments[(key.hashCode() * 0x9e3779b9)
+                >>> (32 - SEGMENT_BITS)];
+
+            MutableCharArray stem = segment.get(key);
+            if (stem != null)
+            {
+                hits.incrementAndGet();
+            }
+            else
+            {
+                misses.incrementAndGet();
+
+                // Keys and stems may be backed by buffers reused by their owners
+                final CharSequence computed = stemmer.stem(key);
+                stem = computed != null ? new MutableCharArray(computed) : NO_STEM;
+                segment.put(key == word ? new MutableCharArray(key) : key, stem);
+            }
+            return stem != NO_STEM ? stem : null;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.lucene.util.automaton.Automaton;
+import org.apache.lucene.util.automaton.BasicOperations;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.apache.lucene.util.automaton.MinimizationOperations;
+import org.apache.lucene.util.automaton.RegExp;
+
+/**
+ * Matches labels against a number of stop label regular expressions at once. Expressions
+ * using the common subset of {@link Pattern} syntax (literals, groups, alternatives,
+ * quantifiers, simple character classes, <code>.</code>, <code>\d</code> and a leading
+ * <code>(?i)</code>) are compiled into a single minimal deterministic automaton, so the
+ * time of matching depends on the length of the label and not on the number of
+ * expressions. Other expressions are matched by a {@link Pattern} union of all of them.
+ * <p>
+ * Case-insensitive expressions ignore the case of ASCII letters only, like
+ * {@link Pattern#CASE_INSENSITIVE}.
+ * <p>
+ * This class is thread-safe.
+ */
+final class StopLabelMatcher
+{
+    /**
+     * Characters not matched by <code>.</code>, the line terminators of {@link Pattern}.
+     */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    private final CharacterRunAutomaton caseSensitive;
+    private final CharacterRunAutomaton caseInsensitive;
+    private final Pattern fallback;
+    private final int fallbackCount;
+
+    StopLabelMatcher(List<Pattern> patterns)
+    {
+        final List<Automaton> caseSensitiveAutomata = new ArrayList<Automaton>();
+        final List<Automaton> caseInsensitiveAutomata = new ArrayList<Automaton>();
+        final List<Pattern> fallbackPatterns = new ArrayList<Pattern>();
+        for (Pattern pattern : patterns)
+        {
+            // Depending on the JVM, flags() include the leading (?i) or not.
+            String regexp = pattern.pattern();
+            boolean ignoreCase = (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0;
+            if (regexp.startsWith("(?i)"))
+            {
+                regexp = regexp.substring("(?i)".length());
+                ignoreCase = true;
+            }
+
+            final String translated = (pattern.flags() & ~Pattern.CASE_INSENSITIVE) == 0
+                ? translate(regexp, ignoreCase) : null;
+            Automaton automaton = null;
+            if (translated != null)
+            {
+                try
+                {
+                    automaton = new RegExp(translated, RegExp.NONE).toAutomaton();
+                }
+                catch (IllegalArgumentException e)
+                {
+                    // Fall back to the pattern.
+                }
+            }
+
+            if (automaton == null)
+            {
+                fallbackPatterns.add(pattern);
+            }
+            else if (ignoreCase)
+            {
+                caseInsensitiveAutomata.add(automaton);
+            }
+            else
+            {
+                caseSensitiveAutomata.add(automaton);
+            }
+        }
+
+        this.caseSensitive = compile(caseSensitiveAutomata);
+        this.caseInsensitive = compile(caseInsensitiveAutomata);
+        this.fallback = union(fallbackPatterns);
+        this.fallbackCount = fallbackPatterns.size();
+    }
+
+    /**
+     * Returns <code>true</code> if any of the expressions matches the whole label.
+     */
+    boolean matches(CharSequence label)
+    {
+        return run(caseSensitive, label, false) || run(caseInsensitive, label, true)
+            || (fallback != null && fallback.matcher(label).matches());
+    }
+
+    /**
+     * Returns the number of expressions matched by {@link Pattern}s.
+     */
+    int getFallbackCount()
+    {
+        return fallbackCount;
+    }
+
+    private static boolean run(CharacterRunAutomaton automaton, CharSequence label,
+        boolean ignoreCase)
+    {
+        if (automaton == null)
+        {
+            return false;
+        }
+
+        int state = automaton.getInitialState();
+        for (int i = 0; i < label.length() && state >= 0;)
+        {
+            int codePoint = Character.codePointAt(label, i);
+            i += Character.charCount(codePoint);
+            if (ignoreCase)
+            {
+                codePoint = toLowerCaseAscii(codePoint);
+            }
+            state = automaton.step(state, codePoint);
+        }
+        return state >= 0 && automaton.isAccept(state);
+    }
+
+    private static CharacterRunAutomaton compile(List<Automaton> automata)
+    {
+        if (automata.isEmpty())
+        {
+            return null;
+        }
+        final Automaton union = BasicOperations.union(automata);
+        MinimizationOperations.minimize(union);
+        return new CharacterRunAutomaton(union);
+    }
+
+    /**
+     * Translates a {@link Pattern} expression into an equivalent {@link RegExp} expression,
+     * with ASCII letters converted to lower case if <code>ignoreCase</code> is set.
+     * Returns <code>null</code> if the expression contains unsupported constructs.
+     */
+    static String translate(String regexp, boolean ignoreCase)
+    {
+        final StringBuilder result = new StringBuilder(regexp.length() * 2);
+        for (int i = 0; i < regexp.length();)
+        {
+            final char c = regexp.charAt(i++);
+            switch (c)
+            {
+                case '(':
+                    if (i < regexp.length() && regexp.charAt(i) == '?')
+                    {
+                        // Flags, non-capturing groups, look-arounds.
+                        return null;
+                    }
+                    result.append(c);
+                    break;
+
+                case ')':
+                case '|':
+                    result.append(c);
+                    break;
+
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    if (c == '{')
+                    {
+                        final int end = regexp.indexOf('}', i);
+                        if (end < 0 || !regexp.substring(i, end).matches("\\d+(,\\d*)?"))
+                        {
+                            return null;
+                        }
+                        result.append(regexp, i - 1, end + 1);
+                        i = end + 1;
+                    }
+                    else
+                    {
+                        result.append(c);
+                    }
+
+                    // Reluctant quantifiers match the same whole labels as greedy ones,
+                    // possessive quantifiers do not.
+                    if (i < regexp.length() && regexp.charAt(i) == '?')
+                    {
+                        i++;
+                    }
+                    else if (i < regexp.length() && regexp.charAt(i) == '+')
+                    {
+                        return null;
+                    }
+                    break;
+
+                case '.':
+                    result.append("[^").append(LINE_TERMINATORS).append(']');
+                    break;
+
+                case '\\':
+                    if (i == regexp.length())
+                    {
+                        return null;
+                    }
+                    final char escaped = regexp.charAt(i++);
+                    if (escaped == 'd')
+                    {
+                        result.append("[0-9]");
+                    }
+                    else if (Character.isLetterOrDigit(escaped))
+                    {
+                        // Other character classes, back references, \Q...\E etc.
+                        return null;
+                    }
+                    else
+                    {
+                        appendLiteral(result, escaped);
+                    }
+                    break;
+
+                case '[':
+                    i = translateCharacterClass(regexp, i, ignoreCase, result);
+                    if (i < 0)
+                    {
+                        return null;
+                    }
+                    break;
+
+                case '^':
+                case '$':
+                    return null;
+
+                default:
+                    appendLiteral(result, ignoreCase ? (char) toLowerCaseAscii(c) : c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Translates a character class starting after <code>[</code> at <code>start</code>,
+     * returns the index after the closing <code>]</code> or <code>-1</code> if the class
+     * is not supported.
+     */
+    private static int translateCharacterClass(String regexp, int start,
+        boolean ignoreCase, StringBuilder result)
+    {
+        int i = start;
+        result.append('[');
+        if (i < regexp.length() && regexp.charAt(i) == '^')
+        {
+            result.append('^');
+            i++;
+        }
+
+        // Whether the last element can start a range and whether it started one.
+        boolean afterLiteral = false;
+        boolean inRange = false;
+        char last = 0;
+        boolean first = true;
+        while (i < regexp.length())
+        {
+            char c = regexp.charAt(i++);
+            if (c == ']' && !first)
+            {
+                result.append(']');
+                return i;
+            }
+            first = false;
+
+            if (c == '-' && i < regexp.length() && regexp.charAt(i) != ']')
+            {
+                if (!afterLiteral)
+                {
+                    return -1;
+                }
+                result.append('-');
+                afterLiteral = false;
+                inRange = true;
+                continue;
+            }
+
+            if (c == '[' || c == '&' || c == ']' || Character.isSurrogate(c)
+                || (ignoreCase && isAsciiLetter(c)))
+            {
+                // Unions, intersections, surrogate pairs and letters in classes
+                // ignoring case (also in ranges, see below) are not supported.
+                return -1;
+            }
+            if (c == '\\')
+            {
+                if (i == regexp.length())
+                {
+                    return -1;
+                }
+                c = regexp.charAt(i++);
+                if (Character.isLetterOrDigit(c))
+                {
+                    return -1;
+                }
+            }
+            if (inRange && ignoreCase
+                && ((last <= 'Z' && c >= 'A') || (last <= 'z' && c >= 'a')))
+            {
+                return -1;
+            }
+            appendLiteral(result, c);
+            afterLiteral = !inRange;
+            inRange = false;
+            last = c;
+        }
+        return -1;
+    }
+
+    private static void appendLiteral(StringBuilder result, char c)
+    {
+        if (c < 0x80 && !Character.isLetterOrDigit(c))
+        {
+            result.append('\\');
+        }
+        result.append(c);
+    }
+
+    private static boolean isAsciiLetter(int c)
+    {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static int toLowerCaseAscii(int c)
+    {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    /**
+     * Combines a number of patterns into a single pattern with a union of all of them.
+     */
+    private static Pattern union(List<Pattern> patterns)
+    {
+        final StringBuilder union = new StringBuilder();
+        if (patterns.size() > 0)
+        {
+            union.append("(");
+            for (int i = 0; i < patterns.size(); i++)
+            {
+                if (i > 0) union.append(")|(");
+                union.append(patterns.get(i).toString());
+            }
+            union.append(")");
+            return Pattern.compile(union.toString());
+        }
+        else
+        {
+            return null;
+        }
+    }
+}
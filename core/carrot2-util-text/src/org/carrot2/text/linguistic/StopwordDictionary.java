@@ -0,0 +1,175 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import org.carrot2.util.CharArrayUtils;
+
+import com.carrotsearch.hppc.ObjectLongOpenHashMap;
+import com.carrotsearch.hppc.cursors.ObjectLongCursor;
+
+/**
+ * An immutable dictionary of stop words of all languages. Each word is stored once, in
+ * lower case, together with a bit mask of languages it is a stop word in. Words are
+ * stored one after another in a single <code>char []</code> and found with an open
+ * addressing hash table of <code>int</code>s, so that a word takes a few bytes more than
+ * its characters, with no per-word objects.
+ * <p>
+ * Lookups ignore case (in the sense of {@link Character#toLowerCase(char)}) and do not
+ * copy the looked up characters.
+ * <p>
+ * This class is thread-safe.
+ */
+final class StopwordDictionary
+{
+    /**
+     * Lower case words, one after another, word <code>i</code> starts at
+     * <code>offsets[i]</code> and ends at <code>offsets[i + 1]</code>.
+     */
+    private final char [] chars;
+    private final int [] offsets;
+
+    /**
+     * Languages of words, bit masks.
+     */
+    private final long [] languages;
+
+    /**
+     * Word index plus one in each slot, <code>0</code> for empty slots. The number of
+     * slots is a power of two, at least twice the number of words.
+     */
+    private final int [] slots;
+
+    private StopwordDictionary(char [] chars, int [] offsets, long [] languages,
+        int [] slots)
+    {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.languages = languages;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns the number of words.
+     */
+    public int size()
+    {
+        return languages.length;
+    }
+
+    /**
+     * Returns the bit mask of languages the word is a stop word in, <code>0</code> if the
+     * word is not in the dictionary.
+     */
+    public long getLanguages(char [] buffer, int start, int length)
+    {
+        final int mask = slots.length - 1;
+        for (int slot = hash(buffer, start, length) & mask;; slot = (slot + 1) & mask)
+        {
+            final int word = slots[slot] - 1;
+            if (word < 0)
+            {
+                return 0;
+            }
+            if (equalsIgnoreCase(word, buffer, start, length))
+            {
+                return languages[word];
+            }
+        }
+    }
+
+    private boolean equalsIgnoreCase(int word, char [] buffer, int start, int length)
+    {
+        final int offset = offsets[word];
+        if (offsets[word + 1] - offset != length)
+        {
+            return false;
+        }
+        for (int i = 0; i < length; i++)
+        {
+            if (chars[offset + i] != Character.toLowerCase(buffer[start + i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(char [] buffer, int start, int length)
+    {
+        int hash = 0;
+        for (int i = start; i < start + length; i++)
+        {
+            hash = 31 * hash + Character.toLowerCase(buffer[i]);
+        }
+        hash *= 0x9e3779b9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Collects words of {@link StopwordDictionary}. This class is not thread-safe.
+     */
+    static final class Builder
+    {
+        private final ObjectLongOpenHashMap<String> words = ObjectLongOpenHashMap
+            .newInstance();
+        private int charCount;
+
+        /**
+         * Adds a word of the languages in the bit mask. Adding a word again adds its
+         * languages.
+         */
+        public Builder add(String word, long languages)
+        {
+            final String lowerCase = new String(CharArrayUtils.toLowerCaseInPlace(word
+                .toCharArray()));
+            if (words.containsKey(lowerCase))
+            {
+                words.put(lowerCase, words.lget() | languages);
+            }
+            else
+            {
+                words.put(lowerCase, languages);
+                charCount += lowerCase.length();
+            }
+            return this;
+        }
+
+        public StopwordDictionary build()
+        {
+            final char [] chars = new char [charCount];
+            final int [] offsets = new int [words.size() + 1];
+            final long [] languages = new long [words.size()];
+            final int [] slots = new int [Math.max(2, Integer.highestOneBit(
+                Math.max(1, words.size()) * 2 - 1) << 1)];
+            final int mask = slots.length - 1;
+
+            int word = 0;
+            for (ObjectLongCursor<String> c : words)
+            {
+                final int offset = offsets[word];
+                c.key.getChars(0, c.key.length(), chars, offset);
+                offsets[word + 1] = offset + c.key.length();
+                languages[word] = c.value;
+
+                int slot = hash(chars, offset, c.key.length()) & mask;
+                while (slots[slot] != 0)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = ++word;
+            }
+
+            return new StopwordDictionary(chars, offsets, languages, slots);
+        }
+    }
+}
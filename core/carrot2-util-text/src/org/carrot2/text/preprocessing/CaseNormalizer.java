@@ -19,6 +19,7 @@ import org.carrot2.core.attribute.Processing;
 import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllWords;
+import org.carrot2.text.preprocessing.Tokenizer.TokenSequence;
 import org.carrot2.text.util.CharArrayComparators;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
@@ -28,13 +29,14 @@ import org.carrot2.util.attribute.Group;
 import org.carrot2.util.attribute.Input;
 import org.carrot2.util.attribute.Label;
 import org.carrot2.util.attribute.Level;
+import org.carrot2.util.attribute.Required;
 import org.carrot2.util.attribute.constraint.IntRange;
 
 import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.ByteArrayList;
 import com.carrotsearch.hppc.IntArrayList;
-import com.carrotsearch.hppc.IntStack;
 import com.carrotsearch.hppc.ShortArrayList;
+import com.carrotsearch.hppc.sorting.IndirectComparator;
 import com.carrotsearch.hppc.sorting.IndirectSort;
 import com.google.common.collect.Lists;
 
@@ -50,15 +52,53 @@ import com.google.common.collect.Lists;
  * <ul>
  * <li>{@link AllTokens#wordIndex}</li>
  * <li>{@link AllWords#image}</li>
+ * <li>{@link AllWords#imageOffset}</li>
+ * <li>{@link AllWords#imageLength}</li>
  * <li>{@link AllWords#tf}</li>
  * <li>{@link AllWords#tfByDocument}</li>
  * </ul>
  * <p>
- * This class requires that {@link Tokenizer} be invoked first.
+ * This class requires that {@link Tokenizer} be invoked first. If the tokens were saved
+ * from batches by {@link Tokenizer#tokenize(PreprocessingContext, List)} and the images
+ * of each batch were {@link #count(TokenSequence)}ed, normalization goes through the
+ * distinct images of the batches rather than through all tokens.
  */
 @Bindable(prefix = "CaseNormalizer")
 public final class CaseNormalizer
 {
+    /**
+     * Algorithms ordering tokens so that case variants of each word are adjacent.
+     */
+    public enum CaseNormalizationAlgorithm
+    {
+        /**
+         * Merge sorts all tokens comparing their images. Time complexity is
+         * <code>O(n log n)</code> image comparisons for <code>n</code> tokens.
+         */
+        MERGESORT,
+
+        /**
+         * Groups tokens by their interned images, using image offsets in
+         * {@link AllTokens#imageChars} as perfect hashes, sorts only the distinct images
+         * and places tokens at their images' positions. Time complexity is
+         * <code>O(n + u log u)</code> for <code>n</code> tokens with <code>u</code>
+         * distinct images.
+         */
+        HASH;
+    }
+
+    /**
+     * Case normalization algorithm. Both algorithms produce the same result.
+     */
+    @Processing
+    @Input
+    @Attribute
+    @Required
+    @Label("Case normalization algorithm")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.PREPROCESSING)
+    public CaseNormalizationAlgorithm algorithm = CaseNormalizationAlgorithm.HASH;
+
     /**
      * Word Document Frequency threshold. Words appearing in fewer than
      * <code>dfThreshold</code> documents will be ignored.
@@ -77,21 +117,42 @@ public final class CaseNormalizer
      */
     public void normalize(PreprocessingContext context)
     {
+        final List<TokenSequence> batches = context.allTokens.batches;
+        context.allTokens.batches = null;
+        if (batches != null && normalize(context, batches))
+        {
+            return;
+        }
+
         // Local references to already existing arrays
-        final char [][] tokenImages = context.allTokens.image;
+        final char [] imageChars = context.allTokens.imageChars;
+        final int [] imageOffsets = context.allTokens.imageOffset;
+        final int [] imageLengths = context.allTokens.imageLength;
         final short [] tokenTypesArray = context.allTokens.type;
         final int [] documentIndexesArray = context.allTokens.documentIndex;
         final byte [] tokensFieldIndex = context.allTokens.fieldIndex;
-        final int tokenCount = tokenImages.length;
+        final int tokenCount = imageOffsets.length;
 
-        // Sort token images
-        final int [] tokenImagesOrder = IndirectSort.mergesort(tokenImages, 0,
-            tokenImages.length, CharArrayComparators.NORMALIZING_CHAR_ARRAY_COMPARATOR);
+        // Order tokens by image
+        final IndirectComparator imageComparator = new ImageComparator(imageChars,
+            imageOffsets, imageLengths);
+        final int [] tokenImagesOrder;
+        if (algorithm == CaseNormalizationAlgorithm.HASH)
+        {
+            tokenImagesOrder = groupByImage(imageChars.length, imageOffsets,
+                imageLengths, imageComparator);
+        }
+        else
+        {
+            tokenImagesOrder = IndirectSort.mergesort(0, tokenCount, imageComparator);
+        }
 
         // Create holders for new arrays
         final List<char []> normalizedWordImages = Lists.newArrayList();
+        final IntArrayList normalizedWordOffsets = new IntArrayList();
+        final IntArrayList normalizedWordLengths = new IntArrayList();
         final IntArrayList normalizedWordTf = new IntArrayList();
-        final List<int []> wordTfByDocumentList = Lists.newArrayList();
+        final Postings.Builder wordTfByDocument = new Postings.Builder();
         final ByteArrayList fieldIndexList = new ByteArrayList();
         final ShortArrayList types = new ShortArrayList();
 
@@ -108,24 +169,23 @@ public final class CaseNormalizer
         // A byte set for word fields tracking
         final BitSet fieldIndices = new BitSet(context.allFields.name.length);
 
-        // A stack for pushing information about the term's documents.
-        final IntStack wordDocuments = new IntStack();
-
         if (documentIndexesArray[tokenImagesOrder[0]] >= 0)
         {
-            wordDocuments.push(documentIndexesArray[tokenImagesOrder[0]]);
+            wordTfByDocument.add(documentIndexesArray[tokenImagesOrder[0]], 1);
         }
 
         // Go through the ordered token images
         for (int i = 0; i < tokenImagesOrder.length - 1; i++)
         {
-            final char [] image = tokenImages[tokenImagesOrder[i]];
-            final char [] nextImage = tokenImages[tokenImagesOrder[i + 1]];
+            final int offset = imageOffsets[tokenImagesOrder[i]];
+            final int length = imageLengths[tokenImagesOrder[i]];
+            final int nextOffset = imageOffsets[tokenImagesOrder[i + 1]];
+            final int nextLength = imageLengths[tokenImagesOrder[i + 1]];
             final int tokenType = tokenTypesArray[tokenImagesOrder[i]];
             final int documentIndex = documentIndexesArray[tokenImagesOrder[i + 1]];
 
             // Reached the end of non-null tokens?
-            if (image == null)
+            if (offset < 0)
             {
                 break;
             }
@@ -137,21 +197,20 @@ public final class CaseNormalizer
                 maxTfVariantIndex = tokenImagesOrder[i + 1];
 
                 resetForNewTokenImage(documentIndexesArray, tokenImagesOrder, 
-                    fieldIndices, wordDocuments, i);
+                    fieldIndices, wordTfByDocument, i);
                 continue;
             }
 
             fieldIndices.set(tokensFieldIndex[tokenImagesOrder[i]]);
 
-            // Now check if image case is changing
-            final boolean sameCase = CharArrayComparators.FAST_CHAR_ARRAY_COMPARATOR
-                .compare(image, nextImage) == 0;
+            // Now check if image case is changing, equal images are stored once
+            final boolean sameCase = offset == nextOffset && length == nextLength;
             if (sameCase)
             {
                 // Case has not changed, just increase counters
                 tf++;
                 totalTf++;
-                wordDocuments.push(documentIndex);
+                wordTfByDocument.add(documentIndex, 1);
                 continue;
             }
 
@@ -164,14 +223,15 @@ public final class CaseNormalizer
                 tf = 1;
             }
 
-            final boolean sameImage = CharArrayComparators.CASE_INSENSITIVE_CHAR_ARRAY_COMPARATOR
-                .compare(image, nextImage) == 0;
+            final boolean sameImage = nextOffset >= 0
+                && CharArrayComparators.compareIgnoreCase(imageChars, offset, length,
+                    imageChars, nextOffset, nextLength) == 0;
 
             // Check if token image has changed
             if (sameImage)
             {
                 totalTf++;
-                wordDocuments.push(documentIndex);
+                wordTfByDocument.add(documentIndex, 1);
             }
             else
             {
@@ -180,29 +240,25 @@ public final class CaseNormalizer
                 // see if we want to store the previous image, and if so
                 // we need add some data about it to the arrays
                 
-                // wordDocuments.size() may contain duplicate entries from the same document, 
-                // but this check is faster than deduping, so we do it first.  
-                if (wordDocuments.size() >= dfThreshold)
+                if (wordTfByDocument.getDocumentFrequency() >= dfThreshold)
                 {
-                    // Flatten the list of documents this term occurred in.
-                    final int [] sparseEncoding = SparseArray.toSparseEncoding(wordDocuments);
-                    final int df = (sparseEncoding.length >> 1); 
-                    if (df >= dfThreshold)
+                    wordTfByDocument.endFeature();
+
+                    // Add the word to the word list
+                    normalizedWordImages.add(Arrays.copyOfRange(imageChars,
+                        imageOffsets[maxTfVariantIndex], imageOffsets[maxTfVariantIndex]
+                            + imageLengths[maxTfVariantIndex]));
+                    normalizedWordOffsets.add(imageOffsets[maxTfVariantIndex]);
+                    normalizedWordLengths.add(imageLengths[maxTfVariantIndex]);
+                    types.add(tokenTypesArray[maxTfVariantIndex]);
+                    normalizedWordTf.add(totalTf);
+                    fieldIndexList.add((byte) fieldIndices.bits[0]);
+
+                    // Add this word's index in AllWords to all its instances
+                    // in the AllTokens multiarray
+                    for (int j = variantStartIndex; j < i + 1; j++)
                     {
-                        wordTfByDocumentList.add(sparseEncoding);
-    
-                        // Add the word to the word list
-                        normalizedWordImages.add(tokenImages[maxTfVariantIndex]);
-                        types.add(tokenTypesArray[maxTfVariantIndex]);
-                        normalizedWordTf.add(totalTf);
-                        fieldIndexList.add((byte) fieldIndices.bits[0]);
-
-                        // Add this word's index in AllWords to all its instances
-                        // in the AllTokens multiarray
-                        for (int j = variantStartIndex; j < i + 1; j++)
-                        {
-                            wordIndexes[tokenImagesOrder[j]] = normalizedWordImages.size() - 1;
-                        }
+                        wordIndexes[tokenImagesOrder[j]] = normalizedWordImages.size() - 1;
                     }
                 }
 
@@ -215,7 +271,7 @@ public final class CaseNormalizer
 
                 // Re-initialize int set used for document frequency calculation
                 resetForNewTokenImage(documentIndexesArray, tokenImagesOrder,
-                    fieldIndices, wordDocuments, i);
+                    fieldIndices, wordTfByDocument, i);
             }
         }
 
@@ -224,35 +280,489 @@ public final class CaseNormalizer
 
         context.allWords.image = normalizedWordImages
             .toArray(new char [normalizedWordImages.size()] []);
+        context.allWords.imageOffset = normalizedWordOffsets.toArray();
+        context.allWords.imageLength = normalizedWordLengths.toArray();
         context.allWords.tf = normalizedWordTf.toArray();
-        context.allWords.tfByDocument = 
-            wordTfByDocumentList.toArray(new int [wordTfByDocumentList.size()] []);
+        wordTfByDocument.clearFeature();
+        context.allWords.tfByDocument = wordTfByDocument.build();
         context.allWords.fieldIndices = fieldIndexList.toArray();
         context.allWords.type = types.toArray();
     }
 
+    /**
+     * Returns the order of tokens {@link IndirectSort#mergesort(int, int,
+     * IndirectComparator)} produces for <code>imageComparator</code>, sorting only one
+     * token of each distinct image. Tokens with the same image are placed in the order
+     * of their indices, tokens with <code>null</code> images go last.
+     */
+    static int [] groupByImage(int charCount, int [] imageOffsets,
+        int [] imageLengths, final IndirectComparator imageComparator)
+    {
+        final int tokenCount = imageOffsets.length;
+
+        /*
+         * Distinct images have distinct offsets, except for the empty image, which may
+         * share its offset with the next image. It gets a dedicated slot at charCount.
+         */
+        final int [] imageIndexBySlot = new int [charCount + 1];
+        Arrays.fill(imageIndexBySlot, -1);
+
+        // Indices of distinct images of tokens, the first token and count of each image
+        final int [] tokenImageIndex = new int [tokenCount];
+        final IntArrayList imageTokens = new IntArrayList();
+        final IntArrayList imageTokenCounts = new IntArrayList();
+        int nonNullTokenCount = 0;
+        for (int i = 0; i < tokenCount; i++)
+        {
+            final int offset = imageOffsets[i];
+            if (offset < 0)
+            {
+                tokenImageIndex[i] = -1;
+                continue;
+            }
+
+            final int slot = imageLengths[i] == 0 ? charCount : offset;
+            int imageIndex = imageIndexBySlot[slot];
+            if (imageIndex < 0)
+            {
+                imageIndex = imageIndexBySlot[slot] = imageTokens.size();
+                imageTokens.add(i);
+                imageTokenCounts.add(0);
+            }
+            imageTokenCounts.buffer[imageIndex]++;
+            tokenImageIndex[i] = imageIndex;
+            nonNullTokenCount++;
+        }
+
+        // Sort distinct images
+        final int [] imageOrder = sortImages(imageTokens, imageComparator);
+
+        // Positions of the first tokens of images in the result
+        final int [] imagePosition = new int [imageOrder.length];
+        int position = 0;
+        for (int i = 0; i < imageOrder.length; i++)
+        {
+            imagePosition[imageOrder[i]] = position;
+            position += imageTokenCounts.get(imageOrder[i]);
+        }
+
+        final int [] order = new int [tokenCount];
+        int nullPosition = nonNullTokenCount;
+        for (int i = 0; i < tokenCount; i++)
+        {
+            final int imageIndex = tokenImageIndex[i];
+            order[imageIndex < 0 ? nullPosition++ : imagePosition[imageIndex]++] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Counts frequencies of the distinct images of a batch of tokens, e.g. in the thread
+     * that tokenized the batch, so that {@link #normalize(PreprocessingContext)} does not
+     * have to go through the tokens of the batch.
+     */
+    public static void count(TokenSequence batch)
+    {
+        batch.imageFrequencies = new ImageFrequencies(batch);
+    }
+
+    /**
+     * Performs normalization going through the distinct images of batches of tokens.
+     * The results are the same as when going through all tokens.
+     * 
+     * @return <code>false</code> if images of some batch were not counted or have tokens
+     *         of types normalized differently, in which case the <code>context</code> is
+     *         not modified
+     */
+    private boolean normalize(PreprocessingContext context, List<TokenSequence> batches)
+    {
+        // Local references to already existing arrays
+        final char [] imageChars = context.allTokens.imageChars;
+        final int [] imageOffsets = context.allTokens.imageOffset;
+        final int [] imageLengths = context.allTokens.imageLength;
+        final short [] tokenTypesArray = context.allTokens.type;
+        final int tokenCount = imageOffsets.length;
+        final int charCount = imageChars.length;
+
+        // Merge images of batches, using the slots of groupByImage()
+        final int [] imageIndexBySlot = new int [charCount + 1];
+        Arrays.fill(imageIndexBySlot, -1);
+
+        // The first token, frequency and fields of each image, images of batches
+        // contributing to each image are chained in the order of batches
+        final IntArrayList imageTokens = new IntArrayList();
+        final IntArrayList imageTf = new IntArrayList();
+        final ByteArrayList imageFields = new ByteArrayList();
+        final IntArrayList imageFirstPart = new IntArrayList();
+        final IntArrayList imageLastPart = new IntArrayList();
+        final IntArrayList partBatches = new IntArrayList();
+        final IntArrayList partImages = new IntArrayList();
+        final IntArrayList partNext = new IntArrayList();
+
+        int firstToken = 0;
+        for (int b = 0; b < batches.size(); b++)
+        {
+            final TokenSequence batch = batches.get(b);
+            final ImageFrequencies frequencies = batch.imageFrequencies;
+            if (frequencies == null || !frequencies.consistentTypes)
+            {
+                return false;
+            }
+
+            for (int i = 0; i < frequencies.tf.length; i++)
+            {
+                final int token = firstToken + frequencies.firstToken[i];
+                final int offset = imageOffsets[token];
+                final int slot = imageLengths[token] == 0 ? charCount : offset;
+                final int part = partBatches.size();
+                int imageIndex = imageIndexBySlot[slot];
+                if (imageIndex < 0)
+                {
+                    imageIndex = imageIndexBySlot[slot] = imageTokens.size();
+                    imageTokens.add(token);
+                    imageTf.add(0);
+                    imageFields.add((byte) 0);
+                    imageFirstPart.add(part);
+                    imageLastPart.add(part);
+                }
+                else
+                {
+                    if (!normalizedAlike(tokenTypesArray[token],
+                        tokenTypesArray[imageTokens.get(imageIndex)]))
+                    {
+                        return false;
+                    }
+                    partNext.set(imageLastPart.get(imageIndex), part);
+                    imageLastPart.set(imageIndex, part);
+                }
+                imageTf.buffer[imageIndex] += frequencies.tf[i];
+                imageFields.buffer[imageIndex] |= frequencies.fields[i];
+                partBatches.add(b);
+                partImages.add(i);
+                partNext.add(-1);
+            }
+            firstToken += batch.tokenTypes.size();
+        }
+
+        // Sort distinct images
+        final int [] imageOrder = sortImages(imageTokens, new ImageComparator(imageChars,
+            imageOffsets, imageLengths));
+
+        // Create holders for new arrays
+        final List<char []> normalizedWordImages = Lists.newArrayList();
+        final IntArrayList normalizedWordOffsets = new IntArrayList();
+        final IntArrayList normalizedWordLengths = new IntArrayList();
+        final IntArrayList normalizedWordTf = new IntArrayList();
+        final Postings.Builder wordTfByDocument = new Postings.Builder();
+        final ByteArrayList fieldIndexList = new ByteArrayList();
+        final ShortArrayList types = new ShortArrayList();
+
+        final int [] imageWordIndexes = new int [imageOrder.length];
+        Arrays.fill(imageWordIndexes, -1);
+
+        // Initial values for counters, as for the tokens of the first image
+        int tf = 1;
+        int maxTf = 1;
+        int maxTfVariant = imageOrder.length > 0 ? imageOrder[0] : -1;
+        int totalTf = 1;
+        int variantStartIndex = 0;
+        int fieldIndices = 0;
+
+        // Go through the ordered images as through their tokens in the other method
+        for (int i = 0; i < imageOrder.length; i++)
+        {
+            final int image = imageOrder[i];
+            final int next = i + 1 < imageOrder.length ? imageOrder[i + 1] : -1;
+            final int token = imageTokens.get(image);
+
+            if (isNotIndexed(tokenTypesArray[token]))
+            {
+                variantStartIndex = i + 1;
+                maxTfVariant = next;
+                fieldIndices = 0;
+                wordTfByDocument.clearFeature();
+                continue;
+            }
+
+            fieldIndices |= imageFields.get(image);
+            for (int part = imageFirstPart.get(image); part >= 0; part = partNext.get(part))
+            {
+                batches.get(partBatches.get(part)).imageFrequencies.addPostings(
+                    partImages.get(part), wordTfByDocument);
+            }
+
+            // All tokens of the image but the last one are followed by the same case
+            tf += imageTf.get(image) - 1;
+            totalTf += imageTf.get(image) - 1;
+
+            if (maxTf < tf)
+            {
+                maxTf = tf;
+                maxTfVariant = image;
+                tf = 1;
+            }
+
+            final boolean sameImage = next >= 0
+                && CharArrayComparators.compareIgnoreCase(imageChars, imageOffsets[token],
+                    imageLengths[token], imageChars, imageOffsets[imageTokens.get(next)],
+                    imageLengths[imageTokens.get(next)]) == 0;
+
+            if (sameImage)
+            {
+                totalTf++;
+            }
+            else
+            {
+                if (wordTfByDocument.getDocumentFrequency() >= dfThreshold)
+                {
+                    wordTfByDocument.endFeature();
+
+                    final int variantToken = imageTokens.get(maxTfVariant);
+                    normalizedWordImages.add(Arrays.copyOfRange(imageChars,
+                        imageOffsets[variantToken], imageOffsets[variantToken]
+                            + imageLengths[variantToken]));
+                    normalizedWordOffsets.add(imageOffsets[variantToken]);
+                    normalizedWordLengths.add(imageLengths[variantToken]);
+                    types.add(tokenTypesArray[variantToken]);
+                    normalizedWordTf.add(totalTf);
+                    fieldIndexList.add((byte) fieldIndices);
+
+                    for (int j = variantStartIndex; j < i + 1; j++)
+                    {
+                        imageWordIndexes[imageOrder[j]] = normalizedWordImages.size() - 1;
+                    }
+                }
+
+                // Reinitialize counters
+                totalTf = 1;
+                tf = 1;
+                maxTf = 1;
+                maxTfVariant = next;
+                variantStartIndex = i + 1;
+                fieldIndices = 0;
+                wordTfByDocument.clearFeature();
+            }
+        }
+
+        // Mapping from allTokens
+        final int [] wordIndexes = new int [tokenCount];
+        for (int i = 0; i < tokenCount; i++)
+        {
+            final int offset = imageOffsets[i];
+            wordIndexes[i] = offset < 0 ? -1 : imageWordIndexes[imageIndexBySlot[
+                imageLengths[i] == 0 ? charCount : offset]];
+        }
+        context.allTokens.wordIndex = wordIndexes;
+
+        context.allWords.image = normalizedWordImages
+            .toArray(new char [normalizedWordImages.size()] []);
+        context.allWords.imageOffset = normalizedWordOffsets.toArray();
+        context.allWords.imageLength = normalizedWordLengths.toArray();
+        context.allWords.tf = normalizedWordTf.toArray();
+        wordTfByDocument.clearFeature();
+        context.allWords.tfByDocument = wordTfByDocument.build();
+        context.allWords.fieldIndices = fieldIndexList.toArray();
+        context.allWords.type = types.toArray();
+        return true;
+    }
+
+    /**
+     * Sorts distinct images given by their first tokens, returns indices of the images
+     * in the sorted order.
+     */
+    private static int [] sortImages(IntArrayList imageTokens,
+        final IndirectComparator imageComparator)
+    {
+        final int [] imageTokensBuffer = imageTokens.buffer;
+        return IndirectSort.mergesort(0, imageTokens.size(), new IndirectComparator()
+        {
+            public int compare(int a, int b)
+            {
+                return imageComparator.compare(imageTokensBuffer[a], imageTokensBuffer[b]);
+            }
+        });
+    }
+
+    /**
+     * Compares images of tokens stored in {@link AllTokens#imageChars} in the order of
+     * {@link CharArrayComparators#NORMALIZING_CHAR_ARRAY_COMPARATOR}.
+     */
+    static final class ImageComparator implements IndirectComparator
+    {
+        private final char [] imageChars;
+        private final int [] imageOffsets;
+        private final int [] imageLengths;
+
+        ImageComparator(char [] imageChars, int [] imageOffsets, int [] imageLengths)
+        {
+            this.imageChars = imageChars;
+            this.imageOffsets = imageOffsets;
+            this.imageLengths = imageLengths;
+        }
+
+        public int compare(int a, int b)
+        {
+            final int offsetA = imageOffsets[a];
+            final int offsetB = imageOffsets[b];
+            if (offsetA == offsetB && imageLengths[a] == imageLengths[b])
+            {
+                return 0;
+            }
+            if (offsetA < 0 || offsetB < 0)
+            {
+                // null images go last
+                return offsetA < 0 ? 1 : -1;
+            }
+            return CharArrayComparators.compareNormalizing(imageChars, offsetA,
+                imageLengths[a], imageChars, offsetB, imageLengths[b]);
+        }
+    }
+
     /**
      * Initializes the counters for the a token image.
      */
     private void resetForNewTokenImage(final int [] documentIndexesArray,
         final int [] tokenImagesOrder,
-        final BitSet fieldIndices, IntStack wordDocuments, int i)
+        final BitSet fieldIndices, Postings.Builder wordTfByDocument, int i)
     {
         fieldIndices.clear();
-        wordDocuments.clear();
+        wordTfByDocument.clearFeature();
         if (documentIndexesArray[tokenImagesOrder[i + 1]] >= 0)
         {
-            wordDocuments.push(documentIndexesArray[tokenImagesOrder[i + 1]]);
+            wordTfByDocument.add(documentIndexesArray[tokenImagesOrder[i + 1]], 1);
         }
     }
 
     /**
      * Determines whether we should include the token in AllWords.
      */
-    private boolean isNotIndexed(final int tokenType)
+    private static boolean isNotIndexed(final int tokenType)
     {
         return tokenType == ITokenizer.TT_PUNCTUATION
             || tokenType == ITokenizer.TT_FULL_URL
             || (tokenType & ITokenizer.TF_SEPARATOR_SENTENCE) != 0;
     }
+
+    /**
+     * Determines whether tokens of the two types are normalized the same way, as
+     * normalization takes types of words from their tokens.
+     */
+    private static boolean normalizedAlike(final int typeA, final int typeB)
+    {
+        return typeA == typeB || (isNotIndexed(typeA) && isNotIndexed(typeB));
+    }
+
+    /**
+     * Frequencies of the distinct images of a batch of tokens, indexed by the images'
+     * indices in the batch's arena.
+     * 
+     * @see CaseNormalizer#count(TokenSequence)
+     */
+    static final class ImageFrequencies
+    {
+        /**
+         * Index of the first token of each image in the batch.
+         */
+        final int [] firstToken;
+
+        /**
+         * Number of tokens of each image.
+         */
+        final int [] tf;
+
+        /**
+         * Bits of fields in which each image appears.
+         */
+        final byte [] fields;
+
+        /**
+         * Documents in which each image appears, in ascending order, and the image's
+         * frequency in each of them. Postings of image <code>i</code> are stored between
+         * <code>postingOffsets[i]</code> and <code>postingEnds[i]</code>.
+         */
+        final int [] postingOffsets;
+        final int [] postingEnds;
+        final int [] documents;
+        final int [] tfs;
+
+        /**
+         * <code>true</code> if all tokens of each image are normalized the same way.
+         */
+        final boolean consistentTypes;
+
+        ImageFrequencies(TokenSequence batch)
+        {
+            final int imageCount = batch.arena.size();
+            final int tokenCount = batch.images.size();
+            final int [] images = batch.images.buffer;
+            final short [] tokenTypes = batch.tokenTypes.buffer;
+            final byte [] fieldIndices = batch.fieldIndices.buffer;
+            final int [] documentIndices = batch.documentIndices.buffer;
+
+            firstToken = new int [imageCount];
+            tf = new int [imageCount];
+            fields = new byte [imageCount];
+            boolean consistent = true;
+            for (int i = 0; i < tokenCount; i++)
+            {
+                final int image = images[i];
+                if (image < 0)
+                {
+                    continue;
+                }
+
+                if (tf[image]++ == 0)
+                {
+                    firstToken[image] = i;
+                }
+                else if (!normalizedAlike(tokenTypes[i], tokenTypes[firstToken[image]]))
+                {
+                    consistent = false;
+                }
+                fields[image] |= 1 << fieldIndices[i];
+            }
+            consistentTypes = consistent;
+
+            // Tokens are in the order of documents, so are the postings of each image
+            postingOffsets = new int [imageCount];
+            postingEnds = new int [imageCount];
+            for (int i = 1; i < imageCount; i++)
+            {
+                postingOffsets[i] = postingEnds[i] = postingOffsets[i - 1] + tf[i - 1];
+            }
+            documents = new int [tokenCount];
+            tfs = new int [tokenCount];
+            for (int i = 0; i < tokenCount; i++)
+            {
+                final int image = images[i];
+                if (image < 0)
+                {
+                    continue;
+                }
+
+                final int end = postingEnds[image];
+                if (end > postingOffsets[image] && documents[end - 1] == documentIndices[i])
+                {
+                    tfs[end - 1]++;
+                }
+                else
+                {
+                    documents[end] = documentIndices[i];
+                    tfs[end] = 1;
+                    postingEnds[image]++;
+                }
+            }
+        }
+
+        /**
+         * Adds postings of an image to the current feature of the builder.
+         */
+        void addPostings(int image, Postings.Builder builder)
+        {
+            for (int i = postingOffsets[image]; i < postingEnds[image]; i++)
+            {
+                builder.add(documents[i], tfs[i]);
+            }
+        }
+    }
 }
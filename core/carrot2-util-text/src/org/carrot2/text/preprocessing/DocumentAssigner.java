@@ -17,16 +17,16 @@ import java.util.ArrayList;
 import org.carrot2.core.attribute.Processing;
 import org.carrot2.text.analysis.TokenTypeUtils;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllLabels;
+import org.carrot2.util.CompressedBitSet;
 import org.carrot2.util.attribute.*;
 import org.carrot2.util.attribute.constraint.IntRange;
 
-import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.IntArrayList;
 import com.google.common.collect.Lists;
 
 /**
  * Assigns document to label candidates. For each label candidate from
- * {@link AllLabels#featureIndex} an {@link BitSet} with the assigned documents is
+ * {@link AllLabels#featureIndex} a {@link CompressedBitSet} with the assigned documents is
  * constructed. The assignment algorithm is rather simple: in order to be assigned to a
  * label, a document must contain at least one occurrence of each non-stop word from the
  * label.
@@ -77,63 +77,67 @@ public class DocumentAssigner
     public void assign(PreprocessingContext context)
     {
         final int [] labelsFeatureIndex = context.allLabels.featureIndex;
-        final int [][] stemsTfByDocument = context.allStems.tfByDocument;
+        final Postings stemsTfByDocument = context.allStems.tfByDocument;
         final int [] wordsStemIndex = context.allWords.stemIndex;
         final short [] wordsTypes = context.allWords.type;
-        final int [][] phrasesTfByDocument = context.allPhrases.tfByDocument;
+        final Postings phrasesTfByDocument = context.allPhrases.tfByDocument;
         final int [][] phrasesWordIndices = context.allPhrases.wordIndices;
         final int wordCount = wordsStemIndex.length;
         final int documentCount = context.documents.size();
+        final int [] documents = new int [documentCount];
 
-        final BitSet [] labelsDocumentIndices = new BitSet [labelsFeatureIndex.length];
+        final CompressedBitSet [] labelsDocumentIndices =
+            new CompressedBitSet [labelsFeatureIndex.length];
 
         for (int i = 0; i < labelsFeatureIndex.length; i++)
         {
-            final BitSet documentIndices = new BitSet(documentCount);
+            CompressedBitSet documentIndices = null;
 
             final int featureIndex = labelsFeatureIndex[i];
             if (featureIndex < wordCount)
             {
-                addTfByDocumentToBitSet(documentIndices,
-                    stemsTfByDocument[wordsStemIndex[featureIndex]]);
+                documentIndices = toBitSet(stemsTfByDocument,
+                    wordsStemIndex[featureIndex], documents);
             }
             else
             {
                 final int phraseIndex = featureIndex - wordCount;
                 if (exactPhraseAssignment)
                 {
-                    addTfByDocumentToBitSet(documentIndices,
-                        phrasesTfByDocument[phraseIndex]);
+                    documentIndices = toBitSet(phrasesTfByDocument, phraseIndex,
+                        documents);
                 }
                 else
                 {
                     final int [] wordIndices = phrasesWordIndices[phraseIndex];
-                    boolean firstAdded = false;
 
                     for (int j = 0; j < wordIndices.length; j++)
                     {
                         final int wordIndex = wordIndices[j];
                         if (!TokenTypeUtils.isCommon(wordsTypes[wordIndex]))
                         {
-                            if (!firstAdded)
+                            if (documentIndices == null)
                             {
-                                addTfByDocumentToBitSet(documentIndices,
-                                    stemsTfByDocument[wordsStemIndex[wordIndex]]);
-                                firstAdded = true;
+                                documentIndices = toBitSet(stemsTfByDocument,
+                                    wordsStemIndex[wordIndex], documents);
                             }
                             else
                             {
-                                final BitSet temp = new BitSet(documentCount);
-                                addTfByDocumentToBitSet(temp,
-                                    stemsTfByDocument[wordsStemIndex[wordIndex]]);
-                                // .retainAll == set intersection
-                                documentIndices.and(temp);
+                                // Intersect in place with the (sorted) postings.
+                                final int df = stemsTfByDocument.getPostings(
+                                    wordsStemIndex[wordIndex], documents, null);
+                                documentIndices.and(documents, 0, df);
                             }
                         }
                     }
                 }
             }
 
+            if (documentIndices == null)
+            {
+                documentIndices = new CompressedBitSet();
+            }
+
             labelsDocumentIndices[i] = documentIndices;
         }
 
@@ -142,7 +146,7 @@ public class DocumentAssigner
         {
             final IntArrayList newFeatureIndex = new IntArrayList(
                 labelsFeatureIndex.length);
-            final ArrayList<BitSet> newDocumentIndices = Lists
+            final ArrayList<CompressedBitSet> newDocumentIndices = Lists
                 .newArrayListWithExpectedSize(labelsFeatureIndex.length);
 
             for (int i = 0; i < labelsFeatureIndex.length; i++)
@@ -154,7 +158,7 @@ public class DocumentAssigner
                 }
             }
             context.allLabels.documentIndices = newDocumentIndices
-                .toArray(new BitSet [newDocumentIndices.size()]);
+                .toArray(new CompressedBitSet [newDocumentIndices.size()]);
             context.allLabels.featureIndex = newFeatureIndex.toArray();
             LabelFilterProcessor.updateFirstPhraseIndex(context);
         }
@@ -164,12 +168,10 @@ public class DocumentAssigner
         }
     }
 
-    private static void addTfByDocumentToBitSet(final BitSet documentIndices,
-        final int [] tfByDocument)
+    private static CompressedBitSet toBitSet(final Postings tfByDocument, int feature,
+        int [] documents)
     {
-        for (int j = 0; j < tfByDocument.length / 2; j++)
-        {
-            documentIndices.set(tfByDocument[j * 2]);
-        }
+        final int df = tfByDocument.getPostings(feature, documents, null);
+        return CompressedBitSet.fromSorted(documents, 0, df);
     }
 }
@@ -13,7 +13,6 @@
 package org.carrot2.text.preprocessing;
 
 import org.carrot2.text.analysis.TokenTypeUtils;
-import org.carrot2.util.CharArrayUtils;
 import org.carrot2.util.attribute.Bindable;
 
 /**
@@ -27,15 +26,17 @@ public class LabelFormatter
      */
     public String format(PreprocessingContext context, int featureIndex)
     {
-        final char [][] wordsImage = context.allWords.image;
+        final char [] imageChars = context.allTokens.imageChars;
+        final int [] wordOffsets = context.allWords.imageOffset;
+        final int [] wordLengths = context.allWords.imageLength;
         final int [][] phrasesWordIndices = context.allPhrases.wordIndices;
-        final int wordCount = wordsImage.length;
+        final int wordCount = wordOffsets.length;
 
         final StringBuilder label = new StringBuilder();
         if (featureIndex < wordCount)
         {
-            final char [] image = wordsImage[featureIndex];
-            appendFormatted(label, image, true, false);
+            appendFormatted(label, imageChars, wordOffsets[featureIndex],
+                wordLengths[featureIndex], true, false);
         }
         else
         {
@@ -47,7 +48,8 @@ public class LabelFormatter
                 if (insertSpace && i > 0) label.append(' ');
 
                 final int wordIndex = wordIndices[i];
-                appendFormatted(label, wordsImage[wordIndex], i == 0,
+                appendFormatted(label, imageChars, wordOffsets[wordIndex],
+                    wordLengths[wordIndex], i == 0,
                     TokenTypeUtils.isCommon(termTypes[wordIndex]));
             }
         }
@@ -73,13 +75,14 @@ public class LabelFormatter
         final StringBuilder label = new StringBuilder();
         if (image.length == 1)
         {
-            appendFormatted(label, image[0], true, stopWord[0]);
+            appendFormatted(label, image[0], 0, image[0].length, true, stopWord[0]);
         }
         else
         {
             for (int i = 0; i < image.length; i++)
             {
-                appendFormatted(label, image[i], i == 0, stopWord[i]);
+                appendFormatted(label, image[i], 0, image[i].length, i == 0,
+                    stopWord[i]);
                 if (joinWithSpace && i < image.length - 1)
                 {
                     label.append(' ');
@@ -92,29 +95,28 @@ public class LabelFormatter
 
     /**
      * Appends a segment of the label to the buffer, capitalized or lower-cased depending
-     * on the position and content.
+     * on the position and content. The segment is <code>length</code> characters of
+     * <code>chars</code> starting at <code>start</code>, converted while appending.
      */
-    private static void appendFormatted(final StringBuilder label, final char [] image,
-        boolean isFirst, boolean isCommon)
+    private static void appendFormatted(final StringBuilder label, final char [] chars,
+        int start, int length, boolean isFirst, boolean isCommon)
     {
-        if (CharArrayUtils.hasCapitalizedLetters(image))
+        final int end = start + length;
+        for (int i = start; i < end; i++)
         {
-            label.append(image);
-        }
-        else if (isFirst)
-        {
-            label.append(CharArrayUtils.toCapitalizedCopy(image));
-        }
-        else
-        {
-            if (isCommon)
+            if (Character.isUpperCase(chars[i]))
             {
-                label.append(CharArrayUtils.toLowerCaseCopy(image));
-            }
-            else
-            {
-                label.append(CharArrayUtils.toCapitalizedCopy(image));
+                label.append(chars, start, length);
+                return;
             }
         }
+
+        final boolean capitalize = isFirst || !isCommon;
+        for (int i = start; i < end; i++)
+        {
+            final char lowerCase = Character.toLowerCase(chars[i]);
+            label.append(capitalize && i == start ? Character.toUpperCase(lowerCase)
+                : lowerCase);
+        }
     }
 }
@@ -27,7 +27,6 @@ import org.carrot2.util.attribute.Bindable;
 import com.carrotsearch.hppc.ByteArrayList;
 import com.carrotsearch.hppc.IntArrayList;
 import com.carrotsearch.hppc.sorting.IndirectSort;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 /**
@@ -56,6 +55,9 @@ public final class LanguageModelStemmer
         final IStemmer stemmer = context.language.getStemmer();
 
         final char [][] wordImages = context.allWords.image;
+        final char [] imageChars = context.allTokens.imageChars;
+        final int [] wordOffsets = context.allWords.imageOffset;
+        final int [] wordLengths = context.allWords.imageLength;
         final char [][] stemImages = new char [wordImages.length] [];
 
         final MutableCharArray mutableCharArray = new MutableCharArray(CharArrayUtils.EMPTY_ARRAY);
@@ -63,12 +65,13 @@ public final class LanguageModelStemmer
 
         for (int i = 0; i < wordImages.length; i++)
         {
-            final char [] word = wordImages[i];
-            if (buffer.length < word.length) buffer = new char [word.length];
+            final int wordLength = wordLengths[i];
+            if (buffer.length < wordLength) buffer = new char [wordLength];
 
-            final boolean different = CharArrayUtils.toLowerCase(word, buffer);
+            final boolean different = CharArrayUtils.toLowerCase(imageChars, buffer,
+                wordOffsets[i], wordLength);
 
-            mutableCharArray.reset(buffer, 0, word.length);
+            mutableCharArray.reset(buffer, 0, wordLength);
             final CharSequence stemmed = stemmer.stem(mutableCharArray);
             if (stemmed != null)
             {
@@ -82,7 +85,7 @@ public final class LanguageModelStemmer
                 if (different)
                     stemImages[i] = context.intern(mutableCharArray);
                 else
-                    stemImages[i] = word;
+                    stemImages[i] = wordImages[i];
             }
         }
 
@@ -100,7 +103,7 @@ public final class LanguageModelStemmer
 
         // Local array references
         final int [] wordTfArray = context.allWords.tf;
-        final int [][] wordTfByDocumentArray = context.allWords.tfByDocument;
+        final Postings wordTfByDocument = context.allWords.tfByDocument;
         final byte [] wordsFieldIndices = context.allWords.fieldIndices;
         final short [] wordsType = context.allWords.type;
 
@@ -114,7 +117,7 @@ public final class LanguageModelStemmer
             context.allStems.image = new char [0] [];
             context.allStems.mostFrequentOriginalWordIndex = new int [0];
             context.allStems.tf = new int [0];
-            context.allStems.tfByDocument = new int [0] [];
+            context.allStems.tfByDocument = new Postings.Builder().build();
             context.allStems.fieldIndices = new byte [0];
 
             context.allWords.stemIndex = new int [context.allWords.image.length];
@@ -125,7 +128,8 @@ public final class LanguageModelStemmer
         final ArrayList<char []> stemImages = new ArrayList<char []>(allWordsCount);
         final IntArrayList stemTf = new IntArrayList(allWordsCount);
         final IntArrayList stemMostFrequentWordIndexes = new IntArrayList(allWordsCount);
-        final ArrayList<int []> stemTfByDocumentList = new ArrayList<int []>(allWordsCount);
+        final Postings.Builder stemTfByDocument = new Postings.Builder(allWordsCount,
+            wordTfByDocument.getPostingCount());
         final ByteArrayList fieldIndexList = new ByteArrayList();
 
         // Counters
@@ -134,10 +138,8 @@ public final class LanguageModelStemmer
         int mostFrequentWordIndex = stemImagesOrder[0];
         int stemIndex = 0;
 
-        // A list of document-term-frequency pairs, by document, for all words with identical stems.
-        final ArrayList<int[]> stemTfsByDocument = Lists.newArrayList();
-        
-        stemTfsByDocument.add(wordTfByDocumentArray[stemImagesOrder[0]]);
+        // Document-term-frequency pairs of all words with identical stems
+        stemTfByDocument.add(wordTfByDocument, stemImagesOrder[0]);
         byte fieldIndices = 0;
         fieldIndices |= wordsFieldIndices[0];
 
@@ -167,7 +169,7 @@ public final class LanguageModelStemmer
             if (sameStem)
             {
                 totalTf += wordTfArray[nextInOrderIndex];
-                stemTfsByDocument.add(wordTfByDocumentArray[nextInOrderIndex]);
+                stemTfByDocument.add(wordTfByDocument, nextInOrderIndex);
                 fieldIndices |= wordsFieldIndices[nextInOrderIndex];
                 if (mostFrequentWordFrequency < wordTfArray[nextInOrderIndex])
                 {
@@ -180,7 +182,7 @@ public final class LanguageModelStemmer
                 stemImages.add(stem);
                 stemTf.add(totalTf);
                 stemMostFrequentWordIndexes.add(mostFrequentWordIndex);
-                storeTfByDocument(stemTfByDocumentList, stemTfsByDocument);
+                stemTfByDocument.endFeature();
                 fieldIndexList.add(fieldIndices);
 
                 stemIndex++;
@@ -190,8 +192,7 @@ public final class LanguageModelStemmer
                 fieldIndices = 0;
                 fieldIndices |= wordsFieldIndices[nextInOrderIndex];
 
-                stemTfsByDocument.clear();
-                stemTfsByDocument.add(wordTfByDocumentArray[nextInOrderIndex]);
+                stemTfByDocument.add(wordTfByDocument, nextInOrderIndex);
 
                 buffer.reset(wordStemImages[nextInOrderIndex]);
                 inQuery = queryStems.contains(buffer);
@@ -203,7 +204,7 @@ public final class LanguageModelStemmer
         stemTf.add(totalTf);
         stemMostFrequentWordIndexes.add(mostFrequentWordIndex);
         stemIndexesArray[stemImagesOrder[stemImagesOrder.length - 1]] = stemIndex;
-        storeTfByDocument(stemTfByDocumentList, stemTfsByDocument);
+        stemTfByDocument.endFeature();
         fieldIndexList.add(fieldIndices);
         if (inQuery)
         {
@@ -215,34 +216,13 @@ public final class LanguageModelStemmer
         context.allStems.mostFrequentOriginalWordIndex = stemMostFrequentWordIndexes
             .toArray();
         context.allStems.tf = stemTf.toArray();
-        context.allStems.tfByDocument = stemTfByDocumentList
-            .toArray(new int [stemTfByDocumentList.size()] []);
+        context.allStems.tfByDocument = stemTfByDocument.build();
         context.allStems.fieldIndices = fieldIndexList.toArray();
 
         // References in allWords
         context.allWords.stemIndex = stemIndexesArray;
     }
 
-    /**
-     * 
-     */
-    private void storeTfByDocument(
-        ArrayList<int []> target, ArrayList<int []> source)
-    {
-        assert source.size() > 0 : "Empty source document list?";
-
-        if (source.size() == 1)
-        {
-            // Just copy the reference over if a single list is available.
-            target.add(source.get(0));
-        }
-        else
-        {
-            // Merge sparse representations if more than one.
-            target.add(SparseArray.mergeSparseArrays(source));
-        }
-    }
-
     private Set<MutableCharArray> prepareQueryWords(String query, IStemmer stemmer)
     {
         final Set<MutableCharArray> queryWords = Sets.newHashSet();
@@ -18,13 +18,10 @@ import java.util.List;
 import org.carrot2.core.attribute.Processing;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllPhrases;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
-import org.carrot2.util.IntMapUtils;
 import org.carrot2.util.attribute.*;
 import org.carrot2.util.attribute.constraint.IntRange;
 
 import com.carrotsearch.hppc.IntArrayList;
-import com.carrotsearch.hppc.IntIntOpenHashMap;
-import com.carrotsearch.hppc.cursors.IntIntCursor;
 import com.google.common.collect.Lists;
 
 /**
@@ -70,10 +67,9 @@ public class PhraseExtractor
     public int dfThreshold = 1;
 
     /**
-     * Suffix sorter to be used by this phrase extractor. When the suffix sorter gets some
-     * attributes, we'll need to make this field public.
+     * Suffix sorter used by this phrase extractor, contains bindable attributes.
      */
-    private SuffixSorter suffixSorter = new SuffixSorter();
+    public final SuffixSorter suffixSorter = new SuffixSorter();
 
     /**
      * Performs phrase extraction and saves the results to the provided
@@ -91,23 +87,23 @@ public class PhraseExtractor
         final int [] stemIndexes = context.allWords.stemIndex;
 
         // Find all subphrases
-        List<Substring> rcs = discoverRcs(suffixArray, lcpArray, documentIndexArray);
+        final Postings.Builder phraseTfByDocument = new Postings.Builder();
+        List<Substring> rcs = discoverRcs(suffixArray, lcpArray, documentIndexArray,
+            phraseTfByDocument);
 
         List<int []> phraseWordIndexes = Lists.newArrayList();
         IntArrayList phraseTf = new IntArrayList();
-        List<int []> phraseTfByDocumentList = Lists.newArrayList();
 
         if (rcs.size() > 0)
         {
             // Determine most frequent originals and create the final phrase
-            // array. Also merge the phrase tf by document maps into flat
-            // arrays.
+            // array. Also merge the phrase tf by document postings.
             Collections.sort(rcs, new SubstringComparator(wordIndexesArray, stemIndexes));
 
             int totalPhraseTf = rcs.get(0).frequency;
             Substring mostFrequentOriginal = rcs.get(0);
-            IntIntOpenHashMap phraseTfByDocument = new IntIntOpenHashMap();
-            phraseTfByDocument.putAll(mostFrequentOriginal.tfByDocument);
+            addTfByDocument(phraseTfByDocument, mostFrequentOriginal, suffixArray,
+                documentIndexArray);
 
             // Don't change the rcs list type from ArrayList or we'll
             // run into O(n^2) iteration cost :)
@@ -120,7 +116,8 @@ public class PhraseExtractor
                     .isEquivalentTo(nextSubstring, wordIndexesArray, stemIndexes))
                 {
                     totalPhraseTf += nextSubstring.frequency;
-                    addAllWithOffset(phraseTfByDocument, nextSubstring.tfByDocument, -1);
+                    addTfByDocument(phraseTfByDocument, nextSubstring, suffixArray,
+                        documentIndexArray);
                     if (mostFrequentOriginal.frequency < nextSubstring.frequency)
                     {
                         mostFrequentOriginal = nextSubstring;
@@ -135,12 +132,12 @@ public class PhraseExtractor
                     }
                     phraseWordIndexes.add(wordIndexes);
                     phraseTf.add(totalPhraseTf);
-                    phraseTfByDocumentList.add(IntMapUtils.flatten(phraseTfByDocument));
+                    phraseTfByDocument.endFeature();
 
                     totalPhraseTf = nextSubstring.frequency;
                     mostFrequentOriginal = nextSubstring;
-                    phraseTfByDocument.clear();
-                    phraseTfByDocument.putAll(nextSubstring.tfByDocument);
+                    addTfByDocument(phraseTfByDocument, nextSubstring, suffixArray,
+                        documentIndexArray);
                 }
             }
 
@@ -153,22 +150,23 @@ public class PhraseExtractor
             }
             phraseWordIndexes.add(wordIndexes);
             phraseTf.add(totalPhraseTf);
-            phraseTfByDocumentList.add(IntMapUtils.flatten(phraseTfByDocument));
+            phraseTfByDocument.endFeature();
         }
 
         // Store the results to allPhrases
         context.allPhrases.wordIndices = phraseWordIndexes
             .toArray(new int [phraseWordIndexes.size()] []);
         context.allPhrases.tf = phraseTf.toArray();
-        context.allPhrases.tfByDocument = phraseTfByDocumentList
-            .toArray(new int [phraseTfByDocumentList.size()] []);
+        context.allPhrases.tfByDocument = phraseTfByDocument.build();
     }
 
     /**
      * Discovers Right Complete Substrings in the given LCP Suffix Array.
+     * <code>tfByDocument</code> is used to count documents of substrings, it has no
+     * stored features when this method returns.
      */
     private List<Substring> discoverRcs(int [] suffixArray, int [] lcpArray,
-        int [] documentIndexArray)
+        int [] documentIndexArray, Postings.Builder tfByDocument)
     {
         Substring [] rcsStack;
         int sp;
@@ -183,7 +181,6 @@ public class PhraseExtractor
         while (i < lcpArray.length - 1)
         {
             final int currentSuffixIndex = suffixArray[i];
-            final int currentDocumentIndex = documentIndexArray[currentSuffixIndex];
             final int currentLcp = Math.min(MAX_PHRASE_LENGTH, lcpArray[i]);
 
             if (sp < 0)
@@ -205,22 +202,6 @@ public class PhraseExtractor
                         // the phrase being popped, minus 1.
                         rcsStack[sp] = new Substring(i, currentSuffixIndex,
                             currentSuffixIndex + currentLcp - j, (j == 0 ? 2 : 1));
-
-                        // By document tf. Again, topmost phrase gets tf = 2, the other
-                        // ones get tf = 1. This time, we need to track from which document's
-                        // tf we need to set off the "minus 1", hence the documentIndexToOffset field.
-                        rcsStack[sp].tfByDocument = new IntIntOpenHashMap();
-                        rcsStack[sp].tfByDocument.put(
-                            documentIndexArray[suffixArray[i - 1]], 1);
-                        if (j == 0)
-                        {
-                            rcsStack[sp].tfByDocument.putOrAdd(currentDocumentIndex,
-                                1, 1);
-                        }
-                        else
-                        {
-                            rcsStack[sp].documentIndexToOffset = documentIndexArray[suffixArray[i - 1]];
-                        }
                     }
                 }
 
@@ -233,12 +214,6 @@ public class PhraseExtractor
                 {
                     Substring r1 = rcsStack[sp];
 
-                    // The phrase we're about to add is an extension of the topmost
-                    // phrase on the stack. The new phrase will contribute to the 
-                    // topmost phrase's tf, so we need to track the document index
-                    // from which we'd set off the "minus 1".
-                    r1.documentIndexToOffset = documentIndexArray[suffixArray[i - 1]];
-
                     // Add the intermediate phrases too (which makes
                     // the algorithm no longer linear btw)
                     int length = currentLcp - (r1.to - r1.from);
@@ -249,19 +224,6 @@ public class PhraseExtractor
                             sp++;
                             rcsStack[sp] = new Substring(i, currentSuffixIndex,
                                 currentSuffixIndex + currentLcp - j, (j == 0 ? 2 : 1));
-
-                            rcsStack[sp].tfByDocument = new IntIntOpenHashMap();
-                            rcsStack[sp].tfByDocument.put(
-                                documentIndexArray[suffixArray[i - 1]], 1);
-                            if (j == 0)
-                            {
-                                rcsStack[sp].tfByDocument.putOrAdd(currentDocumentIndex,
-                                    1, 1);
-                            }
-                            else
-                            {
-                                rcsStack[sp].documentIndexToOffset = documentIndexArray[suffixArray[i - 1]];
-                            }
                         }
                     }
 
@@ -274,7 +236,6 @@ public class PhraseExtractor
                     {
                         // Increase the frequency of the generalized phrase
                         rcsStack[sp].frequency += 1;
-                        rcsStack[sp].tfByDocument.putOrAdd(currentDocumentIndex, 1, 1);
 
                         i++;
                     }
@@ -285,13 +246,25 @@ public class PhraseExtractor
                         // Pop generalized phrases off the stack
                         do
                         {
-                            if (rcsStack[sp].tfByDocument.size() >= dfThreshold)
+                            s = rcsStack[sp];
+                            assert s.frequency == i - s.id + 1;
+
+                            if (dfThreshold <= 1)
+                            {
+                                result.add(s);
+                            }
+                            else
                             {
-                                // Add the generalized phrase to the result
-                                result.add(rcsStack[sp]);
+                                addTfByDocument(tfByDocument, s, suffixArray,
+                                    documentIndexArray);
+                                if (tfByDocument.getDocumentFrequency() >= dfThreshold)
+                                {
+                                    // Add the generalized phrase to the result
+                                    result.add(s);
+                                }
+                                tfByDocument.clearFeature();
                             }
 
-                            s = rcsStack[sp];
                             sp--;
 
                             // As we update only the frequency of the stack's
@@ -302,8 +275,6 @@ public class PhraseExtractor
                             {
                                 // The "minus 1" mentioned above.
                                 rcsStack[sp].frequency += s.frequency - 1;
-                                addAllWithOffset(rcsStack[sp].tfByDocument,
-                                    s.tfByDocument, rcsStack[sp].documentIndexToOffset);
                             }
                         }
                         while (sp >= 0
@@ -316,14 +287,19 @@ public class PhraseExtractor
         return result;
     }
 
-    private static void addAllWithOffset(IntIntOpenHashMap dest, IntIntOpenHashMap src,
-        int documentIndexToOffset)
+    /**
+     * Adds frequencies of the substring in documents to the current feature of
+     * <code>tfByDocument</code>. The substring occurs in <code>frequency</code>
+     * consecutive suffixes, starting from the one preceding the suffix at the
+     * substring's <code>id</code>.
+     */
+    private static void addTfByDocument(Postings.Builder tfByDocument,
+        Substring substring, int [] suffixArray, int [] documentIndexArray)
     {
-        for (IntIntCursor c : src)
+        final int end = substring.id - 1 + substring.frequency;
+        for (int k = substring.id - 1; k < end; k++)
         {
-            final int key = c.key;
-            final int value = c.value + (key != documentIndexToOffset ? 0 : -1);
-            dest.putOrAdd(key, value, value);
+            tfByDocument.add(documentIndexArray[suffixArray[k]], 1);
         }
     }
 }
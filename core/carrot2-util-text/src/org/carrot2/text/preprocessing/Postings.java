@@ -0,0 +1,418 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing;
+
+import java.util.Arrays;
+
+import com.carrotsearch.hppc.ByteArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+
+/**
+ * Term frequencies of features (words, stems or phrases) in documents. Postings of a
+ * feature are pairs of a document index and the frequency of the feature in the
+ * document, sorted by document index. Postings of all features are stored one after
+ * another in shared arrays (the compressed sparse row layout), postings of feature
+ * <code>i</code> start at <code>offsets[i]</code> and end at <code>offsets[i + 1]</code>.
+ * The arrays may be longer than needed, the builder's buffers are not copied.
+ * <p>
+ * {@link #compress()} returns postings in which document indices are delta-encoded and
+ * stored together with frequencies as variable length integers in a single
+ * <code>byte []</code>, which usually takes several times less memory. Both forms are read
+ * in the same way, compressed postings are slower to read.
+ * <p>
+ * Instances of this class are immutable and created by {@link Builder}s.
+ */
+public final class Postings
+{
+    /**
+     * Number of features and the total number of postings.
+     */
+    private final int size;
+    private final int postingCount;
+
+    /**
+     * Starts of features' postings in {@link #documents} and {@link #tfs} or in
+     * {@link #data} if compressed, followed by the end of the last feature's postings.
+     */
+    private final int [] offsets;
+
+    /**
+     * Document indices and frequencies, <code>null</code> if compressed.
+     */
+    private final int [] documents;
+    private final int [] tfs;
+
+    /**
+     * Compressed postings, <code>null</code> if not compressed. Postings of each feature
+     * start with the number of postings, followed by pairs of the difference between the
+     * document index and the previous document index (or <code>-1</code> for the first
+     * posting) and the frequency.
+     */
+    private final byte [] data;
+
+    private Postings(int size, int postingCount, int [] offsets, int [] documents,
+        int [] tfs, byte [] data)
+    {
+        this.size = size;
+        this.postingCount = postingCount;
+        this.offsets = offsets;
+        this.documents = documents;
+        this.tfs = tfs;
+        this.data = data;
+    }
+
+    /**
+     * Returns the number of features.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the total number of postings of all features.
+     */
+    public int getPostingCount()
+    {
+        return postingCount;
+    }
+
+    /**
+     * Returns the number of documents the feature appears in.
+     */
+    public int getDocumentFrequency(int feature)
+    {
+        if (data == null)
+        {
+            return offsets[feature + 1] - offsets[feature];
+        }
+        else
+        {
+            return new Decoder(data, offsets[feature]).next();
+        }
+    }
+
+    /**
+     * Copies postings of the feature to <code>documents</code> and <code>tfs</code>,
+     * starting at index <code>0</code>. Both arrays must be able to hold
+     * {@link #getDocumentFrequency(int)} values, <code>tfs</code> can be
+     * <code>null</code> if only documents are needed.
+     *
+     * @return the number of postings of the feature
+     */
+    public int getPostings(int feature, int [] documents, int [] tfs)
+    {
+        if (data == null)
+        {
+            final int start = offsets[feature];
+            final int count = offsets[feature + 1] - start;
+            System.arraycopy(this.documents, start, documents, 0, count);
+            if (tfs != null)
+            {
+                System.arraycopy(this.tfs, start, tfs, 0, count);
+            }
+            return count;
+        }
+        else
+        {
+            final Decoder decoder = new Decoder(data, offsets[feature]);
+            final int count = decoder.next();
+            int document = -1;
+            for (int i = 0; i < count; i++)
+            {
+                document += decoder.next();
+                documents[i] = document;
+                final int tf = decoder.next();
+                if (tfs != null)
+                {
+                    tfs[i] = tf;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Returns postings of the feature as pairs of a document index and the frequency in
+     * the document, e.g. <code>[2, 15, 138, 7]</code> if the feature appears 15 times in
+     * document at index 2 and 7 times in document at index 138.
+     */
+    public int [] toSparseArray(int feature)
+    {
+        final int count = getDocumentFrequency(feature);
+        final int [] documents = new int [count];
+        final int [] tfs = new int [count];
+        getPostings(feature, documents, tfs);
+
+        final int [] result = new int [count * 2];
+        for (int i = 0; i < count; i++)
+        {
+            result[i * 2] = documents[i];
+            result[i * 2 + 1] = tfs[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if postings are compressed.
+     */
+    public boolean isCompressed()
+    {
+        return data != null;
+    }
+
+    /**
+     * Returns compressed postings, this instance if already compressed.
+     */
+    public Postings compress()
+    {
+        if (data != null)
+        {
+            return this;
+        }
+
+        final ByteArrayList compressed = new ByteArrayList(postingCount * 2 + size);
+        final int [] compressedOffsets = new int [size + 1];
+        for (int feature = 0; feature < size; feature++)
+        {
+            compressedOffsets[feature] = compressed.size();
+            final int start = offsets[feature];
+            final int end = offsets[feature + 1];
+            writeVInt(compressed, end - start);
+            int document = -1;
+            for (int i = start; i < end; i++)
+            {
+                writeVInt(compressed, documents[i] - document);
+                writeVInt(compressed, tfs[i]);
+                document = documents[i];
+            }
+        }
+        compressedOffsets[size] = compressed.size();
+
+        return new Postings(size, postingCount, compressedOffsets, null, null,
+            compressed.toArray());
+    }
+
+    private static void writeVInt(ByteArrayList out, int value)
+    {
+        while ((value & ~0x7f) != 0)
+        {
+            out.add((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.add((byte) value);
+    }
+
+    /**
+     * Reads variable length integers.
+     */
+    private static final class Decoder
+    {
+        private final byte [] data;
+        private int position;
+
+        Decoder(byte [] data, int position)
+        {
+            this.data = data;
+            this.position = position;
+        }
+
+        int next()
+        {
+            int value = 0;
+            for (int shift = 0;; shift += 7)
+            {
+                final byte b = data[position++];
+                value |= (b & 0x7f) << shift;
+                if (b >= 0)
+                {
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds {@link Postings} one feature at a time. Frequencies of the current feature
+     * are accumulated by {@link #add(int, int)} in any order of documents, and stored by
+     * {@link #endFeature()}. A builder cannot be used after {@link #build()}, which
+     * passes the builder's buffers to the built postings.
+     * <p>
+     * This class is not thread-safe.
+     */
+    public static final class Builder
+    {
+        private final IntArrayList offsets;
+        private final IntArrayList documents;
+        private final IntArrayList tfs;
+
+        /**
+         * Frequencies of the current feature by document index.
+         */
+        private int [] counts = new int [16];
+
+        /**
+         * Distinct documents of the current feature, in the order of addition.
+         */
+        private final IntArrayList featureDocuments = new IntArrayList();
+
+        /**
+         * <code>true</code> if {@link #featureDocuments} are in ascending order.
+         */
+        private boolean sorted = true;
+
+        /**
+         * <code>true</code> after {@link #build()}.
+         */
+        private boolean built;
+
+        public Builder()
+        {
+            this(16, 16);
+        }
+
+        /**
+         * @param expectedFeatures the expected number of features
+         * @param expectedPostings the expected total number of postings
+         */
+        public Builder(int expectedFeatures, int expectedPostings)
+        {
+            offsets = new IntArrayList(expectedFeatures + 1);
+            documents = new IntArrayList(expectedPostings);
+            tfs = new IntArrayList(expectedPostings);
+            offsets.add(0);
+        }
+
+        /**
+         * Adds the frequency of the current feature in a document.
+         *
+         * @param tf the frequency to add, must be positive
+         */
+        public void add(int document, int tf)
+        {
+            assert tf > 0 : "Frequencies must be positive: " + tf;
+            if (document >= counts.length)
+            {
+                counts = Arrays.copyOf(counts, Math.max(document + 1, counts.length * 2));
+            }
+
+            if (counts[document] == 0)
+            {
+                final int size = featureDocuments.size();
+                if (size > 0 && featureDocuments.buffer[size - 1] > document)
+                {
+                    sorted = false;
+                }
+                featureDocuments.add(document);
+            }
+            counts[document] += tf;
+        }
+
+        /**
+         * Adds postings of a feature of other postings to the current feature.
+         */
+        public void add(Postings source, int feature)
+        {
+            if (source.data == null)
+            {
+                final int end = source.offsets[feature + 1];
+                for (int i = source.offsets[feature]; i < end; i++)
+                {
+                    add(source.documents[i], source.tfs[i]);
+                }
+            }
+            else
+            {
+                final Decoder decoder = new Decoder(source.data, source.offsets[feature]);
+                final int count = decoder.next();
+                int document = -1;
+                for (int i = 0; i < count; i++)
+                {
+                    document += decoder.next();
+                    add(document, decoder.next());
+                }
+            }
+        }
+
+        /**
+         * Returns the number of documents of the current feature.
+         */
+        public int getDocumentFrequency()
+        {
+            return featureDocuments.size();
+        }
+
+        /**
+         * Stores postings of the current feature and starts a new one.
+         *
+         * @return the index of the stored feature
+         */
+        public int endFeature()
+        {
+            checkNotBuilt();
+            final int [] buffer = featureDocuments.buffer;
+            final int size = featureDocuments.size();
+            if (!sorted)
+            {
+                Arrays.sort(buffer, 0, size);
+            }
+            for (int i = 0; i < size; i++)
+            {
+                final int document = buffer[i];
+                documents.add(document);
+                tfs.add(counts[document]);
+            }
+            clearFeature();
+
+            offsets.add(documents.size());
+            return offsets.size() - 2;
+        }
+
+        /**
+         * Discards postings of the current feature.
+         */
+        public void clearFeature()
+        {
+            final int [] buffer = featureDocuments.buffer;
+            for (int i = featureDocuments.size() - 1; i >= 0; i--)
+            {
+                counts[buffer[i]] = 0;
+            }
+            featureDocuments.clear();
+            sorted = true;
+        }
+
+        /**
+         * Returns postings of all stored features.
+         */
+        public Postings build()
+        {
+            checkNotBuilt();
+            if (featureDocuments.size() > 0)
+            {
+                throw new IllegalStateException("Postings of the current feature not stored.");
+            }
+            built = true;
+            return new Postings(offsets.size() - 1, documents.size(), offsets.buffer,
+                documents.buffer, tfs.buffer, null);
+        }
+
+        private void checkNotBuilt()
+        {
+            if (built)
+            {
+                throw new IllegalStateException("Postings already built.");
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.carrot2.text.linguistic.IStemmer;
 import org.carrot2.text.linguistic.LanguageModel;
 import org.carrot2.text.util.MutableCharArray;
 import org.carrot2.text.util.TabularOutput;
+import org.carrot2.util.CompressedBitSet;
 
 import com.carrotsearch.hppc.*;
 
@@ -81,9 +82,36 @@ public final class PreprocessingContext
          * {@link ITokenizer#TF_SEPARATOR_DOCUMENT} or
          * {@link ITokenizer#TF_SEPARATOR_FIELD} , image is <code>null</code>.
          * <p>
+         * This array is a view of {@link #imageChars}, in which all equal images are the
+         * same array instance. It is built on the first call to {@link #getImage()}.
+         */
+        private char [][] image;
+
+        /**
+         * Characters of all distinct token images, stored one after another. Images of
+         * tokens are located in this array by {@link #imageOffset} and
+         * {@link #imageLength}.
+         * <p>
          * This array is produced by {@link Tokenizer}.
          */
-        public char [][] image;
+        public char [] imageChars;
+
+        /**
+         * Offset of token's image in {@link #imageChars}. Equal images have equal
+         * offsets and lengths, different images differ in at least one of them. Equal
+         * to <code>-1</code> where {@link #image} is <code>null</code>.
+         * <p>
+         * This array is produced by {@link Tokenizer}.
+         */
+        public int [] imageOffset;
+
+        /**
+         * Length of token's image in {@link #imageChars}, <code>0</code> where
+         * {@link #image} is <code>null</code>.
+         * <p>
+         * This array is produced by {@link Tokenizer}.
+         */
+        public int [] imageLength;
 
         /**
          * Token's {@link ITokenizer} bit flags.
@@ -146,10 +174,55 @@ public final class PreprocessingContext
          */
         public int [] lcp;
 
+        /**
+         * Batches of tokens saved by {@link Tokenizer#tokenize(PreprocessingContext, List)},
+         * released by {@link CaseNormalizer} after it uses the frequencies of their images.
+         */
+        List<Tokenizer.TokenSequence> batches;
+
+        /**
+         * Returns token images as separate arrays, see {@link #image}. Images are copied
+         * out of {@link #imageChars} on the first call only, so components that read
+         * {@link #imageChars} directly do not pay for the copies.
+         */
+        public char [][] getImage()
+        {
+            if (image == null && imageOffset != null)
+            {
+                final char [][] images = new char [imageOffset.length] [];
+                final IntObjectOpenHashMap<char []> distinct = IntObjectOpenHashMap
+                    .newInstance();
+                for (int i = 0; i < images.length; i++)
+                {
+                    final int offset = imageOffset[i];
+                    if (offset < 0)
+                    {
+                        continue;
+                    }
+
+                    // An empty image shares its offset with the next image
+                    final int key = imageLength[i] == 0 ? -1 : offset;
+                    if (distinct.containsKey(key))
+                    {
+                        images[i] = distinct.lget();
+                    }
+                    else
+                    {
+                        images[i] = Arrays.copyOfRange(imageChars, offset, offset
+                            + imageLength[i]);
+                        distinct.put(key, images[i]);
+                    }
+                }
+                image = images;
+            }
+            return image;
+        }
+
         /** For debugging purposes. */
         @Override
         public String toString()
         {
+            final char [][] image = getImage();
             if (image == null)
             {
                 return UNINITIALIZED;
@@ -288,10 +361,25 @@ public final class PreprocessingContext
          * a token <em>MacOS</em> appeared 12 times in the input and <em>macos</em>
          * appeared 3 times, the image will be equal to <em>MacOS</em>.
          * <p>
-         * This array is produced by {@link CaseNormalizer}.
+         * This array is produced by {@link CaseNormalizer}. Its elements are copies of
+         * the variants' images from {@link AllTokens#imageChars}.
          */
         public char [][] image;
 
+        /**
+         * Offset of word's image in {@link AllTokens#imageChars}.
+         * <p>
+         * This array is produced by {@link CaseNormalizer}.
+         */
+        public int [] imageOffset;
+
+        /**
+         * Length of word's image in {@link AllTokens#imageChars}.
+         * <p>
+         * This array is produced by {@link CaseNormalizer}.
+         */
+        public int [] imageLength;
+
         /**
          * Token type of this word copied from {@link AllTokens#type}. Additional
          * flags are set for each word by 
@@ -314,18 +402,13 @@ public final class PreprocessingContext
         public int [] tf;
 
         /**
-         * Term Frequency of the word for each document. The length of this array is equal
-         * to the number of documents this word appeared in (Document Frequency)
-         * multiplied by 2. Elements at even indices contain document indices pointing to
-         * {@link PreprocessingContext#documents}, elements at odd indices contain the
-         * frequency of the word in the document. For example, an array with 4 values:
-         * <code>[2, 15, 138, 7]</code> means that the word appeared 15 times in document
-         * at index 2 and 7 times in document at index 138.
+         * Term Frequency of the word for each document, by word index. Document indices
+         * point to {@link PreprocessingContext#documents}, the number of documents of a
+         * word is its Document Frequency.
          * <p>
-         * This array is produced by {@link CaseNormalizer}. The order of documents in this
-         * array is not defined.
+         * These postings are produced by {@link CaseNormalizer}.
          */
-        public int [][] tfByDocument;
+        public Postings tfByDocument;
 
         /**
          * A pointer to the {@link AllStems} arrays for this word.
@@ -376,7 +459,7 @@ public final class PreprocessingContext
                     image[i] == null ? "<null>" : new String(image[i]),
                     type[i],
                     tf[i],
-                    SparseArray.sparseToString(tfByDocument[i]));
+                    SparseArray.sparseToString(tfByDocument.toSparseArray(i)));
 
                 t.rowData(Arrays.toString(toFieldIndexes(fieldIndices[i])).replace(" ", ""));
 
@@ -437,13 +520,12 @@ public final class PreprocessingContext
         public int [] tf;
 
         /**
-         * Term frequency of the stem for each document. For the encoding of this array,
-         * see {@link AllWords#tfByDocument}.
+         * Term frequency of the stem for each document, by stem index. See
+         * {@link AllWords#tfByDocument}.
          * <p>
-         * This array is produced by {@link LanguageModelStemmer}. The order of documents in this
-         * array is not defined.
+         * These postings are produced by {@link LanguageModelStemmer}.
          */
-        public int [][] tfByDocument;
+        public Postings tfByDocument;
 
         /**
          * A bit-packed indices of all fields in which this word appears at least once. 
@@ -483,7 +565,7 @@ public final class PreprocessingContext
                     mostFrequentOriginalWordIndex[i],
                     new String(allWords.image[mostFrequentOriginalWordIndex[i]]),
                     tf[i],
-                    SparseArray.sparseToString(tfByDocument[i]),
+                    SparseArray.sparseToString(tfByDocument.toSparseArray(i)),
                     Arrays.toString(toFieldIndexes(fieldIndices[i])).replace(" ", ""));
             }
 
@@ -524,14 +606,12 @@ public final class PreprocessingContext
         public int [] tf;
 
         /**
-         * Term frequency of the phrase for each document. The encoding of this
-         * array is similar to {@link AllWords#tfByDocument}: consecutive pairs of:
-         * document index, frequency.
+         * Term frequency of the phrase for each document, by phrase index. See
+         * {@link AllWords#tfByDocument}.
          * <p>
-         * This array is produced by {@link PhraseExtractor}. The order of documents in this
-         * array is not defined.
+         * These postings are produced by {@link PhraseExtractor}.
          */
-        public int [][] tfByDocument;
+        public Postings tfByDocument;
 
         /** For debugging purposes. */
         @Override
@@ -558,7 +638,7 @@ public final class PreprocessingContext
                     Arrays.toString(wordIndices[i]).replace(" ", ""),
                     getPhrase(i),
                     tf[i],
-                    SparseArray.sparseToString(tfByDocument[i]));
+                    SparseArray.sparseToString(tfByDocument.toSparseArray(i)));
             }
 
             t.flush();
@@ -618,7 +698,7 @@ public final class PreprocessingContext
          * <p>
          * This array is produced by {@link DocumentAssigner}.
          */
-        public BitSet [] documentIndices;
+        public CompressedBitSet [] documentIndices;
 
         /**
          * The first index in {@link #featureIndex} which 
@@ -691,6 +771,26 @@ public final class PreprocessingContext
         return allLabels.featureIndex != null && allLabels.featureIndex.length > 0;
     }
 
+    /**
+     * Replaces postings of words, stems and phrases with their
+     * {@link Postings#compress()}ed forms.
+     */
+    public void compressPostings()
+    {
+        if (allWords.tfByDocument != null)
+        {
+            allWords.tfByDocument = allWords.tfByDocument.compress();
+        }
+        if (allStems.tfByDocument != null)
+        {
+            allStems.tfByDocument = allStems.tfByDocument.compress();
+        }
+        if (allPhrases.tfByDocument != null)
+        {
+            allPhrases.tfByDocument = allPhrases.tfByDocument.compress();
+        }
+    }
+
     @Override
     public String toString()
     {
@@ -741,12 +841,14 @@ public final class PreprocessingContext
     public void preprocessingFinished()
     {
         this.tokenCache = null;
+        this.allTokens.batches = null;
     }
 
     /**
-     * Return a unique char buffer representing a given character sequence.
+     * Return a unique char buffer representing a given character sequence. This method
+     * is thread-safe.
      */
-    public char [] intern(MutableCharArray chs)
+    public synchronized char [] intern(MutableCharArray chs)
     {
         if (tokenCache.contains(chs))
         {
@@ -37,24 +37,48 @@ public final class StopListMarker
      */
     public void mark(PreprocessingContext context)
     {
-        final char [][] wordImages = context.allWords.image;
+        final char [] imageChars = context.allTokens.imageChars;
+        final int [] wordOffsets = context.allWords.imageOffset;
+        final int [] wordLengths = context.allWords.imageLength;
         final short [] types = context.allWords.type;
 
         final MutableCharArray mutableCharArray = new MutableCharArray("");
         char [] buffer = new char [128];
         final ILexicalData lexData = context.language.getLexicalData();
 
-        for (int i = 0; i < wordImages.length; i++)
+        for (int i = 0; i < wordOffsets.length; i++)
         {
-            final char [] word = wordImages[i];
-            if (buffer.length < word.length) buffer = new char [word.length];
+            final int wordOffset = wordOffsets[i];
+            final int wordLength = wordLengths[i];
+            if (isLowerCase(imageChars, wordOffset, wordLength))
+            {
+                // Most words are in lower case already, look them up in place.
+                mutableCharArray.reset(imageChars, wordOffset, wordLength);
+            }
+            else
+            {
+                if (buffer.length < wordLength) buffer = new char [wordLength];
+
+                CharArrayUtils.toLowerCase(imageChars, buffer, wordOffset, wordLength);
+                mutableCharArray.reset(buffer, 0, wordLength);
+            }
 
-            CharArrayUtils.toLowerCase(word, buffer);
-            mutableCharArray.reset(buffer, 0, word.length);
             if (lexData.isCommonWord(mutableCharArray))
             {
                 types[i] |= ITokenizer.TF_COMMON_WORD;
             }
         }
     }
+
+    private static boolean isLowerCase(char [] chars, int start, int length)
+    {
+        for (int i = start; i < start + length; i++)
+        {
+            if (Character.toLowerCase(chars[i]) != chars[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
 }
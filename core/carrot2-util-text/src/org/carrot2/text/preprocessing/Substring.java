@@ -12,8 +12,6 @@
 
 package org.carrot2.text.preprocessing;
 
-import com.carrotsearch.hppc.IntIntOpenHashMap;
-
 /**
  * Represents a general substring. Contains information on the substring's boundaries and
  * absolute frequency.
@@ -32,12 +30,6 @@ final class Substring
     /** Substring's absolute frequency */
     public int frequency;
 
-    /** This substring's frequency across documents */
-    public IntIntOpenHashMap tfByDocument;
-
-    /** Used to properly aggregate phrase frequencies */
-    public int documentIndexToOffset = -1;
-
     public Substring(int id, int from, int to, int frequency)
     {
         this.id = id;
@@ -1,4 +1,3 @@
-
 /*
  * Carrot2 project.
  *
@@ -12,14 +11,74 @@
 
 package org.carrot2.text.preprocessing;
 
+import java.util.Arrays;
+
+import org.carrot2.core.attribute.Processing;
+import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
+import org.carrot2.util.attribute.Attribute;
+import org.carrot2.util.attribute.AttributeLevel;
+import org.carrot2.util.attribute.Bindable;
+import org.carrot2.util.attribute.DefaultGroups;
+import org.carrot2.util.attribute.Group;
+import org.carrot2.util.attribute.Input;
+import org.carrot2.util.attribute.Label;
+import org.carrot2.util.attribute.Level;
+import org.carrot2.util.attribute.Required;
+
 import com.carrotsearch.hppc.sorting.IndirectComparator;
 import com.carrotsearch.hppc.sorting.IndirectSort;
 
 /**
- * A simple suffix sorting utility based on the generic sorting routines from {@link IndirectSort}.
+ * Builds the suffix array and the longest common prefix array of the token sequence.
+ * <p>
+ * This class saves the following results to the {@link PreprocessingContext}:
+ * <ul>
+ * <li>{@link AllTokens#suffixOrder}</li>
+ * <li>{@link AllTokens#lcp}</li>
+ * </ul>
  */
-final class SuffixSorter
+@Bindable(prefix = "SuffixSorter")
+public final class SuffixSorter
 {
+    /**
+     * Suffix sorting algorithms.
+     */
+    public enum SuffixSortingAlgorithm
+    {
+        /**
+         * Sorts suffixes using a merge sort comparing them token by token and computes
+         * the longest common prefixes by comparing adjacent suffixes. Time complexity is
+         * <code>O(n log n)</code> comparisons, each of which may take <code>O(n)</code>
+         * time on repetitive input.
+         */
+        MERGESORT,
+
+        /**
+         * Sorts suffixes using the linear time SA-IS algorithm (Nong, Zhang, Chan, 2009)
+         * and computes the longest common prefixes using the linear time algorithm by
+         * Kasai et al. (2001).
+         */
+        SAIS;
+    }
+
+    /**
+     * Suffix sorting algorithm. Both algorithms produce the same result.
+     */
+    @Processing
+    @Input
+    @Attribute
+    @Required
+    @Label("Suffix sorting algorithm")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.PHRASE_EXTRACTION)
+    public SuffixSortingAlgorithm algorithm = SuffixSortingAlgorithm.SAIS;
+
+    /**
+     * Input size below which {@link #suffixArray(int[], int)} sorts suffixes by
+     * comparing them directly.
+     */
+    private static final int SAIS_NAIVE_THRESHOLD = 10;
+
     /**
      * An int comparator that enables suffix sorting.
      */
@@ -69,20 +128,46 @@ final class SuffixSorter
         final int [] intCodes = new int [context.allTokens.wordIndex.length];
         System.arraycopy(context.allTokens.wordIndex, 0, intCodes, 0, intCodes.length);
         int currentSeparatorCode = -1;
+        int maxCode = -1;
         for (int i = 0; i < intCodes.length; i++)
         {
             if (intCodes[i] < 0)
             {
                 intCodes[i] = currentSeparatorCode--;
             }
+            else if (intCodes[i] > maxCode)
+            {
+                maxCode = intCodes[i];
+            }
+        }
+
+        if (algorithm == SuffixSortingAlgorithm.SAIS)
+        {
+            /*
+             * Suffixes are sorted in the descending order of codes, which is the
+             * ascending order of (maxCode - code). The translated codes are non-negative,
+             * as required by suffixArray().
+             */
+            final int [] translated = new int [intCodes.length];
+            for (int i = 0; i < translated.length; i++)
+            {
+                translated[i] = maxCode - intCodes[i];
+            }
+            final int [] suffixOrder = suffixArray(translated, maxCode
+                - currentSeparatorCode - 1);
+            context.allTokens.suffixOrder = suffixOrder;
+            context.allTokens.lcp = lcp(intCodes, suffixOrder);
         }
+        else
+        {
+            // Create suffix order
+            int [] suffixOrder = IndirectSort.mergesort(0, intCodes.length,
+                new SuffixComparator(intCodes));
+            context.allTokens.suffixOrder = suffixOrder;
 
-        // Create suffix order
-        int [] suffixOrder = IndirectSort.mergesort(0, intCodes.length, new SuffixComparator(intCodes));
-        context.allTokens.suffixOrder = suffixOrder;
-        
-        // Add LCPs
-        context.allTokens.lcp = calculateLcp(intCodes, suffixOrder);
+            // Add LCPs
+            context.allTokens.lcp = calculateLcp(intCodes, suffixOrder);
+        }
     }
 
     /**
@@ -106,4 +191,234 @@ final class SuffixSorter
 
         return lcpArray;
     }
+
+    /**
+     * Calculates the Longest Common Prefix values for each suffix in linear time using
+     * the algorithm by Kasai et al. The value at index 0 is 0, the value at index
+     * <code>i</code> is the length of the common prefix of suffixes
+     * <code>suffixOrder[i - 1]</code> and <code>suffixOrder[i]</code>.
+     */
+    static int [] lcp(int [] codes, int [] suffixOrder)
+    {
+        final int n = codes.length;
+        final int [] rank = new int [n];
+        for (int i = 0; i < n; i++)
+        {
+            rank[suffixOrder[i]] = i;
+        }
+
+        final int [] lcpArray = new int [n];
+        int lcp = 0;
+        for (int i = 0; i < n; i++)
+        {
+            if (rank[i] == 0)
+            {
+                lcp = 0;
+                continue;
+            }
+
+            final int previous = suffixOrder[rank[i] - 1];
+            while (i + lcp < n && previous + lcp < n
+                && codes[i + lcp] == codes[previous + lcp])
+            {
+                lcp++;
+            }
+            lcpArray[rank[i]] = lcp;
+
+            // The common prefix of the next suffix is at most one shorter
+            if (lcp > 0)
+            {
+                lcp--;
+            }
+        }
+
+        return lcpArray;
+    }
+
+    /**
+     * Returns the suffix array of <code>s</code>, that is start indices of its suffixes in
+     * the lexicographically ascending order, a suffix being smaller than all suffixes of
+     * which it is a prefix. Uses the SA-IS algorithm, which runs in <code>O(n + upper)</code>
+     * time.
+     *
+     * @param s the input, with values between 0 and <code>upper</code> inclusive
+     * @param upper the largest value in <code>s</code>
+     */
+    static int [] suffixArray(int [] s, int upper)
+    {
+        final int n = s.length;
+        if (n < SAIS_NAIVE_THRESHOLD)
+        {
+            return naiveSuffixArray(s);
+        }
+
+        // Types of suffixes: true for S-type (smaller than the next one), false for L-type
+        final boolean [] sType = new boolean [n];
+        for (int i = n - 2; i >= 0; i--)
+        {
+            sType[i] = (s[i] == s[i + 1]) ? sType[i + 1] : (s[i] < s[i + 1]);
+        }
+
+        // Bucket starts for S-type suffixes and L-type suffixes for each value
+        final int [] sumL = new int [upper + 1];
+        final int [] sumS = new int [upper + 1];
+        for (int i = 0; i < n; i++)
+        {
+            if (!sType[i])
+            {
+                sumS[s[i]]++;
+            }
+            else
+            {
+                sumL[s[i] + 1]++;
+            }
+        }
+        for (int i = 0; i <= upper; i++)
+        {
+            sumS[i] += sumL[i];
+            if (i < upper)
+            {
+                sumL[i + 1] += sumS[i];
+            }
+        }
+
+        // Leftmost S-type positions (LMS)
+        final int [] lmsMap = new int [n + 1];
+        int m = 0;
+        for (int i = 0; i <= n; i++)
+        {
+            lmsMap[i] = (i > 0 && i < n && !sType[i - 1] && sType[i]) ? m++ : -1;
+        }
+        final int [] lms = new int [m];
+        for (int i = 1, j = 0; i < n; i++)
+        {
+            if (!sType[i - 1] && sType[i])
+            {
+                lms[j++] = i;
+            }
+        }
+
+        final int [] sa = new int [n];
+        final int [] buckets = new int [upper + 1];
+        induce(s, upper, sType, sumL, sumS, lms, sa, buckets);
+
+        if (m > 0)
+        {
+            // Name LMS substrings in their sorted order and sort them recursively
+            final int [] sortedLms = new int [m];
+            for (int i = 0, j = 0; i < n; i++)
+            {
+                if (lmsMap[sa[i]] != -1)
+                {
+                    sortedLms[j++] = sa[i];
+                }
+            }
+
+            final int [] reduced = new int [m];
+            int reducedUpper = 0;
+            reduced[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++)
+            {
+                int l = sortedLms[i - 1];
+                int r = sortedLms[i];
+                final int endL = (lmsMap[l] + 1 < m) ? lms[lmsMap[l] + 1] : n;
+                final int endR = (lmsMap[r] + 1 < m) ? lms[lmsMap[r] + 1] : n;
+                boolean same = true;
+                if (endL - l != endR - r)
+                {
+                    same = false;
+                }
+                else
+                {
+                    while (l < endL && s[l] == s[r])
+                    {
+                        l++;
+                        r++;
+                    }
+                    if (l == n || s[l] != s[r])
+                    {
+                        same = false;
+                    }
+                }
+                if (!same)
+                {
+                    reducedUpper++;
+                }
+                reduced[lmsMap[sortedLms[i]]] = reducedUpper;
+            }
+
+            final int [] reducedSa = suffixArray(reduced, reducedUpper);
+            for (int i = 0; i < m; i++)
+            {
+                sortedLms[i] = lms[reducedSa[i]];
+            }
+            induce(s, upper, sType, sumL, sumS, sortedLms, sa, buckets);
+        }
+
+        return sa;
+    }
+
+    /**
+     * Induces the order of all suffixes from the order of LMS suffixes.
+     */
+    private static void induce(int [] s, int upper, boolean [] sType, int [] sumL,
+        int [] sumS, int [] lms, int [] sa, int [] buckets)
+    {
+        final int n = s.length;
+        Arrays.fill(sa, -1);
+
+        System.arraycopy(sumS, 0, buckets, 0, upper + 1);
+        for (int d : lms)
+        {
+            sa[buckets[s[d]]++] = d;
+        }
+
+        System.arraycopy(sumL, 0, buckets, 0, upper + 1);
+        sa[buckets[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++)
+        {
+            final int v = sa[i];
+            if (v >= 1 && !sType[v - 1])
+            {
+                sa[buckets[s[v - 1]]++] = v - 1;
+            }
+        }
+
+        System.arraycopy(sumL, 0, buckets, 0, upper + 1);
+        for (int i = n - 1; i >= 0; i--)
+        {
+            final int v = sa[i];
+            if (v >= 1 && sType[v - 1])
+            {
+                sa[--buckets[s[v - 1] + 1]] = v - 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts suffixes of a short input by comparing them directly.
+     */
+    private static int [] naiveSuffixArray(final int [] s)
+    {
+        return IndirectSort.mergesort(0, s.length, new IndirectComparator()
+        {
+            public int compare(int a, int b)
+            {
+                while (a < s.length && b < s.length && s[a] == s[b])
+                {
+                    a++;
+                    b++;
+                }
+                if (a == s.length)
+                {
+                    return b == s.length ? 0 : -1;
+                }
+                if (b == s.length)
+                {
+                    return 1;
+                }
+                return s[a] < s[b] ? -1 : 1;
+            }
+        });
+    }
 }
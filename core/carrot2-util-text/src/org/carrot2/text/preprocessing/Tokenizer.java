@@ -14,19 +14,24 @@ package org.carrot2.text.preprocessing;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
 import org.carrot2.core.Document;
 import org.carrot2.core.ProcessingException;
 import org.carrot2.core.attribute.Init;
+import org.carrot2.core.attribute.Processing;
 import org.carrot2.text.analysis.ITokenizer;
+import org.carrot2.text.linguistic.LanguageModel;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllFields;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
+import org.carrot2.text.util.CharArena;
 import org.carrot2.text.util.MutableCharArray;
 import org.carrot2.util.CharArrayUtils;
 import org.carrot2.util.ExceptionUtils;
@@ -38,6 +43,7 @@ import org.carrot2.util.attribute.Group;
 import org.carrot2.util.attribute.Input;
 import org.carrot2.util.attribute.Label;
 import org.carrot2.util.attribute.Level;
+import org.carrot2.util.attribute.constraint.IntRange;
 
 import com.carrotsearch.hppc.ByteArrayList;
 import com.carrotsearch.hppc.IntArrayList;
@@ -45,11 +51,14 @@ import com.carrotsearch.hppc.ShortArrayList;
 import com.google.common.collect.Lists;
 
 /**
- * Performs tokenization of documents.
+ * Performs tokenization of documents, optionally splitting them into chunks tokenized in
+ * parallel.
  * <p>
  * This class saves the following results to the {@link PreprocessingContext}:
  * <ul>
- * <li>{@link AllTokens#image}</li>
+ * <li>{@link AllTokens#imageChars}</li>
+ * <li>{@link AllTokens#imageOffset}</li>
+ * <li>{@link AllTokens#imageLength}</li>
  * <li>{@link AllTokens#documentIndex}</li>
  * <li>{@link AllTokens#fieldIndex}</li>
  * <li>{@link AllTokens#type}</li>
@@ -73,60 +82,255 @@ public final class Tokenizer
     });
 
     /**
-     * Token images.
+     * Number of threads used to tokenize documents. With more than one thread, chunks of
+     * documents are tokenized in parallel, in the calling thread and the threads shared
+     * by the clustering algorithm. The results are the same as with one thread.
      */
-    private ArrayList<char []> images;
-
-    /**
-     * An array of token types.
-     * 
-     * @see ITokenizer
-     */
-    private ShortArrayList tokenTypes;
+    @Processing
+    @Input
+    @Attribute
+    @IntRange(min = 1, max = 64)
+    @Label("Tokenization threads")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.PREPROCESSING)
+    public int threads = 1;
 
     /**
-     * An array of document indexes.
+     * Minimum number of documents tokenized by one thread.
      */
-    private IntArrayList documentIndices;
+    static final int MIN_DOCUMENTS_PER_CHUNK = 50;
 
     /**
-     * An array of field indexes.
-     * 
-     * @see AllFields
+     * Executor tokenizing all chunks of documents but the first one, <code>null</code> to
+     * tokenize all documents in the calling thread.
      */
-    private ByteArrayList fieldIndices;
+    private ExecutorService executor;
 
     /**
      * Performs tokenization and saves the results to the <code>context</code>.
      */
-    public void tokenize(PreprocessingContext context)
+    public void tokenize(final PreprocessingContext context)
     {
         // Documents to tokenize
         final List<Document> documents = context.documents;
         
         // Fields to tokenize
+        final String [] fieldNames = getFieldNames();
+
+        // Split documents into contiguous chunks, one per thread
+        final int documentCount = documents.size();
+        final int chunkCount = executor == null ? 1 : Math.max(1, Math.min(threads,
+            documentCount / MIN_DOCUMENTS_PER_CHUNK));
+        final TokenSequence [] chunks = new TokenSequence [chunkCount];
+        final List<Future<TokenSequence>> futures = Lists.newArrayList();
+        boolean completed = false;
+        try
+        {
+            for (int i = 1; i < chunkCount; i++)
+            {
+                final int firstDocumentIndex = documentCount * i / chunkCount;
+                final List<Document> chunk = documents.subList(firstDocumentIndex,
+                    documentCount * (i + 1) / chunkCount);
+                futures.add(executor.submit(new Callable<TokenSequence>()
+                {
+                    public TokenSequence call()
+                    {
+                        return tokenize(context.language.createTokenizer(), chunk,
+                            firstDocumentIndex, fieldNames);
+                    }
+                }));
+            }
+
+            // The first chunk is tokenized in the current thread
+            chunks[0] = tokenize(context.language.getTokenizer(),
+                documents.subList(0, documentCount / chunkCount), 0, fieldNames);
+            for (int i = 1; i < chunkCount; i++)
+            {
+                chunks[i] = futures.get(i - 1).get();
+            }
+            completed = true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Tokenization interrupted", e);
+        }
+        catch (ExecutionException e)
+        {
+            throw ExceptionUtils.wrapAsRuntimeException(e.getCause());
+        }
+        finally
+        {
+            if (!completed)
+            {
+                // Do not leave chunks of a failed tokenization in the shared executor
+                for (Future<TokenSequence> future : futures)
+                {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        save(context, Arrays.asList(chunks), fieldNames);
+    }
+
+    /**
+     * Sets the executor tokenizing chunks of documents in parallel when {@link #threads}
+     * is larger than one. The executor is not shut down by the tokenizer. If
+     * <code>null</code>, all documents are tokenized in the calling thread.
+     */
+    public void setExecutor(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Tokenizes a batch of documents ahead of preprocessing, e.g. as soon as the
+     * documents arrive from a document source. Batches can be tokenized in parallel, the
+     * results are saved to the {@link PreprocessingContext} by
+     * {@link #tokenize(PreprocessingContext, List)}.
+     * 
+     * @param language the language model of the context the documents will be
+     *            preprocessed in
+     * @param firstDocumentIndex the index of the first document of the batch in
+     *            {@link PreprocessingContext#documents}
+     */
+    public TokenSequence tokenize(LanguageModel language, List<Document> documents,
+        int firstDocumentIndex)
+    {
+        return tokenize(language.createTokenizer(), documents, firstDocumentIndex,
+            getFieldNames());
+    }
+
+    /**
+     * Saves the results of tokenization of batches of documents to the
+     * <code>context</code>, as if the documents were tokenized by
+     * {@link #tokenize(PreprocessingContext)}. The batches must contain all
+     * {@link PreprocessingContext#documents} in order. If images of the batches were
+     * {@link CaseNormalizer#count(TokenSequence)}ed, case normalization uses their
+     * frequencies.
+     */
+    public void tokenize(PreprocessingContext context, List<TokenSequence> batches)
+    {
+        int documentCount = 0;
+        for (TokenSequence batch : batches)
+        {
+            documentCount += batch.documentCount;
+        }
+        if (documentCount != context.documents.size())
+        {
+            throw new IllegalArgumentException("Batches contain " + documentCount
+                + " documents, the context contains " + context.documents.size());
+        }
+
+        save(context, batches, getFieldNames());
+        context.allTokens.batches = batches;
+    }
+
+    /**
+     * Saves tokens of contiguous chunks of documents to the <code>context</code>.
+     */
+    private static void save(PreprocessingContext context, List<TokenSequence> chunks,
+        String [] fieldNames)
+    {
+        final int chunkCount = chunks.size();
+
+        // There is no separator after the last document
+        for (int i = chunkCount - 1; i >= 0; i--)
+        {
+            if (chunks.get(i).documentCount > 0)
+            {
+                chunks.get(i).removeLast();
+                break;
+            }
+        }
+
+        // Merge images of chunks, distinct images remain in the order of first occurrence
+        final CharArena arena = chunkCount == 1 ? chunks.get(0).arena : new CharArena();
+        final int [][] arenaIndices = new int [chunkCount] [];
+        int tokenCount = 1;
+        for (int i = 0; i < chunkCount; i++)
+        {
+            final CharArena chunkArena = chunks.get(i).arena;
+            arenaIndices[i] = new int [chunkArena.size()];
+            for (int j = 0; j < arenaIndices[i].length; j++)
+            {
+                arenaIndices[i][j] = chunkArena == arena ? j : arena.intern(
+                    chunkArena.getBuffer(), chunkArena.getOffset(j),
+                    chunkArena.getLength(j));
+            }
+            tokenCount += chunks.get(i).tokenTypes.size();
+        }
+
+        // Save results in the PreprocessingContext
+        context.allTokens.documentIndex = new int [tokenCount];
+        context.allTokens.fieldIndex = new byte [tokenCount];
+        context.allTokens.imageChars = Arrays.copyOf(arena.getBuffer(),
+            arena.getCharCount());
+        context.allTokens.imageOffset = new int [tokenCount];
+        context.allTokens.imageLength = new int [tokenCount];
+        context.allTokens.type = new short [tokenCount];
+        int offset = 0;
+        for (int i = 0; i < chunkCount; i++)
+        {
+            final TokenSequence chunk = chunks.get(i);
+            final int size = chunk.tokenTypes.size();
+            System.arraycopy(chunk.documentIndices.buffer, 0,
+                context.allTokens.documentIndex, offset, size);
+            System.arraycopy(chunk.fieldIndices.buffer, 0, context.allTokens.fieldIndex,
+                offset, size);
+            System.arraycopy(chunk.tokenTypes.buffer, 0, context.allTokens.type, offset,
+                size);
+            for (int j = 0; j < size; j++)
+            {
+                final int image = chunk.images.get(j);
+                if (image < 0)
+                {
+                    context.allTokens.imageOffset[offset + j] = -1;
+                }
+                else
+                {
+                    final int arenaIndex = arenaIndices[i][image];
+                    context.allTokens.imageOffset[offset + j] = arena.getOffset(arenaIndex);
+                    context.allTokens.imageLength[offset + j] = arena.getLength(arenaIndex);
+                }
+            }
+            offset += size;
+        }
+
+        // The terminating token required at the very end of all documents
+        context.allTokens.documentIndex[offset] = -1;
+        context.allTokens.fieldIndex[offset] = -1;
+        context.allTokens.imageOffset[offset] = -1;
+        context.allTokens.type[offset] = ITokenizer.TF_TERMINATOR;
+
+        context.allFields.name = fieldNames;
+    }
+
+    private String [] getFieldNames()
+    {
         final String [] fieldNames = documentFields.toArray(new String [documentFields.size()]); 
 
         if (fieldNames.length > 8)
         {
             throw new ProcessingException("Maximum number of tokenized fields is 8.");
         }
+        return fieldNames;
+    }
 
-        // Prepare arrays
-        images = Lists.newArrayList();
-        tokenTypes = new ShortArrayList();
-        documentIndices = new IntArrayList();
-        fieldIndices = new ByteArrayList();
-
-        final Iterator<Document> docIterator = documents.iterator();
-        int documentIndex = 0;
-        final ITokenizer ts = context.language.getTokenizer();
+    /**
+     * Tokenizes a contiguous chunk of documents. Document separators are added after each
+     * document.
+     */
+    private static TokenSequence tokenize(ITokenizer ts, List<Document> documents,
+        int firstDocumentIndex, String [] fieldNames)
+    {
+        final TokenSequence tokens = new TokenSequence(documents.size());
         final MutableCharArray wrapper = new MutableCharArray(CharArrayUtils.EMPTY_ARRAY);
 
-        while (docIterator.hasNext())
+        int documentIndex = firstDocumentIndex;
+        for (Document doc : documents)
         {
-            final Document doc = docIterator.next();
-
             boolean hadTokens = false;
             for (int i = 0; i < fieldNames.length; i++)
             {
@@ -143,11 +347,13 @@ public final class Tokenizer
                         ts.reset(new StringReader(fieldValue));
                         if ((tokenType = ts.nextToken()) != ITokenizer.TT_EOF)
                         {
-                            if (hadTokens) addFieldSeparator(documentIndex);
+                            if (hadTokens) tokens.addFieldSeparator(documentIndex);
                             do
                             {
                                 ts.setTermBuffer(wrapper);
-                                add(documentIndex, fieldIndex, context.intern(wrapper), tokenType);
+                                tokens.add(documentIndex, fieldIndex, tokens.arena.intern(
+                                    wrapper.getBuffer(), wrapper.getStart(), wrapper.length()),
+                                    tokenType);
                             } while ( (tokenType = ts.nextToken()) != ITokenizer.TT_EOF);
                             hadTokens = true;
                         }
@@ -160,70 +366,127 @@ public final class Tokenizer
                 }
             }
 
-            if (docIterator.hasNext())
-            {
-                addDocumentSeparator();
-            }
-
+            tokens.addDocumentSeparator();
             documentIndex++;
         }
 
-        addTerminator();
-
-        // Save results in the PreprocessingContext
-        context.allTokens.documentIndex = documentIndices.toArray();
-        context.allTokens.fieldIndex = fieldIndices.toArray();
-        context.allTokens.image = images.toArray(new char [images.size()] []);
-        context.allTokens.type = tokenTypes.toArray();
-        context.allFields.name = fieldNames;
-
-        // Clean up
-        images = null;
-        fieldIndices = null;
-        tokenTypes = null;
-        documentIndices = null;
+        return tokens;
     }
 
     /**
-     * Adds a special terminating token required at the very end of all documents.
+     * Tokens of a chunk of documents.
+     * 
+     * @see Tokenizer#tokenize(LanguageModel, List, int)
      */
-    void addTerminator()
+    public static final class TokenSequence
     {
-        add(-1, (byte) -1, null, ITokenizer.TF_TERMINATOR);
-    }
+        /**
+         * Number of documents in the chunk.
+         */
+        final int documentCount;
 
-    /**
-     * Adds a document separator to the lists.
-     */
-    void addDocumentSeparator()
-    {
-        add(-1, (byte) -1, null, ITokenizer.TF_SEPARATOR_DOCUMENT);
-    }
+        /**
+         * Distinct token images of the chunk.
+         */
+        final CharArena arena = new CharArena();
 
-    /**
-     * Adds a field separator to the lists.
-     */
-    void addFieldSeparator(int documentIndex)
-    {
-        add(documentIndex, (byte) -1, null, ITokenizer.TF_SEPARATOR_FIELD);
-    }
+        /**
+         * Indices of token images in {@link #arena}, <code>-1</code> for separators.
+         */
+        final IntArrayList images = new IntArrayList();
 
-    /**
-     * Adds a sentence separator to the lists.
-     */
-    void addSentenceSeparator(int documentIndex, byte fieldIndex)
-    {
-        add(documentIndex, fieldIndex, null, ITokenizer.TF_SEPARATOR_FIELD);
-    }
+        /**
+         * An array of token types.
+         * 
+         * @see ITokenizer
+         */
+        final ShortArrayList tokenTypes = new ShortArrayList();
 
-    /**
-     * Adds custom token code to the sequence. May be used to add separator constants.
-     */
-    void add(int documentIndex, byte fieldIndex, char [] image, short tokenTypeCode)
-    {
-        documentIndices.add(documentIndex);
-        fieldIndices.add(fieldIndex);
-        images.add(image);
-        tokenTypes.add(tokenTypeCode);
+        /**
+         * An array of document indexes.
+         */
+        final IntArrayList documentIndices = new IntArrayList();
+
+        /**
+         * An array of field indexes.
+         * 
+         * @see AllFields
+         */
+        final ByteArrayList fieldIndices = new ByteArrayList();
+
+        /**
+         * Frequencies of the distinct images, if counted.
+         * 
+         * @see CaseNormalizer#count(TokenSequence)
+         */
+        CaseNormalizer.ImageFrequencies imageFrequencies;
+
+        TokenSequence(int documentCount)
+        {
+            this.documentCount = documentCount;
+        }
+
+        /**
+         * Returns distinct token images of the chunk, e.g. to process them before the
+         * chunk is saved to the {@link PreprocessingContext}.
+         */
+        public CharArena getImages()
+        {
+            return arena;
+        }
+
+        /**
+         * Returns the number of documents in the chunk.
+         */
+        public int getDocumentCount()
+        {
+            return documentCount;
+        }
+
+        /**
+         * Removes the last token from the lists.
+         */
+        void removeLast()
+        {
+            documentIndices.remove(documentIndices.size() - 1);
+            fieldIndices.remove(fieldIndices.size() - 1);
+            images.remove(images.size() - 1);
+            tokenTypes.remove(tokenTypes.size() - 1);
+        }
+
+        /**
+         * Adds a document separator to the lists.
+         */
+        void addDocumentSeparator()
+        {
+            add(-1, (byte) -1, -1, ITokenizer.TF_SEPARATOR_DOCUMENT);
+        }
+
+        /**
+         * Adds a field separator to the lists.
+         */
+        void addFieldSeparator(int documentIndex)
+        {
+            add(documentIndex, (byte) -1, -1, ITokenizer.TF_SEPARATOR_FIELD);
+        }
+
+        /**
+         * Adds a sentence separator to the lists.
+         */
+        void addSentenceSeparator(int documentIndex, byte fieldIndex)
+        {
+            add(documentIndex, fieldIndex, -1, ITokenizer.TF_SEPARATOR_FIELD);
+        }
+
+        /**
+         * Adds custom token code to the sequence. May be used to add separator constants.
+         */
+        void add(int documentIndex, byte fieldIndex, int image, short tokenTypeCode)
+        {
+            documentIndices.add(documentIndex);
+            fieldIndices.add(fieldIndex);
+            images.add(image);
+            tokenTypes.add(tokenTypeCode);
+        }
     }
 }
@@ -13,12 +13,14 @@
 package org.carrot2.text.preprocessing.pipeline;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.carrot2.core.Document;
 import org.carrot2.core.LanguageCode;
 import org.carrot2.core.attribute.Init;
 import org.carrot2.core.attribute.Internal;
 import org.carrot2.core.attribute.Processing;
+import org.carrot2.text.linguistic.CachingStemmerFactory;
 import org.carrot2.text.linguistic.DefaultLexicalDataFactory;
 import org.carrot2.text.linguistic.DefaultStemmerFactory;
 import org.carrot2.text.linguistic.DefaultTokenizerFactory;
@@ -26,17 +28,20 @@ import org.carrot2.text.linguistic.ILexicalDataFactory;
 import org.carrot2.text.linguistic.IStemmerFactory;
 import org.carrot2.text.linguistic.ITokenizerFactory;
 import org.carrot2.text.linguistic.LanguageModel;
+import org.carrot2.text.linguistic.StemCache;
 import org.carrot2.text.preprocessing.CaseNormalizer;
 import org.carrot2.text.preprocessing.LanguageModelStemmer;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.text.preprocessing.StopListMarker;
 import org.carrot2.text.preprocessing.Tokenizer;
+import org.carrot2.util.TimeBudget;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
 import org.carrot2.util.attribute.Bindable;
 import org.carrot2.util.attribute.DefaultGroups;
 import org.carrot2.util.attribute.Group;
 import org.carrot2.util.attribute.Input;
+import org.carrot2.util.attribute.Label;
 import org.carrot2.util.attribute.Level;
 import org.carrot2.util.attribute.constraint.ImplementingClasses;
 
@@ -53,6 +58,12 @@ import org.carrot2.util.attribute.constraint.ImplementingClasses;
 @Bindable(prefix = "PreprocessingPipeline")
 public class BasicPreprocessingPipeline implements IPreprocessingPipeline
 {
+    /** Stage names for {@link TimeBudget#checkpoint(String)}. */
+    protected static final String TOKENIZATION = "tokenization";
+    protected static final String CASE_NORMALIZATION = "case normalization";
+    protected static final String STEMMING = "stemming";
+    protected static final String STOP_WORD_MARKING = "stop word marking";
+
     /**
      * Tokenizer used by the algorithm, contains bindable attributes.
      */
@@ -113,6 +124,33 @@ public class BasicPreprocessingPipeline implements IPreprocessingPipeline
     @Group(DefaultGroups.PREPROCESSING)
     public ILexicalDataFactory lexicalDataFactory = new DefaultLexicalDataFactory();
 
+    /**
+     * Cache of stems of words, shared across requests. If <code>null</code>, all words
+     * are stemmed on each request. Passing one instance in the controller's
+     * initialization attributes shares the cache between all components of the
+     * controller, regardless of the {@link #stemmerFactory} used.
+     */
+    @Input
+    @Init
+    @Processing
+    @Internal
+    @Attribute
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.PREPROCESSING)
+    public StemCache stemCache;
+
+    /**
+     * Compresses term frequencies of words, stems and phrases in documents after
+     * preprocessing. Compressed frequencies take less memory, but are slower to read.
+     */
+    @Processing
+    @Input
+    @Attribute
+    @Label("Compress term frequencies")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(DefaultGroups.PREPROCESSING)
+    public boolean compressPostings = false;
+
     /**
      * Performs preprocessing on the provided list of documents. Results can be obtained
      * from the returned {@link PreprocessingContext}.
@@ -120,17 +158,109 @@ public class BasicPreprocessingPipeline implements IPreprocessingPipeline
     @Override
     public PreprocessingContext preprocess(List<Document> documents, String query,
         LanguageCode language)
+    {
+        return preprocess(documents, query, language, TimeBudget.unlimited());
+    }
+
+    /**
+     * Performs preprocessing on the provided list of documents, checking the time budget
+     * before each preprocessing step.
+     */
+    public PreprocessingContext preprocess(List<Document> documents, String query,
+        LanguageCode language, TimeBudget budget)
     {
         final PreprocessingContext context = new PreprocessingContext(
-            LanguageModel.create(language, stemmerFactory, tokenizerFactory,
-                lexicalDataFactory), documents, query);
+            createLanguageModel(language), documents, query);
 
+        budget.checkpoint(TOKENIZATION);
         tokenizer.tokenize(context);
+        preprocessTokens(context, budget);
+        finishPreprocessing(context);
+        return context;
+    }
+
+    /**
+     * Performs preprocessing using the provided pipeline within the time budget. The
+     * budget is checked before each preprocessing step of
+     * {@link BasicPreprocessingPipeline}s and only before preprocessing starts for other
+     * {@link IPreprocessingPipeline} implementations.
+     */
+    public static PreprocessingContext preprocessWithin(IPreprocessingPipeline pipeline,
+        List<Document> documents, String query, LanguageCode language, TimeBudget budget)
+    {
+        if (pipeline instanceof BasicPreprocessingPipeline)
+        {
+            return ((BasicPreprocessingPipeline) pipeline).preprocess(documents, query,
+                language, budget);
+        }
+
+        budget.checkpoint(TOKENIZATION);
+        return pipeline.preprocess(documents, query, language);
+    }
+
+    /**
+     * Sets the executor tokenizing documents in parallel for
+     * {@link BasicPreprocessingPipeline}s, see {@link Tokenizer#setExecutor(ExecutorService)}.
+     * Other {@link IPreprocessingPipeline} implementations are not affected.
+     */
+    public static void useExecutor(IPreprocessingPipeline pipeline, ExecutorService executor)
+    {
+        if (pipeline instanceof BasicPreprocessingPipeline)
+        {
+            ((BasicPreprocessingPipeline) pipeline).tokenizer.setExecutor(executor);
+        }
+    }
+
+    /**
+     * Starts incremental preprocessing of documents added in batches, e.g. as they arrive
+     * from a document source. See {@link IncrementalPreprocessing} for details.
+     */
+    public IncrementalPreprocessing startIncremental(String query, LanguageCode language)
+    {
+        return new IncrementalPreprocessing(this, query, language);
+    }
+
+    /**
+     * Performs preprocessing steps following tokenization, checking the time budget before
+     * each step.
+     */
+    protected void preprocessTokens(PreprocessingContext context, TimeBudget budget)
+    {
+        budget.checkpoint(CASE_NORMALIZATION);
         caseNormalizer.normalize(context);
+        budget.checkpoint(STEMMING);
         languageModelStemmer.stem(context);
+        budget.checkpoint(STOP_WORD_MARKING);
         stopListMarker.mark(context);
+    }
 
+    /**
+     * Compresses postings if requested and releases temporary data of the context.
+     */
+    void finishPreprocessing(PreprocessingContext context)
+    {
+        if (compressPostings)
+        {
+            context.compressPostings();
+        }
         context.preprocessingFinished();
-        return context;
+    }
+
+    /**
+     * Creates the language model used for preprocessing in the given language.
+     */
+    protected LanguageModel createLanguageModel(LanguageCode language)
+    {
+        return LanguageModel.create(language, getStemmerFactory(), tokenizerFactory,
+            lexicalDataFactory);
+    }
+
+    /**
+     * Returns {@link #stemmerFactory}, decorated with {@link #stemCache} if set.
+     */
+    protected IStemmerFactory getStemmerFactory()
+    {
+        return stemCache != null ? new CachingStemmerFactory(stemmerFactory, stemCache)
+            : stemmerFactory;
     }
 }
@@ -12,11 +12,6 @@
 
 package org.carrot2.text.preprocessing.pipeline;
 
-import java.util.List;
-
-import org.carrot2.core.Document;
-import org.carrot2.core.LanguageCode;
-import org.carrot2.text.linguistic.LanguageModel;
 import org.carrot2.text.preprocessing.CaseNormalizer;
 import org.carrot2.text.preprocessing.DocumentAssigner;
 import org.carrot2.text.preprocessing.LabelFilterProcessor;
@@ -25,6 +20,7 @@ import org.carrot2.text.preprocessing.PhraseExtractor;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.text.preprocessing.StopListMarker;
 import org.carrot2.text.preprocessing.Tokenizer;
+import org.carrot2.util.TimeBudget;
 import org.carrot2.util.attribute.Bindable;
 
 /**
@@ -43,6 +39,11 @@ import org.carrot2.util.attribute.Bindable;
 @Bindable(prefix = "PreprocessingPipeline")
 public class CompletePreprocessingPipeline extends BasicPreprocessingPipeline
 {
+    /** Stage names for {@link TimeBudget#checkpoint(String)}. */
+    protected static final String PHRASE_EXTRACTION = "phrase extraction";
+    protected static final String LABEL_FILTERING = "label filtering";
+    protected static final String DOCUMENT_ASSIGNMENT = "document assignment";
+
     /**
      * Phrase extractor used by the algorithm, contains bindable attributes.
      */
@@ -59,23 +60,14 @@ public class CompletePreprocessingPipeline extends BasicPreprocessingPipeline
     public final DocumentAssigner documentAssigner = new DocumentAssigner();
 
     @Override
-    public PreprocessingContext preprocess(List<Document> documents, String query,
-        LanguageCode language)
+    protected void preprocessTokens(PreprocessingContext context, TimeBudget budget)
     {
-        final PreprocessingContext context = new PreprocessingContext(
-            LanguageModel.create(language, stemmerFactory, tokenizerFactory,
-                lexicalDataFactory), documents, query);
-
-        tokenizer.tokenize(context);
-        caseNormalizer.normalize(context);
-        languageModelStemmer.stem(context);
-        stopListMarker.mark(context);
+        super.preprocessTokens(context, budget);
+        budget.checkpoint(PHRASE_EXTRACTION);
         phraseExtractor.extractPhrases(context);
+        budget.checkpoint(LABEL_FILTERING);
         labelFilterProcessor.process(context);
+        budget.checkpoint(DOCUMENT_ASSIGNMENT);
         documentAssigner.assign(context);
-
-        context.preprocessingFinished();
-        return context;
-
     }
 }
@@ -0,0 +1,223 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.carrot2.core.Document;
+import org.carrot2.core.LanguageCode;
+import org.carrot2.core.ProcessingException;
+import org.carrot2.text.linguistic.CachingStemmerFactory;
+import org.carrot2.text.linguistic.IStemmer;
+import org.carrot2.text.linguistic.LanguageModel;
+import org.carrot2.text.linguistic.StemCache;
+import org.carrot2.text.preprocessing.CaseNormalizer;
+import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.text.preprocessing.Tokenizer.TokenSequence;
+import org.carrot2.text.util.CharArena;
+import org.carrot2.text.util.MutableCharArray;
+import org.carrot2.util.CharArrayUtils;
+import org.carrot2.util.TimeBudget;
+import org.carrot2.util.annotations.ThreadSafe;
+
+/**
+ * Preprocesses documents added in batches, e.g. pages of results as they arrive from a
+ * document source. As soon as a batch is {@link #add(List)}ed, it is tokenized,
+ * frequencies of its distinct token images in documents and fields are counted and its
+ * words are stemmed. {@link #finish(TimeBudget)} then merges the frequencies of batches
+ * instead of going through all tokens and performs the remaining preprocessing steps.
+ * The results are the same as
+ * {@link BasicPreprocessingPipeline#preprocess(List, String, LanguageCode, TimeBudget)}
+ * of all added documents, in the order of the {@link #add(List)} calls.
+ * <p>
+ * Stems are kept in the pipeline's {@link BasicPreprocessingPipeline#stemCache} or, if
+ * not set, in a bounded cache local to this instance. Batches can be added from different
+ * threads, but the pipeline's attributes must not change until {@link #finish()}
+ * returns.
+ * <p>
+ * A caller fetching pages of results itself, e.g. in fetcher threads of a
+ * {@link org.carrot2.source.MultipageSearchEngine}, adds each page as it arrives:
+ * 
+ * <pre>
+ * IncrementalPreprocessing incremental = pipeline.startIncremental(query, language);
+ * // in each fetcher thread
+ * incremental.add(page.results);
+ * // once all pages are fetched
+ * PreprocessingContext context = incremental.finish(budget);
+ * </pre>
+ *
+ * @see BasicPreprocessingPipeline#startIncremental(String, LanguageCode)
+ */
+@ThreadSafe
+public final class IncrementalPreprocessing
+{
+    /**
+     * Maximum number of stems in the local cache, enough for the distinct words of a few
+     * thousand search results.
+     */
+    static final int LOCAL_STEM_CACHE_SIZE = 32 * 1024;
+
+    private final BasicPreprocessingPipeline pipeline;
+    private final String query;
+    private final LanguageModel language;
+
+    /**
+     * All added documents, in order.
+     */
+    private final List<Document> documents = new ArrayList<Document>();
+
+    /**
+     * Tokens of batches, <code>null</code> for batches being tokenized.
+     */
+    private final List<TokenSequence> batches = new ArrayList<TokenSequence>();
+
+    private int pending;
+    private boolean finished;
+    private RuntimeException failure;
+
+    IncrementalPreprocessing(BasicPreprocessingPipeline pipeline, String query,
+        LanguageCode language)
+    {
+        this.pipeline = pipeline;
+        this.query = query;
+
+        final StemCache stemCache = pipeline.stemCache != null ? pipeline.stemCache
+            : new StemCache(LOCAL_STEM_CACHE_SIZE);
+        this.language = LanguageModel.create(language, new CachingStemmerFactory(
+            pipeline.stemmerFactory, stemCache), pipeline.tokenizerFactory,
+            pipeline.lexicalDataFactory);
+    }
+
+    /**
+     * Tokenizes a batch of documents, counts frequencies of its token images and stems
+     * its words in the calling thread.
+     */
+    public void add(List<Document> batch)
+    {
+        final int firstDocumentIndex;
+        final int batchIndex;
+        synchronized (this)
+        {
+            if (finished)
+            {
+                throw new IllegalStateException("Preprocessing already finished.");
+            }
+            firstDocumentIndex = documents.size();
+            batchIndex = batches.size();
+            documents.addAll(batch);
+            batches.add(null);
+            pending++;
+        }
+
+        TokenSequence tokens = null;
+        try
+        {
+            tokens = pipeline.tokenizer.tokenize(language, batch, firstDocumentIndex);
+            CaseNormalizer.count(tokens);
+            stem(tokens.getImages());
+        }
+        catch (RuntimeException e)
+        {
+            synchronized (this)
+            {
+                if (failure == null)
+                {
+                    failure = e;
+                }
+            }
+            throw e;
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                batches.set(batchIndex, tokens);
+                pending--;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Finishes preprocessing of all added documents, see
+     * {@link #finish(TimeBudget)}.
+     */
+    public PreprocessingContext finish()
+    {
+        return finish(TimeBudget.unlimited());
+    }
+
+    /**
+     * Waits for batches still being added and performs the remaining preprocessing steps,
+     * checking the time budget before each step. No batches can be added afterwards.
+     */
+    public PreprocessingContext finish(TimeBudget budget)
+    {
+        final List<Document> allDocuments;
+        final List<TokenSequence> allBatches;
+        synchronized (this)
+        {
+            finished = true;
+            try
+            {
+                while (pending > 0)
+                {
+                    wait();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException("Preprocessing interrupted", e);
+            }
+
+            if (failure != null)
+            {
+                throw new ProcessingException("Preprocessing of a batch failed", failure);
+            }
+            allDocuments = new ArrayList<Document>(documents);
+            allBatches = new ArrayList<TokenSequence>(batches);
+        }
+
+        final PreprocessingContext context = new PreprocessingContext(language,
+            allDocuments, query);
+
+        budget.checkpoint(BasicPreprocessingPipeline.TOKENIZATION);
+        pipeline.tokenizer.tokenize(context, allBatches);
+        pipeline.preprocessTokens(context, budget);
+        pipeline.finishPreprocessing(context);
+        return context;
+    }
+
+    /**
+     * Stems lower case variants of images, so that their stems are cached when the words
+     * are stemmed by the pipeline.
+     */
+    private void stem(CharArena images)
+    {
+        final IStemmer stemmer = language.createStemmer();
+        final char [] chars = images.getBuffer();
+        final MutableCharArray word = new MutableCharArray(CharArrayUtils.EMPTY_ARRAY);
+        char [] buffer = new char [128];
+        for (int i = 0; i < images.size(); i++)
+        {
+            final int length = images.getLength(i);
+            if (buffer.length < length) buffer = new char [length];
+
+            CharArrayUtils.toLowerCase(chars, buffer, images.getOffset(i), length);
+            word.reset(buffer, 0, length);
+            stemmer.stem(word);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.util;
+
+import java.util.Arrays;
+
+import com.carrotsearch.hppc.IntArrayList;
+
+/**
+ * Stores distinct character sequences one after another in a single <code>char []</code>
+ * buffer. Each sequence is stored once, identified by its index (the order in which
+ * sequences were first added) and located in {@link #getBuffer()} by its
+ * {@link #getOffset(int)} and {@link #getLength(int)}. Equal sequences therefore always
+ * have equal offsets and lengths, which allows comparing them without looking at the
+ * characters. Offsets alone are distinct for all but the empty sequence.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class CharArena
+{
+    /**
+     * Characters of all sequences.
+     */
+    private char [] buffer;
+
+    /**
+     * Number of characters used in {@link #buffer}.
+     */
+    private int charCount;
+
+    /**
+     * Offsets, lengths and hash codes of sequences, by sequence index.
+     */
+    private final IntArrayList offsets = new IntArrayList();
+    private final IntArrayList lengths = new IntArrayList();
+    private final IntArrayList hashes = new IntArrayList();
+
+    /**
+     * Open addressing hash table of sequence indices plus one, <code>0</code> marks an
+     * empty slot. The size of the table is always a power of two.
+     */
+    private int [] slots = new int [16];
+
+    public CharArena()
+    {
+        this(1024);
+    }
+
+    /**
+     * @param initialCapacity the initial number of characters the arena can hold
+     */
+    public CharArena(int initialCapacity)
+    {
+        this.buffer = new char [Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Returns the index of the sequence equal to <code>length</code> characters of
+     * <code>chars</code> starting at <code>start</code>, adding the sequence if not
+     * present.
+     */
+    public int intern(char [] chars, int start, int length)
+    {
+        final int hash = MutableCharArray.hashCode(chars, start, length);
+        final int mask = slots.length - 1;
+        int slot = slot(hash, mask);
+        while (slots[slot] != 0)
+        {
+            final int index = slots[slot] - 1;
+            if (hashes.get(index) == hash && lengths.get(index) == length
+                && equals(buffer, offsets.get(index), chars, start, length))
+            {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (charCount + length > buffer.length)
+        {
+            buffer = Arrays.copyOf(buffer, Math.max(charCount + length,
+                buffer.length + (buffer.length >> 1)));
+        }
+        System.arraycopy(chars, start, buffer, charCount, length);
+
+        final int index = offsets.size();
+        offsets.add(charCount);
+        lengths.add(length);
+        hashes.add(hash);
+        charCount += length;
+        slots[slot] = index + 1;
+
+        // Keep the load factor below 0.5
+        if (2 * offsets.size() > slots.length)
+        {
+            rehash();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the buffer holding characters of all sequences. The buffer is replaced when
+     * the arena grows, so it must be retrieved again after adding new sequences.
+     */
+    public char [] getBuffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Returns the offset of the sequence at <code>index</code> in {@link #getBuffer()}.
+     */
+    public int getOffset(int index)
+    {
+        return offsets.get(index);
+    }
+
+    /**
+     * Returns the length of the sequence at <code>index</code>.
+     */
+    public int getLength(int index)
+    {
+        return lengths.get(index);
+    }
+
+    /**
+     * Returns the number of distinct sequences in the arena.
+     */
+    public int size()
+    {
+        return offsets.size();
+    }
+
+    /**
+     * Returns the number of characters of all sequences in the arena.
+     */
+    public int getCharCount()
+    {
+        return charCount;
+    }
+
+    /**
+     * Returns a copy of the sequence at <code>index</code>.
+     */
+    public char [] toCharArray(int index)
+    {
+        final int offset = offsets.get(index);
+        return Arrays.copyOfRange(buffer, offset, offset + lengths.get(index));
+    }
+
+    private void rehash()
+    {
+        final int [] newSlots = new int [slots.length * 2];
+        final int mask = newSlots.length - 1;
+        for (int index = 0; index < offsets.size(); index++)
+        {
+            int slot = slot(hashes.get(index), mask);
+            while (newSlots[slot] != 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = index + 1;
+        }
+        slots = newSlots;
+    }
+
+    private static int slot(int hash, int mask)
+    {
+        final int h = hash * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static boolean equals(char [] a, int aStart, char [] b, int bStart,
+        int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            if (a[aStart + i] != b[bStart + i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
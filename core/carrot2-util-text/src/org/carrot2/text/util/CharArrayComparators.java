@@ -38,23 +38,7 @@ public class CharArrayComparators
                 return -1;
             }
 
-            final int l1 = a1.length;
-            final int l2 = a2.length;
-            final int n = l1 < l2 ? l1 : l2;
-
-            // Quiet assumption that the numbers here won't cause an overflow.
-            for (int i = 0; i < n; i++)
-            {
-                // Use JDK 1.5+ full codepoint method.
-                final int c = Character.toLowerCase((int) a1[i]);
-                final int d = Character.toLowerCase((int) a2[i]);
-                if (c != d)
-                {
-                    return c - d;
-                }
-            }
-
-            return l1 - l2;
+            return compareIgnoreCase(a1, 0, a1.length, a2, 0, a2.length);
         }
     };
 
@@ -131,60 +115,93 @@ public class CharArrayComparators
                 return 0;
             }
 
-            final int l1 = a1.length;
-            final int l2 = a2.length;
-
-            /*
-             * For those who might wonder: the condition below is perfectly ok here. It is
-             * used to calculate word occurrence statistics, which is essentially a "count
-             * unique strings by sorting" problem. Therefore, the semantic meaning of the
-             * order produced by this comparator doesn't matter at all as long as it: a)
-             * groups equal (case sensitive) strings together, b) groups equal (case
-             * insensitive) strings into one block, c) null string is always greater than
-             * a non-null string. See tests for this comparator for examples.
-             *  
-             * In comparison-based sorting algorithms crucial is the speed of comparisons,
-             * so declaring that e.g. shorter strings are always smaller (regardless of
-             * contents) saves us calls to Character.toLowerCase(), which are very costly.
-             * For CaseNormalizer it doesn't matter at all, and makes sorting way faster.
-             */
+            return compareNormalizing(a1, 0, a1.length, a2, 0, a2.length);
+        }
+    };
 
-            // Quiet assumption that the numbers here won't cause an overflow.
+    /**
+     * Compares <code>aLength</code> characters of <code>a</code> starting at
+     * <code>aStart</code> with <code>bLength</code> characters of <code>b</code> starting
+     * at <code>bStart</code> in the order of {@link #CASE_INSENSITIVE_CHAR_ARRAY_COMPARATOR}.
+     */
+    public static int compareIgnoreCase(char [] a, int aStart, int aLength, char [] b,
+        int bStart, int bLength)
+    {
+        final int n = aLength < bLength ? aLength : bLength;
 
-            // Not crucial, but speeds things up
-            if (l1 != l2)
+        // Quiet assumption that the numbers here won't cause an overflow.
+        for (int i = 0; i < n; i++)
+        {
+            // Use JDK 1.5+ full codepoint method.
+            final int c = Character.toLowerCase((int) a[aStart + i]);
+            final int d = Character.toLowerCase((int) b[bStart + i]);
+            if (c != d)
             {
-                return l1 - l2;
+                return c - d;
             }
+        }
 
-            // Compare whole strings in case insensitive mode first
-            for (int i = 0; i < l1; i++)
+        return aLength - bLength;
+    }
+
+    /**
+     * Compares <code>aLength</code> characters of <code>a</code> starting at
+     * <code>aStart</code> with <code>bLength</code> characters of <code>b</code> starting
+     * at <code>bStart</code> in the order of {@link #NORMALIZING_CHAR_ARRAY_COMPARATOR}.
+     */
+    public static int compareNormalizing(char [] a, int aStart, int aLength, char [] b,
+        int bStart, int bLength)
+    {
+        /*
+         * For those who might wonder: the condition below is perfectly ok here. It is
+         * used to calculate word occurrence statistics, which is essentially a "count
+         * unique strings by sorting" problem. Therefore, the semantic meaning of the
+         * order produced by this comparator doesn't matter at all as long as it: a)
+         * groups equal (case sensitive) strings together, b) groups equal (case
+         * insensitive) strings into one block, c) null string is always greater than
+         * a non-null string. See tests for this comparator for examples.
+         *  
+         * In comparison-based sorting algorithms crucial is the speed of comparisons,
+         * so declaring that e.g. shorter strings are always smaller (regardless of
+         * contents) saves us calls to Character.toLowerCase(), which are very costly.
+         * For CaseNormalizer it doesn't matter at all, and makes sorting way faster.
+         */
+
+        // Quiet assumption that the numbers here won't cause an overflow.
+
+        // Not crucial, but speeds things up
+        if (aLength != bLength)
+        {
+            return aLength - bLength;
+        }
+
+        // Compare whole strings in case insensitive mode first
+        for (int i = 0; i < aLength; i++)
+        {
+            // Use JDK 1.5+ full codepoint method.
+            final int c = Character.toLowerCase((int) a[aStart + i]);
+            final int d = Character.toLowerCase((int) b[bStart + i]);
+            if (c != d)
             {
-                // Use JDK 1.5+ full codepoint method.
-                final int c = Character.toLowerCase((int) a1[i]);
-                final int d = Character.toLowerCase((int) a2[i]);
-                if (c != d)
-                {
-                    return c - d;
-                }
+                return c - d;
             }
+        }
 
-            // Only if strings are case-insensitive equal, go case sensitive
-            for (int i = 0; i < l1; i++)
-            {
-                char a1I = a1[i];
-                char a2I = a2[i];
+        // Only if strings are case-insensitive equal, go case sensitive
+        for (int i = 0; i < aLength; i++)
+        {
+            final char aI = a[aStart + i];
+            final char bI = b[bStart + i];
 
-                if (a1I != a2I)
-                {
-                    // Put lower case first
-                    return a2I - a1I;
-                }
+            if (aI != bI)
+            {
+                // Put lower case first
+                return bI - aI;
             }
-
-            return 0;
         }
-    };
+
+        return 0;
+    }
 
     /**
      * No instantiation.
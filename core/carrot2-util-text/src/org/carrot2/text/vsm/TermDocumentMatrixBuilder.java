@@ -14,12 +14,13 @@ package org.carrot2.text.vsm;
 
 import org.apache.mahout.math.matrix.DoubleMatrix2D;
 import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
-import org.apache.mahout.math.matrix.impl.SparseDoubleMatrix2D;
 import org.carrot2.core.Document;
 import org.carrot2.core.attribute.Internal;
 import org.carrot2.core.attribute.Processing;
+import org.carrot2.matrix.CompressedRowDoubleMatrix2D;
 import org.carrot2.matrix.MatrixUtils;
 import org.carrot2.text.analysis.TokenTypeUtils;
+import org.carrot2.text.preprocessing.Postings;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
@@ -63,6 +64,8 @@ public class TermDocumentMatrixBuilder
     /**
      * Maximum matrix size. The maximum number of the term-document matrix elements. The
      * larger the size, the more accurate, time- and memory-consuming clustering.
+     * The term-document matrix is sparse, so its memory footprint depends on the
+     * number of non-zero elements rather than on this size.
      */
     @Input
     @Processing
@@ -128,7 +131,7 @@ public class TermDocumentMatrixBuilder
 
         final int documentCount = preprocessingContext.documents.size();
         final int [] stemsTf = preprocessingContext.allStems.tf;
-        final int [][] stemsTfByDocument = preprocessingContext.allStems.tfByDocument;
+        final Postings stemsTfByDocument = preprocessingContext.allStems.tfByDocument;
         final byte [] stemsFieldIndices = preprocessingContext.allStems.fieldIndices;
 
         if (documentCount == 0)
@@ -160,7 +163,7 @@ public class TermDocumentMatrixBuilder
         {
             final int stemIndex = stemsToInclude[i];
             stemsWeight[i] = termWeighting.calculateTermWeight(stemsTf[stemIndex],
-                stemsTfByDocument[stemIndex].length / 2, documentCount)
+                stemsTfByDocument.getDocumentFrequency(stemIndex), documentCount)
                 * getWeightBoost(titleFieldIndex, stemsFieldIndices[stemIndex]);
         }
         final int [] stemWeightOrder = IndirectSort.mergesort(0, stemsWeight.length,
@@ -168,24 +171,27 @@ public class TermDocumentMatrixBuilder
 
         // Calculate the number of terms we can include to fulfill the max matrix size
         final int maxRows = maximumMatrixSize / documentCount;
-        final DoubleMatrix2D tdMatrix = new DenseDoubleMatrix2D(Math.min(maxRows,
-            stemsToInclude.length), documentCount);
+        final CompressedRowDoubleMatrix2D.Builder tdMatrixBuilder =
+            new CompressedRowDoubleMatrix2D.Builder(documentCount);
 
+        final int [] documents = new int [documentCount];
+        final int [] tfs = new int [documentCount];
         for (int i = 0; i < stemWeightOrder.length && i < maxRows; i++)
         {
             final int stemIndex = stemsToInclude[stemWeightOrder[i]];
-            final int [] tfByDocument = stemsTfByDocument[stemIndex];
-            final int df = tfByDocument.length / 2;
+            final int df = stemsTfByDocument.getPostings(stemIndex, documents, tfs);
             final byte fieldIndices = stemsFieldIndices[stemIndex];
 
             for (int j = 0; j < df; j++) {
                 double weight = termWeighting.calculateTermWeight(
-                    tfByDocument[j * 2 + 1], df, documentCount);
+                    tfs[j], df, documentCount);
 
                 weight *= getWeightBoost(titleFieldIndex, fieldIndices);
-                tdMatrix.set(i, tfByDocument[j * 2], weight);
+                tdMatrixBuilder.set(documents[j], weight);
             }
+            tdMatrixBuilder.endRow();
         }
+        final DoubleMatrix2D tdMatrix = tdMatrixBuilder.build();
 
         // Convert stemsToInclude into tdMatrixStemIndices
         final IntIntOpenHashMap stemToRowIndex = new IntIntOpenHashMap();
@@ -254,7 +260,7 @@ public class TermDocumentMatrixBuilder
         final int [][] phrasesWordIndices = context.allPhrases.wordIndices;
         final int wordCount = wordsStemIndex.length;
 
-        final int [][] stemsTfByDocument = context.allStems.tfByDocument;
+        final Postings stemsTfByDocument = context.allStems.tfByDocument;
         int documentCount = context.documents.size();
         final BitSet requiredStemIndices = new BitSet(labelsFeatureIndex.length);
 
@@ -288,11 +294,11 @@ public class TermDocumentMatrixBuilder
      * Adds stem index to the set with a check on the stem's document frequency.
      */
     private void addStemIndex(final int [] wordsStemIndex, int documentCount,
-        int [][] stemsTfByDocument, final BitSet requiredStemIndices,
+        Postings stemsTfByDocument, final BitSet requiredStemIndices,
         final int featureIndex)
     {
         final int stemIndex = wordsStemIndex[featureIndex];
-        final int df = stemsTfByDocument[stemIndex].length / 2;
+        final int df = stemsTfByDocument.getDocumentFrequency(stemIndex);
         if (((double) df / documentCount) <= maxWordDf)
         {
             requiredStemIndices.set(stemIndex);
@@ -301,7 +307,8 @@ public class TermDocumentMatrixBuilder
 
     /**
      * Builds a sparse term-document-like matrix for the provided matrixWordIndices in the
-     * same term space as the original term-document matrix.
+     * same term space as the original term-document matrix. The matrix is a transposed
+     * view of a {@link CompressedRowDoubleMatrix2D} with a row for each feature.
      */
     static DoubleMatrix2D buildAlignedMatrix(VectorSpaceModelContext vsmContext,
         int [] featureIndex, ITermWeighting termWeighting)
@@ -312,13 +319,13 @@ public class TermDocumentMatrixBuilder
             return new DenseDoubleMatrix2D(stemToRowIndex.size(), 0);
         }
 
-        final DoubleMatrix2D phraseMatrix = new SparseDoubleMatrix2D(stemToRowIndex
-            .size(), featureIndex.length);
+        final CompressedRowDoubleMatrix2D.Builder phraseMatrixBuilder =
+            new CompressedRowDoubleMatrix2D.Builder(stemToRowIndex.size());
 
         final PreprocessingContext preprocessingContext = vsmContext.preprocessingContext;
         final int [] wordsStemIndex = preprocessingContext.allWords.stemIndex;
         final int [] stemsTf = preprocessingContext.allStems.tf;
-        final int [][] stemsTfByDocument = preprocessingContext.allStems.tfByDocument;
+        final Postings stemsTfByDocument = preprocessingContext.allStems.tfByDocument;
         final int [][] phrasesWordIndices = preprocessingContext.allPhrases.wordIndices;
         final int documentCount = preprocessingContext.documents.size();
         final int wordCount = wordsStemIndex.length;
@@ -347,13 +354,14 @@ public class TermDocumentMatrixBuilder
                     final int rowIndex = stemToRowIndex.lget();
 
                     double weight = termWeighting.calculateTermWeight(stemsTf[stemIndex],
-                        stemsTfByDocument[stemIndex].length / 2, documentCount);
+                        stemsTfByDocument.getDocumentFrequency(stemIndex), documentCount);
 
-                    phraseMatrix.setQuick(rowIndex, i, weight);
+                    phraseMatrixBuilder.set(rowIndex, weight);
                 }
             }
+            phraseMatrixBuilder.endRow();
         }
 
-        return phraseMatrix;
+        return phraseMatrixBuilder.build().viewDice();
     }
 }
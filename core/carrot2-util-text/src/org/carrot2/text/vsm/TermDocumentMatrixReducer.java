@@ -12,6 +12,10 @@
 
 package org.carrot2.text.vsm;
 
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.lang.StringUtils;
 import org.apache.mahout.math.matrix.DoubleMatrix2D;
 import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
 import org.carrot2.core.attribute.Processing;
@@ -26,6 +30,10 @@ import org.carrot2.matrix.factorization.LocalNonnegativeMatrixFactorizationFacto
 import org.carrot2.matrix.factorization.NonnegativeMatrixFactorizationEDFactory;
 import org.carrot2.matrix.factorization.NonnegativeMatrixFactorizationKLFactory;
 import org.carrot2.matrix.factorization.PartialSingularValueDecompositionFactory;
+import org.carrot2.matrix.factorization.RandomizedSingularValueDecompositionFactory;
+import org.carrot2.matrix.factorization.seeding.ISeedingStrategyFactory;
+import org.carrot2.matrix.factorization.seeding.WarmStartSeedingStrategyFactory;
+import org.carrot2.util.TimeBudget;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.AttributeLevel;
 import org.carrot2.util.attribute.Bindable;
@@ -34,7 +42,14 @@ import org.carrot2.util.attribute.Input;
 import org.carrot2.util.attribute.Label;
 import org.carrot2.util.attribute.Level;
 import org.carrot2.util.attribute.Required;
+import org.carrot2.util.attribute.constraint.DoubleRange;
 import org.carrot2.util.attribute.constraint.ImplementingClasses;
+import org.carrot2.util.attribute.constraint.IntRange;
+
+import com.carrotsearch.hppc.cursors.IntIntCursor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Maps;
 
 /**
  * Reduces the dimensionality of a term-document matrix using a matrix factorization
@@ -44,6 +59,12 @@ import org.carrot2.util.attribute.constraint.ImplementingClasses;
 @Bindable(prefix = "TermDocumentMatrixReducer")
 public class TermDocumentMatrixReducer
 {
+    /** Stage name for {@link TimeBudget#checkpoint(String)}. */
+    private static final String MATRIX_FACTORIZATION = "matrix factorization";
+
+    /** The number of most recent queries whose base vectors are kept for warm starts. */
+    private static final int WARM_START_QUERIES = 16;
+
     /**
      * Factorization method. The method to be used to factorize the term-document matrix
      * and create base vectors that will give rise to cluster labels.
@@ -55,6 +76,7 @@ public class TermDocumentMatrixReducer
     @ImplementingClasses(classes =
     {
         PartialSingularValueDecompositionFactory.class,
+        RandomizedSingularValueDecompositionFactory.class,
         NonnegativeMatrixFactorizationEDFactory.class,
         NonnegativeMatrixFactorizationKLFactory.class,
         LocalNonnegativeMatrixFactorizationFactory.class,
@@ -78,10 +100,83 @@ public class TermDocumentMatrixReducer
     @Group(TermDocumentMatrixBuilder.MATRIX_MODEL)
     public FactorizationQuality factorizationQuality = FactorizationQuality.HIGH;
 
+    /**
+     * Number of threads used to multiply matrices during factorization. With more than
+     * one thread, rows of large matrix products are computed in parallel, in the calling
+     * thread and the threads shared by the clustering algorithm. The results are the same
+     * as with one thread.
+     */
+    @Input
+    @Processing
+    @Attribute
+    @IntRange(min = 1, max = 64)
+    @Label("Matrix factorization threads")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(TermDocumentMatrixBuilder.MATRIX_MODEL)
+    public int threads = 1;
+
+    /**
+     * Warm-start factorizations of repeated queries. If enabled, iterative
+     * factorizations start from the base vectors computed for the most recent documents
+     * of the same query and number of base vectors, for the terms found in both, and
+     * stop early once they converge, see {@link #convergenceThreshold}. Warm starts are
+     * best-effort: base vectors are kept by each instance of the algorithm, so a query
+     * repeated in a pooled controller is warm-started only if it is processed by an
+     * instance that processed it before.
+     */
+    @Input
+    @Processing
+    @Attribute
+    @Label("Warm-start factorizations of repeated queries")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(TermDocumentMatrixBuilder.MATRIX_MODEL)
+    public boolean warmStart = false;
+
+    /**
+     * Warm-started factorization convergence threshold. Warm-started iterative
+     * factorizations stop before the number of iterations implied by
+     * {@link #factorizationQuality} once an iteration changes the base vectors by less
+     * than this fraction of their norm. Factorizations starting from random base vectors
+     * are still far from converged after that number of iterations and always perform
+     * all of them. Set to <code>-1</code> to always perform all iterations.
+     */
+    @Input
+    @Processing
+    @Attribute
+    @DoubleRange(min = -1, max = 1)
+    @Label("Warm-started factorization convergence threshold")
+    @Level(AttributeLevel.ADVANCED)
+    @Group(TermDocumentMatrixBuilder.MATRIX_MODEL)
+    public double convergenceThreshold = 0.05;
+
+    /**
+     * Executor multiplying matrices in {@link #threads} threads, <code>null</code> to
+     * multiply them in the calling thread.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Base vector rows of recent queries, keyed by stem images, see
+     * {@link #warmStartKey(String, int)}.
+     */
+    private final Cache<String, Map<String, double []>> warmStartBases = CacheBuilder
+        .newBuilder().maximumSize(WARM_START_QUERIES).build();
+
     /**
      * Performs the reduction.
      */
     public void reduce(ReducedVectorSpaceModelContext context, int dimensions)
+    {
+        reduce(context, dimensions, TimeBudget.unlimited());
+    }
+
+    /**
+     * Performs the reduction within the provided time budget. If the budget is exceeded
+     * and its policy allows degrading the results, iterative factorizations stop after
+     * fewer iterations than required by {@link #factorizationQuality}.
+     */
+    public void reduce(ReducedVectorSpaceModelContext context, int dimensions,
+        TimeBudget budget)
     {
         final VectorSpaceModelContext vsmContext = context.vsmContext;
         if (vsmContext.termDocumentMatrix.columns() == 0
@@ -100,10 +195,62 @@ public class TermDocumentMatrixReducer
                 (IterativeMatrixFactorizationFactory) factorizationFactory,
                 vsmContext.termDocumentMatrix, factorizationQuality);
         }
+        else if (factorizationFactory instanceof RandomizedSingularValueDecompositionFactory)
+        {
+            ((RandomizedSingularValueDecompositionFactory) factorizationFactory)
+                .setK(dimensions);
+        }
 
+        budget.checkpoint(MATRIX_FACTORIZATION);
         MatrixUtils.normalizeColumnL2(vsmContext.termDocumentMatrix, null);
-        final IMatrixFactorization factorization = factorizationFactory
-            .factorize(vsmContext.termDocumentMatrix);
+        final IMatrixFactorization factorization;
+        if (factorizationFactory instanceof IterativeMatrixFactorizationFactory)
+        {
+            final IterativeMatrixFactorizationFactory iterativeFactory =
+                (IterativeMatrixFactorizationFactory) factorizationFactory;
+            iterativeFactory.setTimeBudget(budget);
+            iterativeFactory.setThreads(threads);
+
+            final String query = vsmContext.preprocessingContext.query;
+            final boolean warm = warmStart && StringUtils.isNotBlank(query);
+            final String key = warmStartKey(query, dimensions);
+            final Map<String, double []> bases = warm ? warmStartBases.getIfPresent(key)
+                : null;
+            final ISeedingStrategyFactory seedingFactory = iterativeFactory
+                .getSeedingFactory();
+            if (bases != null)
+            {
+                iterativeFactory.setSeedingFactory(new WarmStartSeedingStrategyFactory(
+                    initialBase(vsmContext, bases), seedingFactory));
+            }
+            iterativeFactory.setConvergenceThreshold(bases != null ? convergenceThreshold
+                : -1);
+
+            iterativeFactory.setExecutor(executor);
+            final int degradations = budget.getDegradations().size();
+            try
+            {
+                factorization = factorizationFactory
+                    .factorize(vsmContext.termDocumentMatrix);
+            }
+            finally
+            {
+                iterativeFactory.setTimeBudget(null);
+                iterativeFactory.setExecutor(null);
+                iterativeFactory.setSeedingFactory(seedingFactory);
+            }
+
+            // Base vectors of a factorization cut short by the budget are not cached,
+            // later requests would warm-start from them and stop even earlier
+            if (warm && budget.getDegradations().size() == degradations)
+            {
+                warmStartBases.put(key, bases(vsmContext, factorization.getU()));
+            }
+        }
+        else
+        {
+            factorization = factorizationFactory.factorize(vsmContext.termDocumentMatrix);
+        }
         context.baseMatrix = factorization.getU();
         context.coefficientMatrix = factorization.getV();
 
@@ -111,6 +258,56 @@ public class TermDocumentMatrixReducer
         context.coefficientMatrix = trim(factorization.getV(), dimensions);
     }
 
+    /**
+     * Sets the executor multiplying matrices in parallel when {@link #threads} is larger
+     * than one. The executor is not shut down by the reducer. If <code>null</code>,
+     * matrices are multiplied in the calling thread.
+     */
+    public void setExecutor(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the key of the base vectors of a query in {@link #warmStartBases}. Base
+     * vectors are only reused by factorizations computing the same number of them.
+     */
+    private static String warmStartKey(String query, int dimensions)
+    {
+        return dimensions + ":" + query;
+    }
+
+    /**
+     * Returns rows of the base vector matrix keyed by images of their stems.
+     */
+    private static Map<String, double []> bases(VectorSpaceModelContext vsmContext,
+        DoubleMatrix2D U)
+    {
+        final char [][] stemImages = vsmContext.preprocessingContext.allStems.image;
+        final Map<String, double []> bases = Maps.newHashMap();
+        for (IntIntCursor c : vsmContext.stemToRowIndex)
+        {
+            bases.put(new String(stemImages[c.key]), U.viewRow(c.value).toArray());
+        }
+        return bases;
+    }
+
+    /**
+     * Returns the rows of the base vector matrix of the stems of the current term-document
+     * matrix, <code>null</code> for stems with no rows in the provided bases.
+     */
+    private static double [][] initialBase(VectorSpaceModelContext vsmContext,
+        Map<String, double []> bases)
+    {
+        final char [][] stemImages = vsmContext.preprocessingContext.allStems.image;
+        final double [][] initialBase = new double [vsmContext.termDocumentMatrix.rows()] [];
+        for (IntIntCursor c : vsmContext.stemToRowIndex)
+        {
+            initialBase[c.value] = bases.get(new String(stemImages[c.key]));
+        }
+        return initialBase;
+    }
+
     private final DoubleMatrix2D trim(DoubleMatrix2D matrix, int dimensions)
     {
         if (!(factorizationFactory instanceof IterativeMatrixFactorizationFactory)
@@ -0,0 +1,397 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.carrot2.core.attribute.AttributeNames;
+import org.carrot2.core.attribute.Processing;
+import org.carrot2.util.attribute.*;
+import org.junit.*;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.*;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * This class measures the overhead added by the {@link Controller} in various
+ * configurations. Processing in the components is relatively simple, so what we're
+ * attempting to measure here is the impact of extra processing and synchronizations
+ * within the controller itself.
+ */
+@SuppressWarnings("unchecked")
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "individual")
+@BenchmarkHistoryChart(filePrefix = "history")
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+public class ControllerOverheadBenchmark extends AbstractBenchmark
+{
+    // Controllers under tests
+    static final Controller simpleController = ControllerFactory.createSimple();
+    static final Controller poolingController = ControllerFactory.createPooling();
+    static final Controller concurrentPoolingController = ControllerFactory
+        .createConcurrentPooling(20, 0);
+    static final Controller cachingOffController = ControllerFactory.createCaching();
+    static final Controller cachingOnController = ControllerFactory
+        .createCaching(IProcessingComponent.class);
+    static final Controller poolingCachingOffController = ControllerFactory
+        .createCachingPooling();
+    static final Controller poolingCachingOnController = ControllerFactory
+        .createCachingPooling(IProcessingComponent.class);
+
+    // Test callables
+    static final List<Map<String, Object>> processingAttributeMaps = Lists.newArrayList();
+    static final Map<String, List<Callable<String>>> callables = Maps.newHashMap();
+
+    // Executor
+    static final int threads = 20;
+    static final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    static final int internalRounds = 100;
+
+    // Statistics updates, performed by all threads at the same time
+    static final int statisticsUpdates = 100000;
+    static final ProcessingResult statisticsResult;
+    static
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.PROCESSING_TIME_SOURCE, 10L);
+        attributes.put(AttributeNames.PROCESSING_TIME_ALGORITHM, 20L);
+        attributes.put(AttributeNames.PROCESSING_TIME_TOTAL, 30L);
+        statisticsResult = new ProcessingResult(attributes);
+    }
+
+    @BeforeClass
+    public static void prepareRunnables()
+    {
+        final Random random = new Random(0);
+        for (int i = 0; i < 100; i++)
+        {
+            final Map<String, Object> attributes = Maps.newHashMap();
+            attributes.put("int1", random.nextInt(100));
+            attributes.put("int2", random.nextInt(100));
+            attributes.put("double1", random.nextDouble());
+            attributes.put("double2", random.nextDouble());
+            attributes.put("data", "a"
+                + Integer.toString(random.nextInt(20 + random.nextInt(10))));
+            attributes.put("boolean1", random.nextBoolean());
+            attributes.put("boolean2", random.nextBoolean());
+            attributes.put("in1", null);
+            processingAttributeMaps.add(attributes);
+        }
+
+        callables.put("simple", createCallables(simpleController));
+        callables.put("pooling", createCallables(poolingController));
+        callables.put("concurrentPooling", createCallables(concurrentPoolingController));
+        callables.put("cachingOff", createCallables(cachingOffController));
+        callables.put("cachingOn", createCallables(cachingOnController));
+        callables.put("poolingCachingOff", createCallables(poolingCachingOffController));
+        callables.put("poolingCachingOn", createCallables(poolingCachingOnController));
+    }
+
+    private static List<Callable<String>> createCallables(Controller controller)
+    {
+        final List<Callable<String>> callables = Lists.newArrayList();
+        for (int r = 0; r < internalRounds; r++)
+        {
+            for (Map<String, Object> attributes : processingAttributeMaps)
+            {
+                callables.add(createCallable(attributes, controller));
+            }
+        }
+
+        return callables;
+    }
+
+    private static Callable<String> createCallable(final Map<String, Object> attributes,
+        final Controller controller)
+    {
+        return new Callable<String>()
+        {
+            public String call() throws Exception
+            {
+                return controller.process(attributes, ProcessingComponent1.class,
+                    ProcessingComponent2.class).getAttribute("result");
+            }
+        };
+    }
+
+    @AfterClass
+    public static void disposeControllers()
+    {
+        simpleController.dispose();
+        poolingController.dispose();
+        concurrentPoolingController.dispose();
+        cachingOffController.dispose();
+        cachingOnController.dispose();
+        poolingCachingOffController.dispose();
+        poolingCachingOnController.dispose();
+    }
+
+    @AfterClass
+    public static void shutDownExecutor() throws InterruptedException
+    {
+        executorService.shutdown();
+        executorService.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testSimpleController() throws InterruptedException
+    {
+        testWithController("simple");
+    }
+
+    @Test
+    public void testPoolingController() throws InterruptedException
+    {
+        testWithController("pooling");
+    }
+
+    @Test
+    public void testConcurrentPoolingController() throws InterruptedException
+    {
+        testWithController("concurrentPooling");
+    }
+
+    @Test
+    public void testCachingOnController() throws InterruptedException
+    {
+        testWithController("cachingOn");
+    }
+
+    @Test
+    public void testCachingOffController() throws InterruptedException
+    {
+        testWithController("cachingOff");
+    }
+
+    @Test
+    public void testPoolingCachingOnController() throws InterruptedException
+    {
+        testWithController("poolingCachingOff");
+    }
+
+    @Test
+    public void testPoolingCachingOffController() throws InterruptedException
+    {
+        testWithController("poolingCachingOff");
+    }
+
+    private void testWithController(String controllerName) throws InterruptedException
+    {
+        executorService.invokeAll(callables.get(controllerName));
+    }
+
+    @Test
+    public void testStatisticsUpdate() throws InterruptedException
+    {
+        testStatisticsUpdate(null);
+    }
+
+    /**
+     * Serializes statistics updates on a single lock, like updates of the controller
+     * statistics used to, for comparison with {@link #testStatisticsUpdate()}.
+     */
+    @Test
+    public void testSynchronizedStatisticsUpdate() throws InterruptedException
+    {
+        testStatisticsUpdate(new Object());
+    }
+
+    private void testStatisticsUpdate(final Object lock) throws InterruptedException
+    {
+        final Controller.ProcessingStatistics statistics = simpleController.new ProcessingStatistics();
+        final List<Callable<Void>> updates = Lists.newArrayList();
+        for (int t = 0; t < threads; t++)
+        {
+            updates.add(new Callable<Void>()
+            {
+                public Void call() throws Exception
+                {
+                    for (int i = 0; i < statisticsUpdates / threads; i++)
+                    {
+                        if (lock != null)
+                        {
+                            synchronized (lock)
+                            {
+                                statistics.update(statisticsResult);
+                            }
+                        }
+                        else
+                        {
+                            statistics.update(statisticsResult);
+                        }
+                    }
+                    return null;
+                }
+            });
+        }
+        executorService.invokeAll(updates);
+    }
+
+    @Test
+    public void testAttributeBinding() throws Exception
+    {
+        testAttributeBinding(false);
+    }
+
+    /**
+     * Binds attributes using {@link AttributeBinder} directly, like the controller used
+     * to, for comparison with {@link #testAttributeBinding()}.
+     */
+    @Test
+    public void testReflectiveAttributeBinding() throws Exception
+    {
+        testAttributeBinding(true);
+    }
+
+    private void testAttributeBinding(boolean reflective) throws Exception
+    {
+        final ProcessingComponent1 component1 = new ProcessingComponent1();
+        final ProcessingComponent2 component2 = new ProcessingComponent2();
+        for (int r = 0; r < internalRounds; r++)
+        {
+            for (Map<String, Object> attributes : processingAttributeMaps)
+            {
+                final Map<String, Object> output = Maps.newHashMap();
+                if (reflective)
+                {
+                    AttributeBinder.set(component1, attributes, Input.class,
+                        Processing.class);
+                    AttributeBinder.set(component2, attributes, Input.class,
+                        Processing.class);
+                    AttributeBinder.get(component1, output, Output.class,
+                        Processing.class);
+                    AttributeBinder.get(component2, output, Output.class,
+                        Processing.class);
+                }
+                else
+                {
+                    ProcessingAttributeBinder.set(component1, attributes);
+                    ProcessingAttributeBinder.set(component2, attributes);
+                    ProcessingAttributeBinder.get(component1, output);
+                    ProcessingAttributeBinder.get(component2, output);
+                }
+            }
+        }
+    }
+
+    @Bindable
+    public static class ProcessingComponent1 extends ProcessingComponentBase
+    {
+        @Processing
+        @Input
+        @Attribute(key = "int1")
+        public int int1 = 0;
+
+        @Processing
+        @Input
+        @Attribute(key = "double1")
+        public double double1 = 1.0;
+
+        @Processing
+        @Input
+        @Output
+        @Attribute(key = "data")
+        public String string1;
+
+        @Processing
+        @Input
+        @Attribute(key = "boolean1")
+        public boolean boolean1 = false;
+
+        @Processing
+        @Input
+        @Attribute(key = "in1")
+        public List<String> inAttribute = new ArrayList<String>();
+
+        @Processing
+        @Output
+        @Attribute(key = "out2")
+        public List<String> outAttribute = new ArrayList<String>();
+
+        @Processing
+        @Output
+        @Attribute(key = "debug2")
+        public List<String> debugAttribute = new ArrayList<String>();
+
+        @Override
+        public void process() throws ProcessingException
+        {
+            string1 += join("-", string1, int1, double1, boolean1);
+        }
+    }
+
+    @Bindable
+    public static class ProcessingComponent2 extends ProcessingComponentBase
+    {
+        @Processing
+        @Input
+        @Attribute(key = "int2")
+        public int int2 = 0;
+
+        @Processing
+        @Input
+        @Attribute(key = "double2")
+        public double double2 = 1.0;
+
+        @Processing
+        @Input
+        @Attribute(key = "data")
+        public String string2;
+
+        @Processing
+        @Output
+        @Attribute(key = "result")
+        public String result;
+
+        @Processing
+        @Input
+        @Attribute(key = "boolean2")
+        public boolean boolean2 = false;
+
+        @Processing
+        @Input
+        @Attribute(key = "in2")
+        public List<String> inAttribute = new ArrayList<String>();
+
+        @Processing
+        @Output
+        @Attribute(key = "out2")
+        public List<String> outAttribute = new ArrayList<String>();
+
+        @Processing
+        @Output
+        @Attribute(key = "debug2")
+        public List<String> debugAttribute = new ArrayList<String>();
+
+        @Override
+        public void process() throws ProcessingException
+        {
+            result = join("-", string2, int2, double2, boolean2);
+        }
+    }
+
+    private static String join(String separator, Object... objects)
+    {
+        final StringBuilder b = new StringBuilder(objects[0].toString());
+        for (int i = 1; i < objects.length; i++)
+        {
+            b.append(separator);
+            b.append(objects[i]);
+        }
+        return b.toString();
+    }
+}
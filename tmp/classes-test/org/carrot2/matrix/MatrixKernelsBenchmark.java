@@ -0,0 +1,103 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import java.util.Random;
+
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.AxisRange;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkMethodChart;
+
+/**
+ * Compares {@link DoubleMatrix2D#zMult} with {@link MatrixKernels} run with one thread
+ * and with one thread per processor. The products are the ones computed in each
+ * iteration of a nonnegative matrix factorization of a dense term-document matrix
+ * <code>A</code> into base vectors <code>U</code> and coefficients <code>V</code>:
+ * <code>A'U</code>, <code>UV'</code> and <code>U'U</code>.
+ */
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "individual")
+@BenchmarkHistoryChart(filePrefix = "history")
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+@SuppressWarnings("deprecation")
+public class MatrixKernelsBenchmark extends AbstractBenchmark
+{
+    /** Terms, documents and base vectors. */
+    private static final int TERMS = 2000;
+    private static final int DOCUMENTS = 500;
+    private static final int K = 20;
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    static DoubleMatrix2D A;
+    static DoubleMatrix2D U;
+    static DoubleMatrix2D V;
+
+    /** Prevents dead code elimination. */
+    static volatile double sum;
+
+    @BeforeClass
+    public static void prepare()
+    {
+        final Random random = new Random(0x11223344);
+        A = randomMatrix(random, TERMS, DOCUMENTS);
+        U = randomMatrix(random, TERMS, K);
+        V = randomMatrix(random, DOCUMENTS, K);
+    }
+
+    private static DoubleMatrix2D randomMatrix(Random random, int rows, int columns)
+    {
+        final DoubleMatrix2D matrix = new DenseDoubleMatrix2D(rows, columns);
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                matrix.setQuick(r, c, random.nextDouble());
+            }
+        }
+        return matrix;
+    }
+
+    @Test
+    public void colt()
+    {
+        sum = A.zMult(U, null, 1, 0, true, false).getQuick(0, 0)
+            + U.zMult(V, null, 1, 0, false, true).getQuick(0, 0)
+            + U.zMult(U, null, 1, 0, true, false).getQuick(0, 0);
+    }
+
+    @Test
+    public void kernelsSingleThread()
+    {
+        kernels(1);
+    }
+
+    @Test
+    public void kernelsMultiThread()
+    {
+        kernels(THREADS);
+    }
+
+    private void kernels(int threads)
+    {
+        sum = MatrixKernels.zMult(A, U, null, 1, 0, true, false, threads).getQuick(0, 0)
+            + MatrixKernels.zMult(U, V, null, 1, 0, false, true, threads).getQuick(0, 0)
+            + MatrixKernels.gram(U, null, threads).getQuick(0, 0);
+    }
+}
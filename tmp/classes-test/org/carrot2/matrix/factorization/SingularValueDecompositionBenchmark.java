@@ -0,0 +1,86 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2014, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix.factorization;
+
+import java.util.Random;
+
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.carrot2.matrix.CompressedRowDoubleMatrix2D;
+import org.carrot2.matrix.MatrixUtils;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.AxisRange;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.h2.BenchmarkMethodChart;
+
+/**
+ * Compares {@link PartialSingularValueDecomposition} with
+ * {@link RandomizedSingularValueDecomposition} computing the <i>k</i> base vectors of a
+ * sparse, column-normalized matrix shaped like Lingo's term-document matrix.
+ */
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "individual")
+@BenchmarkHistoryChart(filePrefix = "history")
+@BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 2)
+@SuppressWarnings("deprecation")
+public class SingularValueDecompositionBenchmark extends AbstractBenchmark
+{
+    /** Terms, documents, base vectors and non-zero elements per document. */
+    private static final int TERMS = 300;
+    private static final int DOCUMENTS = 1000;
+    private static final int K = 20;
+    private static final int TERMS_PER_DOCUMENT = 15;
+
+    static DoubleMatrix2D A;
+
+    /** Prevents dead code elimination. */
+    static volatile double sum;
+
+    @BeforeClass
+    public static void prepare()
+    {
+        final Random random = new Random(0x11223344);
+        final CompressedRowDoubleMatrix2D.Builder builder = new CompressedRowDoubleMatrix2D.Builder(
+            TERMS);
+        for (int d = 0; d < DOCUMENTS; d++)
+        {
+            for (int i = 0; i < TERMS_PER_DOCUMENT; i++)
+            {
+                // Skewed towards frequent terms
+                final double term = Math.pow(random.nextDouble(), 3) * TERMS;
+                builder.set((int) term, 1 + random.nextInt(3));
+            }
+            builder.endRow();
+        }
+        A = builder.build().viewDice();
+        MatrixUtils.normalizeColumnL2(A, null);
+    }
+
+    @Test
+    public void partial()
+    {
+        final PartialSingularValueDecompositionFactory factory = new PartialSingularValueDecompositionFactory();
+        factory.setK(K);
+        sum = factory.factorize(A).getU().getQuick(0, 0);
+    }
+
+    @Test
+    public void randomized()
+    {
+        final RandomizedSingularValueDecompositionFactory factory = new RandomizedSingularValueDecompositionFactory();
+        factory.setK(K);
+        sum = factory.factorize(A).getU().getQuick(0, 0);
+    }
+}
@@ -0,0 +1,315 @@
+
+
+// APT-generated file.
+
+package org.carrot2.text.preprocessing;
+
+//Imported for JavaDoc references mostly.
+import org.carrot2.util.attribute.*;
+
+import java.util.*;
+import javax.annotation.*;
+
+/**
+ * Metadata and attributes of the {@link org.carrot2.text.preprocessing.Tokenizer} component. You can use 
+ * this descriptor to obtain metadata, such as human readable name and description, about the component 
+ * as a whole as well as about its attributes. Using the {@link #attributeBuilder(Map)}
+ * you can obtain a builder for type-safe generation of the attribute maps. Please see the
+ * <a href="{@docRoot}/overview-summary.html#setting-attributes">main overview</a> for a complete code example. 
+ */
+@Generated("Generated from org.carrot2.text.preprocessing.Tokenizer")
+public final class TokenizerDescriptor implements IBindableDescriptor
+{
+    /**
+     * The component class for which this descriptor was generated. 
+     */
+    public final String bindableClassName = "org.carrot2.text.preprocessing.Tokenizer";
+
+    /**
+     * Attribute prefix used by the component.
+     */
+    public final String prefix = "Tokenizer";
+
+    /**
+     * A one sentence summary of the component. It could be presented as a header of the tool
+     * tip of the corresponding UI component.
+     */
+    public final String title = "Performs tokenization of documents, optionally splitting them into chunks tokenized in parallel";
+    
+    /**
+     * A short label for the component. It can be presented as a label of the
+     * corresponding UI component.
+     */
+    public final String label = "";
+
+    /**
+     * A longer, possibly multi sentence, description of the component. It could be presented
+     * as a body of the tool tip of the corresponding UI component.
+     */
+    public final String description = "<p> This class saves the following results to the <code>PreprocessingContext</code>: <ul> <li><code>AllTokens.imageChars</code></li> <li><code>AllTokens.imageOffset</code></li> <li><code>AllTokens.imageLength</code></li> <li><code>AllTokens.documentIndex</code></li> <li><code>AllTokens.fieldIndex</code></li> <li><code>AllTokens.type</code></li> </ul>";
+
+    /**
+     * Attributes of the component. Note that only statically reachable fields are included.
+     * Additional attributes may be available at run time. 
+     */
+    public final static Attributes attributes; 
+
+    /**
+     * Attributes declared directly by the component.
+     */
+    private final static Set<AttributeInfo> ownAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses.
+     */
+    private final static Set<AttributeInfo> allAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary 
+     * by attribute key.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByKey;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary by 
+     * attribute's field name.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByFieldName;
+
+    /**
+     * Static initializer for internal collections.
+     */
+    static
+    {
+        attributes = new Attributes();
+
+        final Set<AttributeInfo> ownAttrs = new HashSet<AttributeInfo>();
+        ownAttrs.add(attributes.documentFields);
+        ownAttrs.add(attributes.threads);
+
+        final Set<AttributeInfo> allAttrs = new HashSet<AttributeInfo>();
+        allAttrs.add(org.carrot2.text.preprocessing.TokenizerDescriptor.attributes.documentFields);
+        allAttrs.add(org.carrot2.text.preprocessing.TokenizerDescriptor.attributes.threads);
+
+        allAttributes = Collections.unmodifiableSet(allAttrs);
+        ownAttributes = Collections.unmodifiableSet(ownAttrs);
+        
+        final Map<String, AttributeInfo> allAttrsByKey = new HashMap<String, AttributeInfo>();
+        final Map<String, AttributeInfo> allAttrsByFieldName = new HashMap<String, AttributeInfo>();
+        for (AttributeInfo ai : allAttrs)
+        {
+            allAttrsByKey.put(ai.key, ai);
+            allAttrsByFieldName.put(ai.fieldName, ai);
+        }
+
+        allAttributesByKey = Collections.unmodifiableMap(allAttrsByKey);
+        allAttributesByFieldName = Collections.unmodifiableMap(allAttrsByFieldName);
+    }
+
+    
+    /* Attribute keys. */
+
+    /**
+     * Constants for all attribute keys of the {@link org.carrot2.text.preprocessing.Tokenizer} component.
+     */
+    public static class Keys 
+    {
+        protected Keys() {} 
+
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.Tokenizer#documentFields}. */
+        public static final String DOCUMENT_FIELDS = "Tokenizer.documentFields";
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.Tokenizer#threads}. */
+        public static final String THREADS = "Tokenizer.threads";
+    }
+
+
+    /* Attribute descriptors. */
+
+    /**
+     * All attributes of the {@link org.carrot2.text.preprocessing.Tokenizer} component.
+     */
+    public static final class Attributes
+    {
+        private Attributes() { /* No public instances. */ }
+
+        /**
+         *          */
+        public final AttributeInfo documentFields = 
+            new AttributeInfo(
+                "Tokenizer.documentFields",
+                "org.carrot2.text.preprocessing.Tokenizer",
+                "documentFields",
+                "Textual fields of documents that should be tokenized and parsed for clustering.",
+                "Document fields",
+                "Textual fields of documents that should be tokenized and parsed for clustering",
+                null,
+                "Preprocessing",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo threads = 
+            new AttributeInfo(
+                "Tokenizer.threads",
+                "org.carrot2.text.preprocessing.Tokenizer",
+                "threads",
+                "Number of threads used to tokenize documents. With more than one thread, chunks of\ndocuments are tokenized in parallel, the results are the same as with one thread.",
+                "Tokenization threads",
+                "Number of threads used to tokenize documents",
+                "With more than one thread, chunks of documents are tokenized in parallel, the results are the same as with one thread.",
+                "Preprocessing",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+
+    }
+
+    /**
+     * Attribute map builder for the  {@link org.carrot2.text.preprocessing.Tokenizer} component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     */
+    public static class AttributeBuilder 
+    {
+        /** The attribute map populated by this builder. */
+        public final Map<String, Object> map;
+
+        /**
+         * Creates a builder backed by the provided map.
+         */
+        protected AttributeBuilder(Map<String, Object> map)
+        {
+            
+            this.map = map;
+        }
+
+
+        
+        
+        /**
+         * Textual fields of documents that should be tokenized and parsed for clustering.
+         * 
+         * @see org.carrot2.text.preprocessing.Tokenizer#documentFields 
+         */
+        public AttributeBuilder documentFields(java.util.Collection<java.lang.String> value)
+        {
+            map.put("Tokenizer.documentFields", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Textual fields of documents that should be tokenized and parsed for clustering.
+         * 
+         * @see org.carrot2.text.preprocessing.Tokenizer#documentFields 
+         */
+        public AttributeBuilder documentFields(IObjectFactory<? extends java.util.Collection<java.lang.String>> value)
+        {
+            map.put("Tokenizer.documentFields", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Number of threads used to tokenize documents. With more than one thread, chunks of
+documents are tokenized in parallel, the results are the same as with one thread.
+         * 
+         * @see org.carrot2.text.preprocessing.Tokenizer#threads 
+         */
+        public AttributeBuilder threads(int value)
+        {
+            map.put("Tokenizer.threads", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Number of threads used to tokenize documents. With more than one thread, chunks of
+documents are tokenized in parallel, the results are the same as with one thread.
+         * 
+         * @see org.carrot2.text.preprocessing.Tokenizer#threads 
+         */
+        public AttributeBuilder threads(IObjectFactory<? extends java.lang.Integer> value)
+        {
+            map.put("Tokenizer.threads", value);
+            return this;
+        }
+        
+        
+        
+    }
+
+    /**
+     * Creates an attribute map builder for the component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     * 
+     * @param attributeValues An existing map which should be used to collect attribute values. 
+     *        Attribute values set by this builder will be added to the provided map, overwriting
+     *        previously defined mappings, if any.
+     */
+    public static AttributeBuilder attributeBuilder(Map<String, Object> attributeValues)
+    {
+        return new AttributeBuilder(attributeValues);
+    }
+    
+    /* IBindableDescriptor */
+
+    @Override 
+    public String getPrefix()
+    {
+        return prefix;
+    }
+
+    @Override 
+    public String getTitle()
+    {
+        return title;
+    }
+    
+    @Override 
+    public String getLabel()      
+    { 
+        return label;
+    }
+    
+    @Override 
+    public String getDescription() 
+    { 
+        return description; 
+    }
+
+    @Override 
+    public Set<AttributeInfo> getOwnAttributes()
+    { 
+        return ownAttributes;
+    }
+
+    @Override 
+    public Set<AttributeInfo> getAttributes()
+    {
+        return allAttributes;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByKey()
+    {
+        return allAttributesByKey;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByFieldName()
+    {
+        return allAttributesByFieldName;
+    }
+}
@@ -0,0 +1,501 @@
+
+
+// APT-generated file.
+
+package org.carrot2.text.vsm;
+
+//Imported for JavaDoc references mostly.
+import org.carrot2.util.attribute.*;
+
+import java.util.*;
+import javax.annotation.*;
+
+/**
+ * Metadata and attributes of the {@link org.carrot2.text.vsm.TermDocumentMatrixReducer} component. You can use 
+ * this descriptor to obtain metadata, such as human readable name and description, about the component 
+ * as a whole as well as about its attributes. Using the {@link #attributeBuilder(Map)}
+ * you can obtain a builder for type-safe generation of the attribute maps. Please see the
+ * <a href="{@docRoot}/overview-summary.html#setting-attributes">main overview</a> for a complete code example. 
+ */
+@Generated("Generated from org.carrot2.text.vsm.TermDocumentMatrixReducer")
+public final class TermDocumentMatrixReducerDescriptor implements IBindableDescriptor
+{
+    /**
+     * The component class for which this descriptor was generated. 
+     */
+    public final String bindableClassName = "org.carrot2.text.vsm.TermDocumentMatrixReducer";
+
+    /**
+     * Attribute prefix used by the component.
+     */
+    public final String prefix = "TermDocumentMatrixReducer";
+
+    /**
+     * A one sentence summary of the component. It could be presented as a header of the tool
+     * tip of the corresponding UI component.
+     */
+    public final String title = "Reduces the dimensionality of a term-document matrix using a matrix factorization algorithm";
+    
+    /**
+     * A short label for the component. It can be presented as a label of the
+     * corresponding UI component.
+     */
+    public final String label = "";
+
+    /**
+     * A longer, possibly multi sentence, description of the component. It could be presented
+     * as a body of the tool tip of the corresponding UI component.
+     */
+    public final String description = "";
+
+    /**
+     * Attributes of the component. Note that only statically reachable fields are included.
+     * Additional attributes may be available at run time. 
+     */
+    public final static Attributes attributes; 
+
+    /**
+     * Attributes declared directly by the component.
+     */
+    private final static Set<AttributeInfo> ownAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses.
+     */
+    private final static Set<AttributeInfo> allAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary 
+     * by attribute key.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByKey;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary by 
+     * attribute's field name.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByFieldName;
+
+    /**
+     * Static initializer for internal collections.
+     */
+    static
+    {
+        attributes = new Attributes();
+
+        final Set<AttributeInfo> ownAttrs = new HashSet<AttributeInfo>();
+        ownAttrs.add(attributes.factorizationFactory);
+        ownAttrs.add(attributes.factorizationQuality);
+        ownAttrs.add(attributes.threads);
+        ownAttrs.add(attributes.warmStart);
+        ownAttrs.add(attributes.convergenceThreshold);
+
+        final Set<AttributeInfo> allAttrs = new HashSet<AttributeInfo>();
+        allAttrs.add(org.carrot2.text.vsm.TermDocumentMatrixReducerDescriptor.attributes.factorizationFactory);
+        allAttrs.add(org.carrot2.text.vsm.TermDocumentMatrixReducerDescriptor.attributes.factorizationQuality);
+        allAttrs.add(org.carrot2.text.vsm.TermDocumentMatrixReducerDescriptor.attributes.threads);
+        allAttrs.add(org.carrot2.text.vsm.TermDocumentMatrixReducerDescriptor.attributes.warmStart);
+        allAttrs.add(org.carrot2.text.vsm.TermDocumentMatrixReducerDescriptor.attributes.convergenceThreshold);
+
+        allAttributes = Collections.unmodifiableSet(allAttrs);
+        ownAttributes = Collections.unmodifiableSet(ownAttrs);
+        
+        final Map<String, AttributeInfo> allAttrsByKey = new HashMap<String, AttributeInfo>();
+        final Map<String, AttributeInfo> allAttrsByFieldName = new HashMap<String, AttributeInfo>();
+        for (AttributeInfo ai : allAttrs)
+        {
+            allAttrsByKey.put(ai.key, ai);
+            allAttrsByFieldName.put(ai.fieldName, ai);
+        }
+
+        allAttributesByKey = Collections.unmodifiableMap(allAttrsByKey);
+        allAttributesByFieldName = Collections.unmodifiableMap(allAttrsByFieldName);
+    }
+
+    
+    /* Attribute keys. */
+
+    /**
+     * Constants for all attribute keys of the {@link org.carrot2.text.vsm.TermDocumentMatrixReducer} component.
+     */
+    public static class Keys 
+    {
+        protected Keys() {} 
+
+        /** Attribute key for: {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationFactory}. */
+        public static final String FACTORIZATION_FACTORY = "TermDocumentMatrixReducer.factorizationFactory";
+        /** Attribute key for: {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationQuality}. */
+        public static final String FACTORIZATION_QUALITY = "TermDocumentMatrixReducer.factorizationQuality";
+        /** Attribute key for: {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#threads}. */
+        public static final String THREADS = "TermDocumentMatrixReducer.threads";
+        /** Attribute key for: {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#warmStart}. */
+        public static final String WARM_START = "TermDocumentMatrixReducer.warmStart";
+        /** Attribute key for: {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#convergenceThreshold}. */
+        public static final String CONVERGENCE_THRESHOLD = "TermDocumentMatrixReducer.convergenceThreshold";
+    }
+
+
+    /* Attribute descriptors. */
+
+    /**
+     * All attributes of the {@link org.carrot2.text.vsm.TermDocumentMatrixReducer} component.
+     */
+    public static final class Attributes
+    {
+        private Attributes() { /* No public instances. */ }
+
+        /**
+         *          */
+        public final AttributeInfo factorizationFactory = 
+            new AttributeInfo(
+                "TermDocumentMatrixReducer.factorizationFactory",
+                "org.carrot2.text.vsm.TermDocumentMatrixReducer",
+                "factorizationFactory",
+                "Factorization method. The method to be used to factorize the term-document matrix\nand create base vectors that will give rise to cluster labels.",
+                "Factorization method",
+                "Factorization method",
+                "The method to be used to factorize the term-document matrix and create base vectors that will give rise to cluster labels.",
+                "Matrix model",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo factorizationQuality = 
+            new AttributeInfo(
+                "TermDocumentMatrixReducer.factorizationQuality",
+                "org.carrot2.text.vsm.TermDocumentMatrixReducer",
+                "factorizationQuality",
+                "Factorization quality. The number of iterations of matrix factorization to perform.\nThe higher the required quality, the more time-consuming clustering.",
+                "Factorization quality",
+                "Factorization quality",
+                "The number of iterations of matrix factorization to perform. The higher the required quality, the more time-consuming clustering.",
+                "Matrix model",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo threads = 
+            new AttributeInfo(
+                "TermDocumentMatrixReducer.threads",
+                "org.carrot2.text.vsm.TermDocumentMatrixReducer",
+                "threads",
+                "Number of threads used to multiply matrices during factorization. With more than\none thread, rows of large matrix products are computed in parallel, the results\nare the same as with one thread.",
+                "Matrix factorization threads",
+                "Number of threads used to multiply matrices during factorization",
+                "With more than one thread, rows of large matrix products are computed in parallel, the results are the same as with one thread.",
+                "Matrix model",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo warmStart = 
+            new AttributeInfo(
+                "TermDocumentMatrixReducer.warmStart",
+                "org.carrot2.text.vsm.TermDocumentMatrixReducer",
+                "warmStart",
+                "Warm-start factorizations of repeated queries. If enabled, iterative\nfactorizations start from the base vectors computed for the most recent documents\nof the same query, for the terms found in both, and stop early once they converge,\nsee {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#convergenceThreshold}.",
+                "Warm-start factorizations of repeated queries",
+                "Warm-start factorizations of repeated queries",
+                "If enabled, iterative factorizations start from the base vectors computed for the most recent documents of the same query, for the terms found in both, and stop early once they converge, see <code>org.carrot2.text.vsm.TermDocumentMatrixReducer.convergenceThreshold</code>.",
+                "Matrix model",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo convergenceThreshold = 
+            new AttributeInfo(
+                "TermDocumentMatrixReducer.convergenceThreshold",
+                "org.carrot2.text.vsm.TermDocumentMatrixReducer",
+                "convergenceThreshold",
+                "Warm-started factorization convergence threshold. Warm-started iterative\nfactorizations stop before the number of iterations implied by\n{@link org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationQuality} once an iteration changes the base vectors by less\nthan this fraction of their norm. Factorizations starting from random base vectors\nare still far from converged after that number of iterations and always perform\nall of them. Set to <code>-1</code> to always perform all iterations.",
+                "Warm-started factorization convergence threshold",
+                "Warm-started factorization convergence threshold",
+                "Warm-started iterative factorizations stop before the number of iterations implied by <code>org.carrot2.text.vsm.TermDocumentMatrixReducer.factorizationQuality</code> once an iteration changes the base vectors by less than this fraction of their norm. Factorizations starting from random base vectors are still far from converged after that number of iterations and always perform all of them. Set to <code>-1</code> to always perform all iterations.",
+                "Matrix model",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+
+    }
+
+    /**
+     * Attribute map builder for the  {@link org.carrot2.text.vsm.TermDocumentMatrixReducer} component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     */
+    public static class AttributeBuilder 
+    {
+        /** The attribute map populated by this builder. */
+        public final Map<String, Object> map;
+
+        /**
+         * Creates a builder backed by the provided map.
+         */
+        protected AttributeBuilder(Map<String, Object> map)
+        {
+            
+            this.map = map;
+        }
+
+
+        
+        
+        /**
+         * Factorization method. The method to be used to factorize the term-document matrix
+and create base vectors that will give rise to cluster labels.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationFactory 
+         */
+        public AttributeBuilder factorizationFactory(org.carrot2.matrix.factorization.IMatrixFactorizationFactory value)
+        {
+            map.put("TermDocumentMatrixReducer.factorizationFactory", value);
+            return this;
+        }
+        
+        
+        
+        /**
+         * Factorization method. The method to be used to factorize the term-document matrix
+and create base vectors that will give rise to cluster labels.
+         *
+         * A class that extends org.carrot2.matrix.factorization.IMatrixFactorizationFactory or appropriate IObjectFactory.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationFactory
+         */
+        public AttributeBuilder factorizationFactory(Class<?> clazz)
+        {
+            map.put("TermDocumentMatrixReducer.factorizationFactory", clazz);
+            return this;
+        }
+        
+        
+        
+        /**
+         * Factorization method. The method to be used to factorize the term-document matrix
+and create base vectors that will give rise to cluster labels.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationFactory 
+         */
+        public AttributeBuilder factorizationFactory(IObjectFactory<? extends org.carrot2.matrix.factorization.IMatrixFactorizationFactory> value)
+        {
+            map.put("TermDocumentMatrixReducer.factorizationFactory", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Factorization quality. The number of iterations of matrix factorization to perform.
+The higher the required quality, the more time-consuming clustering.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationQuality 
+         */
+        public AttributeBuilder factorizationQuality(org.carrot2.matrix.factorization.IterationNumberGuesser.FactorizationQuality value)
+        {
+            map.put("TermDocumentMatrixReducer.factorizationQuality", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Factorization quality. The number of iterations of matrix factorization to perform.
+The higher the required quality, the more time-consuming clustering.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationQuality 
+         */
+        public AttributeBuilder factorizationQuality(IObjectFactory<? extends org.carrot2.matrix.factorization.IterationNumberGuesser.FactorizationQuality> value)
+        {
+            map.put("TermDocumentMatrixReducer.factorizationQuality", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Number of threads used to multiply matrices during factorization. With more than
+one thread, rows of large matrix products are computed in parallel, the results
+are the same as with one thread.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#threads 
+         */
+        public AttributeBuilder threads(int value)
+        {
+            map.put("TermDocumentMatrixReducer.threads", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Number of threads used to multiply matrices during factorization. With more than
+one thread, rows of large matrix products are computed in parallel, the results
+are the same as with one thread.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#threads 
+         */
+        public AttributeBuilder threads(IObjectFactory<? extends java.lang.Integer> value)
+        {
+            map.put("TermDocumentMatrixReducer.threads", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Warm-start factorizations of repeated queries. If enabled, iterative
+factorizations start from the base vectors computed for the most recent documents
+of the same query, for the terms found in both, and stop early once they converge,
+see {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#convergenceThreshold}.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#warmStart 
+         */
+        public AttributeBuilder warmStart(boolean value)
+        {
+            map.put("TermDocumentMatrixReducer.warmStart", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Warm-start factorizations of repeated queries. If enabled, iterative
+factorizations start from the base vectors computed for the most recent documents
+of the same query, for the terms found in both, and stop early once they converge,
+see {@link org.carrot2.text.vsm.TermDocumentMatrixReducer#convergenceThreshold}.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#warmStart 
+         */
+        public AttributeBuilder warmStart(IObjectFactory<? extends java.lang.Boolean> value)
+        {
+            map.put("TermDocumentMatrixReducer.warmStart", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Warm-started factorization convergence threshold. Warm-started iterative
+factorizations stop before the number of iterations implied by
+{@link org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationQuality} once an iteration changes the base vectors by less
+than this fraction of their norm. Factorizations starting from random base vectors
+are still far from converged after that number of iterations and always perform
+all of them. Set to <code>-1</code> to always perform all iterations.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#convergenceThreshold 
+         */
+        public AttributeBuilder convergenceThreshold(double value)
+        {
+            map.put("TermDocumentMatrixReducer.convergenceThreshold", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * Warm-started factorization convergence threshold. Warm-started iterative
+factorizations stop before the number of iterations implied by
+{@link org.carrot2.text.vsm.TermDocumentMatrixReducer#factorizationQuality} once an iteration changes the base vectors by less
+than this fraction of their norm. Factorizations starting from random base vectors
+are still far from converged after that number of iterations and always perform
+all of them. Set to <code>-1</code> to always perform all iterations.
+         * 
+         * @see org.carrot2.text.vsm.TermDocumentMatrixReducer#convergenceThreshold 
+         */
+        public AttributeBuilder convergenceThreshold(IObjectFactory<? extends java.lang.Double> value)
+        {
+            map.put("TermDocumentMatrixReducer.convergenceThreshold", value);
+            return this;
+        }
+        
+        
+        
+    }
+
+    /**
+     * Creates an attribute map builder for the component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     * 
+     * @param attributeValues An existing map which should be used to collect attribute values. 
+     *        Attribute values set by this builder will be added to the provided map, overwriting
+     *        previously defined mappings, if any.
+     */
+    public static AttributeBuilder attributeBuilder(Map<String, Object> attributeValues)
+    {
+        return new AttributeBuilder(attributeValues);
+    }
+    
+    /* IBindableDescriptor */
+
+    @Override 
+    public String getPrefix()
+    {
+        return prefix;
+    }
+
+    @Override 
+    public String getTitle()
+    {
+        return title;
+    }
+    
+    @Override 
+    public String getLabel()      
+    { 
+        return label;
+    }
+    
+    @Override 
+    public String getDescription() 
+    { 
+        return description; 
+    }
+
+    @Override 
+    public Set<AttributeInfo> getOwnAttributes()
+    { 
+        return ownAttributes;
+    }
+
+    @Override 
+    public Set<AttributeInfo> getAttributes()
+    {
+        return allAttributes;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByKey()
+    {
+        return allAttributesByKey;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByFieldName()
+    {
+        return allAttributesByFieldName;
+    }
+}